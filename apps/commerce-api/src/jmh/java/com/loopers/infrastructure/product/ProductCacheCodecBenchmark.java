@@ -0,0 +1,98 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.domain.product.ProductStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 캐시 직렬화 비교
+ * - legacy : 기존 방식 (Page<ProductResponse> 를 PageImpl 메타데이터 포함 JSON 문자열로 저장)
+ * - json   : 캐시 전용 DTO(ProductListCacheEntry) + JSON
+ * - smile  : 캐시 전용 DTO(ProductListCacheEntry) + Smile
+ *
+ * legacy 디코딩은 Page 가 인터페이스라 역직렬화되지 않으므로 인코딩만 비교한다.
+ * 바이트 크기는 Trial 시작 시 표준 출력으로 남긴다.
+ *
+ * 실행: ./gradlew :apps:commerce-api:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductCacheCodecBenchmark {
+
+    @Param({"20", "50", "100"})
+    private int pageSize;
+
+    private final ObjectMapper legacyObjectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ProductCacheCodec jsonCodec = JacksonProductCacheCodec.json();
+    private final ProductCacheCodec smileCodec = JacksonProductCacheCodec.smile();
+
+    private Page<ProductResponse> page;
+    private ProductListCacheEntry entry;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<ProductResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new ProductResponse(
+                    (long) i, 1L, "상품명-" + i, "상품 설명입니다. 상품 번호 " + i,
+                    10_000L + i, 100, ProductStatus.ACTIVE, i * 3L, null, null
+            ));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 10_000);
+        entry = ProductListCacheEntry.of(page, 10, Duration.ofSeconds(60));
+
+        jsonBytes = jsonCodec.encode(entry);
+        smileBytes = smileCodec.encode(entry);
+
+        System.out.printf("%n[size] pageSize=%d legacy=%dB json=%dB smile=%dB%n",
+                pageSize, legacyObjectMapper.writeValueAsBytes(page).length, jsonBytes.length, smileBytes.length);
+    }
+
+    @Benchmark
+    public byte[] legacyEncode() throws IOException {
+        return legacyObjectMapper.writeValueAsString(page).getBytes();
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return jsonCodec.encode(entry);
+    }
+
+    @Benchmark
+    public byte[] smileEncode() throws IOException {
+        return smileCodec.encode(entry);
+    }
+
+    @Benchmark
+    public ProductListCacheEntry jsonDecode() throws IOException {
+        return jsonCodec.decode(jsonBytes, ProductListCacheEntry.class);
+    }
+
+    @Benchmark
+    public ProductListCacheEntry smileDecode() throws IOException {
+        return smileCodec.decode(smileBytes, ProductListCacheEntry.class);
+    }
+
+}
@@ -5,7 +5,8 @@ import com.loopers.application.like.event.LikeRemovedEvent;
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeType;
-import com.loopers.infrastructure.event.KafkaEventPublisher;
+import com.loopers.infrastructure.event.OutboxEventPublisher;
+import com.loopers.infrastructure.like.LikeStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,7 +27,8 @@ public class LikeFacade {
 
     private final LikeRepository likeRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final KafkaEventPublisher kafkaEventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final LikeStatusCache likeStatusCache;
 
     /**
      * 상품에 '좋아요'를 등록합니다.
@@ -40,6 +42,9 @@ public class LikeFacade {
             
             if (affected == 1) { // INSERT된 경우에만 (UPDATE 제외)
                 log.info("좋아요 UPSERT 완료 - userId: {}, targetId: {}, likeType: {}", userId, productId, likeType);
+                if (likeType == LikeType.PRODUCT) {
+                    likeStatusCache.evictAfterCommit(userId, productId);
+                }
                 
                 // 이벤트 발행 - 삽입/업데이트된 경우에만
                 LikeAddedEvent event = LikeAddedEvent.of(userId, productId, likeType);
@@ -48,7 +53,7 @@ public class LikeFacade {
                 eventPublisher.publishEvent(event);
                 
                 // 2. 비동기 외부 시스템 연동 (Kafka)
-                kafkaEventPublisher.publish("catalog-events", productId.toString(), event);
+                outboxEventPublisher.publish("catalog-events", productId.toString(), event);
 
                 log.info("좋아요 추가 이벤트 발행 - userId: {}, targetId: {}", userId, productId);
             }
@@ -78,6 +83,9 @@ public class LikeFacade {
                 // 1. 핵심 트랜잭션: Like 엔티티 삭제
                 likeRepository.delete(likeOptional.get());
                 log.info("좋아요 취소 완료 - userId: {}, targetId: {}, likeType: {}", userId, productId, likeType);
+                if (likeType == LikeType.PRODUCT) {
+                    likeStatusCache.evictAfterCommit(userId, productId);
+                }
 
                 // 2. 후속 처리: 집계 이벤트 발행 (커밋 후 처리)
                 LikeRemovedEvent event = LikeRemovedEvent.of(userId, productId, likeType);
@@ -86,7 +94,7 @@ public class LikeFacade {
                 eventPublisher.publishEvent(event);
                 
                 // 2. 비동기 외부 시스템 연동 (Kafka)
-                kafkaEventPublisher.publish("catalog-events", productId.toString(), event);
+                outboxEventPublisher.publish("catalog-events", productId.toString(), event);
 
                 log.info("좋아요 제거 이벤트 발행 - userId: {}, targetId: {}", userId, productId);
             } else {
@@ -2,14 +2,10 @@ package com.loopers.application.like;
 
 import com.loopers.application.like.event.LikeAddedEvent;
 import com.loopers.application.like.event.LikeRemovedEvent;
+import com.loopers.domain.like.LikeCountShardRepository;
 import com.loopers.domain.like.LikeType;
-import com.loopers.domain.product.ProductCacheRepository;
-import com.loopers.domain.product.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,8 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class LikeProcessingService {
 
-    private final ProductService productService;
-    private final ProductCacheRepository productCacheRepository;
+    private final LikeCountShardRepository likeCountShardRepository;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void processLikeAdded(LikeAddedEvent event) {
@@ -48,47 +43,15 @@ public class LikeProcessingService {
 
     }
 
-    // 기존 private 메서드들도 그대로 복사
-    @Retryable(
-        value = { ObjectOptimisticLockingFailureException.class },
-        maxAttempts = 50,
-        backoff = @Backoff(delay = 10, multiplier = 1.5, maxDelay = 1000)
-    )
+    // 상품 행을 읽거나 버전 검사 없이 분할 카운터에 증감분만 더한다. (product.like_count 반영과 캐시 삭제는 LikeCountFolder)
     private void processProductLikeIncrease(Long productId) {
-
-        try {
-            productService.increaseLikeCount(productId);
-
-            // Redis 캐시 삭제(상품의 총 좋아요 수)
-            productCacheRepository.evictProductDetail(productId);
-
-            log.info("상품 좋아요 수 증가 완료 - productId: {}", productId);
-        } catch (Exception e) {
-            log.error("상품 좋아요 수 증가 실패 - productId: {}, error: {}", productId, e.getMessage(), e);
-            throw e;
-        }
-
+        likeCountShardRepository.add(productId, 1);
+        log.info("상품 좋아요 수 증가 기록 - productId: {}", productId);
     }
 
-    @Retryable(
-        value = { ObjectOptimisticLockingFailureException.class },
-        maxAttempts = 50,
-        backoff = @Backoff(delay = 10, multiplier = 1.5, maxDelay = 1000)
-    )
     private void processProductLikeDecrease(Long productId) {
-
-        try {
-            productService.decreaseLikeCount(productId);
-
-            // Redis 캐시 삭제(상품의 총 좋아요 수)
-            productCacheRepository.evictProductDetail(productId);
-
-            log.info("상품 좋아요 수 감소 완료 - productId: {}", productId);
-        } catch (Exception e) {
-            log.error("상품 좋아요 수 감소 실패 - productId: {}, error: {}", productId, e.getMessage(), e);
-            throw e;
-        }
-
+        likeCountShardRepository.add(productId, -1);
+        log.info("상품 좋아요 수 감소 기록 - productId: {}", productId);
     }
 
 }
@@ -1,22 +1,22 @@
 package com.loopers.application.like;
 
-import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeCountDto;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeType;
-import com.loopers.domain.product.Product;
-import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.like.LikedProductView;
+import com.loopers.infrastructure.like.LikeStatusCache;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,22 +24,63 @@ import java.util.stream.Collectors;
 public class LikeQueryService {
 
     private final LikeRepository likeRepository;
-    private final ProductRepository productRepository;
+    private final LikeStatusCache likeStatusCache;
 
     /**
-     * 사용자가 좋아요 한 상품 목록을 조회합니다.
+     * 사용자가 좋아요 한 상품 목록을 좋아요 최신순으로 조회합니다.
+     * likes 와 product 를 조인해 한 페이지(size + 1건)만 프로젝션으로 읽으므로, 좋아요 수와 무관하게 페이지 크기만큼만 조회합니다.
      */
     @Transactional(readOnly = true)
-    public Page<Product> getLikedProducts(Long userId, LikeType likeType, int page, int size) {
-        // 1. 사용자가 '좋아요'한 상품 ID 목록을 먼저 조회합니다.
-        List<Long> likedProductIds = likeRepository.findByUserIdAndType(userId, likeType)
-                .stream()
-                .map(Like::getTargetId)
-                .toList();
+    public LikedProductScrollResponse getLikedProducts(Long userId, LikeType likeType, String cursor, int size) {
+        if (size < 1) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상이어야 합니다.");
+        }
+        LikedProductCursor after = cursor == null ? null : LikedProductCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        List<LikedProductView> rows = likeRepository.findLikedProducts(userId, likeType,
+                after == null ? null : after.likedAt(),
+                after == null ? null : after.likeId(),
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<LikedProductView> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? LikedProductCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return new LikedProductScrollResponse(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요 한 상품 ID를 조회합니다. (목록/랭킹 응답의 좋아요 여부 표시용)
+     * 캐시(Redis)에서 한 번에 조회하고, 캐시에 없는 상품만 IN 쿼리 한 번으로 조회해 캐시에 채웁니다.
+     */
+    public Set<Long> getLikedProductIds(Long userId, List<Long> productIds) {
+        if (userId == null || productIds == null || productIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        Map<Long, Boolean> cached = likeStatusCache.find(userId, distinctIds);
+
+        Set<Long> liked = new HashSet<>();
+        cached.forEach((productId, isLiked) -> {
+            if (isLiked) {
+                liked.add(productId);
+            }
+        });
+
+        List<Long> missed = distinctIds.stream().filter(id -> !cached.containsKey(id)).toList();
+        if (missed.isEmpty()) {
+            return liked;
+        }
+
+        Set<Long> likedInDb = new HashSet<>(likeRepository.findLikedTargetIds(userId, LikeType.PRODUCT, missed));
+        Map<Long, Boolean> loaded = new HashMap<>();
+        missed.forEach(productId -> loaded.put(productId, likedInDb.contains(productId)));
+        likeStatusCache.putAll(userId, loaded);
 
-        // 2. 해당 ID 목록을 가지고 Product 페이지를 조회합니다.
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return productRepository.findByIdIn(likedProductIds, pageable);
+        liked.addAll(likedInDb);
+        return liked;
     }
 
     public Map<Long, Long> getLikeCounts(List<Long> productIds) {
@@ -0,0 +1,44 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikedProductView;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 좋아요 한 상품 목록 커서 (Keyset 페이지네이션)
+ *
+ * 마지막으로 내려준 좋아요의 (created_at, id)를 담아, 다음 페이지를 OFFSET 없이 그 이후부터 조회한다.
+ *
+ * 형식: Base64URL("{좋아요 시각}|{좋아요 id}")
+ */
+public record LikedProductCursor(
+        ZonedDateTime likedAt,
+        Long likeId
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static LikedProductCursor of(LikedProductView view) {
+        return new LikedProductCursor(view.likedAt(), view.likeId());
+    }
+
+    public static LikedProductCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 2);
+            return new LikedProductCursor(ZonedDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = likedAt + DELIMITER + likeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikedProductView;
+
+import java.util.List;
+
+/**
+ * 좋아요 한 상품 커서 조회 결과
+ *
+ * @param content 좋아요 한 상품 목록 (좋아요 최신순)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record LikedProductScrollResponse(
+        List<LikedProductView> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -5,6 +5,8 @@ import com.loopers.application.dataplatform.event.PaymentDataPlatformEvent;
 import com.loopers.application.order.event.OrderCreatedEvent;
 import com.loopers.application.payment.PaymentFacade;
 import com.loopers.application.payment.PaymentResult;
+import com.loopers.application.product.StockDeductionResult;
+import com.loopers.application.product.StockDeductionService;
 import com.loopers.application.product.event.StockDecreasedEvent;
 import com.loopers.domain.coupon.*;
 import com.loopers.domain.order.*;
@@ -14,12 +16,9 @@ import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.domain.payment.PaymentType;
 import com.loopers.domain.points.Point;
 import com.loopers.domain.points.PointRepository;
-import com.loopers.domain.product.Product;
-import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.users.User;
 import com.loopers.domain.users.UserRepository;
-import com.loopers.domain.product.StockChangeResult;
-import com.loopers.infrastructure.event.KafkaEventPublisher;
+import com.loopers.infrastructure.event.OutboxEventPublisher;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
@@ -40,17 +39,36 @@ public class OrderFacade {
     private final PaymentFacade paymentFacade;
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
+    private final OrderStockAdmissionRepository orderStockAdmissionRepository;
+    private final StockDeductionService stockDeductionService;
     private final PointRepository pointRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
 
+    private final OrderLockCoordinator orderLockCoordinator;
+
     private final ApplicationEventPublisher eventPublisher;
-    private final KafkaEventPublisher kafkaEventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     @Transactional
     public Order placeOrder(String userId, OrderInfo orderInfo) {
+        return placeOrder(userId, orderInfo, null);
+    }
+
+    /**
+     * 주문 생성
+     *
+     * @param admittedStock 이미 차감된 재고 (OrderIntakeQueue 에서 묶어 처리한 경우), null 이면 이 트랜잭션에서 차감
+     */
+    @Transactional
+    public Order placeOrder(String userId, OrderInfo orderInfo, StockDeductionResult admittedStock) {
+
+        // 먼저 차감된 재고는 접수 기록을 지워 이 주문에 확정한다. (주문과 함께 커밋, 이미 복구된 접수면 주문 실패)
+        if (admittedStock != null && admittedStock.admissionKey() != null
+                && !orderStockAdmissionRepository.consume(admittedStock.admissionKey())) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 접수가 만료되었습니다. 다시 주문해주세요.");
+        }
 
         // 1. 데이터 조회
         // User 조회 (String userId -> Long ID 변환)
@@ -59,50 +77,43 @@ public class OrderFacade {
         Long userInternalId = user.getId();
 
         List<Long> productIds = orderInfo.items().stream().map(OrderItemInfo::productId).toList();
-        List<Product> products =
-//                productRepository.findAllById(productIds);
-                productRepository.findAllByIdWithLock(productIds);
-
-//        Point userPoint = pointRepository.findByUserId(userId)
-        Point userPoint = pointRepository.findByUserIdWithLock(userInternalId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 포인트 정보를 찾을 수 없습니다."));
-
-        // 2. 비즈니스 규칙 검증
-        // 요청된 상품이 존재하는지 확인
-        if (productIds.size() != products.size()) {
-            throw new CoreException(ErrorType.NOT_FOUND, "일부 상품 정보를 찾을 수 없습니다.");
-        }
-
         Map<Long, Integer> quantityMap = orderInfo.items().stream()
                 .collect(Collectors.toMap(OrderItemInfo::productId, OrderItemInfo::quantity));
 
-        // 주문 아이템 생성 및 원가 계산
-        List<OrderItem> orderItems = products.stream()
-                .map(product -> {
-                    int quantity = quantityMap.get(product.getId());
+        // 상품 조회 및 재고 차감 (stock.strategy: 비관적 락 또는 Redis 예약)
+        // 락은 OrderLockCoordinator 순서(상품 → 포인트 → 쿠폰)로만 잡는다.
+        StockDeductionResult stockDeduction = admittedStock != null
+                ? admittedStock
+                : stockDeductionService.deductForOrder(productIds, quantityMap);
 
-                    StockChangeResult stockResult = product.decreaseStock(quantity);  // 재고 차감 및 결과 반환
+//        Point userPoint = pointRepository.findByUserId(userId)
+        Point userPoint = orderLockCoordinator.acquire(OrderLockResource.POINT, () -> pointRepository.findByUserIdWithLock(userInternalId))
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 포인트 정보를 찾을 수 없습니다."));
 
-                    // 재고 감소 이벤트 생성
-                    StockDecreasedEvent stockEvent = StockDecreasedEvent.forOrder(
-                            stockResult.productId(),
-                            stockResult.previousStock(),
-                            stockResult.currentStock(),
-                            stockResult.changedQuantity()
-                    );
+        // 2. 재고 감소 이벤트 발행
+        stockDeduction.stockChanges().forEach(stockResult -> {
 
-                    // 동기 집계 처리 (ApplicationEvent)
-                    eventPublisher.publishEvent(stockEvent);
+            // 재고 감소 이벤트 생성
+            StockDecreasedEvent stockEvent = StockDecreasedEvent.forOrder(
+                    stockResult.productId(),
+                    stockResult.previousStock(),
+                    stockResult.currentStock(),
+                    stockResult.changedQuantity()
+            );
 
-                    // 비동기 외부 시스템 연동 (Kafka)
-                    kafkaEventPublisher.publish("catalog-events", stockResult.productId().toString(), stockEvent);
+            // 동기 집계 처리 (ApplicationEvent)
+            eventPublisher.publishEvent(stockEvent);
 
-                    log.info("재고 감소 이벤트 발행 - productId: {}, 이전재고: {}, 현재재고: {}",
-                            stockResult.productId(), stockResult.previousStock(), stockResult.currentStock());
+            // 비동기 외부 시스템 연동 (Kafka - outbox 에 저장 후 커밋 뒤 relay 전송)
+            outboxEventPublisher.publish("catalog-events", stockResult.productId().toString(), stockEvent);
 
+            log.info("재고 감소 이벤트 발행 - productId: {}, 이전재고: {}, 현재재고: {}",
+                    stockResult.productId(), stockResult.previousStock(), stockResult.currentStock());
+        });
 
-                    return OrderItem.of(product.getId(), quantity, product.getPrice());
-                })
+        // 주문 아이템 생성 및 원가 계산
+        List<OrderItem> orderItems = stockDeduction.products().stream()
+                .map(product -> OrderItem.of(product.getId(), quantityMap.get(product.getId()), product.getPrice()))
                 .toList();
         long originalTotalPrice = orderItems.stream().mapToLong(OrderItem::getTotalPrice).sum();
 
@@ -112,7 +123,8 @@ public class OrderFacade {
 
             // 3-1. 사용자가 보유한 유효한 쿠폰인지 확인
 //            UserCoupon userCoupon = userCouponRepository.findByIdAndUserId(orderRequest.couponId(), userId)
-            UserCoupon userCoupon = userCouponRepository.findByIdAndUserIdWithLock(orderInfo.couponId(), userInternalId)
+            UserCoupon userCoupon = orderLockCoordinator.acquire(OrderLockResource.COUPON,
+                            () -> userCouponRepository.findByIdAndUserIdWithLock(orderInfo.couponId(), userInternalId))
                     .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용할 수 없는 쿠폰입니다."));
 
             // 3-2. 쿠폰 정책(템플릿) 정보 조회
@@ -136,6 +148,7 @@ public class OrderFacade {
 
         // 5. 주문 먼저 생성 (PENDING 상태)
         Order newOrder = Order.of(userInternalId, orderItems, discountAmount, orderInfo.couponId(), OrderStatus.PENDING);
+        newOrder.recordStockStrategy(stockDeduction.strategy());
         Order savedOrder = orderRepository.save(newOrder);  // PK 생성됨
 
         // 6. 결제 처리 (orderId와 함께)
@@ -158,8 +171,8 @@ public class OrderFacade {
         // 동기 처리: ApplicationEvent
         eventPublisher.publishEvent(orderCreatedEvent);
 
-        // 비동기 처리: Kafka 이벤트 발행 추가
-        kafkaEventPublisher.publish(
+        // 비동기 처리: Kafka 이벤트 outbox 저장 (커밋 후 relay 전송)
+        outboxEventPublisher.publish(
                 "order-events",                    // 토픽명
                 savedOrder.getId().toString(),          // PartitionKey = orderId (주문 순서 보장)
                 orderCreatedEvent                       // 이벤트 객체
@@ -168,7 +181,7 @@ public class OrderFacade {
         log.info("주문 생성 완료 및 이벤트 발행 - orderId: {} (ApplicationEvent + Kafka)", savedOrder.getId());
 
         // 8. 결제 처리
-        PaymentResult paymentResult = paymentFacade.processPayment(
+        PaymentResult paymentResult = paymentFacade.startPayment(
                 userInternalId,
                 savedOrder.getId(),
                 finalPrice,
@@ -186,9 +199,9 @@ public class OrderFacade {
                 // 데이터 플랫폼 이벤트 발행
                 publishPointPaymentDataPlatformEvents(savedOrder);
             } else {
-                // Card 실제 결제 완료/실패는 PaymentCallbackService에서 처리
-                // PG 콜백 대기 상태로 유지 (PROCESSING 상태)
-                log.info("카드 결제 요청 완료 - 콜백 대기 중 - orderId: {}, transactionId: {}", savedOrder.getId(), paymentResult.transactionId());
+                // Card 는 PENDING 결제만 저장 - PG 승인 요청은 커밋 후 CardAuthorizationDispatcher 가 처리
+                // 실제 결제 완료/실패는 PaymentCallbackService에서 처리 (PG 콜백 대기)
+                log.info("카드 결제 접수 완료 - PG 승인 요청 및 콜백 대기 - orderId: {}", savedOrder.getId());
             }
         } else {
             // 실패 케이스
@@ -0,0 +1,320 @@
+package com.loopers.application.order;
+
+import com.loopers.config.OrderIdempotencyProperties;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderIdempotencyClaim;
+import com.loopers.domain.order.OrderIdempotencyStore;
+import com.loopers.infrastructure.order.JpaOrderIdempotencyStore;
+import com.loopers.infrastructure.order.RedisOrderIdempotencyStore;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Idempotency-Key 주문 처리
+ *
+ * 타임아웃 후 클라이언트가 같은 주문을 재시도해도 주문/재고 차감은 한 번만 실행된다.
+ * - 처음 요청이 키를 선점해 주문을 실행하고 주문 ID를 기록한다. 이후 요청은 주문을 다시 실행하지 않고 같은 주문 ID를 돌려준다.
+ * - 처리 중에 들어온 같은 키의 요청은 트랜잭션을 새로 열지 않고 결과를 기다린다.
+ *   (같은 노드면 진행 중인 결과를 직접 기다리고, 다른 노드면 poll-interval 마다 저장소를 다시 확인)
+ * - 주문이 실패하면 선점을 풀어 같은 키로 다시 시도할 수 있다. 기다리던 요청은 같은 실패를 받는다.
+ * - 같은 키로 다른 주문 내용을 보내면 BAD_REQUEST
+ *
+ * 저장소는 Redis 가 기본이고, Redis 장애 시 DB(order_idempotency_key)로 대체한다.
+ * 선점한 저장소에 완료/해제를 기록한다. 단, Redis 선점 후 결과 기록이 실패하면 결과를 DB에 남기고,
+ * 이후 Redis 에서 다시 선점한 요청은 주문 전에 DB의 완료 결과를 확인한다. (주문이 다시 실행되지 않도록)
+ * 두 저장소 모두 기록에 실패하면 실패를 그대로 알린다. (재시도로 중복 주문이 생기지 않도록 주문 ID를 함께 전달)
+ * 주문이 처리되는 동안 lease-renew-interval 마다 선점을 연장하므로, lease 보다 오래 걸리는 주문도 다른 요청이 다시 실행하지 않는다.
+ *
+ * 지표:
+ * - order.idempotency{result=executed|replayed|waited|conflict|unrecorded} : 멱등키 주문 처리 결과
+ * - order.idempotency.store.fallback : Redis 장애로 DB 저장소를 사용한 횟수 (선점, 결과 기록)
+ *
+ * 주의: Scheduler를 Bean으로 등록하면 @Scheduled 기본 실행기가 바뀌므로 내부에서만 생성/종료한다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIntakeService orderIntakeService;
+    private final RedisOrderIdempotencyStore redisOrderIdempotencyStore;
+    private final JpaOrderIdempotencyStore jpaOrderIdempotencyStore;
+    private final OrderIdempotencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskScheduler leaseRenewalScheduler;
+
+    // 이 노드에서 처리 중인 키 → 결과(주문 ID)
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private record InFlight(String requestHash, CompletableFuture<Long> result) {}
+
+    private record StoreClaim(OrderIdempotencyStore store, OrderIdempotencyClaim claim) {}
+
+    public OrderIdempotencyService(OrderIntakeService orderIntakeService,
+                                   RedisOrderIdempotencyStore redisOrderIdempotencyStore,
+                                   JpaOrderIdempotencyStore jpaOrderIdempotencyStore,
+                                   OrderIdempotencyProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.orderIntakeService = orderIntakeService;
+        this.redisOrderIdempotencyStore = redisOrderIdempotencyStore;
+        this.jpaOrderIdempotencyStore = jpaOrderIdempotencyStore;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.leaseRenewalScheduler = new ThreadPoolTaskScheduler();
+        leaseRenewalScheduler.setPoolSize(1);
+        leaseRenewalScheduler.setThreadNamePrefix("order-idempotency-lease-");
+        leaseRenewalScheduler.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewalScheduler.shutdown();
+    }
+
+    /**
+     * @return 주문 ID (같은 키의 요청이면 처음 생성된 주문 ID)
+     */
+    public Long placeOrder(String userId, String idempotencyKey, OrderInfo orderInfo) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        String requestHash = requestHash(userId, orderInfo);
+        String localKey = userId + ":" + idempotencyKey;
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            return awaitInFlight(running, requestHash);
+        }
+
+        try {
+            return claimAndPlace(userId, idempotencyKey, requestHash, orderInfo, mine.result());
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    private Long claimAndPlace(String userId, String idempotencyKey, String requestHash,
+                               OrderInfo orderInfo, CompletableFuture<Long> result) {
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            StoreClaim storeClaim = claim(userId, idempotencyKey, requestHash);
+            OrderIdempotencyClaim claim = storeClaim.claim();
+
+            if (claim.acquired()) {
+                Optional<OrderIdempotencyClaim> recorded = findRecordedInDb(storeClaim.store(), userId, idempotencyKey, requestHash);
+                if (recorded.isEmpty()) {
+                    Long orderId = place(storeClaim.store(), userId, idempotencyKey, requestHash, orderInfo);
+                    result.complete(orderId);
+                    return orderId;
+                }
+                claim = recorded.get();
+            }
+            if (!requestHash.equals(claim.requestHash())) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+            }
+            if (claim.isCompleted()) {
+                record("replayed");
+                log.info("멱등키 주문 재요청 - 기존 결과 반환 - userId: {}, orderId: {}", userId, claim.orderId());
+                result.complete(claim.orderId());
+                return claim.orderId();
+            }
+            if (System.nanoTime() > deadline) {
+                record("conflict");
+                throw new CoreException(ErrorType.CONFLICT, "같은 Idempotency-Key 의 주문을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            sleep();
+        }
+    }
+
+    private Long place(OrderIdempotencyStore store, String userId, String idempotencyKey,
+                       String requestHash, OrderInfo orderInfo) {
+        Order order;
+        ScheduledFuture<?> leaseRenewal = scheduleLeaseRenewal(store, userId, idempotencyKey, requestHash);
+        try {
+            order = orderIntakeService.placeOrder(userId, orderInfo);
+        } catch (RuntimeException e) {
+            leaseRenewal.cancel(false);
+            try {
+                store.release(userId, idempotencyKey, requestHash);
+            } catch (DataAccessException releaseError) {
+                log.warn("멱등키 선점 해제 실패 (lease 만료 후 해제) - userId: {}, error: {}", userId, releaseError.getMessage());
+            }
+            throw e;
+        }
+
+        try {
+            complete(store, userId, idempotencyKey, requestHash, order.getId());
+        } finally {
+            leaseRenewal.cancel(false);
+        }
+        record("executed");
+        return order.getId();
+    }
+
+    /**
+     * 주문 결과 기록 - Redis 기록이 실패하면 DB에 기록한다.
+     * 주문은 이미 커밋되었으므로 두 저장소 모두 실패하면 주문 ID와 함께 실패를 알린다. (같은 키 재시도 시 중복 주문 방지)
+     */
+    private void complete(OrderIdempotencyStore store, String userId, String idempotencyKey, String requestHash, Long orderId) {
+        try {
+            store.complete(userId, idempotencyKey, requestHash, orderId, properties.getRetention());
+            return;
+        } catch (DataAccessException e) {
+            if (store != redisOrderIdempotencyStore) {
+                throw unrecorded(userId, orderId, e);
+            }
+            log.warn("Redis 멱등키 결과 기록 실패 - DB 저장소에 기록 - userId: {}, orderId: {}, error: {}", userId, orderId, e.getMessage());
+        }
+
+        try {
+            meterRegistry.counter("order.idempotency.store.fallback").increment();
+            jpaOrderIdempotencyStore.recordCompleted(userId, idempotencyKey, requestHash, orderId, properties.getRetention());
+        } catch (DataAccessException e) {
+            throw unrecorded(userId, orderId, e);
+        }
+    }
+
+    private CoreException unrecorded(String userId, Long orderId, DataAccessException cause) {
+        record("unrecorded");
+        log.error("멱등키 결과 기록 실패 - userId: {}, orderId: {}, error: {}", userId, orderId, cause.getMessage());
+        return new CoreException(ErrorType.INTERNAL_ERROR,
+                "주문은 완료되었으나 처리 결과를 기록하지 못했습니다. 재주문 전에 주문 내역을 확인해주세요. (주문 ID: " + orderId + ")");
+    }
+
+    /**
+     * Redis 에서 선점한 키라도 이전 요청의 결과가 DB에 기록되어 있을 수 있다. (Redis 결과 기록 실패 후 lease 만료)
+     * 기록이 있으면 선점을 풀고 그 결과를 돌려준다.
+     */
+    private Optional<OrderIdempotencyClaim> findRecordedInDb(OrderIdempotencyStore store, String userId,
+                                                             String idempotencyKey, String requestHash) {
+        if (store != redisOrderIdempotencyStore) {
+            return Optional.empty();
+        }
+
+        Optional<OrderIdempotencyClaim> recorded;
+        try {
+            recorded = jpaOrderIdempotencyStore.findCompleted(userId, idempotencyKey);
+        } catch (DataAccessException e) {
+            store.release(userId, idempotencyKey, requestHash);
+            throw e;
+        }
+        recorded.ifPresent(claim -> store.release(userId, idempotencyKey, requestHash));
+        return recorded;
+    }
+
+    /**
+     * 주문 처리 중 선점 연장 - 연장 실패는 다음 주기에 다시 시도한다.
+     */
+    private ScheduledFuture<?> scheduleLeaseRenewal(OrderIdempotencyStore store, String userId,
+                                                    String idempotencyKey, String requestHash) {
+        Duration interval = properties.getLeaseRenewInterval();
+        return leaseRenewalScheduler.scheduleAtFixedRate(() -> {
+            try {
+                if (!store.renew(userId, idempotencyKey, requestHash, properties.getLease())) {
+                    log.warn("멱등키 선점 연장 실패 - 선점이 이미 만료됨 - userId: {}, key: {}", userId, idempotencyKey);
+                }
+            } catch (Exception e) {
+                log.warn("멱등키 선점 연장 실패 - userId: {}, error: {}", userId, e.getMessage());
+            }
+        }, Instant.now().plus(interval), interval);
+    }
+
+    private StoreClaim claim(String userId, String idempotencyKey, String requestHash) {
+        try {
+            return new StoreClaim(redisOrderIdempotencyStore,
+                    redisOrderIdempotencyStore.claim(userId, idempotencyKey, requestHash, properties.getLease()));
+        } catch (DataAccessException e) {
+            log.warn("Redis 멱등키 저장소 장애 - DB 저장소로 대체 - userId: {}, error: {}", userId, e.getMessage());
+            meterRegistry.counter("order.idempotency.store.fallback").increment();
+            return new StoreClaim(jpaOrderIdempotencyStore,
+                    jpaOrderIdempotencyStore.claim(userId, idempotencyKey, requestHash, properties.getLease()));
+        }
+    }
+
+    private Long awaitInFlight(InFlight running, String requestHash) {
+        if (!running.requestHash().equals(requestHash)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+        }
+        try {
+            Long orderId = running.result().get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            record("waited");
+            return orderId;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            record("conflict");
+            throw new CoreException(ErrorType.CONFLICT, "같은 Idempotency-Key 의 주문을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("order.idempotency", "result", result).increment();
+    }
+
+    /**
+     * 주문 내용 해시 - 같은 키로 다른 주문을 보낸 경우를 구분한다.
+     * 사용자, 상품별 수량(상품 ID 순), 쿠폰, 결제 방식만 정해진 형식으로 이어 붙여 해시한다.
+     * 카드 번호 등 결제 수단 정보는 넣지 않는다. (해시가 저장소에 남으므로 카드 번호를 대입해 역추적할 수 없도록)
+     */
+    static String requestHash(String userId, OrderInfo orderInfo) {
+        String items = orderInfo.items().stream()
+                .sorted(Comparator.comparing(OrderItemInfo::productId).thenComparingInt(OrderItemInfo::quantity))
+                .map(item -> item.productId() + "x" + item.quantity())
+                .collect(Collectors.joining(","));
+        String canonical = "user=" + userId
+                + "|items=" + items
+                + "|coupon=" + orderInfo.couponId()
+                + "|payment=" + orderInfo.paymentType();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,354 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.StockDeductionResult;
+import com.loopers.config.OrderIntakeProperties;
+import com.loopers.domain.order.OrderStockAdmission;
+import com.loopers.domain.order.OrderStockAdmissionRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.StockStrategy;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 재고 차감 group commit 대기열
+ *
+ * 인기 상품에 주문이 몰리면 주문마다 상품 행 락을 잡고 커밋하느라 처리량이 락 보유 시간에 묶인다.
+ * 들어온 주문을 batch-window 동안(최대 max-batch-size 건) 모아 한 트랜잭션에서 처리한다.
+ * - 배치에 포함된 상품 행을 ID 오름차순으로 한 번씩만 잠근다. (상품당 락 1회, UPDATE 1회)
+ * - 도착 순서대로 재고가 남아 있는 주문만 받아들이고, 부족한 주문은 그 주문만 실패한다.
+ * - 결과는 커밋 이후 주문별 Future 로 전달한다. (요청 스레드는 자기 결과만 기다린다)
+ * - 기다리던 요청이 시간 초과로 떠난 뒤 차감된 주문은 즉시 재고를 되돌린다.
+ *
+ * 차감과 주문 생성은 서로 다른 트랜잭션이므로, 차감과 같은 트랜잭션에 접수 기록(OrderStockAdmission)을 남긴다.
+ * 주문 트랜잭션이 기록을 지우며 함께 커밋되고, 두 커밋 사이에 노드가 죽어 남은 기록은
+ * abandoned-admission-timeout 이 지난 뒤 releaseAbandoned 가 재고를 되돌린다.
+ * 복구와 주문 생성은 모두 기록 삭제에 성공한 쪽만 진행하므로 재고가 두 번 되돌려지거나 주문된 재고가 되돌려지지 않는다.
+ *
+ * 지표:
+ * - order.intake.batch.size : 배치당 주문 수
+ * - order.intake.admission{result=admitted|rejected|failure} : 접수부터 차감 결과까지 걸린 시간
+ */
+@Slf4j
+@Component
+public class OrderIntakeQueue {
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final OrderStockAdmissionRepository orderStockAdmissionRepository;
+    private final OrderLockCoordinator orderLockCoordinator;
+    private final OrderIntakeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LinkedBlockingQueue<PendingAdmission> queue;
+    private final DistributionSummary batchSize;
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public OrderIntakeQueue(ProductRepository productRepository,
+                            StockReservationRepository stockReservationRepository,
+                            OrderStockAdmissionRepository orderStockAdmissionRepository,
+                            OrderLockCoordinator orderLockCoordinator,
+                            OrderIntakeProperties properties,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.orderStockAdmissionRepository = orderStockAdmissionRepository;
+        this.orderLockCoordinator = orderLockCoordinator;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = DistributionSummary.builder("order.intake.batch.size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform().name("order-intake-dispatcher").daemon(true).start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+
+        PendingAdmission pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(new CoreException(ErrorType.INTERNAL_ERROR, "서버 종료 중으로 주문을 접수하지 못했습니다."));
+        }
+    }
+
+    /**
+     * 재고 차감을 대기열에 넣고 결과를 기다린다. (트랜잭션 밖에서 호출)
+     *
+     * @param quantities 상품 ID → 주문 수량
+     * @return 차감 결과, 대기열이 가득 차면 empty (호출자가 바로 차감)
+     * @throws CoreException 재고 부족/상품 없음(주문별 실패) 또는 대기 시간 초과
+     */
+    public Optional<StockDeductionResult> admit(Map<Long, Integer> quantities) {
+        PendingAdmission pending = new PendingAdmission(Map.copyOf(quantities));
+        if (!queue.offer(pending)) {
+            log.warn("주문 접수 대기열 포화 - 묶음 처리 없이 바로 차감합니다. size: {}", queue.size());
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(pending.future.get(properties.getAdmissionTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // 아직 처리 전이면 취소, 이미 처리됐다면 그 결과(차감 또는 주문별 실패)를 사용
+            if (pending.future.cancel(false)) {
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 접수가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                return Optional.of(pending.future.join());
+            } catch (CompletionException completion) {
+                throw unwrap(completion.getCause());
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.cancel(false);
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 접수가 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 차감했던 재고를 되돌린다. (차감 이후 주문 생성이 실패했을 때)
+     * 접수 기록을 지운 경우에만 되돌리므로, 이미 주문이 생성됐거나 다른 곳에서 되돌린 접수는 건너뛴다.
+     */
+    public void release(String admissionKey, Map<Long, Integer> quantities) {
+        try {
+            Boolean released = transactionTemplate.execute(status -> {
+                if (!orderStockAdmissionRepository.consume(admissionKey)) {
+                    return false;
+                }
+                List<Long> productIds = quantities.keySet().stream().sorted().toList();
+                productRepository.findAllByIdWithLock(productIds)
+                        .forEach(product -> product.increaseStock(quantities.get(product.getId())));
+                stockReservationRepository.invalidate(productIds);
+                return true;
+            });
+            if (Boolean.TRUE.equals(released)) {
+                log.info("주문 접수 재고 복구 완료 - admissionKey: {}, quantities: {}", admissionKey, quantities);
+            }
+        } catch (Exception e) {
+            // 접수 기록이 남아 있으므로 releaseAbandoned 가 다시 되돌린다.
+            log.error("주문 접수 재고 복구 실패 - admissionKey: {}, quantities: {}, error: {}", admissionKey, quantities, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 차감 후 주문이 생성되지 않은 채 남은 접수(주문 생성 전 노드 종료/장애)의 재고를 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${order.intake.abandoned-sweep-interval:PT30S}", initialDelayString = "${order.intake.abandoned-sweep-interval:PT30S}")
+    public void releaseAbandoned() {
+        ZonedDateTime createdBefore = ZonedDateTime.now().minus(properties.getAbandonedAdmissionTimeout());
+        List<OrderStockAdmission> abandoned = orderStockAdmissionRepository.findCreatedBefore(createdBefore, properties.getAbandonedSweepBatchSize());
+
+        for (OrderStockAdmission admission : abandoned) {
+            log.warn("주문이 생성되지 않은 접수 재고 복구 - admissionKey: {}, createdAt: {}", admission.getAdmissionKey(), admission.getCreatedAt());
+            release(admission.getAdmissionKey(), admission.quantityMap());
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PendingAdmission> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("주문 접수 배치 처리 중 예외 - error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<PendingAdmission> nextBatch() throws InterruptedException {
+        PendingAdmission first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PendingAdmission> batch = new ArrayList<>(properties.getMaxBatchSize());
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.getBatchWindow().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingAdmission next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        // 시간 초과로 이미 떠난 요청은 처리하지 않는다.
+        batch.removeIf(pending -> pending.future.isDone());
+        return batch;
+    }
+
+    private void process(List<PendingAdmission> batch) {
+        batchSize.record(batch.size());
+
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> admitBatch(batch));
+        } catch (Exception e) {
+            log.error("주문 접수 배치 트랜잭션 실패 - size: {}, error: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(pending -> {
+                pending.future.completeExceptionally(new CoreException(ErrorType.INTERNAL_ERROR, "주문 접수 중 오류가 발생했습니다."));
+                record(pending, "failure");
+            });
+            return;
+        }
+
+        // 커밋 이후에 결과 전달
+        for (Outcome outcome : outcomes) {
+            PendingAdmission pending = outcome.pending();
+            if (outcome.error() != null) {
+                pending.future.completeExceptionally(outcome.error());
+                record(pending, "rejected");
+                continue;
+            }
+            if (!pending.future.complete(outcome.result())) {
+                // 기다리던 요청이 이미 떠났으므로 차감분을 되돌린다.
+                log.warn("접수 결과를 받을 요청이 없어 재고를 되돌립니다. quantities: {}", pending.quantities);
+                release(outcome.result().admissionKey(), pending.quantities);
+                continue;
+            }
+            record(pending, "admitted");
+        }
+    }
+
+    private List<Outcome> admitBatch(List<PendingAdmission> batch) {
+        // 배치 전체 상품을 ID 오름차순으로 한 번씩 잠근다.
+        List<Long> productIds = batch.stream()
+                .flatMap(pending -> pending.quantities.keySet().stream())
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Long, Product> products = orderLockCoordinator.acquire(OrderLockResource.PRODUCT, () -> productRepository.findAllByIdWithLock(productIds))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 도착 순서대로 받아들인다. 차감은 엔티티에 누적되어 커밋 시 상품당 UPDATE 한 번으로 반영된다.
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<OrderStockAdmission> admissions = new ArrayList<>(batch.size());
+        for (PendingAdmission pending : batch) {
+            try {
+                OrderStockAdmission admission = OrderStockAdmission.of(pending.quantities);
+                outcomes.add(Outcome.admitted(pending, admitOne(pending.quantities, products, admission.getAdmissionKey())));
+                admissions.add(admission);
+            } catch (CoreException e) {
+                outcomes.add(Outcome.rejected(pending, e));
+            }
+        }
+
+        // 차감과 같은 트랜잭션에 접수 기록을 남긴다. (주문 생성 전에 노드가 죽어도 재고를 되돌릴 수 있도록)
+        orderStockAdmissionRepository.saveAll(admissions);
+        stockReservationRepository.invalidate(productIds);
+        return outcomes;
+    }
+
+    private StockDeductionResult admitOne(Map<Long, Integer> quantities, Map<Long, Product> products, String admissionKey) {
+        // 검증을 모두 마친 뒤에 차감한다. (주문 일부만 차감되는 일이 없도록)
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        sorted.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, "일부 상품 정보를 찾을 수 없습니다.");
+            }
+            if (quantity <= 0) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "수량은 0보다 커야 합니다.");
+            }
+            if (product.getStock() < quantity) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+            }
+        });
+
+        List<Product> orderProducts = new ArrayList<>(sorted.size());
+        List<StockChangeResult> stockChanges = new ArrayList<>(sorted.size());
+        sorted.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            orderProducts.add(product);
+            stockChanges.add(product.decreaseStock(quantity));
+        });
+        // 잠근 엔티티에서 차감했으므로 복구도 엔티티 방식으로 한다.
+        return new StockDeductionResult(orderProducts, stockChanges, StockStrategy.PESSIMISTIC_LOCK, admissionKey);
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new CoreException(ErrorType.INTERNAL_ERROR, "주문 접수 중 오류가 발생했습니다.");
+    }
+
+    private void record(PendingAdmission pending, String result) {
+        Timer.builder("order.intake.admission")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static class PendingAdmission {
+        private final Map<Long, Integer> quantities;
+        private final CompletableFuture<StockDeductionResult> future = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+
+        private PendingAdmission(Map<Long, Integer> quantities) {
+            this.quantities = quantities;
+        }
+    }
+
+    private record Outcome(PendingAdmission pending, StockDeductionResult result, CoreException error) {
+        static Outcome admitted(PendingAdmission pending, StockDeductionResult result) {
+            return new Outcome(pending, result, null);
+        }
+
+        static Outcome rejected(PendingAdmission pending, CoreException error) {
+            return new Outcome(pending, null, error);
+        }
+    }
+
+}
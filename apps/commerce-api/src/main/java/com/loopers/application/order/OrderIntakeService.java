@@ -0,0 +1,72 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.StockDeductionResult;
+import com.loopers.config.OrderIntakeProperties;
+import com.loopers.config.StockProperties;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockStrategy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 접수 진입점
+ *
+ * order.intake.group-commit-enabled 이면 재고 차감만 OrderIntakeQueue 에서 묶어 먼저 처리하고,
+ * 나머지 주문 생성(포인트/쿠폰/결제)은 주문별 트랜잭션에서 처리한다. 주문 생성이 실패하면 차감한 재고를 되돌린다.
+ * 주문 트랜잭션은 차감 때 남긴 접수 기록을 지우며 커밋되므로, 그 전에 노드가 죽어도 남은 접수는 OrderIntakeQueue 가 되돌린다.
+ * 결제 실패 하나가 다른 주문까지 롤백시키지 않도록 주문 생성 자체는 묶지 않는다.
+ *
+ * 다음 경우에는 묶지 않고 OrderFacade 에서 바로 차감한다.
+ * - stock.strategy 가 REDIS_RESERVATION (재고 기준이 Redis 카운터)
+ * - 재고 버킷 모드 상품이 포함된 주문 (버킷이 이미 경합을 나눈다)
+ * - 대기열이 가득 찬 경우
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    private final OrderFacade orderFacade;
+    private final OrderIntakeQueue orderIntakeQueue;
+    private final ProductRepository productRepository;
+    private final OrderIntakeProperties orderIntakeProperties;
+    private final StockProperties stockProperties;
+
+    public Order placeOrder(String userId, OrderInfo orderInfo) {
+        if (!groupCommitApplicable(orderInfo)) {
+            return orderFacade.placeOrder(userId, orderInfo);
+        }
+
+        Map<Long, Integer> quantities = orderInfo.items().stream()
+                .collect(Collectors.toMap(OrderItemInfo::productId, OrderItemInfo::quantity));
+        Optional<StockDeductionResult> admitted = orderIntakeQueue.admit(quantities);
+        if (admitted.isEmpty()) {
+            return orderFacade.placeOrder(userId, orderInfo);
+        }
+
+        try {
+            return orderFacade.placeOrder(userId, orderInfo, admitted.get());
+        } catch (RuntimeException e) {
+            // 주문 트랜잭션이 롤백되었으므로 먼저 차감한 재고를 되돌린다.
+            log.warn("주문 생성 실패로 접수 재고 복구 - userId: {}, error: {}", userId, e.getMessage());
+            orderIntakeQueue.release(admitted.get().admissionKey(), quantities);
+            throw e;
+        }
+    }
+
+    private boolean groupCommitApplicable(OrderInfo orderInfo) {
+        if (!orderIntakeProperties.isGroupCommitEnabled() || stockProperties.getStrategy() == StockStrategy.REDIS_RESERVATION) {
+            return false;
+        }
+        List<Long> productIds = orderInfo.items().stream().map(OrderItemInfo::productId).toList();
+        return productRepository.findStockBucketedIds(productIds).isEmpty();
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.loopers.application.order;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 주문 트랜잭션의 락 획득 순서 관리
+ *
+ * 모든 주문이 같은 순서(OrderLockResource 선언 순: 상품 → 포인트 → 쿠폰)로, 같은 종류 안에서는 ID 오름차순으로
+ * 락을 잡으면 서로 상대가 가진 락을 기다리는 순환이 생기지 않는다. (데드락 없음)
+ * - 트랜잭션 안에서 앞 순서 자원을 뒤늦게 잠그려 하면 IllegalStateException (호출 순서 오류)
+ * - 자원별 락 대기 시간을 기록한다.
+ *
+ * 지표:
+ * - order.lock.wait{resource=product|point|coupon} : 락 획득까지 걸린 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderLockCoordinator {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 순서를 확인하고 locker 로 락을 잡는다. (호출한 트랜잭션 안에서 사용)
+     *
+     * @param resource 잠글 자원 종류
+     * @param locker 실제 락 조회 (같은 종류 여러 행이면 ID 오름차순으로 잠가야 한다)
+     */
+    public <T> T acquire(OrderLockResource resource, Supplier<T> locker) {
+        checkOrder(resource);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return locker.get();
+        } finally {
+            sample.stop(meterRegistry.timer("order.lock.wait", "resource", resource.metricTag()));
+        }
+    }
+
+    private void checkOrder(OrderLockResource resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        LockProgress progress = (LockProgress) TransactionSynchronizationManager.getResource(this);
+        if (progress == null) {
+            LockProgress newProgress = new LockProgress();
+            TransactionSynchronizationManager.bindResource(this, newProgress);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderLockCoordinator.this);
+                }
+            });
+            progress = newProgress;
+        }
+
+        if (progress.last != null && progress.last.compareTo(resource) > 0) {
+            log.error("락 획득 순서 위반 - 이미 잡은 자원: {}, 요청 자원: {}", progress.last, resource);
+            throw new IllegalStateException("락은 상품 → 포인트 → 쿠폰 순서로 잡아야 합니다. (" + progress.last + " 이후 " + resource + ")");
+        }
+        progress.last = resource;
+    }
+
+    private static class LockProgress {
+        private OrderLockResource last;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.loopers.application.order;
+
+/**
+ * 주문 트랜잭션에서 행 락을 잡는 자원 - 선언 순서가 전역 락 획득 순서다.
+ * (상품 → 포인트 → 쿠폰)
+ */
+public enum OrderLockResource {
+
+    PRODUCT("product"),
+    POINT("point"),
+    COUPON("coupon");
+
+    private final String metricTag;
+
+    OrderLockResource(String metricTag) {
+        this.metricTag = metricTag;
+    }
+
+    public String metricTag() {
+        return metricTag;
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.loopers.application.payment;
+
+import com.loopers.application.payment.processor.CardPaymentProcessor;
+import com.loopers.application.payment.processor.PaymentContext;
+import com.loopers.config.CardAuthorizationProperties;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 결제 PG 승인 요청 실행기 (2단계)
+ *
+ * 주문 트랜잭션이 커밋된 뒤(락, 커넥션 반환 후) 전용 풀에서 CardPaymentProcessor.authorize 를 호출한다.
+ * PG 가 느려져도 붙잡히는 것은 이 풀의 스레드뿐이고, 주문 트랜잭션의 락 보유 시간은 PG 지연과 무관하다.
+ * - 풀/대기열 크기 제한, 포화 시 요청을 버리지 않고 PENDING 으로 남겨 재요청 스케줄러가 이어받는다.
+ * - 재요청 스케줄러: transactionKey 없이 retry-grace 이상 머문 PENDING 결제(포화, 노드 장애, PG fallback)를 다시 요청한다.
+ * - 선점은 대기열에 넣을 때가 아니라 실행 직전(CardPaymentProcessor.authorize)에 승인 요청 시도 횟수 조건부 UPDATE 로 한다.
+ *   대기열에서 retry-grace 보다 오래 머문 요청과 재요청이 겹쳐도, 여러 노드가 동시에 재요청해도 PG 요청은 한 번만 나간다.
+ *
+ * 주의: Executor를 Bean으로 등록하면 @Async 기본 실행기가 바뀌므로 내부에서만 생성/종료한다.
+ *
+ * 지표:
+ * - payment.card.authorization{result=success|failure|skipped|rejected} : 커밋 후 PG 승인 요청 결과 반영까지 걸린 시간
+ */
+@Slf4j
+@Component
+public class CardAuthorizationDispatcher {
+
+    private final CardPaymentProcessor cardPaymentProcessor;
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final CardAuthorizationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+
+    public CardAuthorizationDispatcher(CardPaymentProcessor cardPaymentProcessor,
+                                       PaymentRepository paymentRepository,
+                                       OrderRepository orderRepository,
+                                       CardAuthorizationProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.cardPaymentProcessor = cardPaymentProcessor;
+        this.paymentRepository = paymentRepository;
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("card-authorization-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 PG 승인 요청을 보낸다. (롤백되면 보내지 않음)
+     */
+    public void dispatchAfterCommit(Long paymentId, int authorizationAttempts, PaymentContext context) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(paymentId, authorizationAttempts, context);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(paymentId, authorizationAttempts, context);
+            }
+        });
+    }
+
+    /**
+     * 승인 요청이 나가지 않은 PENDING 결제를 다시 요청한다.
+     */
+    @Scheduled(fixedDelayString = "${payment.card-authorization.retry-interval:PT30S}", initialDelayString = "PT30S")
+    public void retryUnrequested() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<Payment> payments = paymentRepository.findUnrequestedPayments(
+                now.minus(properties.getRetryGrace()), now.minus(properties.getRetryMaxAge()), properties.getRetryBatchSize());
+
+        for (Payment payment : payments) {
+            try {
+                Order order = orderRepository.findByIdWithItems(payment.getOrderId()).orElse(null);
+                if (order == null) {
+                    log.warn("재요청 대상 결제의 주문을 찾을 수 없음 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+                    continue;
+                }
+
+                log.info("PG 승인 재요청 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+                // 조회 시점의 시도 횟수로 예약한다. 그 사이 다른 요청이 선점했다면 실행 직전 선점에 실패해 건너뛴다.
+                dispatch(payment.getId(), payment.getAuthorizationAttempts(),
+                        PaymentContext.forCard(order.getUserId(), payment.getOrderId(), payment.getAmount(), payment.getPaymentMethod()));
+            } catch (Exception e) {
+                log.error("PG 승인 재요청 실패 - paymentId: {}, error: {}", payment.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void dispatch(Long paymentId, int authorizationAttempts, PaymentContext context) {
+        long startNanos = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                PaymentResult result = cardPaymentProcessor.authorize(paymentId, context, authorizationAttempts);
+                record(resultTag(result), startNanos);
+                log.info("PG 승인 요청 완료 - paymentId: {}, orderId: {}, success: {}, status: {}",
+                        paymentId, context.getOrderId(), result.success(), result.status());
+            });
+        } catch (TaskRejectedException e) {
+            // PENDING 으로 남겨두면 retry-grace 이후 재요청 스케줄러가 다시 보낸다.
+            record("rejected", startNanos);
+            log.warn("PG 승인 요청 풀 포화 - 재요청 대기 - paymentId: {}, orderId: {}", paymentId, context.getOrderId());
+        }
+    }
+
+    private String resultTag(PaymentResult result) {
+        if (result.success()) {
+            return "success";
+        }
+        return result.equals(PaymentResult.authorizationSkipped()) ? "skipped" : "failure";
+    }
+
+    private void record(String result, long startNanos) {
+        Timer.builder("payment.card.authorization")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+}
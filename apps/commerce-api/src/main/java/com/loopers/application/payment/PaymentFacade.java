@@ -1,5 +1,6 @@
 package com.loopers.application.payment;
 
+import com.loopers.application.payment.processor.CardPaymentProcessor;
 import com.loopers.application.payment.processor.PaymentContext;
 import com.loopers.application.payment.processor.PaymentProcessor;
 import com.loopers.domain.payment.*;
@@ -21,8 +22,36 @@ public class PaymentFacade {
     private final Map<String, PaymentProcessor> paymentProcessorMap;
     private final PaymentCallbackService paymentCallbackService;
     private final PaymentSyncService paymentSyncService;
+    private final CardPaymentProcessor cardPaymentProcessor;
+    private final CardAuthorizationDispatcher cardAuthorizationDispatcher;
 
+    /**
+     * 주문 트랜잭션 안에서 결제를 시작한다.
+     * - POINT : 같은 트랜잭션에서 바로 차감
+     * - CARD  : PENDING 결제만 저장하고, PG 승인 요청은 커밋 이후 CardAuthorizationDispatcher 가 별도 스레드에서 보낸다.
+     *           (PG 지연 동안 주문 트랜잭션의 상품/포인트/쿠폰 락과 커넥션을 잡지 않는다)
+     */
     @Transactional
+    public PaymentResult startPayment(
+        Long userId, Long orderId, long amount,
+        PaymentType paymentType, PaymentMethod paymentMethod
+    ) {
+        if (paymentType != PaymentType.CARD) {
+            return processPayment(userId, orderId, amount, paymentType, paymentMethod);
+        }
+
+        PaymentContext context = PaymentContext.of(userId, orderId, amount, paymentType, paymentMethod);
+        Payment payment = cardPaymentProcessor.createPendingPayment(context);
+        cardAuthorizationDispatcher.dispatchAfterCommit(payment.getId(), payment.getAuthorizationAttempts(), context);
+
+        log.info("카드 결제 접수 - userId: {}, orderId: {}, paymentId: {} (PG 승인 요청은 커밋 후 처리)", userId, orderId, payment.getId());
+        return PaymentResult.cardRequestAccepted();
+    }
+
+    /**
+     * 결제를 처리하고 결과를 바로 반환한다.
+     * 카드 결제는 PG 승인 요청까지 기다리므로 트랜잭션 밖에서 호출해야 한다. (각 단계가 자체 트랜잭션 사용)
+     */
     public PaymentResult processPayment(
         Long userId, Long orderId, long amount,
         PaymentType paymentType, PaymentMethod paymentMethod
@@ -1,10 +1,9 @@
 package com.loopers.application.payment;
 
+import com.loopers.application.product.StockDeductionService;
 import com.loopers.domain.coupon.UserCoupon;
 import com.loopers.domain.coupon.UserCouponRepository;
 import com.loopers.domain.order.Order;
-import com.loopers.domain.product.Product;
-import com.loopers.domain.product.ProductRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +18,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PaymentRecoveryService {
 
-    private final ProductRepository productRepository;
+    private final StockDeductionService stockDeductionService;
     private final UserCouponRepository userCouponRepository;
 
     /**
@@ -46,29 +45,11 @@ public class PaymentRecoveryService {
     }
 
     /**
-     * 상품 재고 복구
+     * 상품 재고 복구 (재고 차감 방식에 맞춰 DB 재고 또는 Redis 예약을 되돌림)
      */
     private void restoreProductStock(Order order) {
         log.info("재고 복구 시작 - orderId: {}, 상품 수: {}", order.getId(), order.getOrderItems().size());
-
-        order.getOrderItems().forEach(orderItem -> {
-            try {
-                Product product = productRepository.productInfo(orderItem.getProductId())
-                        .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
-                                "상품을 찾을 수 없습니다: " + orderItem.getProductId()));
-
-                // 재고 복구 (주문했던 수량만큼 다시 증가)
-                product.increaseStock(orderItem.getQuantity());
-                productRepository.save(product);
-
-                log.info("재고 복구 완료 - productId: {}, quantity: {}, 복구 후 재고: {}",
-                        orderItem.getProductId(), orderItem.getQuantity(), product.getStock());
-
-            } catch (Exception e) {
-                log.error("재고 복구 실패 - productId: {}, quantity: {}, error: {}",
-                        orderItem.getProductId(), orderItem.getQuantity(), e.getMessage(), e);
-            }
-        });
+        stockDeductionService.restoreForOrder(order);
     }
 
     /**
@@ -18,6 +18,14 @@ public record PaymentResult(
                 transactionId);
     }
 
+    public static PaymentResult cardRequestAccepted() {
+        return new PaymentResult(true, PaymentStatus.PENDING, "카드 결제 접수 (PG 승인 요청 대기)", null);
+    }
+
+    public static PaymentResult authorizationSkipped() {
+        return new PaymentResult(false, PaymentStatus.PENDING, "이미 승인 요청이 진행된 결제", null);
+    }
+
     public static PaymentResult failure(String message) {
         return new PaymentResult(false, PaymentStatus.FAILED, message, null);
     }
@@ -24,7 +24,7 @@ public class PgPaymentService {
 
     @CircuitBreaker(name = "pgCircuitBreaker", fallbackMethod = "fallbackPayment")
     @Retry(name = "pgRetry")
-    public PgPaymentResponse processPayment(String userId, Long orderId, String cardType, String cardNo, long amount) {
+    public PgPaymentResponse processPayment(String userId, String idempotencyKey, Long orderId, String cardType, String cardNo, long amount) {
         log.info("PG 결제 요청 시작 - userId: {}, orderId: {}, amount: {}", userId, orderId, amount);
 
         // 2. PG 결제 요청
@@ -36,7 +36,7 @@ public class PgPaymentService {
         log.info("PG 요청 데이터 - userId: {}, orderId: {}, cardType: {}, cardNo: {}, amount: {}", 
                 userId, request.orderId(), request.cardType(), request.cardNo(), request.amount());
 
-        PgPaymentResponse response = pgClient.requestPayment(userId, request);
+        PgPaymentResponse response = pgClient.requestPayment(userId, idempotencyKey, request);
         log.info("PG 결제 요청 완료 - userId: {}, orderId: {}, success: {}", userId, orderId, response.isSuccess());
 
         return response;  // 성공/실패 상관없이 response 그대로 반환
@@ -44,7 +44,7 @@ public class PgPaymentService {
     }
 
     // Fallback 메서드 - PG 장애 시 실행
-    public PgPaymentResponse fallbackPayment(String userId, Long orderId, String cardType, String cardNo, long amount, Exception ex) {
+    public PgPaymentResponse fallbackPayment(String userId, String idempotencyKey, Long orderId, String cardType, String cardNo, long amount, Exception ex) {
         log.error("PG 시스템 장애로 인한 Fallback 실행 - userId: {}, orderId: {}, error: {}", userId, orderId, ex.getMessage());
 
         // Fallback 시 실패 응답 생성
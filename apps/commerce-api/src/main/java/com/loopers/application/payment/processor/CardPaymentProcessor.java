@@ -2,90 +2,165 @@ package com.loopers.application.payment.processor;
 
 import com.loopers.application.payment.PaymentResult;
 import com.loopers.application.payment.PgPaymentService;
+import com.loopers.application.payment.event.PaymentFailureEvent;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.payment.PaymentType;
+import com.loopers.infrastructure.event.OutboxEventPublisher;
 import com.loopers.infrastructure.pg.PgPaymentResponse;
 import com.loopers.infrastructure.pg.PgPaymentStatus;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
 
 /**
  * 카드 결제 처리 전략
+ *
+ * 2단계로 나눠 PG 호출 동안 트랜잭션(락, 커넥션)을 잡고 있지 않는다.
+ * - 1단계 createPendingPayment : PENDING 결제 저장 (호출한 트랜잭션에 참여 - 주문 트랜잭션과 함께 커밋)
+ * - 2단계 authorize : 트랜잭션 밖에서 PG 승인 요청 → 결과만 짧은 트랜잭션으로 반영
+ *
+ * 주문 흐름은 1단계만 주문 트랜잭션에서 하고, 2단계는 커밋 후 CardAuthorizationDispatcher 가 별도 스레드에서 호출한다.
  */
 @Slf4j
 @Component("CARD")   // ← Spring이 Map에 "CARD" 키로 등록
-@RequiredArgsConstructor
 public class CardPaymentProcessor implements PaymentProcessor {
 
     private final PgPaymentService pgPaymentService;
     private final PaymentRepository paymentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public CardPaymentProcessor(PgPaymentService pgPaymentService,
+                                PaymentRepository paymentRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                OutboxEventPublisher outboxEventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.pgPaymentService = pgPaymentService;
+        this.paymentRepository = paymentRepository;
+        this.eventPublisher = eventPublisher;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
+    /**
+     * 1단계 저장과 2단계 승인 요청을 이어서 처리한다. (승인 요청 결과를 바로 돌려받아야 하는 경우)
+     * 트랜잭션 밖에서 호출해야 PG 호출 동안 커넥션을 잡지 않는다.
+     */
     @Override
-    @Transactional  // 카드 결제는 PENDING 저장까지만
     public PaymentResult process(PaymentContext context) {
         log.info("카드 결제 처리 시작 - userId: {}, orderId: {}, amount: {}",
                 context.getUserId(), context.getOrderId(), context.getAmount());
 
+        Payment savedPayment;
         try {
-            // 1. Payment 엔티티 생성 (PENDING 상태)
-            Payment payment = Payment.of(context.getOrderId(), context.getPaymentMethod(), context.getAmount());
-            Payment savedPayment = paymentRepository.save(payment);
-            log.info("Payment 저장 완료 - paymentId: {}", savedPayment.getId());
-
-            // 2. PG 결제 요청
-            PaymentResult result = requestPgPayment(context, savedPayment);
-            log.info("PG 결제 요청 완료 - orderId: {}, success: {}", context.getOrderId(), result.success());
-
-            // 3. PG 요청 실패 시 Payment 상태도 업데이트
-            if (!result.success()) {
-
-                // 명확한 실패(한도초과, 유효한 카드 아님 등)인 경우만 FAILED로 변경
-                if (result.status() == PaymentStatus.FAILED) {
-                    savedPayment.markAsFailed();
-                    paymentRepository.save(savedPayment);
-                }
+            savedPayment = transactionTemplate.execute(status -> createPendingPayment(context));
+        } catch (Exception e) {
+            log.error("카드 결제 처리 중 예외 발생 - orderId: {}, error: {}", context.getOrderId(), e.getMessage(), e);
+            return PaymentResult.failure("카드 결제 처리 중 오류 발생: " + e.getMessage());
+        }
 
-            }
+        PaymentResult result = authorize(savedPayment.getId(), context, savedPayment.getAuthorizationAttempts());
+        log.info("PG 결제 요청 완료 - orderId: {}, success: {}", context.getOrderId(), result.success());
+        return result;
+    }
 
-            return result;
+    /**
+     * 1단계: Payment 엔티티 생성 (PENDING 상태, 호출한 트랜잭션에서 저장)
+     */
+    public Payment createPendingPayment(PaymentContext context) {
+        Payment payment = Payment.of(context.getOrderId(), context.getPaymentMethod(), context.getAmount());
+        Payment savedPayment = paymentRepository.save(payment);
+        log.info("Payment 저장 완료 - paymentId: {}", savedPayment.getId());
+        return savedPayment;
+    }
 
+    /**
+     * 2단계: 승인 요청 선점 → PG 승인 요청 (트랜잭션 밖) → 결과를 짧은 트랜잭션으로 반영
+     *
+     * 대기열에서 오래 머문 요청과 재요청 스케줄러의 요청이 겹칠 수 있으므로 PG 호출 직전에
+     * 시도 횟수 조건부 UPDATE 로 선점하고, 선점에 실패하거나 이미 승인 요청이 반영된 결제는 건너뛴다.
+     * PG 에는 결제별 고정 Idempotency-Key 를 보내 재요청이 중복 승인되지 않게 한다.
+     *
+     * @param paymentId 1단계에서 저장한 결제 ID
+     * @param expectedAttempts 요청을 예약할 때 읽은 승인 요청 시도 횟수
+     */
+    public PaymentResult authorize(Long paymentId, PaymentContext context, int expectedAttempts) {
+        Payment claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> claim(paymentId, expectedAttempts));
         } catch (Exception e) {
-            log.error("카드 결제 처리 중 예외 발생 - orderId: {}, error: {}", context.getOrderId(), e.getMessage(), e);
+            log.error("PG 승인 요청 선점 중 예외 발생 - orderId: {}, paymentId: {}, error: {}", context.getOrderId(), paymentId, e.getMessage(), e);
             return PaymentResult.failure("카드 결제 처리 중 오류 발생: " + e.getMessage());
         }
-    }
+        if (claimed == null) {
+            log.info("이미 승인 요청이 진행됐거나 처리된 결제 - 건너뜀 - paymentId: {}, expectedAttempts: {}", paymentId, expectedAttempts);
+            return PaymentResult.authorizationSkipped();
+        }
 
-    // PG 요청은 트랜잭션 외부에서 (또는 별도 트랜잭션)
-    private PaymentResult requestPgPayment(PaymentContext context, Payment payment) {
+        PgPaymentResponse pgResponse;
         try {
-            PgPaymentResponse pgResponse = pgPaymentService.processPayment(
+            pgResponse = pgPaymentService.processPayment(
                     context.getUserId().toString(),
+                    claimed.authorizationIdempotencyKey(),
                     context.getOrderId(),
                     context.getPaymentMethod().getCardType().name(),
                     context.getPaymentMethod().getCardNo(),
                     context.getAmount()
             );
-
-            String transactionKey = pgResponse.getTransactionKey();
-
-            if (pgResponse.isSuccess()) {
-                // 성공 처리 로직
-                updatePaymentTransactionKey(payment, transactionKey);
-                return PaymentResult.cardRequestSuccess(transactionKey);
-            } else {
-                // 실패 처리 로직 - 기존 handlePgFailure() 로직 활용
-                return handlePgFailure(payment, pgResponse, transactionKey, context.getOrderId());
-            }
-
         } catch (Exception e) {
             log.error("PG 결제 요청 중 예외 발생 - orderId: {}", context.getOrderId(), e);
             return PaymentResult.failure("PG 결제 요청 중 오류 발생: " + e.getMessage());
         }
+
+        try {
+            return transactionTemplate.execute(status -> applyPgResponse(paymentId, pgResponse, context));
+        } catch (Exception e) {
+            log.error("PG 응답 반영 중 예외 발생 - orderId: {}, paymentId: {}, error: {}", context.getOrderId(), paymentId, e.getMessage(), e);
+            return PaymentResult.failure("카드 결제 처리 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 승인 요청 선점 후 결제 상태/transactionKey 를 다시 읽어 확인한다.
+     *
+     * @return 선점한 결제, 선점 실패 또는 이미 처리된 결제면 null
+     */
+    private Payment claim(Long paymentId, int expectedAttempts) {
+        if (!paymentRepository.claimForAuthorization(paymentId, expectedAttempts)) {
+            return null;
+        }
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + paymentId));
+        if (!payment.isPending() || payment.getTransactionKey() != null) {
+            return null;
+        }
+        return payment;
+    }
+
+    private PaymentResult applyPgResponse(Long paymentId, PgPaymentResponse pgResponse, PaymentContext context) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + paymentId));
+
+        String transactionKey = pgResponse.getTransactionKey();
+
+        if (pgResponse.isSuccess()) {
+            // 성공 처리 로직
+            payment.updateTransactionKey(transactionKey);
+            log.info("Payment transactionKey 업데이트 완료 - paymentId: {}, transactionKey: {}", paymentId, transactionKey);
+            return PaymentResult.cardRequestSuccess(transactionKey);
+        }
+
+        // 실패 처리 로직
+        return handlePgFailure(payment, pgResponse, transactionKey, context);
     }
 
     /**
@@ -93,9 +168,10 @@ public class CardPaymentProcessor implements PaymentProcessor {
      */
     private PaymentResult handlePgFailure(
             Payment payment, PgPaymentResponse pgResponse,
-            String transactionKey, Long orderId
+            String transactionKey, PaymentContext context
     ) {
 
+        Long orderId = context.getOrderId();
         PgPaymentStatus status = pgResponse.getStatus();
 
         switch (status) {
@@ -103,22 +179,20 @@ public class CardPaymentProcessor implements PaymentProcessor {
                 if (transactionKey == null) {
                     // Fallback 상황: PG 요청 자체 실패, 재시도 필요
                     log.warn("PG 요청 실패로 인한 Fallback - orderId: {}, 재시도 필요", orderId);
-                    // transactionKey null로 두고 PENDING 유지
+                    // transactionKey null로 두고 PENDING 유지 (CardAuthorizationDispatcher 가 재요청)
                     return PaymentResult.fallback(null, "PG 시스템 장애 - 재시도 예정");
                 } else {
                     // 진짜 실패: PG에서 받은 transactionKey 있음 (이력 확인용으로 저장)
                     log.warn("카드 결제 명확한 실패 - orderId: {}, transactionKey: {}", orderId, transactionKey);
-                    updatePaymentTransactionKey(payment, transactionKey);
-                    payment.markAsFailed();
-                    paymentRepository.save(payment);
+                    payment.updateTransactionKey(transactionKey);
+                    markAsFailed(payment, context, "유효하지 않은 카드이거나 한도가 초과되었습니다.");
                     return PaymentResult.failure("카드 결제 실패: 유효하지 않은 카드이거나 한도가 초과되었습니다.");
                 }
             }
             case CANCELLED -> {
                 // 명확한 실패: 결제 취소
                 log.warn("카드 결제 취소됨 - orderId: {}, status: {}", orderId, status);
-                payment.markAsFailed();
-                paymentRepository.save(payment);
+                markAsFailed(payment, context, "카드 결제가 취소되었습니다.");
                 return PaymentResult.failure("카드 결제가 취소되었습니다.");
             }
             case PENDING, PROCESSING -> {
@@ -127,7 +201,7 @@ public class CardPaymentProcessor implements PaymentProcessor {
 
                 // Fallback transactionKey가 있으면 저장
                 if (transactionKey != null && transactionKey.startsWith("FALLBACK_")) {
-                    updatePaymentTransactionKey(payment, transactionKey);
+                    payment.updateTransactionKey(transactionKey);
                     return PaymentResult.fallback(transactionKey, "PG 시스템 일시 장애로 인한 Fallback 처리");
                 }
 
@@ -142,24 +216,27 @@ public class CardPaymentProcessor implements PaymentProcessor {
     }
 
     /**
-     * Payment 엔티티에 transactionKey 업데이트 (별도 트랜잭션)
+     * 명확한 실패 처리 - 결제 실패 이벤트로 주문 취소 및 재고/쿠폰 복구 (콜백 실패와 같은 경로)
      */
-    @Transactional
-    private void updatePaymentTransactionKey(Payment payment, String transactionKey) {
-        try {
-            // Payment 엔티티를 다시 조회하여 영속화 상태로 만듦
-            Payment managedPayment = paymentRepository.findById(payment.getId())
-                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + payment.getId()));
-
-            // transactionKey 업데이트
-            managedPayment.updateTransactionKey(transactionKey);
-            log.info("Payment transactionKey 업데이트 완료 - paymentId: {}, transactionKey: {}", payment.getId(), transactionKey);
-
-        } catch (Exception e) {
-            log.error("Payment transactionKey 업데이트 실패 - paymentId: {}, transactionKey: {}, error: {}",
-                    payment.getId(), transactionKey, e.getMessage(), e);
-            throw new CoreException(ErrorType.INTERNAL_ERROR, "Payment transactionKey 업데이트 실패");
+    private void markAsFailed(Payment payment, PaymentContext context, String reason) {
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.warn("이미 처리된 결제 - paymentId: {}, currentStatus: {}", payment.getId(), payment.getStatus());
+            return;
         }
+        payment.markAsFailed();
+
+        PaymentFailureEvent failureEvent = PaymentFailureEvent.of(
+                payment.getOrderId(),
+                context.getUserId(),
+                PaymentType.CARD,
+                payment.getTransactionKey(),
+                payment.getAmount(),
+                reason,
+                ZonedDateTime.now().toString()
+        );
+        eventPublisher.publishEvent(failureEvent);
+        outboxEventPublisher.publish("order-events", payment.getOrderId().toString(), failureEvent);
+        log.info("결제 실패 이벤트 발행 - orderId: {}, paymentType: {}", payment.getOrderId(), PaymentType.CARD);
     }
 
 }
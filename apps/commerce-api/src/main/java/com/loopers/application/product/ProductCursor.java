@@ -0,0 +1,88 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 목록 커서 (Keyset 페이지네이션)
+ *
+ * 마지막으로 내려준 상품의 (정렬 값, id)를 담아, 다음 페이지를 OFFSET 없이
+ * "정렬 값 이후" 조건으로 바로 찾아간다. (깊은 페이지에서도 조회 비용 일정)
+ *
+ * 형식: Base64URL("{sort}|{정렬 값}|{id}")
+ */
+public record ProductCursor(
+        String sort,
+        String sortValue,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 조건 (정렬 값이 같은 상품의 순서를 고정하기 위해 id를 보조 키로 사용)
+     */
+    public static Sort sortOf(String sort) {
+        return switch (sort) {
+            case "price_asc" -> Sort.by(Sort.Direction.ASC, "price").and(Sort.by(Sort.Direction.ASC, "id"));
+            case "likes_desc" -> Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "id"));
+            default -> Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        };
+    }
+
+    public static ProductCursor of(String sort, Product product) {
+        String sortValue = switch (sort) {
+            case "price_asc" -> String.valueOf(product.getPrice());
+            case "likes_desc" -> String.valueOf(product.getLikeCount());
+            default -> product.getCreatedAt().toString();
+        };
+        return new ProductCursor(sort, sortValue, product.getId());
+    }
+
+    public static ProductCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 3);
+            return new ProductCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 이후 위치 (정렬 속성명 → 값)
+     */
+    public ScrollPosition toScrollPosition(String requestedSort) {
+        if (!sort.equals(requestedSort)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "커서의 정렬 조건이 요청과 다릅니다.");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            switch (sort) {
+                case "price_asc" -> keys.put("price", Long.valueOf(sortValue));
+                case "likes_desc" -> keys.put("likeCount", Long.valueOf(sortValue));
+                default -> keys.put("createdAt", ZonedDateTime.parse(sortValue));
+            }
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
+}
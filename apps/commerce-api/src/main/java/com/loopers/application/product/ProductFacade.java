@@ -1,17 +1,29 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.product.MostLikedProductRepository;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCacheRepository;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class ProductFacade {
 
     private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final MostLikedProductRepository mostLikedProductRepository;
+    private final ProductCacheRepository productCacheRepository;
 
     @Transactional
     public ProductResponse create(Long brandId, String name, String description, long price, int stock, int maxOrderQuantity, ProductStatus
@@ -23,4 +35,81 @@ public class ProductFacade {
         return ProductResponse.from(savedProduct);
     }
 
+    /**
+     * 한정 판매 등 주문이 몰리는 상품의 재고를 bucketCount 개 버킷으로 나눈다.
+     * 이후 주문은 상품 행 대신 임의의 버킷에서 차감된다.
+     */
+    @Transactional
+    public void enableStockBuckets(Long productId, int bucketCount) {
+        if (bucketCount < 2) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "버킷 수는 2 이상이어야 합니다.");
+        }
+        productRepository.splitStockIntoBuckets(productId, bucketCount);
+        stockReservationRepository.invalidate(List.of(productId));
+    }
+
+    /**
+     * 버킷 재고 합계를 상품 재고로 되돌리고 버킷 모드를 해제한다.
+     */
+    @Transactional
+    public void disableStockBuckets(Long productId) {
+        productRepository.mergeStockBuckets(productId);
+        stockReservationRepository.invalidate(List.of(productId));
+    }
+
+    /**
+     * 판매 중지 - 커밋 후 좋아요순 인덱스에서 빼고 목록/상세 캐시를 무효화한다.
+     * (인덱스에 판매 중 상품만 남아야 좋아요순 페이지 크기와 전체 개수가 맞는다)
+     */
+    @Transactional
+    public void deactivate(Long productId) {
+        Product product = findProduct(productId);
+        product.deactivate();
+
+        Long brandId = product.getBrandId();
+        runAfterCommit(() -> {
+            mostLikedProductRepository.remove(productId, brandId);
+            evictCaches(productId, brandId);
+        });
+    }
+
+    /**
+     * 판매 재개 - 커밋 후 좋아요순 인덱스에 다시 넣고 목록/상세 캐시를 무효화한다.
+     */
+    @Transactional
+    public void activate(Long productId) {
+        Product product = findProduct(productId);
+        product.activate();
+
+        Long brandId = product.getBrandId();
+        long likeCount = product.getLikeCount();
+        runAfterCommit(() -> {
+            mostLikedProductRepository.add(productId, brandId, likeCount);
+            evictCaches(productId, brandId);
+        });
+    }
+
+    private Product findProduct(Long productId) {
+        return productRepository.productInfo(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품 정보를 찾을 수 없습니다."));
+    }
+
+    private void evictCaches(Long productId, Long brandId) {
+        productCacheRepository.evictProductDetail(productId);
+        productCacheRepository.evictProductsByBrand(brandId);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
 }
@@ -4,90 +4,151 @@ import com.loopers.domain.product.*;
 import com.loopers.domain.ranking.RankingRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * 상품 조회 서비스
+ *
+ * 캐시를 거치는 조회(목록/상세)는 메서드 전체를 트랜잭션으로 감싸지 않는다.
+ * 캐시 미스가 겹치면 다른 요청의 적재를 기다리는데(Single-Flight), 그동안 DB 커넥션을 잡고 있으면
+ * hot 키 만료 순간 대기 요청 수만큼 커넥션 풀이 비기 때문이다. DB 조회는 적재 함수 안에서만 읽기 전용 트랜잭션으로 수행한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class ProductQueryService {
 
     private final ProductRepository productRepository;
     private final RankingRepository rankingRepository;
     private final ProductCacheRepository productCacheRepository;
+    private final MostLikedProductRepository mostLikedProductRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ProductQueryService(ProductRepository productRepository,
+                               RankingRepository rankingRepository,
+                               ProductCacheRepository productCacheRepository,
+                               MostLikedProductRepository mostLikedProductRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.rankingRepository = rankingRepository;
+        this.productCacheRepository = productCacheRepository;
+        this.mostLikedProductRepository = mostLikedProductRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    private static final String LIKES_DESC = "likes_desc";
 
     // 날짜 형식 상수 추가
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    @Transactional(readOnly = true)
     public Page<ProductResponse> searchProducts(Long brandId, String sort, int page, int size) {
 
-        // 1. 캐시에서 먼저 조회
-        Optional<Page<ProductResponse>> cached = productCacheRepository.getProductList(brandId, sort, page, size);
-        if (cached.isPresent()) {
-            return cached.get();
-        }
+        // 캐시 조회 → 미스 시 DB 조회 후 캐시 저장 (동시 미스는 한 번만 DB 조회, 대기 중에는 커넥션을 잡지 않음)
+        return productCacheRepository.getOrLoadProductList(brandId, sort, page, size,
+                () -> readOnlyTransactionTemplate.execute(status -> loadProductList(brandId, sort, page, size)));
+    }
+
+    /**
+     * 커서 기반 상품 목록 조회 (Keyset 페이지네이션)
+     * OFFSET 과 COUNT 없이 (정렬 값, id) 이후의 상품을 조회하므로 페이지가 깊어져도 비용이 일정하다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param withTotal true 이면 캐시된 대략적인 전체 개수를 함께 반환
+     */
+    @Transactional(readOnly = true)
+    public ProductScrollResponse scrollProducts(Long brandId, String sort, String cursor, int size, boolean withTotal) {
 
-        // 2. 캐시에 없으면 DB에서 조회
-        Sort sortCondition = switch (sort) {
-            case "price_asc" -> Sort.by(Sort.Direction.ASC, "price");
-            case "likes_desc" -> Sort.by(Sort.Direction.DESC, "likeCount");
-            default -> Sort.by(Sort.Direction.DESC, "createdAt");
-        };
+        ScrollPosition position = cursor == null
+                ? ScrollPosition.keyset()
+                : ProductCursor.decode(cursor).toScrollPosition(sort);
 
-        Pageable pageable = PageRequest.of(page, size, sortCondition);
-        Specification<Product> spec = Specification.where(ProductSpecs.isActive());
-        if (brandId != null) {
-            spec = spec.and(ProductSpecs.isBrand(brandId));
-        }
+        Specification<Product> spec = activeProductSpec(brandId);
+        Window<Product> window = productRepository.scrollProducts(spec, ProductCursor.sortOf(sort), position, size);
 
-        Page<Product> productPage = productRepository.productList(spec, pageable);
-        Page<ProductResponse> responseDto = productPage.map(ProductResponse::from);
+        Map<Long, Integer> bucketedStocks = productRepository.bucketedStocks(
+                window.getContent().stream().map(Product::getId).toList());
+        List<ProductResponse> content = window.getContent().stream()
+                .map(product -> withDisplayStock(ProductResponse.from(product), bucketedStocks))
+                .toList();
 
-        // 3. DB에서 가져온 데이터를 캐시에 저장
-        productCacheRepository.saveProductList(brandId, sort, page, size, responseDto);
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? ProductCursor.of(sort, window.getContent().get(window.size() - 1)).encode()
+                : null;
 
-        return responseDto;
+        Long approximateTotal = withTotal
+                ? productCacheRepository.getOrLoadActiveProductCount(brandId, () -> productRepository.countProducts(spec))
+                : null;
+
+        return new ProductScrollResponse(content, nextCursor, window.hasNext(), approximateTotal);
     }
 
-    @Transactional(readOnly = true)
     public ProductResponse getProductDetail(Long productId) {
 
-        // 1. 캐시에서 먼저 조회 (기존 로직 그대로)
-        Optional<ProductResponse> cached = productCacheRepository.getProductDetail(productId);
-        if (cached.isPresent()) {
-            ProductResponse cachedResponse = cached.get();
+        // 1. 랭킹 정보 없는 기본 응답을 캐시에서 조회 (미스 시 DB 조회 후 저장, 동시 미스는 한 번만 DB 조회)
+        ProductResponse basicResponse = productCacheRepository.getOrLoadProductDetail(productId,
+                () -> readOnlyTransactionTemplate.execute(status -> productRepository.productInfo(productId)
+                        .map(product -> withDisplayStock(ProductResponse.from(product), productRepository.bucketedStocks(List.of(productId))))
+                        .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품 정보를 찾을 수 없습니다."))));
 
-            // 캐시된 데이터에 최신 랭킹 정보 추가
-            return addRankingInfo(cachedResponse, productId);
-        }
-
-        // 2. 캐시에 없으면 DB에서 조회
-        Product product = productRepository.productInfo(productId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품 정보를 찾을 수 없습니다."));
+        // 2. 최신 랭킹 정보 추가 (랭킹은 실시간 변동이므로 캐시 제외)
+        return addRankingInfo(basicResponse, productId);
+    }
 
-        // 3. 랭킹 정보 조회
-        String today = LocalDate.now().format(DATE_FORMAT);
-        Integer currentRank = rankingRepository.getProductRank(today, productId);
-        Double currentScore = rankingRepository.getProductScore(today, productId);
+    private Page<ProductResponse> loadProductList(Long brandId, String sort, int page, int size) {
+
+        Pageable pageable = PageRequest.of(page, size, ProductCursor.sortOf(sort));
+
+        // 좋아요순은 collector 가 유지하는 인덱스(Redis ZSET)에서 페이지의 id를 찾고, 없으면 DB 정렬로 조회
+        if (LIKES_DESC.equals(sort)) {
+            Optional<MostLikedProductRepository.MostLikedPage> mostLiked = mostLikedProductRepository.findPage(brandId, page, size);
+            if (mostLiked.isPresent()) {
+                List<Long> productIds = mostLiked.get().productIds();
+                List<ProductResponse> content = productRepository.findListViewsByIds(productIds).stream()
+                        .filter(view -> view.status() == ProductStatus.ACTIVE)
+                        .map(ProductResponse::from)
+                        .toList();
+                // 인덱스는 판매 중 상품만 담으므로 보통 그대로 쓴다. 판매 중지 반영이 누락된 상품이 섞였으면
+                // 페이지 크기/전체 개수가 어긋나므로 DB 정렬로 조회한다.
+                if (content.size() == productIds.size()) {
+                    return new PageImpl<>(content, pageable, mostLiked.get().totalElements());
+                }
+            }
+        }
 
-        // 4. 랭킹 정보가 포함된 응답 생성
-        ProductResponse response = ProductResponse.withRanking(product, currentRank, currentScore);
+        // 목록 컬럼만 프로젝션으로 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+        return productRepository.activeProductListViews(brandId, pageable).map(ProductResponse::from);
+    }
 
-        // 5. 랭킹 정보 없는 기본 응답을 캐시에 저장 (랭킹은 실시간 변동이므로 캐시 제외)
-        ProductResponse basicResponse = ProductResponse.from(product);
-        productCacheRepository.saveProductDetail(productId, basicResponse);
+    /**
+     * 버킷 모드 상품은 Product.stock 대신 버킷 합계를 보여 준다. (Product.stock 은 재배분 주기마다만 맞춰짐)
+     * 목록 프로젝션(findListViewsByIds)은 저장소에서 이미 반영한다.
+     */
+    private ProductResponse withDisplayStock(ProductResponse response, Map<Long, Integer> bucketedStocks) {
+        Integer bucketStock = bucketedStocks.get(response.productId());
+        return bucketStock == null ? response : response.withStock(bucketStock);
+    }
 
-        return response;
+    private Specification<Product> activeProductSpec(Long brandId) {
+        Specification<Product> spec = Specification.where(ProductSpecs.isActive());
+        if (brandId != null) {
+            spec = spec.and(ProductSpecs.isBrand(brandId));
+        }
+        return spec;
     }
 
     /**
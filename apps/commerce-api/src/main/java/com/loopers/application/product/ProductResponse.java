@@ -1,6 +1,7 @@
 package com.loopers.application.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductListView;
 import com.loopers.domain.product.ProductStatus;
 
 public record ProductResponse(
@@ -37,6 +38,35 @@ public record ProductResponse(
         );
     }
 
+    /**
+     * 목록 프로젝션으로부터 ProductResponse 생성 (설명, 랭킹 정보 없음)
+     *
+     * @param view 목록 조회 전용 읽기 모델
+     * @return 목록 응답에 필요한 필드만 채운 ProductResponse
+     */
+    public static ProductResponse from(ProductListView view) {
+        return new ProductResponse(
+                view.id(),
+                view.brandId(),
+                view.name(),
+                null,     // 목록에서는 설명을 조회하지 않음
+                view.price(),
+                view.stock(),
+                view.status(),
+                view.likeCount(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * 재고만 바꾼 사본 (버킷 모드 상품은 버킷 합계로 표시, 재배분 중 일시적인 음수는 0으로)
+     */
+    public ProductResponse withStock(int stock) {
+        return new ProductResponse(productId, brandId, name, description, price, Math.max(stock, 0),
+                productStatus, likeCount, currentRank, currentScore);
+    }
+
     /**
      * Product 엔티티와 랭킹 정보로부터 ProductResponse 생성
      *
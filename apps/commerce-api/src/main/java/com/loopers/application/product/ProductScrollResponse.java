@@ -0,0 +1,19 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 조회 결과
+ *
+ * @param content 상품 목록
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param approximateTotal 캐시된 대략적인 전체 개수 (요청하지 않으면 null)
+ */
+public record ProductScrollResponse(
+        List<ProductResponse> content,
+        String nextCursor,
+        boolean hasNext,
+        Long approximateTotal
+) {
+}
@@ -0,0 +1,28 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.domain.product.StockStrategy;
+
+import java.util.List;
+
+/**
+ * 주문 재고 차감 결과
+ *
+ * @param products 주문 상품 (가격 계산용)
+ * @param stockChanges 상품별 재고 변경 결과 (재고 감소 이벤트용)
+ * @param strategy 실제로 차감한 방식 (주문에 기록해 복구 시 같은 방식으로 되돌린다)
+ * @param admissionKey 주문 접수(group commit)로 먼저 차감한 경우 접수 기록 키, 주문 트랜잭션에서 차감했으면 null
+ */
+public record StockDeductionResult(
+        List<Product> products,
+        List<StockChangeResult> stockChanges,
+        StockStrategy strategy,
+        String admissionKey
+) {
+
+    public StockDeductionResult(List<Product> products, List<StockChangeResult> stockChanges, StockStrategy strategy) {
+        this(products, stockChanges, strategy, null);
+    }
+
+}
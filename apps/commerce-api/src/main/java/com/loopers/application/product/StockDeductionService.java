@@ -0,0 +1,235 @@
+package com.loopers.application.product;
+
+import com.loopers.application.order.OrderLockCoordinator;
+import com.loopers.application.order.OrderLockResource;
+import com.loopers.config.StockProperties;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.StockStrategy;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 재고 차감/복구 - stock.strategy 설정에 따라 방식을 고른다.
+ *
+ * - PESSIMISTIC_LOCK : 상품 행을 FOR UPDATE 로 잠그고 엔티티에서 차감 (트랜잭션 커밋 시 반영)
+ *   재고 버킷 모드 상품은 상품 행 대신 버킷에서 차감한다. (ProductRepository 가 처리)
+ * - CONDITIONAL_UPDATE : 락 없이 조회하고 UPDATE ... WHERE stock >= 수량 한 문장으로 차감 (행 락은 UPDATE 순간부터)
+ * - REDIS_RESERVATION : 락 없이 조회하고 Redis 카운터에서 예약, DB 재고는 StockReconciler 가 비동기 반영
+ *   주문 트랜잭션이 롤백되면 예약도 되돌린다.
+ *
+ * 차감한 방식은 주문에 기록하고, 복구는 현재 설정이 아니라 주문에 기록된 방식으로 한다.
+ * (차감과 복구 사이에 전략이 바뀌어도 DB 재고/Redis 예약 중 실제로 차감한 쪽을 되돌린다)
+ *
+ * 예약을 거치지 않고 DB 재고를 바꾸는 방식은 커밋 후 해당 상품의 Redis 카운터를 무효화한다.
+ * (전략을 바꾼 직후 남은 카운터가 DB 와 어긋난 채 다시 쓰이지 않도록)
+ *
+ * 지표:
+ * - stock.deduction{strategy, result=success|rejected|lock_failure} : 재고 차감 소요 시간 (rejected = 재고 부족 등, lock_failure = 락 대기 초과/데드락)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockDeductionService {
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockProperties stockProperties;
+    private final OrderLockCoordinator orderLockCoordinator;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 주문 상품을 조회하고 재고를 차감한다. (호출한 트랜잭션 안에서 사용)
+     *
+     * @param productIds 주문 상품 ID
+     * @param quantities 상품 ID → 주문 수량
+     */
+    public StockDeductionResult deductForOrder(List<Long> productIds, Map<Long, Integer> quantities) {
+        StockStrategy strategy = stockProperties.getStrategy();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+
+        try {
+            return switch (strategy) {
+                case PESSIMISTIC_LOCK -> deductWithLock(productIds, quantities);
+                case CONDITIONAL_UPDATE -> deductWithConditionalUpdate(productIds, quantities);
+                case REDIS_RESERVATION -> deductWithReservation(productIds, quantities);
+            };
+        } catch (CoreException e) {
+            result = "rejected";
+            throw e;
+        } catch (PessimisticLockingFailureException e) {
+            result = "lock_failure";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("stock.deduction", "strategy", strategy.name(), "result", result));
+        }
+    }
+
+    /**
+     * 주문 실패 시 차감했던 재고를 주문에 기록된 방식으로 복구한다.
+     * 방식이 기록되기 전에 생성된 주문은 현재 설정을 따른다.
+     */
+    public void restoreForOrder(Order order) {
+        // 차감과 같은 순서(상품 ID 오름차순)로 잠근다.
+        Map<Long, Integer> quantities = order.getOrderItems().stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum, TreeMap::new));
+
+        StockStrategy strategy = order.getStockStrategy() != null ? order.getStockStrategy() : stockProperties.getStrategy();
+        switch (strategy) {
+            case PESSIMISTIC_LOCK, CONDITIONAL_UPDATE -> restoreWithEntity(quantities);
+            case REDIS_RESERVATION -> runAfterCommit(() -> stockReservationRepository.release(quantities));
+        }
+    }
+
+    private StockDeductionResult deductWithLock(List<Long> productIds, Map<Long, Integer> quantities) {
+        // 재고 버킷 모드 상품은 상품 행을 잠그지 않고 버킷에서 차감한다.
+        Set<Long> bucketedIds = productRepository.findStockBucketedIds(productIds);
+
+        // 여러 상품은 ID 오름차순으로 잠근다. (교차 주문 데드락 방지)
+        List<Long> lockIds = productIds.stream().filter(id -> !bucketedIds.contains(id)).sorted().toList();
+        List<Product> lockedProducts = lockIds.isEmpty()
+                ? List.of()
+                : orderLockCoordinator.acquire(OrderLockResource.PRODUCT, () -> productRepository.findAllByIdWithLock(lockIds));
+
+        List<Product> products = new ArrayList<>(lockedProducts);
+        if (!bucketedIds.isEmpty()) {
+            products.addAll(productRepository.findAllById(List.copyOf(bucketedIds)));
+        }
+        validateAllFound(productIds, products);
+
+        List<StockChangeResult> stockChanges = new ArrayList<>(products.size());
+        lockedProducts.forEach(product -> stockChanges.add(product.decreaseStock(quantities.get(product.getId()))));  // 재고 차감 및 결과 반환
+
+        if (!bucketedIds.isEmpty()) {
+            validateQuantities(quantities);
+            Map<Long, Integer> bucketQuantities = bucketedIds.stream().collect(Collectors.toMap(id -> id, quantities::get));
+            List<StockChangeResult> bucketChanges = orderLockCoordinator.acquire(OrderLockResource.PRODUCT,
+                    () -> productRepository.decreaseStockIfAvailable(bucketQuantities));
+            if (bucketChanges.isEmpty()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+            }
+            stockChanges.addAll(bucketChanges);
+        }
+        stockReservationRepository.invalidate(productIds);
+        return new StockDeductionResult(products, stockChanges, StockStrategy.PESSIMISTIC_LOCK);
+    }
+
+    private StockDeductionResult deductWithConditionalUpdate(List<Long> productIds, Map<Long, Integer> quantities) {
+        validateQuantities(quantities);
+
+        // UPDATE 가 PK 순으로 행 락을 잡으므로 락 대기 시간은 UPDATE 시간으로 기록
+        List<StockChangeResult> stockChanges = orderLockCoordinator.acquire(OrderLockResource.PRODUCT, () -> productRepository.decreaseStockIfAvailable(quantities));
+
+        // 엔티티는 UPDATE 뒤에 읽는다. (먼저 읽으면 JDBC 로 바뀐 stock/version 이 반영되지 않은 엔티티가 영속성 컨텍스트에 남는다)
+        List<Product> products = productRepository.findAllById(productIds);
+        validateAllFound(productIds, products);
+        if (stockChanges.isEmpty()) {
+            // 일부만 차감된 행은 예외로 트랜잭션이 롤백되며 함께 되돌려진다.
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+        }
+        stockReservationRepository.invalidate(productIds);
+        return new StockDeductionResult(products, stockChanges, StockStrategy.CONDITIONAL_UPDATE);
+    }
+
+    private StockDeductionResult deductWithReservation(List<Long> productIds, Map<Long, Integer> quantities) {
+        List<Product> products = productRepository.findAllById(productIds);
+        validateAllFound(productIds, products);
+        validateQuantities(quantities);
+
+        List<StockChangeResult> stockChanges = stockReservationRepository.reserve(quantities);
+
+        // 주문 트랜잭션이 롤백되면 예약 해제
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseQuietly(quantities);
+                    }
+                }
+            });
+        }
+        return new StockDeductionResult(products, stockChanges, StockStrategy.REDIS_RESERVATION);
+    }
+
+    private void restoreWithEntity(Map<Long, Integer> quantities) {
+        stockReservationRepository.invalidate(quantities.keySet());
+        quantities.forEach((productId, quantity) -> {
+            try {
+                // 재고 버킷 모드 상품은 버킷에 되돌린다.
+                if (!productRepository.findStockBucketedIds(List.of(productId)).isEmpty()) {
+                    productRepository.increaseBucketedStock(productId, quantity);
+                    log.info("재고 복구 완료 (버킷) - productId: {}, quantity: {}", productId, quantity);
+                    return;
+                }
+
+                Product product = productRepository.productInfo(productId)
+                        .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
+
+                // 재고 복구 (주문했던 수량만큼 다시 증가)
+                product.increaseStock(quantity);
+                productRepository.save(product);
+
+                log.info("재고 복구 완료 - productId: {}, quantity: {}, 복구 후 재고: {}", productId, quantity, product.getStock());
+
+            } catch (Exception e) {
+                log.error("재고 복구 실패 - productId: {}, quantity: {}, error: {}", productId, quantity, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void validateAllFound(List<Long> productIds, List<Product> products) {
+        // 요청된 상품이 존재하는지 확인
+        if (productIds.size() != products.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "일부 상품 정보를 찾을 수 없습니다.");
+        }
+    }
+
+    private void validateQuantities(Map<Long, Integer> quantities) {
+        if (quantities.values().stream().anyMatch(quantity -> quantity <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "수량은 0보다 커야 합니다.");
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void releaseQuietly(Map<Long, Integer> quantities) {
+        try {
+            stockReservationRepository.release(quantities);
+        } catch (Exception e) {
+            log.error("재고 예약 해제 실패 - quantities: {}, error: {}", quantities, e.getMessage(), e);
+        }
+    }
+
+}
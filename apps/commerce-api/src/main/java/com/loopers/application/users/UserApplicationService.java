@@ -50,4 +50,16 @@ public class UserApplicationService {
         return UserInfo.from(user);
     }
 
+    /**
+     * 로그인 ID 로 사용자 내부 ID 를 조회 (선택 헤더용)
+     * 로그인 ID 가 없거나 존재하지 않는 사용자면 null - 비로그인 요청과 같이 처리한다.
+     */
+    @Transactional(readOnly = true)
+    public Long findInternalId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            return null;
+        }
+        return userRepository.findByUserId(userId).map(User::getId).orElse(null);
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 카드 결제 PG 승인 요청 설정 관리
+ * application.yml의 payment.card-authorization 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.card-authorization")
+public class CardAuthorizationProperties {
+
+    /**
+     * PG 승인 요청 전용 스레드 수 (기본값: 16, PG 지연이 길어져도 이 이상 동시에 붙잡히지 않는다)
+     */
+    private int poolSize = 16;
+
+    /**
+     * 승인 요청 대기열 크기 (기본값: 1000, 가득 차면 재요청 스케줄러가 이어받는다)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 승인 요청이 나가지 않은 결제를 찾는 주기 (기본값: 30초)
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+
+    /**
+     * 마지막 변경 후 이 시간이 지나도 transactionKey 가 없는 PENDING 결제를 재요청한다. (기본값: 1분)
+     * PG 요청 한 번의 최대 소요 시간(재시도 포함)보다 길어야 진행 중인 요청과 겹치지 않는다.
+     */
+    private Duration retryGrace = Duration.ofMinutes(1);
+
+    /**
+     * 생성 후 이 시간이 지난 결제는 재요청하지 않는다. (기본값: 30분)
+     */
+    private Duration retryMaxAge = Duration.ofMinutes(30);
+
+    /**
+     * 한 번에 재요청하는 최대 결제 수 (기본값: 100)
+     */
+    private int retryBatchSize = 100;
+
+}
@@ -0,0 +1,45 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 목록 전체 개수 캐시 설정 관리
+ * application.yml의 cache.count 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.count")
+public class CountCacheProperties {
+
+    /**
+     * 개수 캐시 Redis TTL (기본값: 30분)
+     * 주기 갱신이 멈추더라도 이 시간이 지나면 다시 COUNT 한다.
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+
+    /**
+     * 조회된 키를 다시 COUNT 하는 주기 (기본값: 1분)
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    /**
+     * 주기 갱신 대상으로 기억하는 최대 키 수 (기본값: 10,000)
+     */
+    private long maxTrackedKeys = 10_000;
+
+    /**
+     * 한 번의 주기 갱신에서 다시 COUNT 하는 최대 키 수 (기본값: 200)
+     * 직전 갱신 이후 조회된 키만 대상이며, 남은 키는 다음 주기에 이어서 갱신한다.
+     */
+    private int refreshBatchSize = 200;
+
+    /**
+     * 이 시간 동안 조회되지 않은 키는 주기 갱신 대상에서 제외 (기본값: 10분)
+     */
+    private Duration trackedKeyIdleTimeout = Duration.ofMinutes(10);
+
+}
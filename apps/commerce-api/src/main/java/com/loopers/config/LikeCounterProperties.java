@@ -0,0 +1,33 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 상품 좋아요 수 분할 카운터 설정 관리
+ * application.yml의 like.counter 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "like.counter")
+public class LikeCounterProperties {
+
+    /**
+     * 상품당 카운터 행 수 (기본값: 16, 좋아요 이벤트가 임의 행에 증감분을 더한다)
+     */
+    private int shards = 16;
+
+    /**
+     * 카운터 증감분을 product.like_count 에 합산하는 주기 (기본값: 1초, 조회되는 좋아요 수의 지연 상한)
+     */
+    private Duration foldInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 번에 합산하는 카운터 행 수 (기본값: 1000)
+     */
+    private int foldBatchSize = 1000;
+
+}
@@ -0,0 +1,23 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 좋아요 여부 캐시 설정 관리
+ * application.yml의 like.status-cache 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "like.status-cache")
+public class LikeStatusCacheProperties {
+
+    /**
+     * 사용자별 캐시 보관 시간 (기본값: 1시간, 마지막으로 채운 시점부터)
+     */
+    private Duration ttl = Duration.ofHours(1);
+
+}
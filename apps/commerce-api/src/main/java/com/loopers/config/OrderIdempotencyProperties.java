@@ -0,0 +1,45 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주문 멱등키(Idempotency-Key) 설정 관리
+ * application.yml의 order.idempotency 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.idempotency")
+public class OrderIdempotencyProperties {
+
+    /**
+     * 처리 중 선점 유지 시간 (기본값: 30초)
+     * 처리하던 노드가 죽어도 이 시간이 지나면 같은 키로 다시 주문할 수 있다.
+     */
+    private Duration lease = Duration.ofSeconds(30);
+
+    /**
+     * 주문 처리 중 선점을 연장하는 간격 (기본값: 10초, lease 보다 짧아야 한다)
+     * 주문이 lease 보다 오래 걸려도 처리 노드가 살아 있는 동안은 다른 요청이 선점하지 못한다.
+     */
+    private Duration leaseRenewInterval = Duration.ofSeconds(10);
+
+    /**
+     * 완료된 결과(주문 ID) 보관 시간 (기본값: 24시간)
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간 (기본값: 5초, 초과 시 CONFLICT)
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 다른 노드에서 처리 중인 요청의 완료 여부를 다시 확인하는 간격 (기본값: 50ms)
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+}
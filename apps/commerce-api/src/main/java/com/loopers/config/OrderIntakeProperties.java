@@ -0,0 +1,60 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주문 접수(group commit) 설정 관리
+ * application.yml의 order.intake 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.intake")
+public class OrderIntakeProperties {
+
+    /**
+     * 재고 차감 묶음 처리 사용 여부 (기본값: false)
+     * stock.strategy 가 PESSIMISTIC_LOCK / CONDITIONAL_UPDATE 일 때만 적용된다.
+     */
+    private boolean groupCommitEnabled = false;
+
+    /**
+     * 첫 주문이 들어온 뒤 같은 배치로 모으는 최대 시간 (기본값: 5ms, 주문당 추가 지연의 상한)
+     */
+    private Duration batchWindow = Duration.ofMillis(5);
+
+    /**
+     * 한 배치(한 트랜잭션)에서 처리하는 최대 주문 수 (기본값: 200)
+     */
+    private int maxBatchSize = 200;
+
+    /**
+     * 접수 대기열 크기 (기본값: 10000, 가득 차면 묶음 처리 없이 바로 차감)
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 재고 차감 결과를 기다리는 최대 시간 (기본값: 3초)
+     */
+    private Duration admissionTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 재고를 차감한 뒤 이 시간이 지나도 주문이 생성되지 않은 접수는 재고를 되돌린다. (기본값: 1분)
+     * 접수 대기 시간 + 주문 트랜잭션 최대 소요 시간보다 길어야 한다.
+     */
+    private Duration abandonedAdmissionTimeout = Duration.ofMinutes(1);
+
+    /**
+     * 남은 접수를 찾는 주기 (기본값: 30초)
+     */
+    private Duration abandonedSweepInterval = Duration.ofSeconds(30);
+
+    /**
+     * 한 번에 되돌리는 최대 접수 수 (기본값: 100)
+     */
+    private int abandonedSweepBatchSize = 100;
+
+}
@@ -0,0 +1,62 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Outbox relay 설정 관리
+ * application.yml의 outbox.relay 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    /**
+     * relay 사용 여부 (기본값: true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 대기 이벤트 조회 주기 (기본값: 200ms, 이전 배치가 끝난 뒤부터 계산)
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * 한 번에 전송할 최대 이벤트 수 (기본값: 500)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 배치 전송 완료를 기다리는 최대 시간 (기본값: 10초)
+     * 초과한 이벤트는 발행 대기로 남아 다음 배치에서 다시 전송된다.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 이벤트 선점 유지 시간 (기본값: 1분, send-timeout 보다 길어야 한다)
+     * 선점한 relay 가 결과를 반영하지 못하고 죽으면 이 시간 후 다시 전송된다.
+     */
+    private Duration claimTtl = Duration.ofMinutes(1);
+
+    /**
+     * 이벤트별 최대 전송 시도 횟수 (기본값: 10)
+     * 넘으면 DEAD 로 바꿔 더 이상 전송하지 않는다. (poison 이벤트가 같은 키의 뒤 이벤트를 계속 막지 않도록)
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * relay 실행 lease TTL (기본값: 30초)
+     * 한 번에 한 노드만 relay 하여 같은 키의 전송 순서를 지킨다. 노드가 죽으면 이 시간 후 다른 노드가 이어받는다.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(30);
+
+    /**
+     * 발행 완료 이벤트 보관 기간 (기본값: 1일)
+     */
+    private Duration retention = Duration.ofDays(1);
+
+}
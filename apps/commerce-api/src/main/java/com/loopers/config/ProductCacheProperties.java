@@ -0,0 +1,127 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 상품 캐시 설정 관리
+ * application.yml의 cache.product 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.product")
+public class ProductCacheProperties {
+
+    /**
+     * 로컬(L1) 캐시 사용 여부 (기본값: true)
+     * false 이면 모든 조회가 Redis(L2)로 바로 간다.
+     */
+    private boolean localEnabled = true;
+
+    /**
+     * 상품 상세 L1 캐시 최대 용량 (기본값: 16MB, 추정 바이트 기준)
+     */
+    private long localDetailMaxBytes = 16L * 1024 * 1024;
+
+    /**
+     * 상품 목록 L1 캐시 최대 용량 (기본값: 32MB, 추정 바이트 기준)
+     */
+    private long localListMaxBytes = 32L * 1024 * 1024;
+
+    /**
+     * 상품 상세 L1 TTL (기본값: 30초)
+     * Pub/Sub 무효화 메시지가 유실되더라도 이 시간 이상 stale 데이터가 남지 않는다.
+     */
+    private Duration localDetailTtl = Duration.ofSeconds(30);
+
+    /**
+     * 상품 목록 L1 TTL (기본값: 5초)
+     */
+    private Duration localListTtl = Duration.ofSeconds(5);
+
+    /**
+     * 노드 간 캐시 적재 lease 사용 여부 (기본값: true)
+     * false 이면 노드 내부 요청 병합(single-flight)만 적용된다.
+     */
+    private boolean leaseEnabled = true;
+
+    /**
+     * 캐시 적재 lease TTL (기본값: 3초)
+     * lease를 잡은 노드가 죽더라도 이 시간이 지나면 다른 노드가 적재할 수 있다.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(3);
+
+    /**
+     * lease를 얻지 못한 노드가 캐시가 채워지기를 기다리는 최대 시간 (기본값: 500ms)
+     */
+    private Duration leaseWaitTimeout = Duration.ofMillis(500);
+
+    /**
+     * 같은 노드의 선행 요청 결과를 기다리는 최대 시간 (기본값: 3초)
+     */
+    private Duration loadWaitTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 상품 목록 논리 TTL (기본값: 60초)
+     * 이 시간이 지나면 stale 로 간주하고 백그라운드에서 갱신한다.
+     */
+    private Duration listLogicalTtl = Duration.ofSeconds(60);
+
+    /**
+     * 논리 만료 이후 stale 데이터를 응답할 수 있는 시간 (기본값: 120초)
+     * Redis 물리 TTL = 논리 TTL + stale 허용 시간
+     */
+    private Duration listStaleTtl = Duration.ofSeconds(120);
+
+    /**
+     * XFetch 조기 갱신 계수 (기본값: 1.0)
+     * 클수록 만료 전에 더 일찍 갱신한다. 0 이면 조기 갱신 없이 논리 만료 시에만 갱신한다.
+     */
+    private double refreshBeta = 1.0;
+
+    /**
+     * 백그라운드 갱신 스레드 수 (기본값: 2)
+     */
+    private int refreshPoolSize = 2;
+
+    /**
+     * 백그라운드 갱신 대기 큐 크기 (기본값: 100, 초과 시 갱신 생략)
+     */
+    private int refreshQueueCapacity = 100;
+
+    /**
+     * 목록 캐시 세대 값을 프로세스 내에 보관하는 시간 (기본값: 1초)
+     * Pub/Sub 무효화 메시지가 유실되더라도 이 시간이 지나면 새 세대를 읽는다.
+     */
+    private Duration generationLocalTtl = Duration.ofSeconds(1);
+
+    /**
+     * 캐시 저장 포맷 (기본값: smile)
+     * - smile : Jackson 바이너리 JSON (작고 빠름)
+     * - json  : 텍스트 JSON (redis-cli 로 직접 확인이 필요할 때)
+     * 읽기는 포맷 헤더로 판별하므로 변경 후에도 기존 캐시를 그대로 읽을 수 있다.
+     */
+    private String codec = "smile";
+
+    /**
+     * commerce-collector 가 미리 만들어 둔 목록 페이지 사용 여부 (기본값: true)
+     * 키가 없으면 기존 지연 캐시 경로로 조회하므로 collector 가 없어도 동작한다.
+     */
+    private boolean materializedEnabled = true;
+
+    /**
+     * collector 가 (브랜드, 정렬)별로 사전 생성하는 앞쪽 페이지 수 (기본값: 3)
+     * collector catalog.materialize.pages 와 같아야 한다. 이보다 뒤쪽 페이지는 Redis 조회 없이 캐시 경로로 간다.
+     */
+    private int materializedPages = 3;
+
+    /**
+     * 사전 생성 페이지 크기 (기본값: 20)
+     * collector catalog.materialize.page-size 와 같아야 한다. 다른 size 요청은 Redis 조회 없이 캐시 경로로 간다.
+     */
+    private int materializedPageSize = 20;
+
+}
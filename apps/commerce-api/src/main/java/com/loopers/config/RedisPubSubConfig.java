@@ -0,0 +1,29 @@
+package com.loopers.config;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.product.ProductCacheInvalidationListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            @Qualifier(RedisConfig.CONNECTION_PUBSUB) LettuceConnectionFactory connectionFactory,
+            ProductCacheInvalidationListener productCacheInvalidationListener
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                productCacheInvalidationListener,
+                new ChannelTopic(ProductCacheInvalidationListener.CHANNEL)  // 상품 캐시 무효화 채널
+        );
+        return container;
+    }
+
+}
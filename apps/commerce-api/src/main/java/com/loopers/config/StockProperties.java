@@ -0,0 +1,77 @@
+package com.loopers.config;
+
+import com.loopers.domain.product.StockStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 재고 차감 설정 관리
+ * application.yml의 stock 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "stock")
+public class StockProperties {
+
+    /**
+     * 주문 시 재고 차감 방식 (기본값: PESSIMISTIC_LOCK)
+     * REDIS_RESERVATION → 다른 방식으로 바꿀 때는 미반영 예약 수량이 DB에 모두 반영된 뒤 전환해야 한다.
+     */
+    private StockStrategy strategy = StockStrategy.PESSIMISTIC_LOCK;
+
+    /**
+     * Redis 재고 예약 설정
+     */
+    private Reservation reservation = new Reservation();
+
+    /**
+     * 재고 버킷 설정
+     */
+    private Bucket bucket = new Bucket();
+
+    @Data
+    public static class Reservation {
+
+        /**
+         * 예약 수량을 Product.stock 에 반영하는 주기 (기본값: 500ms)
+         */
+        private Duration reconcileInterval = Duration.ofMillis(500);
+
+        /**
+         * 반영 작업 lease TTL (기본값: 10초, 한 번에 한 노드만 반영)
+         */
+        private Duration reconcileLeaseTtl = Duration.ofSeconds(10);
+
+        /**
+         * 재고 카운터 TTL (기본값: 10분)
+         * 만료되면 다음 예약 때 DB 재고 - 미반영 수량으로 다시 적재한다. (무효화가 누락된 변경도 이 주기 안에 맞춰짐)
+         */
+        private Duration counterTtl = Duration.ofMinutes(10);
+
+        /**
+         * 카운터 존재 여부({stock}:active) 확인 주기 (기본값: 1초)
+         * 카운터가 없으면 예약을 거치지 않는 재고 변경에서 무효화(Redis 호출)를 생략한다.
+         */
+        private Duration activeCheckInterval = Duration.ofSeconds(1);
+
+    }
+
+    @Data
+    public static class Bucket {
+
+        /**
+         * 버킷 재고 재배분 및 Product.stock 동기화 주기 (기본값: 1초)
+         */
+        private Duration rebalanceInterval = Duration.ofSeconds(1);
+
+        /**
+         * 재배분 작업 lease TTL (기본값: 10초, 한 번에 한 노드만 재배분)
+         */
+        private Duration rebalanceLeaseTtl = Duration.ofSeconds(10);
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.loopers.domain.count;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수 캐시 저장소 인터페이스
+ *
+ * 페이지 조회마다 실행되던 COUNT 쿼리를 필터별 캐시 값으로 대체한다.
+ * - 조회 시 캐시에 없으면 counter로 한 번 COUNT 후 보관
+ * - 생성/상태 변경 시 adjustAfterCommit으로 증감 (캐시에 값이 있을 때만)
+ * - 조회된 키는 주기적으로 다시 COUNT 하여 누적 오차를 보정
+ * 값은 대략적인 전체 개수이며, 페이지 수 표시 용도로 사용한다.
+ */
+public interface CountCacheRepository {
+
+    /**
+     * 캐시된 개수 조회, 없으면 counter로 COUNT 후 저장
+     * @param countKey CountKey 로 만든 키
+     * @param counter 캐시 미스 및 주기 갱신 시 실행할 COUNT 조회
+     */
+    long getOrCount(String countKey, LongSupplier counter);
+
+    /**
+     * 트랜잭션 커밋 후 개수 증감 (트랜잭션 밖에서는 즉시 반영)
+     * 캐시에 값이 없으면 아무것도 하지 않는다. (다음 조회 시 COUNT)
+     */
+    void adjustAfterCommit(String countKey, long delta);
+
+    /**
+     * 캐시된 개수 삭제
+     */
+    void evict(String countKey);
+
+}
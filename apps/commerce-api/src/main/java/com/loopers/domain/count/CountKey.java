@@ -0,0 +1,52 @@
+package com.loopers.domain.count;
+
+/**
+ * 캐시 카운트 키 모음
+ * 목록 조회 조건(필터)별로 하나의 키를 사용한다.
+ */
+public final class CountKey {
+
+    private static final String PREFIX = "count::";
+    private static final String USER_ORDERS_PREFIX = PREFIX + "orders:u";
+
+    private CountKey() {
+    }
+
+    /**
+     * 판매 중(ACTIVE) 상품 수
+     * @param brandId 브랜드 ID (null 이면 전체)
+     */
+    public static String activeProducts(Long brandId) {
+        return PREFIX + "products:active:b" + brandId;
+    }
+
+    /**
+     * 사용자별 주문 수
+     */
+    public static String userOrders(Long userId) {
+        return USER_ORDERS_PREFIX + userId;
+    }
+
+    /**
+     * 주기 재계산 대상 여부
+     * 사용자별 주문 수는 키가 사용자 수만큼 많고 본인 주문으로만 바뀌므로(증감으로 충분) 재계산하지 않는다.
+     */
+    public static boolean isPeriodicallyRecounted(String countKey) {
+        return !countKey.startsWith(USER_ORDERS_PREFIX);
+    }
+
+    /**
+     * 주간 랭킹 항목 수
+     */
+    public static String weeklyRanking(String yearWeek) {
+        return PREFIX + "ranking:weekly:" + yearWeek;
+    }
+
+    /**
+     * 월간 랭킹 항목 수
+     */
+    public static String monthlyRanking(String yearMonth) {
+        return PREFIX + "ranking:monthly:" + yearMonth;
+    }
+
+}
@@ -15,6 +15,9 @@ import lombok.NoArgsConstructor;
     name = "likes",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "targetId", "type"})
+    },
+    indexes = {
+        @Index(name = "idx_likes_user_type_created_at", columnList = "user_id, type, created_at, id")   // 좋아요 한 상품 커서 조회
     }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
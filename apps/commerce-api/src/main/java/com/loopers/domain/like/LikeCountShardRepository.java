@@ -0,0 +1,21 @@
+package com.loopers.domain.like;
+
+/**
+ * 상품 좋아요 수 분할 카운터 저장소
+ * Product 엔티티를 읽거나 버전 검사를 하지 않고, 카운터 행 하나에 원자적으로 증감분을 더한다.
+ */
+public interface LikeCountShardRepository {
+
+    /**
+     * 상품의 임의 카운터 행에 증감분을 더한다. (행이 없으면 생성)
+     *
+     * @param delta 좋아요 +1, 취소 -1
+     */
+    void add(Long productId, long delta);
+
+    /**
+     * 아직 product.like_count 에 합산되지 않은 증감분 합계
+     */
+    long pendingDelta(Long productId);
+
+}
@@ -1,8 +1,6 @@
 package com.loopers.domain.like;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +16,17 @@ public interface LikeRepository {
     void delete(Like like);
 
     List<Like> findByUserIdAndType(Long userId, LikeType likeType);
+
+    /**
+     * 좋아요 최신순으로 limit 개 조회 (cursorLikedAt, cursorLikeId 가 null 이면 첫 페이지)
+     */
+    List<LikedProductView> findLikedProducts(Long userId, LikeType likeType, ZonedDateTime cursorLikedAt, Long cursorLikeId, int limit);
     
     List<Like> findByTargetIdAndType(Long targetId, LikeType likeType);
 
-    List<LikeCountDto> countByTargetIdIn(List<Long> targetIds, LikeType type);
+    List<Long> findLikedTargetIds(Long userId, LikeType likeType, List<Long> targetIds);
 
-    Page<Long> findProductIdsOrderByLikesDesc(Long brandId, Pageable idPageable);
+    List<LikeCountDto> countByTargetIdIn(List<Long> targetIds, LikeType type);
 
     long getLikeCount(Long targetId);
 
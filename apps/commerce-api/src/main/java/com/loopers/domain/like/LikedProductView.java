@@ -0,0 +1,19 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 한 상품 목록 조회 전용 읽기 모델 (JPQL 생성자 프로젝션)
+ *
+ * likes 와 product 를 조인해 한 페이지 분량만 조회한다. (Like/Product 엔티티를 올리지 않음)
+ * likeId, likedAt 은 다음 페이지 커서로 사용한다.
+ */
+public record LikedProductView(
+        Long likeId,
+        ZonedDateTime likedAt,
+        Long productId,
+        Long brandId,
+        String name,
+        long price
+) {
+}
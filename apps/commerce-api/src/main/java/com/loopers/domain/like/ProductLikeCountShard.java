@@ -0,0 +1,33 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 좋아요 수 분할 카운터
+ *
+ * 좋아요/취소마다 상품당 N개의 행 중 임의의 행에 증감분(delta)을 더한다. (product 행은 건드리지 않음)
+ * 상품의 좋아요 수는 product.like_count + 아직 합산되지 않은 delta 합계이며, LikeCountFolder 가 주기적으로 합산한다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "product_like_count_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_like_count_shard", columnNames = {"product_id", "shard_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductLikeCountShard extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    @Column(nullable = false)
+    private long delta;
+
+}
@@ -1,6 +1,7 @@
 package com.loopers.domain.order;
 
 import com.loopers.domain.BaseEntity;
+import com.loopers.domain.product.StockStrategy;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -31,6 +32,10 @@ public class Order extends BaseEntity {
     @Column(name = "coupon_id")
     private Long couponId;  // 사용된 쿠폰 ID (복구 및 이력 추적용)
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stock_strategy")
+    private StockStrategy stockStrategy;  // 재고를 차감한 방식 (복구 시 설정이 바뀌어도 같은 방식으로 되돌림)
+
     private Order(Long userId, List<OrderItem> orderItems, long discountAmount, OrderStatus status) {
         this.userId = userId;
         this.discountAmount = discountAmount;
@@ -73,6 +78,10 @@ public class Order extends BaseEntity {
         return originalTotalPrice - discountAmount;
     }
 
+    public void recordStockStrategy(StockStrategy stockStrategy) {
+        this.stockStrategy = stockStrategy;
+    }
+
     public void complete() {
         this.status = OrderStatus.PAID;
     }
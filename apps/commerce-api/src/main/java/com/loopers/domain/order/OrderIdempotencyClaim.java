@@ -0,0 +1,28 @@
+package com.loopers.domain.order;
+
+/**
+ * 멱등키 선점 결과
+ *
+ * @param acquired    이번 요청이 키를 선점했는지 (true 면 주문을 실행한다)
+ * @param requestHash 키를 먼저 선점한 요청의 본문 해시 (선점하지 못한 경우)
+ * @param orderId     먼저 처리된 요청의 주문 ID (아직 처리 중이면 null)
+ */
+public record OrderIdempotencyClaim(
+        boolean acquired,
+        String requestHash,
+        Long orderId
+) {
+
+    public static OrderIdempotencyClaim acquiredClaim() {
+        return new OrderIdempotencyClaim(true, null, null);
+    }
+
+    public static OrderIdempotencyClaim existing(String requestHash, Long orderId) {
+        return new OrderIdempotencyClaim(false, requestHash, orderId);
+    }
+
+    public boolean isCompleted() {
+        return orderId != null;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 멱등키 (Redis 장애 시 사용하는 DB 저장소)
+ *
+ * - order_id 가 null 이면 처리 중, 있으면 완료
+ * - expires_at : 처리 중이면 선점 만료 시각, 완료면 결과 보관 만료 시각 (지나면 다시 선점 가능)
+ */
+@Entity
+@Getter
+@Table(
+        name = "order_idempotency_key",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_order_idempotency_expires_at", columnList = "expires_at")   // 만료 키 정리
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIdempotencyKey extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, length = 10)
+    private String userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "expires_at", nullable = false)
+    private ZonedDateTime expiresAt;
+
+    private OrderIdempotencyKey(String userId, String idempotencyKey, String requestHash, Long orderId, ZonedDateTime expiresAt) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.expiresAt = expiresAt;
+    }
+
+    public static OrderIdempotencyKey inProgress(String userId, String idempotencyKey, String requestHash, ZonedDateTime expiresAt) {
+        return new OrderIdempotencyKey(userId, idempotencyKey, requestHash, null, expiresAt);
+    }
+
+    public static OrderIdempotencyKey completed(String userId, String idempotencyKey, String requestHash,
+                                                Long orderId, ZonedDateTime expiresAt) {
+        return new OrderIdempotencyKey(userId, idempotencyKey, requestHash, orderId, expiresAt);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.loopers.domain.order;
+
+import java.time.Duration;
+
+/**
+ * 주문 멱등키 저장소 - 같은 Idempotency-Key 로 들어온 주문이 한 번만 실행되도록 키를 선점하고 결과(주문 ID)를 보관한다.
+ */
+public interface OrderIdempotencyStore {
+
+    /**
+     * 키를 선점한다. 비어 있거나 만료된 키면 선점하고, 아니면 먼저 들어온 요청의 상태를 돌려준다.
+     *
+     * @param lease 처리 중 선점 유지 시간 (처리 노드가 죽어도 이후 다시 선점 가능)
+     */
+    OrderIdempotencyClaim claim(String userId, String idempotencyKey, String requestHash, Duration lease);
+
+    /**
+     * 처리 중인 선점의 만료 시간을 다시 lease 만큼 늘린다. (주문이 lease 보다 오래 걸려도 다른 요청이 선점하지 못하도록)
+     *
+     * @return 이 요청의 선점이 아직 유지되고 있어 연장했으면 true
+     */
+    boolean renew(String userId, String idempotencyKey, String requestHash, Duration lease);
+
+    /**
+     * 선점한 키에 주문 결과를 기록한다.
+     *
+     * @param retention 결과 보관 시간
+     */
+    void complete(String userId, String idempotencyKey, String requestHash, Long orderId, Duration retention);
+
+    /**
+     * 주문이 실패하면 선점을 풀어 같은 키로 다시 시도할 수 있게 한다. (완료된 키는 지우지 않음)
+     */
+    void release(String userId, String idempotencyKey, String requestHash);
+
+}
@@ -0,0 +1,58 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 접수(group commit)로 먼저 차감한 재고 기록
+ *
+ * 재고 차감과 같은 트랜잭션에서 저장하고, 주문 트랜잭션이 지우면서(consume) 주문과 함께 커밋된다.
+ * 두 커밋 사이에 노드가 죽어 남은 행은 OrderIntakeQueue 가 일정 시간 뒤 재고를 되돌리며 지운다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "order_stock_admission",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_stock_admission_key", columnNames = "admission_key"),
+        indexes = @Index(name = "idx_order_stock_admission_created_at", columnList = "created_at")   // 남은 접수 정리
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStockAdmission extends BaseEntity {
+
+    @Column(name = "admission_key", nullable = false, length = 36)
+    private String admissionKey;
+
+    /**
+     * 상품 ID:수량 목록 (예: 1:2,5:1)
+     */
+    @Column(name = "quantities", nullable = false, length = 2000)
+    private String quantities;
+
+    private OrderStockAdmission(String admissionKey, String quantities) {
+        this.admissionKey = admissionKey;
+        this.quantities = quantities;
+    }
+
+    public static OrderStockAdmission of(Map<Long, Integer> quantities) {
+        String encoded = new TreeMap<>(quantities).entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+        return new OrderStockAdmission(UUID.randomUUID().toString(), encoded);
+    }
+
+    public Map<Long, Integer> quantityMap() {
+        return Arrays.stream(quantities.split(","))
+                .map(entry -> entry.split(":"))
+                .collect(Collectors.toMap(pair -> Long.parseLong(pair[0]), pair -> Integer.parseInt(pair[1]), Integer::sum, TreeMap::new));
+    }
+
+}
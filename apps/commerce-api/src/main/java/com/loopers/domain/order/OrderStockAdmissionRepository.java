@@ -0,0 +1,22 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OrderStockAdmissionRepository {
+
+    void saveAll(List<OrderStockAdmission> admissions);
+
+    /**
+     * 접수 기록을 지운다. 주문 생성(재고 확정)과 재고 복구 중 먼저 지운 쪽만 성공한다.
+     *
+     * @return 지웠으면 true, 이미 다른 쪽이 처리했으면 false
+     */
+    boolean consume(String admissionKey);
+
+    /**
+     * 이 시각 이전에 접수되고 아직 처리되지 않은 기록 조회 (주문 생성 전에 노드가 죽은 경우)
+     */
+    List<OrderStockAdmission> findCreatedBefore(ZonedDateTime createdBefore, int limit);
+
+}
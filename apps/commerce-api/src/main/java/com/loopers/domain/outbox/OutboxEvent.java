@@ -0,0 +1,138 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Transactional Outbox 이벤트
+ *
+ * 비즈니스 변경과 같은 트랜잭션에서 저장되고, 커밋 후 OutboxRelay 가 Kafka로 전송한다.
+ * - 트랜잭션이 롤백되면 이벤트도 함께 사라진다. (유령 이벤트 없음)
+ * - Kafka 장애/지연이 주문 트랜잭션의 락 보유 시간에 영향을 주지 않는다.
+ *
+ * 상태: PENDING → SENDING(relay 선점) → PUBLISHED
+ *                                     ↘ 실패 시 PENDING, 최대 시도 횟수를 넘으면 DEAD
+ */
+@Entity
+@Getter
+@Table(
+        name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_status_id", columnList = "status, id"),                 // relay 대기/선점 만료 이벤트 조회
+                @Index(name = "idx_outbox_status_published_at", columnList = "status, published_at") // 발행 완료 이벤트 정리
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, unique = true, length = 64)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "partition_key", nullable = false, length = 100)
+    private String partitionKey;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;   // EventEnvelope JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;          // 선점한 relay 배치 (다른 배치가 다시 선점한 뒤에는 결과를 반영하지 않음)
+
+    @Column(name = "claimed_until")
+    private ZonedDateTime claimedUntil; // 선점 만료 시각 (relay 가 결과를 반영하지 못하고 죽어도 이후 다시 전송)
+
+    private OutboxEvent(String eventId, String eventType, String topic, String partitionKey, String payload) {
+
+        if (eventId == null || eventId.isBlank()) {
+            throw new IllegalArgumentException("이벤트 ID는 필수입니다.");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("토픽은 필수입니다.");
+        }
+        if (partitionKey == null || partitionKey.isBlank()) {
+            throw new IllegalArgumentException("파티션 키는 필수입니다.");
+        }
+
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.partitionKey = partitionKey;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    public static OutboxEvent of(String eventId, String eventType, String topic, String partitionKey, String payload) {
+        return new OutboxEvent(eventId, eventType, topic, partitionKey, payload);
+    }
+
+    public void claim(String claimToken, ZonedDateTime claimedUntil) {
+        this.status = OutboxStatus.SENDING;
+        this.claimToken = claimToken;
+        this.claimedUntil = claimedUntil;
+    }
+
+    public boolean isClaimedBy(String claimToken) {
+        return this.status == OutboxStatus.SENDING && claimToken.equals(this.claimToken);
+    }
+
+    public void markPublished() {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = ZonedDateTime.now();
+        this.attempts++;
+        this.lastError = null;
+        clearClaim();
+    }
+
+    /**
+     * 전송 실패 기록 - maxAttempts 번 실패하면 DEAD 로 바꿔 더 이상 전송하지 않는다.
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.status = attempts >= maxAttempts ? OutboxStatus.DEAD : OutboxStatus.PENDING;
+        clearClaim();
+    }
+
+    /**
+     * 전송하지 못한 이벤트(ack 대기 시간 초과, 같은 키의 앞 이벤트 실패)를 시도 횟수 없이 발행 대기로 되돌린다.
+     */
+    public void releaseClaim() {
+        this.status = OutboxStatus.PENDING;
+        clearClaim();
+    }
+
+    public boolean isDead() {
+        return this.status == OutboxStatus.DEAD;
+    }
+
+    private void clearClaim() {
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository {
+
+    OutboxEvent save(OutboxEvent outboxEvent);
+
+    /**
+     * 발행 대기 이벤트와 선점이 만료된 전송 중 이벤트를 id 순으로 잠그고 조회한다. (FOR UPDATE SKIP LOCKED)
+     * 다른 relay 가 잡고 있는 행은 건너뛴다. 호출하는 쪽의 짧은 트랜잭션 안에서 선점(SENDING)으로 바꾼 뒤 커밋해야 한다.
+     */
+    List<OutboxEvent> findClaimableForRelay(ZonedDateTime now, int limit);
+
+    List<OutboxEvent> findAllByIds(Collection<Long> ids);
+
+    /**
+     * 발행 완료 후 보관 기간이 지난 이벤트 삭제
+     * @return 삭제된 행 수
+     */
+    int deletePublishedBefore(ZonedDateTime publishedBefore, int limit);
+
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING,     // 발행 대기 (relay 가 Kafka로 전송)
+    SENDING,     // relay 가 선점해 전송 중 (claimed_until 이 지나면 다시 발행 대기로 간주)
+    PUBLISHED,   // Kafka 전송 완료
+    DEAD         // 최대 시도 횟수 초과 - 더 이상 전송하지 않음 (last_error 확인 후 수동 처리)
+}
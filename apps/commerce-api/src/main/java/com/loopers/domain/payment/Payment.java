@@ -28,6 +28,12 @@ public class Payment extends BaseEntity {
     @Column(nullable = false)
     private PaymentStatus status;
 
+    /**
+     * PG 승인 요청 선점 횟수 (요청 직전 조건부 UPDATE 로 1씩 올려 같은 시도가 두 번 나가지 않게 한다)
+     */
+    @Column(name = "authorization_attempts", nullable = false)
+    private int authorizationAttempts;
+
     private Payment(Long orderId, PaymentMethod paymentMethod, long amount) {
 
         if (orderId == null || orderId <= 0) {
@@ -71,4 +77,11 @@ public class Payment extends BaseEntity {
         return this.status == PaymentStatus.PENDING;
     }
 
+    /**
+     * PG 가 같은 결제의 중복 승인 요청을 걸러낼 수 있도록 보내는 고정 키 (재요청해도 바뀌지 않는다)
+     */
+    public String authorizationIdempotencyKey() {
+        return "payment-" + getId();
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.loopers.domain.payment;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
@@ -14,4 +16,22 @@ public interface PaymentRepository {
 
     Optional<Payment> findByOrderIdAndStatus(Long orderId, PaymentStatus status);
 
+    /**
+     * PG 승인 요청이 나가지 않은(transactionKey 없는) PENDING 결제 조회
+     *
+     * @param updatedBefore 이 시각 이전에 마지막으로 변경된 결제만 (진행 중인 요청 제외)
+     * @param createdAfter 이 시각 이후에 생성된 결제만
+     */
+    List<Payment> findUnrequestedPayments(ZonedDateTime updatedBefore, ZonedDateTime createdAfter, int limit);
+
+    /**
+     * PG 승인 요청 직전에 선점한다. (authorization_attempts, updated_at 갱신)
+     * transactionKey 없는 PENDING 이고 시도 횟수가 expectedAttempts 그대로일 때만 성공하므로,
+     * 같은 시도를 두고 경쟁하는 요청(대기열에 남은 최초 요청, 다른 노드의 재요청) 중 한 곳만 PG 를 호출한다.
+     *
+     * @param expectedAttempts 요청을 예약할 때 읽은 시도 횟수
+     * @return 선점 성공 여부
+     */
+    boolean claimForAuthorization(Long paymentId, int expectedAttempts);
+
 }
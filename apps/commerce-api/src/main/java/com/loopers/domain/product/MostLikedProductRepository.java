@@ -0,0 +1,37 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 좋아요순 정렬 인덱스 조회 저장소 인터페이스
+ * commerce-collector 가 좋아요 이벤트로 유지하고 주기적으로 DB 기준 재구축하는 인덱스에서
+ * likes_desc 목록 페이지의 상품 ID를 조회한다.
+ */
+public interface MostLikedProductRepository {
+
+    /**
+     * 좋아요순 페이지의 상품 ID와 전체 상품 수 조회
+     * @param brandId 브랜드 ID (null 이면 전체)
+     * @return 인덱스가 없거나 조회할 수 없으면 Optional.empty() (DB 정렬로 조회)
+     */
+    Optional<MostLikedPage> findPage(Long brandId, int page, int size);
+
+    /**
+     * 판매 재개된 상품을 인덱스에 추가 (인덱스가 아직 없으면 아무것도 하지 않음)
+     */
+    void add(Long productId, Long brandId, long likeCount);
+
+    /**
+     * 판매 중지된 상품을 인덱스에서 제거 (전체 개수와 페이지 크기가 판매 중 상품 기준으로 유지되도록)
+     */
+    void remove(Long productId, Long brandId);
+
+    /**
+     * @param productIds 좋아요 많은 순 상품 ID
+     * @param totalElements 인덱스의 전체 상품 수 (판매 중 상품 수)
+     */
+    record MostLikedPage(List<Long> productIds, long totalElements) {
+    }
+
+}
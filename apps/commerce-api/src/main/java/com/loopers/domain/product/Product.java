@@ -15,7 +15,12 @@ import lombok.NoArgsConstructor;
     name = "product",
     indexes = {
         @Index(name = "idx_product_brand_status_price", columnList = "brandId, status, price"),
-        @Index(name = "idx_product_like_count", columnList = "likeCount DESC")
+        @Index(name = "idx_product_like_count", columnList = "likeCount DESC"),
+        @Index(name = "idx_product_status_created_at", columnList = "status, createdAt, id"),              // 최신순 커서 조회
+        @Index(name = "idx_product_brand_status_created_at", columnList = "brandId, status, createdAt, id"), // 브랜드별 최신순 커서 조회
+        @Index(name = "idx_product_status_price", columnList = "status, price, id"),                        // 가격순 커버링
+        @Index(name = "idx_product_status_like_count", columnList = "status, likeCount, id"),                // 좋아요순 커버링
+        @Index(name = "idx_product_brand_status_like_count", columnList = "brandId, status, likeCount, id")  // 브랜드별 좋아요순 커버링
     }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
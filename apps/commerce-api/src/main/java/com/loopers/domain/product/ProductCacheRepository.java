@@ -4,6 +4,7 @@ import com.loopers.application.product.ProductResponse;
 import org.springframework.data.domain.Page;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 상품 캐시 저장소 인터페이스
@@ -50,7 +51,35 @@ public interface ProductCacheRepository {
      * @param productResponse 저장할 상품 상세 데이터
      */
     void saveProductDetail(Long productId, ProductResponse productResponse);
+
+    /**
+     * 상품 목록 캐시 조회, 없으면 loader로 적재
+     * 같은 키에 대한 동시 캐시 미스는 하나의 loader 호출로 병합된다.
+     * @param loader 캐시 미스 시 원본 조회
+     * @return 캐시 또는 loader에서 얻은 상품 목록
+     */
+    Page<ProductResponse> getOrLoadProductList(
+        Long brandId, String sort, int page, int size,
+        Supplier<Page<ProductResponse>> loader
+    );
+
+    /**
+     * 상품 상세 캐시 조회, 없으면 loader로 적재
+     * 같은 상품에 대한 동시 캐시 미스는 하나의 loader 호출로 병합된다.
+     * @param productId 상품 ID
+     * @param loader 캐시 미스 시 원본 조회 (예외는 대기 중인 모든 요청에 전달)
+     * @return 캐시 또는 loader에서 얻은 상품 상세 정보
+     */
+    ProductResponse getOrLoadProductDetail(Long productId, Supplier<ProductResponse> loader);
     
+    /**
+     * 판매 중인 상품 수 조회 (대략적인 값)
+     * 목록 조회와 같은 개수 캐시(CountKey.activeProducts)를 사용한다. 커서 조회에서 선택적으로 전체 개수를 내려줄 때 사용한다.
+     * @param brandId 브랜드 ID (null 가능)
+     * @param loader 캐시 미스 시 COUNT 조회
+     */
+    long getOrLoadActiveProductCount(Long brandId, Supplier<Long> loader);
+
     /**
      * 특정 브랜드의 상품 관련 캐시 무효화
      * (상품 데이터 변경 시 관련 캐시를 삭제하기 위함)
@@ -0,0 +1,25 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품 목록 조회 전용 읽기 모델 (JPQL 생성자 프로젝션)
+ *
+ * 엔티티가 아니므로 영속성 컨텍스트(1차 캐시, 스냅샷)에 등록되지 않는다.
+ * 목록 화면에 필요한 컬럼만 담으며, description/version 등은 조회하지 않는다.
+ */
+public record ProductListView(
+        Long id,
+        Long brandId,
+        String name,
+        long price,
+        int stock,
+        ProductStatus status,
+        long likeCount
+) {
+
+    /**
+     * 재고만 바꾼 사본 (버킷 모드 상품은 버킷 합계로 표시, 재배분 중 일시적인 음수는 0으로)
+     */
+    public ProductListView withStock(int stock) {
+        return new ProductListView(id, brandId, name, price, Math.max(stock, 0), status, likeCount);
+    }
+}
@@ -2,10 +2,16 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 public interface ProductRepository {
@@ -14,6 +20,34 @@ public interface ProductRepository {
 
     Page<Product> productList(Specification<Product> spec, Pageable pageable);
 
+    /**
+     * 판매 중인 상품 목록을 읽기 전용 프로젝션으로 조회한다.
+     * 커버링 인덱스로 페이지의 id만 먼저 찾고, 해당 id의 목록 컬럼만 PK로 조회한다.
+     * @param brandId 브랜드 ID (null 이면 전체)
+     * @param pageable 페이지 및 정렬 (정렬 속성: createdAt, price, likeCount, id)
+     */
+    Page<ProductListView> activeProductListViews(Long brandId, Pageable pageable);
+
+    /**
+     * 주어진 id 순서대로 목록 프로젝션 조회 (없는 id는 제외)
+     */
+    List<ProductListView> findListViewsByIds(List<Long> ids);
+
+    /**
+     * Keyset(seek) 방식 목록 조회 - OFFSET/COUNT 없이 position 이후 limit 개를 조회한다.
+     */
+    Window<Product> scrollProducts(Specification<Product> spec, Sort sort, ScrollPosition position, int limit);
+
+    long countProducts(Specification<Product> spec);
+
+    /**
+     * 재고 버킷이 있는 상품의 현재 재고(버킷 합계)를 조회한다.
+     * 버킷 모드 상품의 Product.stock 은 재배분 주기마다만 맞춰지므로, 화면에 보여 줄 재고는 이 값을 사용한다.
+     *
+     * @return 상품 ID → 버킷 합계 (버킷이 없는 상품은 포함하지 않음)
+     */
+    Map<Long, Integer> bucketedStocks(Collection<Long> productIds);
+
     Optional<Product> productInfo(Long productId);
 
     Page<Product> findByIdIn(List<Long> productIds, Pageable pageable);
@@ -22,5 +56,40 @@ public interface ProductRepository {
 
     List<Product> findAllByIdWithLock(List<Long> productIds);
 
+    /**
+     * 재고가 충분한 경우에만 여러 상품의 재고를 한 문장으로 차감한다. (UPDATE ... WHERE stock >= 수량)
+     * 재고 버킷이 있는 상품은 버킷에서 차감한다.
+     * 일부 상품만 차감된 경우 빈 목록을 반환하므로, 호출한 쪽에서 예외를 던져 트랜잭션을 롤백해야 한다.
+     *
+     * @param quantities 상품 ID → 수량
+     * @return 상품 ID 순으로 정렬된 재고 변경 결과 (하나라도 부족하면 빈 목록)
+     */
+    List<StockChangeResult> decreaseStockIfAvailable(Map<Long, Integer> quantities);
+
+    /**
+     * 재고 버킷 모드인 상품 ID (행 락 대신 버킷에서 차감해야 하는 상품)
+     */
+    Set<Long> findStockBucketedIds(List<Long> productIds);
+
+    /**
+     * 버킷 모드 상품의 재고를 되돌린다. (가장 적은 버킷에 더함)
+     */
+    void increaseBucketedStock(Long productId, int quantity);
+
+    /**
+     * 실제 판매 가능 재고 (버킷 모드면 버킷 합계, 아니면 Product.stock)
+     */
+    Optional<Integer> availableStock(Long productId);
+
+    /**
+     * 상품 재고를 bucketCount 개 버킷으로 나눠 버킷 모드로 전환한다. (호출한 트랜잭션 안에서 사용)
+     */
+    void splitStockIntoBuckets(Long productId, int bucketCount);
+
+    /**
+     * 버킷 합계를 Product.stock 으로 되돌리고 버킷 모드를 해제한다. (호출한 트랜잭션 안에서 사용)
+     */
+    void mergeStockBuckets(Long productId);
+
     Page<Product> findActiveProductsOrderByLikesDesc(Long brandId, Pageable pageable);
 }
@@ -0,0 +1,43 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고 분할 버킷 (한정 판매 등 초고경합 상품 전용)
+ *
+ * 재고를 N개의 행으로 나눠 주문마다 다른 행을 갱신하므로 한 행에 락이 몰리지 않는다.
+ * 버킷이 있는 상품의 실제 재고는 버킷 합계이며, Product.stock 은 재배분 시 합계로 맞춰지는 표시용 값이다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "product_stock_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_bucket", columnNames = {"product_id", "bucket_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockBucket extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(nullable = false)
+    private int stock;
+
+    private ProductStockBucket(Long productId, int bucketNo, int stock) {
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.stock = stock;
+    }
+
+    public static ProductStockBucket of(Long productId, int bucketNo, int stock) {
+        return new ProductStockBucket(productId, bucketNo, stock);
+    }
+
+}
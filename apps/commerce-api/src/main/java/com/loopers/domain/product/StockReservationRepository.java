@@ -0,0 +1,37 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 저장소 - DB 행 락 없이 상품별 재고 카운터를 원자적으로 확인/차감한다.
+ * 예약된 수량은 비동기로 Product.stock 에 반영된다.
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 여러 상품의 재고를 한 번에 예약한다. (전부 성공하거나 전부 실패)
+     *
+     * @param quantities 상품 ID → 수량
+     * @return 상품 ID 순으로 정렬된 재고 변경 결과
+     * @throws com.loopers.support.error.CoreException 재고가 부족한 상품이 하나라도 있으면 BAD_REQUEST
+     */
+    List<StockChangeResult> reserve(Map<Long, Integer> quantities);
+
+    /**
+     * 예약했던 재고를 되돌린다. (주문 롤백, 결제 실패)
+     *
+     * @param quantities 상품 ID → 수량
+     */
+    void release(Map<Long, Integer> quantities);
+
+    /**
+     * 예약을 거치지 않고 DB 재고가 바뀐 상품의 카운터를 지운다. (다음 예약 때 DB 기준으로 다시 적재)
+     * 트랜잭션 안에서 호출하면 커밋 후에 지운다.
+     *
+     * @param productIds 재고가 바뀐 상품 ID
+     */
+    void invalidate(Collection<Long> productIds);
+
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.product;
+
+/**
+ * 주문 시 재고 차감 방식
+ */
+public enum StockStrategy {
+
+    /**
+     * 상품 행을 SELECT ... FOR UPDATE 로 잠그고 엔티티에서 차감 (기본값)
+     */
+    PESSIMISTIC_LOCK,
+
+    /**
+     * 락 선조회 없이 UPDATE ... WHERE stock >= 수량 한 문장으로 모든 주문 상품을 차감 (영향 행 수로 성공 판단)
+     */
+    CONDITIONAL_UPDATE,
+
+    /**
+     * Redis 재고 카운터에서 Lua 로 원자적 예약 후, DB 재고는 비동기로 일괄 반영
+     */
+    REDIS_RESERVATION
+
+}
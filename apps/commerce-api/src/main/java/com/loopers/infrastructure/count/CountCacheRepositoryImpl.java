@@ -0,0 +1,174 @@
+package com.loopers.infrastructure.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.CountCacheProperties;
+import com.loopers.domain.count.CountCacheRepository;
+import com.loopers.domain.count.CountKey;
+import com.loopers.infrastructure.product.ProductCacheLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 기반 목록 전체 개수 캐시 구현체
+ *
+ * - 미스 적재는 ProductCacheLoader로 키 단위 병합 (동시 미스에도 COUNT 한 번)
+ * - 증감은 키가 있을 때만 INCRBY (없는 키를 0부터 만들지 않음)
+ * - 조회된 키와 COUNT 조회를 기억해 두고 refreshInterval 마다 다시 COUNT
+ *   직전 갱신 이후 조회된 키만 한 번에 refreshBatchSize 개까지 갱신하고, 다른 노드가 같은 키를 갱신 중이면(lease 보유) 건너뛴다.
+ *   사용자별 주문 수는 재계산하지 않는다. (CountKey.isPeriodicallyRecounted)
+ */
+@Slf4j
+@Component
+public class CountCacheRepositoryImpl implements CountCacheRepository {
+
+    private static final RedisScript<Long> INCR_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "end " +
+                    "return nil",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductCacheLoader cacheLoader;
+    private final CountCacheProperties properties;
+
+    // 주기 갱신 대상 (키 → COUNT 조회), 오래 조회되지 않은 키는 자동 제외
+    private final Cache<String, LongSupplier> trackedCounters;
+
+    // 직전 주기 갱신 이후 조회된 키 (다음 갱신 대상)
+    private final Set<String> readSinceRefresh = ConcurrentHashMap.newKeySet();
+
+    public CountCacheRepositoryImpl(
+            StringRedisTemplate redisTemplate,
+            ProductCacheLoader cacheLoader,
+            CountCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheLoader = cacheLoader;
+        this.properties = properties;
+        this.trackedCounters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getTrackedKeyIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public long getOrCount(String countKey, LongSupplier counter) {
+
+        if (CountKey.isPeriodicallyRecounted(countKey)) {
+            trackedCounters.put(countKey, counter);
+            readSinceRefresh.add(countKey);
+        }
+
+        Optional<Long> cached = getCount(countKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return cacheLoader.load(
+                countKey,
+                () -> getCount(countKey),
+                counter::getAsLong,
+                count -> saveCount(countKey, count)
+        );
+    }
+
+    @Override
+    public void adjustAfterCommit(String countKey, long delta) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(countKey, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(countKey, delta);
+            }
+        });
+    }
+
+    @Override
+    public void evict(String countKey) {
+        try {
+            redisTemplate.delete(countKey);
+        } catch (Exception e) {
+            log.warn("개수 캐시 삭제 실패 - key: {}, error: {}", countKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 조회된 키를 다시 COUNT 하여 증감 누락/중복으로 생긴 오차를 보정한다.
+     */
+    @Scheduled(fixedDelayString = "${cache.count.refresh-interval:PT1M}")
+    public void refreshTrackedCounts() {
+
+        List<String> keys = readSinceRefresh.stream().limit(properties.getRefreshBatchSize()).toList();
+        for (String countKey : keys) {
+            readSinceRefresh.remove(countKey);
+            LongSupplier counter = trackedCounters.getIfPresent(countKey);
+            if (counter == null) {
+                continue;
+            }
+            try {
+                cacheLoader.refresh(countKey, counter::getAsLong, count -> saveCount(countKey, count));
+            } catch (Exception e) {
+                log.warn("개수 캐시 주기 갱신 실패 (기존 값 유지) - key: {}, error: {}", countKey, e.getMessage());
+            }
+        }
+
+        log.debug("개수 캐시 주기 갱신 완료 - 갱신 키: {}, 남은 키: {}", keys.size(), readSinceRefresh.size());
+    }
+
+    private void adjust(String countKey, long delta) {
+        try {
+            redisTemplate.execute(INCR_IF_EXISTS_SCRIPT, List.of(countKey), String.valueOf(delta));
+        } catch (Exception e) {
+            // 실패 시 캐시 값을 지워 다음 조회에서 다시 COUNT 하도록 한다.
+            log.warn("개수 캐시 증감 실패 - key: {}, delta: {}, error: {}", countKey, delta, e.getMessage());
+            evict(countKey);
+        }
+    }
+
+    private Optional<Long> getCount(String countKey) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(countKey))
+                    .map(Long::valueOf)
+                    .map(count -> Math.max(count, 0L));
+        } catch (Exception e) {
+            log.warn("개수 캐시 조회 실패 (Cache Miss로 처리): {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveCount(String countKey, Long count) {
+        try {
+            redisTemplate.opsForValue().set(countKey, String.valueOf(count), addJitter(properties.getTtl()));
+        } catch (Exception e) {
+            log.warn("개수 캐시 저장 실패 (무시하고 계속 진행): {}", e.getMessage());
+        }
+    }
+
+    private Duration addJitter(Duration ttl) {
+        long jitterSeconds = ThreadLocalRandom.current().nextLong(0, Math.max(1, ttl.toSeconds() / 10));
+        return ttl.plusSeconds(jitterSeconds);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional Outbox 기반 이벤트 발행
+ *
+ * Kafka로 바로 보내지 않고, 호출한 트랜잭션 안에서 outbox_event 테이블에 EventEnvelope JSON을 저장한다.
+ * 실제 전송은 커밋 후 OutboxRelay 가 배치로 처리하므로 주문/좋아요/결제 트랜잭션은 DB 작업만큼만 락을 보유한다.
+ * (Consumer 가 받던 topic/partitionKey/EventEnvelope 형식을 그대로 사용하므로 Consumer 변경은 없다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 outbox 에 저장 (호출한 트랜잭션과 함께 커밋/롤백)
+     *
+     * @param topic Kafka 토픽명 (예: "catalog-events")
+     * @param partitionKey 파티션 키 (예: productId - 같은 키는 저장 순서대로 전송)
+     * @param event 발행할 이벤트 객체
+     */
+    @Transactional
+    public void publish(String topic, String partitionKey, Object event) {
+
+        EventEnvelope envelope = EventEnvelope.wrap(event);
+
+        try {
+            String payload = objectMapper.writeValueAsString(envelope);
+            outboxEventRepository.save(OutboxEvent.of(envelope.eventId(), envelope.eventType(), topic, partitionKey, payload));
+
+            log.debug("outbox 이벤트 저장 - topic: {}, eventType: {}, eventId: {}, partitionKey: {}",
+                    topic, envelope.eventType(), envelope.eventId(), partitionKey);
+
+        } catch (JsonProcessingException e) {
+            log.error("outbox 이벤트 직렬화 실패 - topic: {}, partitionKey: {}, event: {}, error: {}",
+                    topic, partitionKey, event.getClass().getSimpleName(), e.getMessage(), e);
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패", e);
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.LikeCounterProperties;
+import com.loopers.domain.product.ProductCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 좋아요 분할 카운터의 증감분을 product.like_count 에 합산
+ *
+ * 1. 증감분이 남은 카운터 행을 FOR UPDATE SKIP LOCKED 로 잠근다. (다른 노드가 합산 중인 행은 건너뜀)
+ * 2. 상품별 합계를 UPDATE product SET like_count = like_count + ? 로 반영하고, 읽은 만큼 카운터에서 뺀다.
+ *    상품 행은 주문 트랜잭션과 같은 순서(상품 ID 오름차순)로 잠근다. (여러 상품 주문과 교차 대기하지 않도록)
+ * 3. 커밋 후 반영한 상품의 상세 캐시를 삭제한다.
+ *
+ * 좋아요 이벤트마다 product 행을 갱신하던 것을 주기당 상품별 한 번으로 줄인다.
+ */
+@Slf4j
+@Component
+public class LikeCountFolder {
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT id, product_id, delta FROM product_like_count_shard WHERE delta <> 0 ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCacheRepository productCacheRepository;
+    private final LikeCounterProperties properties;
+
+    public LikeCountFolder(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ProductCacheRepository productCacheRepository,
+                           LikeCounterProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productCacheRepository = productCacheRepository;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.fold-interval:PT1S}")
+    public void fold() {
+        try {
+            FoldResult result;
+            do {
+                result = foldBatch();
+                result.productIds().forEach(productCacheRepository::evictProductDetail);
+            } while (result.shardCount() >= properties.getFoldBatchSize());
+
+        } catch (Exception e) {
+            log.error("좋아요 수 합산 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param shardCount 합산한 카운터 행 수
+     * @param productIds 좋아요 수가 바뀐 상품 ID
+     */
+    private record FoldResult(int shardCount, List<Long> productIds) {}
+
+    private FoldResult foldBatch() {
+        return transactionTemplate.execute(status -> {
+            List<long[]> shards = jdbcTemplate.query(SELECT_PENDING_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("product_id"), rs.getLong("delta")},
+                    properties.getFoldBatchSize());
+            if (shards.isEmpty()) {
+                return new FoldResult(0, List.of());
+            }
+
+            Map<Long, Long> deltaByProduct = new TreeMap<>();
+            List<Object[]> shardUpdates = new ArrayList<>(shards.size());
+            for (long[] shard : shards) {
+                deltaByProduct.merge(shard[1], shard[2], Long::sum);
+                shardUpdates.add(new Object[]{shard[2], shard[0]});
+            }
+
+            // 엔티티 저장과 충돌하지 않도록 version 도 함께 올린다.
+            List<Object[]> productUpdates = deltaByProduct.entrySet().stream()
+                    .filter(entry -> entry.getValue() != 0)
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList();
+            if (!productUpdates.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE product SET like_count = GREATEST(like_count + ?, 0), version = version + 1 WHERE id = ?",
+                        productUpdates);
+            }
+            jdbcTemplate.batchUpdate("UPDATE product_like_count_shard SET delta = delta - ? WHERE id = ?", shardUpdates);
+
+            log.debug("좋아요 수 합산 - 카운터 행: {}, 상품 수: {}", shards.size(), productUpdates.size());
+            return new FoldResult(shards.size(), productUpdates.stream().map(update -> (Long) update[1]).toList());
+        });
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.LikeCounterProperties;
+import com.loopers.domain.like.LikeCountShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeCountShardRepositoryImpl implements LikeCountShardRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO product_like_count_shard (product_id, shard_no, delta, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, NOW(6), NOW(6)) " +
+                    "ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta), updated_at = NOW(6)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeCounterProperties properties;
+
+    @Override
+    public void add(Long productId, long delta) {
+        int shardNo = ThreadLocalRandom.current().nextInt(properties.getShards());
+        jdbcTemplate.update(UPSERT_SQL, productId, shardNo, delta);
+    }
+
+    @Override
+    public long pendingDelta(Long productId) {
+        Long sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(delta), 0) FROM product_like_count_shard WHERE product_id = ?", Long.class, productId);
+        return sum == null ? 0L : sum;
+    }
+
+}
@@ -3,7 +3,7 @@ package com.loopers.infrastructure.like;
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeCountDto;
 import com.loopers.domain.like.LikeType;
-import org.springframework.data.domain.Page;
+import com.loopers.domain.like.LikedProductView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -13,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,22 +36,40 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
                    @Param("type") String type);
 
     List<Like> findByUserIdAndType(Long userId, LikeType likeType);
+
+    /**
+     * 좋아요 한 상품 첫 페이지 (좋아요 최신순)
+     * idx_likes_user_type_created_at (user_id, type, created_at, id) 을 역순으로 읽고 상품은 PK 로 조인한다.
+     */
+    @Query("SELECT new com.loopers.domain.like.LikedProductView(l.id, l.createdAt, p.id, p.brandId, p.name, p.price) " +
+            "FROM Like l JOIN Product p ON p.id = l.targetId " +
+            "WHERE l.userId = :userId AND l.type = :type " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LikedProductView> findLikedProducts(@Param("userId") Long userId, @Param("type") LikeType type, Pageable pageable);
+
+    /**
+     * 좋아요 한 상품 다음 페이지 - 커서(마지막 좋아요의 created_at, id) 이후부터 조회 (OFFSET 없음)
+     */
+    @Query("SELECT new com.loopers.domain.like.LikedProductView(l.id, l.createdAt, p.id, p.brandId, p.name, p.price) " +
+            "FROM Like l JOIN Product p ON p.id = l.targetId " +
+            "WHERE l.userId = :userId AND l.type = :type " +
+            "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id)) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LikedProductView> findLikedProductsAfter(@Param("userId") Long userId, @Param("type") LikeType type,
+                                                  @Param("createdAt") ZonedDateTime createdAt, @Param("id") Long id,
+                                                  Pageable pageable);
     
     List<Like> findByTargetIdAndType(Long targetId, LikeType likeType);
 
+    @Query("SELECT l.targetId FROM Like l WHERE l.userId = :userId AND l.type = :type AND l.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("userId") Long userId, @Param("type") LikeType type, @Param("targetIds") List<Long> targetIds);
+
     @Query("SELECT new com.loopers.domain.like.LikeCountDto(l.targetId, COUNT(l)) " +
             "FROM Like l " +
             "WHERE l.targetId IN :targetIds AND l.type = :type " +
             "GROUP BY l.targetId")
     List<LikeCountDto> countByTargetIdIn(@Param("targetIds") List<Long> targetIds, @Param("type") LikeType type);
 
-    @Query(value = "SELECT l.targetId FROM Like l WHERE l.type = 'PRODUCT' " +
-            "AND (:brandId IS NULL OR l.targetId IN (SELECT p.id FROM Product p WHERE p.brandId = :brandId AND p.status = 'ACTIVE')) " +
-            "GROUP BY l.targetId ORDER BY COUNT(l) DESC",
-            countQuery = "SELECT COUNT(DISTINCT l.targetId) FROM Like l WHERE l.type = 'PRODUCT' " +
-                    "AND (:brandId IS NULL OR l.targetId IN (SELECT p.id FROM Product p WHERE p.brandId = :brandId AND p.status = 'ACTIVE'))")
-    Page<Long> findProductIdsOrderByLikesDesc(@Param("brandId") Long brandId, Pageable pageable);
-
     @Modifying
     void deleteByUserIdAndTargetIdAndType(Long userId, Long targetId, LikeType likeType);
 
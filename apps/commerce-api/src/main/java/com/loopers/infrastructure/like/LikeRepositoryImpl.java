@@ -4,11 +4,13 @@ import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeCountDto;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeType;
+import com.loopers.domain.like.LikedProductView;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,19 +50,28 @@ public class LikeRepositoryImpl implements LikeRepository {
         return likeJpaRepository.findByUserIdAndType(userId, likeType);
     }
 
+    @Override
+    public List<LikedProductView> findLikedProducts(Long userId, LikeType likeType, ZonedDateTime cursorLikedAt, Long cursorLikeId, int limit) {
+        Pageable pageable = PageRequest.ofSize(limit);
+        if (cursorLikedAt == null || cursorLikeId == null) {
+            return likeJpaRepository.findLikedProducts(userId, likeType, pageable);
+        }
+        return likeJpaRepository.findLikedProductsAfter(userId, likeType, cursorLikedAt, cursorLikeId, pageable);
+    }
+
     @Override
     public List<Like> findByTargetIdAndType(Long targetId, LikeType likeType) {
         return likeJpaRepository.findByTargetIdAndType(targetId, likeType);
     }
 
     @Override
-    public List<LikeCountDto> countByTargetIdIn(List<Long> targetIds, LikeType type) {
-        return likeJpaRepository.countByTargetIdIn(targetIds, type);
+    public List<Long> findLikedTargetIds(Long userId, LikeType likeType, List<Long> targetIds) {
+        return likeJpaRepository.findLikedTargetIds(userId, likeType, targetIds);
     }
 
     @Override
-    public Page<Long> findProductIdsOrderByLikesDesc(Long brandId, Pageable idPageable) {
-        return likeJpaRepository.findProductIdsOrderByLikesDesc(brandId, idPageable);
+    public List<LikeCountDto> countByTargetIdIn(List<Long> targetIds, LikeType type) {
+        return likeJpaRepository.countByTargetIdIn(targetIds, type);
     }
 
     @Override
@@ -0,0 +1,120 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.LikeStatusCacheProperties;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 상품 좋아요 여부 캐시 (Redis Hash)
+ *
+ * 키: like:status:{userId}, 필드: 상품 ID, 값: "1"(좋아요) / "0"(좋아요 안 함)
+ * - 사용자의 좋아요 전체를 올리지 않고, 목록에서 물어본 상품의 결과만 채운다. (좋아요 안 함도 저장해 다음 조회에서 DB를 건너뜀)
+ * - 조회는 HMGET 한 번, 채우기는 HSET + EXPIRE 를 파이프라인 한 번으로 보낸다.
+ * - 좋아요/취소가 커밋되면 해당 필드만 지운다. (다음 조회에서 DB 결과로 다시 채움)
+ * - Redis 장애 시 조회는 빈 결과(전부 DB 조회), 채우기/삭제는 건너뛴다. 삭제를 놓친 값은 ttl 이 지나면 사라진다.
+ */
+@Slf4j
+@Component
+public class LikeStatusCache {
+
+    private static final String KEY_PREFIX = "like:status:";
+    private static final String LIKED = "1";
+    private static final String NOT_LIKED = "0";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final LikeStatusCacheProperties properties;
+
+    public LikeStatusCache(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            LikeStatusCacheProperties properties
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * @return 캐시에 있는 상품만 담은 좋아요 여부 (없는 상품은 키가 없음)
+     */
+    public Map<Long, Boolean> find(Long userId, List<Long> productIds) {
+        Map<Long, Boolean> cached = new HashMap<>();
+        try {
+            List<Object> values = masterRedisTemplate.opsForHash()
+                    .multiGet(key(userId), productIds.stream().<Object>map(String::valueOf).toList());
+            for (int i = 0; i < productIds.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    cached.put(productIds.get(i), LIKED.equals(value));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("좋아요 여부 캐시 조회 실패 (DB 조회) - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return cached;
+    }
+
+    public void putAll(Long userId, Map<Long, Boolean> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        statuses.forEach((productId, liked) -> fields.put(productId.toString(), liked ? LIKED : NOT_LIKED));
+        String key = key(userId);
+
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.opsForHash().putAll(key, fields);
+                    operations.expire(key, properties.getTtl());
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("좋아요 여부 캐시 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 해당 상품의 좋아요 여부를 지운다.
+     * (커밋 전에 지우면 그 사이 다른 요청이 커밋 전 상태로 다시 채울 수 있다)
+     */
+    public void evictAfterCommit(Long userId, Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId, productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId, productId);
+            }
+        });
+    }
+
+    private void evict(Long userId, Long productId) {
+        try {
+            masterRedisTemplate.opsForHash().delete(key(userId), productId.toString());
+        } catch (DataAccessException e) {
+            log.warn("좋아요 여부 캐시 삭제 실패 (ttl 후 만료) - userId: {}, productId: {}, error: {}", userId, productId, e.getMessage());
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderIdempotencyClaim;
+import com.loopers.domain.order.OrderIdempotencyKey;
+import com.loopers.domain.order.OrderIdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * DB 주문 멱등키 저장소 (Redis 장애 시 대체)
+ *
+ * (user_id, idempotency_key) 유니크 제약으로 선점한다. 만료된 키는 expires_at 조건부 갱신으로 하나의 요청만 다시 선점한다.
+ * 주문 트랜잭션과 분리된 짧은 트랜잭션을 사용한다. (주문이 롤백되어도 선점/해제 기록은 따로 남는다)
+ * Redis 에 결과 기록이 실패한 주문의 완료 결과도 이 테이블에 남긴다. (recordCompleted)
+ */
+@Slf4j
+@Repository
+public class JpaOrderIdempotencyStore implements OrderIdempotencyStore {
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final OrderIdempotencyKeyJpaRepository jpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaOrderIdempotencyStore(OrderIdempotencyKeyJpaRepository jpaRepository, PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public OrderIdempotencyClaim claim(String userId, String idempotencyKey, String requestHash, Duration lease) {
+        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jpaRepository.saveAndFlush(
+                    OrderIdempotencyKey.inProgress(userId, idempotencyKey, requestHash, now.plus(lease))));
+            return OrderIdempotencyClaim.acquiredClaim();
+        } catch (DataIntegrityViolationException e) {
+            // 이미 있는 키 - 아래에서 상태 확인
+        }
+
+        return transactionTemplate.execute(status -> {
+            OrderIdempotencyKey existing = jpaRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey).orElse(null);
+            if (existing == null) {
+                // 선점한 요청이 방금 실패해 해제됨 - 처리 중으로 보고 다음 확인 때 다시 선점
+                return OrderIdempotencyClaim.existing(requestHash, null);
+            }
+            if (existing.getExpiresAt().isBefore(now)
+                    && jpaRepository.takeOverExpired(existing.getId(), requestHash, now, now.plus(lease)) == 1) {
+                return OrderIdempotencyClaim.acquiredClaim();
+            }
+            return OrderIdempotencyClaim.existing(existing.getRequestHash(), existing.getOrderId());
+        });
+    }
+
+    @Override
+    public boolean renew(String userId, String idempotencyKey, String requestHash, Duration lease) {
+        Integer renewed = transactionTemplate.execute(status ->
+                jpaRepository.renewInProgress(userId, idempotencyKey, requestHash, ZonedDateTime.now().plus(lease)));
+        return renewed != null && renewed == 1;
+    }
+
+    @Override
+    public void complete(String userId, String idempotencyKey, String requestHash, Long orderId, Duration retention) {
+        transactionTemplate.executeWithoutResult(status ->
+                jpaRepository.complete(userId, idempotencyKey, requestHash, orderId, ZonedDateTime.now().plus(retention)));
+    }
+
+    /**
+     * Redis 에서 선점한 요청의 결과를 DB에 기록한다. (Redis 결과 기록 실패 시 대체)
+     * Redis 선점은 lease 후 만료되므로, 이후 Redis 에서 다시 선점한 요청은 findCompleted 로 이 결과를 확인한다.
+     */
+    public void recordCompleted(String userId, String idempotencyKey, String requestHash, Long orderId, Duration retention) {
+        ZonedDateTime expiresAt = ZonedDateTime.now().plus(retention);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jpaRepository.overwriteCompleted(userId, idempotencyKey, requestHash, orderId, expiresAt) == 0) {
+                jpaRepository.saveAndFlush(OrderIdempotencyKey.completed(userId, idempotencyKey, requestHash, orderId, expiresAt));
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 남은 완료 결과 조회
+     */
+    public Optional<OrderIdempotencyClaim> findCompleted(String userId, String idempotencyKey) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return jpaRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .filter(key -> key.getOrderId() != null && key.getExpiresAt().isAfter(now))
+                .map(key -> OrderIdempotencyClaim.existing(key.getRequestHash(), key.getOrderId()));
+    }
+
+    @Override
+    public void release(String userId, String idempotencyKey, String requestHash) {
+        transactionTemplate.executeWithoutResult(status ->
+                jpaRepository.deleteInProgress(userId, idempotencyKey, requestHash));
+    }
+
+    /**
+     * 만료된 키 정리
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void cleanUpExpired() {
+        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> jpaRepository.deleteExpired(now, CLEANUP_BATCH_SIZE));
+            } while (deleted >= CLEANUP_BATCH_SIZE);
+
+        } catch (Exception e) {
+            log.warn("만료된 주문 멱등키 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+
+}
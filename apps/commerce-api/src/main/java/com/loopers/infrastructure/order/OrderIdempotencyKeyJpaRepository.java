@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyJpaRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    Optional<OrderIdempotencyKey> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+
+    /**
+     * 만료된 키를 새 요청이 선점한다. (만료 조건으로 여러 요청 중 하나만 성공)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderIdempotencyKey k SET k.requestHash = :requestHash, k.orderId = null, k.expiresAt = :expiresAt " +
+            "WHERE k.id = :id AND k.expiresAt < :now")
+    int takeOverExpired(@Param("id") Long id, @Param("requestHash") String requestHash,
+                        @Param("now") ZonedDateTime now, @Param("expiresAt") ZonedDateTime expiresAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderIdempotencyKey k SET k.expiresAt = :expiresAt " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :idempotencyKey AND k.requestHash = :requestHash AND k.orderId IS NULL")
+    int renewInProgress(@Param("userId") String userId, @Param("idempotencyKey") String idempotencyKey,
+                        @Param("requestHash") String requestHash, @Param("expiresAt") ZonedDateTime expiresAt);
+
+    /**
+     * 다른 저장소(Redis)에서 선점한 요청의 결과를 덮어써 기록한다. (이전 요청의 만료된 행이 남아 있는 경우)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderIdempotencyKey k SET k.requestHash = :requestHash, k.orderId = :orderId, k.expiresAt = :expiresAt " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :idempotencyKey")
+    int overwriteCompleted(@Param("userId") String userId, @Param("idempotencyKey") String idempotencyKey,
+                           @Param("requestHash") String requestHash, @Param("orderId") Long orderId,
+                           @Param("expiresAt") ZonedDateTime expiresAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderIdempotencyKey k SET k.orderId = :orderId, k.expiresAt = :expiresAt " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :idempotencyKey AND k.requestHash = :requestHash AND k.orderId IS NULL")
+    int complete(@Param("userId") String userId, @Param("idempotencyKey") String idempotencyKey,
+                 @Param("requestHash") String requestHash, @Param("orderId") Long orderId,
+                 @Param("expiresAt") ZonedDateTime expiresAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OrderIdempotencyKey k " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :idempotencyKey AND k.requestHash = :requestHash AND k.orderId IS NULL")
+    int deleteInProgress(@Param("userId") String userId, @Param("idempotencyKey") String idempotencyKey,
+                         @Param("requestHash") String requestHash);
+
+    @Modifying
+    @Query(value = "DELETE FROM order_idempotency_key WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+}
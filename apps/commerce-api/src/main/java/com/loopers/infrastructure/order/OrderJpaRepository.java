@@ -1,16 +1,21 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<Order, Long> {
-    Page<Order> findByUserId(Long userId, Pageable pageable);
+    /**
+     * 전체 개수는 CountCacheRepository 에서 얻으므로 COUNT 쿼리 없이 페이지 내용만 조회한다.
+     */
+    List<Order> findByUserId(Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
 
     @Query("SELECT o FROM Order o JOIN FETCH o.orderItems WHERE o.id = :orderId")
     Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
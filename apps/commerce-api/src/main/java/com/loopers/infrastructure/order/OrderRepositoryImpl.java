@@ -1,12 +1,16 @@
 package com.loopers.infrastructure.order;
 
+import com.loopers.domain.count.CountCacheRepository;
+import com.loopers.domain.count.CountKey;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -15,15 +19,27 @@ import java.util.Optional;
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final CountCacheRepository countCacheRepository;
 
     @Override
     public Order save(Order order) {
-        return orderJpaRepository.save(order);
+        boolean isNew = order.getId() == null || order.getId() == 0L;   // BaseEntity id 기본값 0
+        Order saved = orderJpaRepository.save(order);
+
+        // 새 주문이면 커밋 후 사용자 주문 수 증가
+        if (isNew) {
+            countCacheRepository.adjustAfterCommit(CountKey.userOrders(saved.getUserId()), 1);
+        }
+        return saved;
     }
 
     @Override
     public Page<Order> findByUserId(Long userId, Pageable pageable) {
-        return orderJpaRepository.findByUserId(userId, pageable);
+        List<Order> content = orderJpaRepository.findByUserId(userId, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> countCacheRepository.getOrCount(
+                CountKey.userOrders(userId),
+                () -> orderJpaRepository.countByUserId(userId)
+        ));
     }
 
     @Override
@@ -0,0 +1,22 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderStockAdmission;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OrderStockAdmissionJpaRepository extends JpaRepository<OrderStockAdmission, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OrderStockAdmission a WHERE a.admissionKey = :admissionKey")
+    int deleteByAdmissionKey(@Param("admissionKey") String admissionKey);
+
+    @Query("SELECT a FROM OrderStockAdmission a WHERE a.createdAt < :createdBefore ORDER BY a.id")
+    List<OrderStockAdmission> findCreatedBefore(@Param("createdBefore") ZonedDateTime createdBefore, Pageable pageable);
+
+}
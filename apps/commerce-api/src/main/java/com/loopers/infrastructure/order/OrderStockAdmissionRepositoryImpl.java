@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderStockAdmission;
+import com.loopers.domain.order.OrderStockAdmissionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderStockAdmissionRepositoryImpl implements OrderStockAdmissionRepository {
+
+    private final OrderStockAdmissionJpaRepository orderStockAdmissionJpaRepository;
+
+    @Override
+    public void saveAll(List<OrderStockAdmission> admissions) {
+        orderStockAdmissionJpaRepository.saveAll(admissions);
+    }
+
+    @Override
+    public boolean consume(String admissionKey) {
+        return orderStockAdmissionJpaRepository.deleteByAdmissionKey(admissionKey) == 1;
+    }
+
+    @Override
+    public List<OrderStockAdmission> findCreatedBefore(ZonedDateTime createdBefore, int limit) {
+        return orderStockAdmissionJpaRepository.findCreatedBefore(createdBefore, PageRequest.of(0, limit));
+    }
+
+}
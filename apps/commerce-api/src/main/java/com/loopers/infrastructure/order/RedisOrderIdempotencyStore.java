@@ -0,0 +1,99 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.order.OrderIdempotencyClaim;
+import com.loopers.domain.order.OrderIdempotencyStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 주문 멱등키 저장소 (기본)
+ *
+ * 키: order:idempotency:{userId}:{idempotencyKey}
+ * 값: P:{requestHash} (처리 중, TTL = lease) | C:{requestHash}:{orderId} (완료, TTL = retention)
+ *
+ * SET NX 한 번으로 선점하므로 재시도 폭주 때도 DB 커넥션/락을 쓰지 않는다.
+ */
+@Repository
+public class RedisOrderIdempotencyStore implements OrderIdempotencyStore {
+
+    private static final String KEY_PREFIX = "order:idempotency:";
+    private static final String IN_PROGRESS = "P";
+    private static final String COMPLETED = "C";
+
+    // 처리 중 값이 그대로일 때만 삭제 (lease 만료 후 다른 요청이 선점한 키는 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0",
+            Long.class
+    );
+
+    // 처리 중 값이 그대로일 때만 만료 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisOrderIdempotencyStore(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public OrderIdempotencyClaim claim(String userId, String idempotencyKey, String requestHash, Duration lease) {
+        String key = key(userId, idempotencyKey);
+
+        // 선점 실패 후 조회 사이에 키가 만료/해제될 수 있어 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (Boolean.TRUE.equals(masterRedisTemplate.opsForValue().setIfAbsent(key, inProgress(requestHash), lease))) {
+                return OrderIdempotencyClaim.acquiredClaim();
+            }
+            String value = masterRedisTemplate.opsForValue().get(key);
+            if (value != null) {
+                return parse(value);
+            }
+        }
+        return OrderIdempotencyClaim.existing(requestHash, null);
+    }
+
+    @Override
+    public boolean renew(String userId, String idempotencyKey, String requestHash, Duration lease) {
+        Long renewed = masterRedisTemplate.execute(RENEW_SCRIPT, List.of(key(userId, idempotencyKey)),
+                inProgress(requestHash), String.valueOf(lease.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void complete(String userId, String idempotencyKey, String requestHash, Long orderId, Duration retention) {
+        masterRedisTemplate.opsForValue().set(
+                key(userId, idempotencyKey), COMPLETED + ":" + requestHash + ":" + orderId, retention);
+    }
+
+    @Override
+    public void release(String userId, String idempotencyKey, String requestHash) {
+        masterRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(userId, idempotencyKey)), inProgress(requestHash));
+    }
+
+    private static String key(String userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+
+    private static String inProgress(String requestHash) {
+        return IN_PROGRESS + ":" + requestHash;
+    }
+
+    private static OrderIdempotencyClaim parse(String value) {
+        String[] parts = value.split(":");
+        Long orderId = COMPLETED.equals(parts[0]) && parts.length > 2 ? Long.valueOf(parts[2]) : null;
+        return OrderIdempotencyClaim.existing(parts[1], orderId);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = "SELECT * FROM outbox_event " +
+            "WHERE status = 'PENDING' OR (status = 'SENDING' AND claimed_until < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> findClaimableForUpdateSkipLocked(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE status = 'PUBLISHED' AND published_at < :publishedBefore LIMIT :limit",
+            nativeQuery = true)
+    int deletePublishedBefore(@Param("publishedBefore") ZonedDateTime publishedBefore, @Param("limit") int limit);
+
+}
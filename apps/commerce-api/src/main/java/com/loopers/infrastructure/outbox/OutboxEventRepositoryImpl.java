@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent outboxEvent) {
+        return outboxEventJpaRepository.save(outboxEvent);
+    }
+
+    @Override
+    public List<OutboxEvent> findClaimableForRelay(ZonedDateTime now, int limit) {
+        return outboxEventJpaRepository.findClaimableForUpdateSkipLocked(now, limit);
+    }
+
+    @Override
+    public List<OutboxEvent> findAllByIds(Collection<Long> ids) {
+        return outboxEventJpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public int deletePublishedBefore(ZonedDateTime publishedBefore, int limit) {
+        return outboxEventJpaRepository.deletePublishedBefore(publishedBefore, limit);
+    }
+
+}
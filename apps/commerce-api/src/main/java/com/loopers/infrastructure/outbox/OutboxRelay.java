@@ -0,0 +1,300 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.OutboxRelayProperties;
+import com.loopers.config.kafka.KafkaConfig;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outbox relay - outbox_event 의 발행 대기 이벤트를 Kafka로 배치 전송
+ *
+ * 1. Redis lease 를 가진 노드 하나만 relay 한다. (같은 키 이벤트의 전송 순서 보장)
+ * 2. 짧은 트랜잭션에서 대기 이벤트를 id 순으로 FOR UPDATE SKIP LOCKED 조회해 SENDING(claim-ttl)으로 선점하고 바로 커밋한다.
+ *    (lease 만료 중 겹쳐도 같은 행을 두 번 잡지 않고, broker ack 를 기다리는 동안 행 락/커넥션을 잡지 않음)
+ * 3. 트랜잭션 밖에서 (topic, partitionKey) 별로는 앞 이벤트의 ack 후 다음 이벤트를 보내고, 서로 다른 키는 동시에 전송한다.
+ *    서로 다른 키의 이벤트가 한 배치로 묶이도록 처리량 우선(THROUGHPUT) Producer 를 사용한다.
+ *    앞 이벤트가 실패하면 같은 키의 뒤 이벤트는 보내지 않고 다음 배치에서 순서대로 다시 시도한다.
+ * 4. 다시 짧은 트랜잭션에서 이 배치가 선점한 행만 결과를 반영한다. (At Least Once - Consumer 는 eventId로 멱등 처리)
+ *    ack 받은 이벤트는 PUBLISHED, 실패한 이벤트는 시도 횟수를 올려 PENDING (max-attempts 초과 시 DEAD),
+ *    보내지 못한 이벤트는 시도 횟수 없이 PENDING 으로 되돌린다. 결과 반영 전에 죽으면 claim-ttl 후 다시 전송된다.
+ * DEAD 이벤트는 같은 키의 뒤 이벤트를 더 이상 막지 않는다. (last_error 확인 후 수동 처리)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LEASE_KEY = "outbox:relay:lease";
+
+    // 비어 있으면 획득, 내 lease 이면 연장
+    private static final RedisScript<Long> ACQUIRE_OR_RENEW_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+                    "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end " +
+                    "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end " +
+                    "return 0",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private static final int CLEANUP_BATCH_SIZE = 1_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            @Qualifier(KafkaConfig.THROUGHPUT_KAFKA_TEMPLATE) KafkaTemplate<Object, Object> kafkaTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            OutboxRelayProperties properties
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT0.2S}")
+    public void relay() {
+        if (!properties.isEnabled() || !acquireOrRenewLease()) {
+            return;
+        }
+
+        try {
+            // 배치가 가득 차면 밀린 이벤트가 더 있으므로 이어서 처리
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= properties.getBatchSize() && acquireOrRenewLease());
+
+        } catch (Exception e) {
+            log.error("outbox relay 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대기 이벤트 한 배치 전송
+     * @return 선점한 이벤트 수
+     */
+    int relayBatch() {
+        String claimToken = UUID.randomUUID().toString();
+
+        // 1. 선점 (짧은 트랜잭션)
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            List<OutboxEvent> claimable = outboxEventRepository.findClaimableForRelay(now, properties.getBatchSize());
+            claimable.forEach(event -> event.claim(claimToken, now.plus(properties.getClaimTtl())));
+            return claimable;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 전송 (트랜잭션 밖)
+        Set<Long> publishedIds = ConcurrentHashMap.newKeySet();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<Void>> chains = new ArrayList<>();
+        for (List<OutboxEvent> sameKeyEvents : groupByKey(events).values()) {
+            chains.add(sendInOrder(sameKeyEvents, publishedIds, failures));
+        }
+
+        awaitAll(chains);
+
+        // 3. 결과 반영 (짧은 트랜잭션, 이 배치가 선점한 행만)
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OutboxEvent event : outboxEventRepository.findAllByIds(ids)) {
+                if (!event.isClaimedBy(claimToken)) {
+                    continue;   // 선점이 만료되어 다른 배치가 가져감
+                }
+                if (publishedIds.contains(event.getId())) {
+                    event.markPublished();
+                } else if (failures.containsKey(event.getId())) {
+                    event.recordFailure(failures.get(event.getId()), properties.getMaxAttempts());
+                    if (event.isDead()) {
+                        log.error("outbox 이벤트 최대 시도 횟수 초과 - DEAD 처리 - eventId: {}, topic: {}, attempts: {}, error: {}",
+                                event.getEventId(), event.getTopic(), event.getAttempts(), event.getLastError());
+                    }
+                } else {
+                    event.releaseClaim();
+                }
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            log.warn("outbox 이벤트 일부 전송 실패 - 배치: {}, 성공: {}, 실패: {}", events.size(), publishedIds.size(), failures.size());
+        }
+        log.debug("outbox relay 배치 완료 - 배치: {}, 성공: {}", events.size(), publishedIds.size());
+        return events.size();
+    }
+
+    /**
+     * 발행 완료 후 보관 기간이 지난 이벤트 정리
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void cleanUpPublished() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        ZonedDateTime publishedBefore = ZonedDateTime.now().minus(properties.getRetention());
+        try {
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status ->
+                        outboxEventRepository.deletePublishedBefore(publishedBefore, CLEANUP_BATCH_SIZE));
+            } while (deleted >= CLEANUP_BATCH_SIZE);
+
+        } catch (Exception e) {
+            log.warn("발행 완료 outbox 이벤트 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        try {
+            masterRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+        } catch (Exception e) {
+            log.debug("outbox relay lease 해제 실패 (TTL 후 자동 해제) - error: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, List<OutboxEvent>> groupByKey(List<OutboxEvent> events) {
+        Map<String, List<OutboxEvent>> grouped = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {   // id 순서 유지
+            grouped.computeIfAbsent(event.getTopic() + ":" + event.getPartitionKey(), k -> new ArrayList<>()).add(event);
+        }
+        return grouped;
+    }
+
+    /**
+     * 같은 키의 이벤트를 앞 이벤트 ack 후 순서대로 전송 (실패 시 이후 이벤트는 보내지 않음)
+     */
+    private CompletableFuture<Void> sendInOrder(List<OutboxEvent> sameKeyEvents, Set<Long> publishedIds, Map<Long, String> failures) {
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+
+        for (OutboxEvent event : sameKeyEvents) {
+            chain = chain
+                    .thenCompose(ignored -> send(event))
+                    .whenComplete((ignored, ex) -> {
+                        if (ex == null) {
+                            publishedIds.add(event.getId());
+                        } else if (!publishedIds.contains(event.getId()) && !failures.containsKey(event.getId()) && isOwnFailure(ex, event)) {
+                            failures.put(event.getId(), rootMessage(ex));
+                        }
+                    });
+        }
+        return chain;
+    }
+
+    private CompletableFuture<Void> send(OutboxEvent event) {
+        try {
+            JsonNode envelope = objectMapper.readTree(event.getPayload());
+            return kafkaTemplate.send(event.getTopic(), event.getPartitionKey(), envelope)
+                    .thenAccept(result -> { })
+                    .exceptionallyCompose(ex -> CompletableFuture.failedFuture(new OutboxSendException(event.getId(), ex)));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new OutboxSendException(event.getId(), e));
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<Void>> chains) {
+        try {
+            CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new))
+                    .get(properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("outbox 전송 대기 시간 초과 - ack 받지 못한 이벤트는 다음 배치에서 재전송");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 실패는 failures 에 기록됨
+        }
+    }
+
+    private boolean acquireOrRenewLease() {
+        try {
+            Long acquired = masterRedisTemplate.execute(ACQUIRE_OR_RENEW_SCRIPT, List.of(LEASE_KEY),
+                    nodeId, String.valueOf(properties.getLeaseTtl().toMillis()));
+            return acquired != null && acquired == 1L;
+        } catch (Exception e) {
+            log.warn("outbox relay lease 획득 실패 - error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 체인 앞쪽에서 실패한 예외가 그대로 전파된 경우가 아니라, 이 이벤트 전송에서 난 실패인지 확인
+     */
+    private boolean isOwnFailure(Throwable ex, OutboxEvent event) {
+        Throwable cause = ex;
+        while (cause != null) {
+            if (cause instanceof OutboxSendException sendException) {
+                return sendException.outboxEventId().equals(event.getId());
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private String rootMessage(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    private static class OutboxSendException extends RuntimeException {
+
+        private final Long outboxEventId;
+
+        OutboxSendException(Long outboxEventId, Throwable cause) {
+            super(cause);
+            this.outboxEventId = outboxEventId;
+        }
+
+        Long outboxEventId() {
+            return outboxEventId;
+        }
+    }
+
+}
@@ -2,10 +2,14 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
@@ -20,4 +24,24 @@ public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
             @Param("status") PaymentStatus status
     );
 
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.transactionKey IS NULL " +
+            "AND p.updatedAt < :updatedBefore AND p.createdAt > :createdAfter ORDER BY p.id")
+    List<Payment> findWithoutTransactionKey(
+            @Param("status") PaymentStatus status,
+            @Param("updatedBefore") ZonedDateTime updatedBefore,
+            @Param("createdAfter") ZonedDateTime createdAfter,
+            Pageable pageable
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.authorizationAttempts = p.authorizationAttempts + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.status = :status AND p.transactionKey IS NULL " +
+            "AND p.authorizationAttempts = :expectedAttempts")
+    int touchIfWithoutTransactionKey(
+            @Param("id") Long id,
+            @Param("status") PaymentStatus status,
+            @Param("expectedAttempts") int expectedAttempts,
+            @Param("now") ZonedDateTime now
+    );
+
 }
@@ -4,8 +4,11 @@ import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -39,4 +42,14 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJpaRepository.findByOrderIdAndStatus(orderId, status);
     }
 
+    @Override
+    public List<Payment> findUnrequestedPayments(ZonedDateTime updatedBefore, ZonedDateTime createdAfter, int limit) {
+        return paymentJpaRepository.findWithoutTransactionKey(PaymentStatus.PENDING, updatedBefore, createdAfter, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean claimForAuthorization(Long paymentId, int expectedAttempts) {
+        return paymentJpaRepository.touchIfWithoutTransactionKey(paymentId, PaymentStatus.PENDING, expectedAttempts, ZonedDateTime.now()) == 1;
+    }
+
 }
@@ -13,6 +13,7 @@ public interface PgClient {
     @PostMapping("/api/v1/payments")
     PgPaymentResponse requestPayment(
             @RequestHeader("X-USER-ID") String userId,
+            @RequestHeader("Idempotency-Key") String idempotencyKey,
             @RequestBody PgPaymentRequest request
     );
 
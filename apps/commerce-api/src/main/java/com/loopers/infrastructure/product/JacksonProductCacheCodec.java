@@ -0,0 +1,78 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+
+/**
+ * Jackson 기반 상품 캐시 코덱
+ * - json  : 사람이 읽을 수 있는 텍스트 포맷 ('{' 로 시작)
+ * - smile : Jackson 바이너리 JSON 포맷 (헤더 ":)\n", 필드명 공유로 크기/파싱 비용 감소)
+ *
+ * 캐시 전용 DTO(ProductListCacheEntry, ProductResponse)만 다루므로 null 필드는 저장하지 않는다.
+ */
+public final class JacksonProductCacheCodec implements ProductCacheCodec {
+
+    public static final String JSON = "json";
+    public static final String SMILE = "smile";
+
+    // Smile 헤더: ':' ')' '\n'
+    private static final byte[] SMILE_HEADER = {0x3A, 0x29, 0x0A};
+
+    private final String name;
+    private final ObjectMapper objectMapper;
+
+    private JacksonProductCacheCodec(String name, ObjectMapper objectMapper) {
+        this.name = name;
+        this.objectMapper = objectMapper
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public static JacksonProductCacheCodec json() {
+        return new JacksonProductCacheCodec(JSON, new ObjectMapper().findAndRegisterModules());
+    }
+
+    public static JacksonProductCacheCodec smile() {
+        return new JacksonProductCacheCodec(SMILE, new ObjectMapper(new SmileFactory()).findAndRegisterModules());
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public boolean canDecode(byte[] bytes) {
+        if (SMILE.equals(name)) {
+            return startsWith(bytes, SMILE_HEADER);
+        }
+        return bytes.length > 0 && bytes[0] == '{';
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
+        return objectMapper.readValue(bytes, type);
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.ProductCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * commerce-collector 가 미리 만들어 둔 목록 페이지 조회
+ *
+ * collector(CatalogPageMaterializer)는 (브랜드, 정렬)별 앞쪽 N 페이지를 변경 이벤트마다 디바운스하여 다시 만들고,
+ * ProductListCacheEntry 와 같은 JSON 구조로 저장한다. 키가 있으면 DB와 지연 캐시를 거치지 않고 응답하며,
+ * 없으면(collector 중단, 브랜드 무효화 직후) 기존 캐시 경로로 조회한다.
+ * 사전 생성 범위 밖(뒤쪽 페이지, 기본값이 아닌 size) 요청은 Redis 를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaterializedCatalogPages {
+
+    public static final String TIER_MATERIALIZED = "materialized";
+
+    // commerce-collector CatalogPageMaterializer 와 같은 키 형식
+    private static final String PAGE_KEY_FORMAT = "catalog:page:b%s:s%s:z%d:p%d";
+
+    // commerce-collector CatalogSort 와 같은 정렬 값
+    private static final List<String> SORTS = List.of("latest", "price_asc", "likes_desc");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductCacheSerializer serializer;
+    private final ProductCacheMetrics metrics;
+    private final ProductCacheProperties properties;
+
+    /**
+     * 사전 생성 페이지와 인코딩 크기 (L1 적재 시 가중치로 사용)
+     */
+    public record MaterializedPage(ProductListCacheEntry entry, int encodedBytes) {}
+
+    public Optional<MaterializedPage> find(Long brandId, String sort, int page, int size) {
+        if (!covers(page, size)) {
+            return Optional.empty();
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(pageKey(brandId, sort, size, page));
+            if (json == null) {
+                metrics.miss(TIER_MATERIALIZED, ProductCacheMetrics.CACHE_LIST);
+                return Optional.empty();
+            }
+
+            metrics.hit(TIER_MATERIALIZED, ProductCacheMetrics.CACHE_LIST);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            return Optional.of(new MaterializedPage(serializer.decode(bytes, ProductListCacheEntry.class), bytes.length));
+
+        } catch (Exception e) {
+            log.warn("사전 생성 목록 페이지 조회 실패 (캐시 경로로 조회): {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 브랜드(+ 브랜드 필터 없는) 사전 생성 페이지 삭제
+     * 가격/브랜드 변경처럼 collector 이벤트가 없는 변경 후 stale 페이지를 응답하지 않도록 지운다.
+     * collector 는 같은 무효화 메시지를 구독해 다음 디바운스 구간에 다시 만든다.
+     */
+    public void evictBrand(Long brandId) {
+        if (!properties.isMaterializedEnabled()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String sort : SORTS) {
+            for (int page = 0; page < properties.getMaterializedPages(); page++) {
+                keys.add(pageKey(brandId, sort, properties.getMaterializedPageSize(), page));
+                keys.add(pageKey(null, sort, properties.getMaterializedPageSize(), page));
+            }
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private boolean covers(int page, int size) {
+        return properties.isMaterializedEnabled()
+                && page >= 0 && page < properties.getMaterializedPages()
+                && size == properties.getMaterializedPageSize();
+    }
+
+    private String pageKey(Long brandId, String sort, int size, int page) {
+        return PAGE_KEY_FORMAT.formatted(brandId, sort, size, page);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.product;
+
+import java.io.IOException;
+
+/**
+ * 상품 캐시 직렬화 포맷
+ *
+ * 구현체는 자신의 포맷을 바이트 앞부분(헤더)으로 식별할 수 있어야 한다.
+ * 포맷을 바꿔 배포하더라도 기존 포맷으로 저장된 캐시를 읽을 수 있도록 하기 위함이다.
+ */
+public interface ProductCacheCodec {
+
+    /**
+     * 포맷 이름 (설정값 cache.product.codec 과 동일)
+     */
+    String name();
+
+    /**
+     * 이 포맷으로 인코딩된 바이트인지 여부
+     */
+    boolean canDecode(byte[] bytes);
+
+    byte[] encode(Object value) throws IOException;
+
+    <T> T decode(byte[] bytes, Class<T> type) throws IOException;
+
+}
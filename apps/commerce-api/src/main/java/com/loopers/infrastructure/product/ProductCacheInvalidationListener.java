@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 캐시 무효화 메시지 구독자 (Redis Pub/Sub)
+ *
+ * 다른 노드(또는 commerce-collector)가 Redis 캐시를 지우거나 목록 세대를 올리면서 발행한 메시지를 받아
+ * 이 노드의 L1 캐시와 보관 중인 목록 세대 값을 함께 비운다.
+ *
+ * 메시지 형식 (CacheEvictService와 동일):
+ * - "product:detail:{productId}" : 해당 상품 상세 L1 삭제
+ * - "products:list::b{brandId}"   : 해당 브랜드(+ 브랜드 필터 없는) 목록 L1 / 세대 값 삭제
+ * - "products:list"              : 상품 목록 L1 / 세대 값 전체 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener implements MessageListener {
+
+    public static final String CHANNEL = "product:cache:invalidate";
+    public static final String LIST_ALL_MESSAGE = "products:list";
+
+    private static final String DETAIL_MESSAGE_PREFIX = "product:detail:";
+    private static final String BRAND_LIST_MESSAGE_PREFIX = "products:list::b";
+
+    private final ProductLocalCache productLocalCache;
+    private final ProductListCacheGeneration productListCacheGeneration;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (body.startsWith(DETAIL_MESSAGE_PREFIX)) {
+            productLocalCache.invalidateDetail(body);
+        } else if (body.startsWith(BRAND_LIST_MESSAGE_PREFIX)) {
+            Long brandId = parseBrandId(body);
+            productListCacheGeneration.invalidateLocal(brandId);
+            productLocalCache.invalidateBrandLists(brandId);
+        } else if (body.equals(LIST_ALL_MESSAGE)) {
+            productListCacheGeneration.invalidateLocalAll();
+            productLocalCache.invalidateAllLists();
+        } else {
+            log.warn("알 수 없는 캐시 무효화 메시지 - body: {}", body);
+            return;
+        }
+
+        log.debug("L1 캐시 무효화 완료 - message: {}", body);
+    }
+
+    public static String brandListMessage(Long brandId) {
+        return BRAND_LIST_MESSAGE_PREFIX + brandId;
+    }
+
+    private Long parseBrandId(String body) {
+        String brandId = body.substring(BRAND_LIST_MESSAGE_PREFIX.length());
+        return "null".equals(brandId) ? null : Long.valueOf(brandId);
+    }
+
+}
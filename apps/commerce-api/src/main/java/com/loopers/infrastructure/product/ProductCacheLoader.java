@@ -0,0 +1,209 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.ProductCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 요청 병합기 (Single-Flight)
+ *
+ * hot 키가 만료되는 순간 동시에 들어온 요청들이 모두 DB를 조회하는 것(Cache Stampede)을 막는다.
+ *
+ * 처리 흐름:
+ * 1. 노드 내부: 키별로 하나의 CompletableFuture만 만들고, 나머지 요청은 같은 Future를 기다린다.
+ * 2. 노드 간: Redis lease(SET NX PX)를 얻은 노드만 DB를 조회하고,
+ *    lease를 얻지 못한 노드는 잠시 캐시가 채워지기를 기다린다.
+ * 3. 대기 시간을 넘기면 직접 조회하고 결과를 캐시에 저장한다. (가용성 우선, 최악의 경우 기존 동작과 동일)
+ *
+ * loader 는 DB 트랜잭션을 스스로 열고 닫아야 한다. 호출자가 트랜잭션 안에서 load() 를 부르면
+ * 다른 요청의 적재를 기다리는 동안에도 커넥션을 잡고 있게 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheLoader {
+
+    private static final String LEASE_KEY_PREFIX = "lease:";
+    private static final long LEASE_POLL_INTERVAL_MS = 20;
+
+    // 내가 잡은 lease일 때만 삭제 (만료 후 다른 노드가 잡은 lease를 지우지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductCacheProperties properties;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 키 단위로 병합하여 값을 적재한다.
+     *
+     * @param cacheKey 캐시 키
+     * @param cacheLookup 캐시 재조회 (앞선 요청이 이미 채웠는지 확인)
+     * @param loader 원본(DB) 조회
+     * @param cacheWriter 조회 결과 캐시 저장
+     * @return 캐시 또는 원본에서 얻은 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String cacheKey, Supplier<Optional<T>> cacheLookup, Supplier<T> loader, Consumer<T> cacheWriter) {
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, future);
+
+        if (existing != null) {
+            // 같은 키를 이미 적재 중인 요청이 있으면 그 결과를 기다린다.
+            return (T) await(cacheKey, existing, loader, cacheWriter);
+        }
+
+        try {
+            T value = loadOnce(cacheKey, cacheLookup, loader, cacheWriter);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 캐시 저장 이후에 제거해야 뒤늦게 들어온 요청이 캐시를 보게 된다.
+            inFlight.remove(cacheKey, future);
+        }
+    }
+
+    /**
+     * 기존 캐시를 무시하고 다시 적재한다. (백그라운드 갱신용)
+     * 다른 노드가 이미 갱신 중(lease 보유)이면 아무것도 하지 않는다.
+     *
+     * @param cacheKey 캐시 키
+     * @param loader 원본(DB) 조회
+     * @param cacheWriter 조회 결과 캐시 저장
+     */
+    public <T> void refresh(String cacheKey, Supplier<T> loader, Consumer<T> cacheWriter) {
+
+        if (!properties.isLeaseEnabled()) {
+            loadAndWrite(loader, cacheWriter);
+            return;
+        }
+
+        String leaseKey = LEASE_KEY_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+
+        if (!tryAcquireLease(leaseKey, token)) {
+            log.debug("다른 노드가 캐시 갱신 중 - 생략, key: {}", cacheKey);
+            return;
+        }
+
+        try {
+            loadAndWrite(loader, cacheWriter);
+        } finally {
+            releaseLease(leaseKey, token);
+        }
+    }
+
+    private <T> T loadOnce(String cacheKey, Supplier<Optional<T>> cacheLookup, Supplier<T> loader, Consumer<T> cacheWriter) {
+
+        // 앞선 적재가 방금 끝났을 수 있으므로 한 번 더 확인
+        Optional<T> cached = cacheLookup.get();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        if (!properties.isLeaseEnabled()) {
+            return loadAndWrite(loader, cacheWriter);
+        }
+
+        String leaseKey = LEASE_KEY_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+
+        if (tryAcquireLease(leaseKey, token)) {
+            try {
+                return loadAndWrite(loader, cacheWriter);
+            } finally {
+                releaseLease(leaseKey, token);
+            }
+        }
+
+        // 다른 노드가 적재 중 - 캐시가 채워질 때까지 잠시 대기
+        long deadline = System.nanoTime() + properties.getLeaseWaitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            sleep(LEASE_POLL_INTERVAL_MS);
+            cached = cacheLookup.get();
+            if (cached.isPresent()) {
+                log.debug("다른 노드가 적재한 캐시 사용 - key: {}", cacheKey);
+                return cached.get();
+            }
+        }
+
+        log.warn("캐시 적재 lease 대기 시간 초과 - 직접 조회, key: {}", cacheKey);
+        return loadAndWrite(loader, cacheWriter);
+    }
+
+    private <T> T loadAndWrite(Supplier<T> loader, Consumer<T> cacheWriter) {
+        T value = loader.get();
+        cacheWriter.accept(value);
+        return value;
+    }
+
+    private <T> Object await(String cacheKey, CompletableFuture<Object> future, Supplier<T> loader, Consumer<T> cacheWriter) {
+        Duration timeout = properties.getLoadWaitTimeout();
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("캐시 적재 실패 - key: " + cacheKey, e.getCause());
+        } catch (TimeoutException e) {
+            // 직접 조회한 결과도 저장해야 같은 키의 다음 요청이 다시 대기/조회하지 않는다.
+            log.warn("캐시 적재 대기 시간 초과 - 직접 조회, key: {}", cacheKey);
+            return loadAndWrite(loader, cacheWriter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 적재 대기 중 인터럽트 - key: " + cacheKey, e);
+        }
+    }
+
+    private boolean tryAcquireLease(String leaseKey, String token) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, token, properties.getLeaseTtl());
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            // Redis 장애 시에는 노드 내부 병합만으로 진행
+            log.warn("캐시 적재 lease 획득 실패 (직접 조회로 진행): {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            log.warn("캐시 적재 lease 해제 실패 (TTL 만료로 정리됨): {}", e.getMessage());
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 적재 대기 중 인터럽트", e);
+        }
+    }
+
+}
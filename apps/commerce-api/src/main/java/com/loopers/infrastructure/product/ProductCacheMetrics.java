@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.product;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 캐시 계층별(L1: 로컬, L2: Redis) 지표 기록
+ *
+ * 지표:
+ * - product.cache.gets{tier, cache, result=hit|miss}
+ * - product.cache.evictions{tier, cache}
+ * - product.cache.refreshes{cache, result=success|failure|rejected}
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheMetrics {
+
+    public static final String TIER_LOCAL = "l1";
+    public static final String TIER_REDIS = "l2";
+
+    public static final String CACHE_DETAIL = "detail";
+    public static final String CACHE_LIST = "list";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public void hit(String tier, String cache) {
+        counter("product.cache.gets", tier, cache, "hit").increment();
+    }
+
+    public void miss(String tier, String cache) {
+        counter("product.cache.gets", tier, cache, "miss").increment();
+    }
+
+    public void eviction(String tier, String cache) {
+        counter("product.cache.evictions", tier, cache, null).increment();
+    }
+
+    public void refresh(String cache, String result) {
+        String id = "product.cache.refreshes:" + cache + ":" + result;
+        counters.computeIfAbsent(id, k -> Counter.builder("product.cache.refreshes")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry)
+        ).increment();
+    }
+
+    private Counter counter(String name, String tier, String cache, String result) {
+        String id = name + ":" + tier + ":" + cache + ":" + result;
+        return counters.computeIfAbsent(id, k -> {
+            Counter.Builder builder = Counter.builder(name)
+                    .tag("tier", tier)
+                    .tag("cache", cache);
+            if (result != null) {
+                builder.tag("result", result);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+}
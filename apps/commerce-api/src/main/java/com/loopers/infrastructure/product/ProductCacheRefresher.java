@@ -0,0 +1,78 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.ProductCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 캐시 백그라운드 갱신기
+ *
+ * stale 또는 만료 임박 캐시를 요청 스레드 밖에서 다시 적재한다.
+ * - 노드 내부에서는 키별로 한 번만 갱신 작업을 등록한다.
+ * - 전용 풀(크기/큐 제한)을 사용하며, 포화 시 갱신을 건너뛴다. (다음 요청이 다시 시도)
+ *
+ * 주의: Executor를 Bean으로 등록하면 @Async 기본 실행기가 바뀌므로 내부에서만 생성/종료한다.
+ */
+@Slf4j
+@Component
+public class ProductCacheRefresher {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final ProductCacheMetrics metrics;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public ProductCacheRefresher(ProductCacheProperties properties, ProductCacheMetrics metrics) {
+        this.metrics = metrics;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getRefreshPoolSize());
+        executor.setMaxPoolSize(properties.getRefreshPoolSize());
+        executor.setQueueCapacity(properties.getRefreshQueueCapacity());
+        executor.setThreadNamePrefix("product-cache-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+    }
+
+    /**
+     * 갱신 작업을 비동기로 등록한다.
+     *
+     * @param cacheKey 캐시 키 (같은 키의 중복 등록 방지)
+     * @param cacheName 지표용 캐시 이름
+     * @param refreshTask 갱신 작업
+     */
+    public void refreshAsync(String cacheKey, String cacheName, Runnable refreshTask) {
+        if (!refreshing.add(cacheKey)) {
+            return;  // 이미 갱신 중
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    refreshTask.run();
+                    metrics.refresh(cacheName, "success");
+                } catch (Exception e) {
+                    metrics.refresh(cacheName, "failure");
+                    log.warn("캐시 백그라운드 갱신 실패 (기존 캐시 유지) - key: {}, error: {}", cacheKey, e.getMessage());
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(cacheKey);
+            metrics.refresh(cacheName, "rejected");
+            log.debug("캐시 갱신 풀 포화로 갱신 생략 - key: {}", cacheKey);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -1,22 +1,32 @@
 package com.loopers.infrastructure.product;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.product.ProductResponse;
+import com.loopers.config.ProductCacheProperties;
+import com.loopers.domain.count.CountCacheRepository;
+import com.loopers.domain.count.CountKey;
 import com.loopers.domain.product.ProductCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
- * Redis를 사용한 상품 캐시 저장소 구현체
- * StringRedisTemplate을 사용하여 타입 정보 없이 순수 JSON으로 저장
+ * 2계층 상품 캐시 저장소 구현체
+ * - L1: ProductLocalCache (프로세스 내 Caffeine)
+ * - L2: Redis
+ * L2 는 ProductCacheSerializer로 인코딩한 바이트(기본 Smile)를, L1 은 디코딩된 객체를 보관한다. (L1 적중은 역직렬화 없음)
+ * 삭제 시 Redis Pub/Sub 으로 다른 노드의 L1 도 함께 무효화한다.
+ * 캐시 미스 적재는 ProductCacheLoader가 키 단위로 병합한다.
  */
 @Slf4j
 @Component
@@ -24,65 +34,173 @@ import java.util.concurrent.ThreadLocalRandom;
 public class ProductCacheRepositoryImpl implements ProductCacheRepository {
     
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final ProductCacheSerializer serializer;
+    private final ProductLocalCache productLocalCache;
+    private final ProductCacheMetrics metrics;
+    private final ProductCacheLoader productCacheLoader;
+    private final ProductCacheRefresher productCacheRefresher;
+    private final ProductCacheProperties properties;
+    private final ProductListCacheGeneration productListCacheGeneration;
+    private final CountCacheRepository countCacheRepository;
+    private final MaterializedCatalogPages materializedCatalogPages;
     
     // 캐시 키 네임스페이스
     private static final String PRODUCT_LIST_PREFIX = "products:list";
     private static final String PRODUCT_DETAIL_PREFIX = "product:detail";
     
-    // TTL 설정
-    private static final Duration PRODUCT_LIST_TTL = Duration.ofMinutes(1);
+    // TTL 설정 (목록 TTL은 ProductCacheProperties의 논리/stale TTL 사용)
     private static final Duration PRODUCT_DETAIL_TTL = Duration.ofMinutes(10);
 
     /**
      *  상품 목록 캐시 조회
+     *  논리 만료가 지난 stale 항목도 물리 TTL 내에서는 반환한다.
      */
     @Override
     public Optional<Page<ProductResponse>> getProductList(
             Long brandId, String sort, int page, int size
     ) {
-        
+
+        Optional<String> listKey = buildProductListKeySafely(brandId, sort, page, size);
+        if (listKey.isEmpty()) {
+            return Optional.empty();
+        }
+        String cacheKey = listKey.get();
+
+        // 1. L1 조회
+        Optional<ProductListCacheEntry> local = getLocalProductListEntry(cacheKey);
+        if (local.isPresent()) {
+            return local.map(ProductListCacheEntry::toPage);
+        }
+
+        // 2. L2(Redis) 조회 (적중 시 L1에 채움)
+        return getProductListEntry(cacheKey).map(ProductListCacheEntry::toPage);
+    }
+    
+    @Override
+    public void saveProductList(
+            Long brandId, String sort, int page, int size,
+            Page<ProductResponse> productPage
+    ) {
+
+        if (productPage == null) {
+            return;
+        }
+
+        buildProductListKeySafely(brandId, sort, page, size).ifPresent(cacheKey ->
+                saveProductListEntry(cacheKey, ProductListCacheEntry.of(productPage, 0, properties.getListLogicalTtl())));
+    }
+
+    /**
+     * 상품 목록 캐시 조회 (Stale-While-Revalidate)
+     * - L1 적중: 그대로 반환 (Redis 조회 없음)
+     * - collector 사전 생성 페이지: 사전 생성 범위(앞쪽 페이지, 기본 size) 안이면 조회하고 있으면 그대로 반환
+     * - 캐시 적중: 즉시 반환하고, 논리 만료가 지났거나 XFetch 조기 갱신 대상이면 백그라운드에서 갱신
+     * - 캐시 미스: 요청 병합(single-flight) 후 동기 적재
+     */
+    @Override
+    public Page<ProductResponse> getOrLoadProductList(
+            Long brandId, String sort, int page, int size,
+            Supplier<Page<ProductResponse>> loader
+    ) {
+
+        Optional<String> listKey = buildProductListKeySafely(brandId, sort, page, size);
+        if (listKey.isEmpty()) {
+            return loader.get();   // 세대 조회 실패 (Redis 장애) - 캐시 없이 조회
+        }
+        String cacheKey = listKey.get();
+
+        // 1. L1 조회 (짧은 TTL, 만료되면 L2에서 갱신 여부를 판단)
+        Optional<ProductListCacheEntry> local = getLocalProductListEntry(cacheKey);
+        if (local.isPresent()) {
+            return local.get().toPage();
+        }
+
+        // 2. collector 가 미리 만들어 둔 앞쪽 페이지 (DB, 지연 캐시를 거치지 않음, 적중 시 L1에 채움)
+        Optional<MaterializedCatalogPages.MaterializedPage> materialized =
+                materializedCatalogPages.find(brandId, sort, page, size);
+        if (materialized.isPresent()) {
+            ProductListCacheEntry entry = materialized.get().entry();
+            productLocalCache.putList(cacheKey, entry, materialized.get().encodedBytes());
+            return entry.toPage();
+        }
+
+        Supplier<ProductListCacheEntry> entryLoader = () -> loadProductListEntry(loader);
+
+        // 3. L2(Redis) 조회
+        Optional<ProductListCacheEntry> cached = getProductListEntry(cacheKey);
+        if (cached.isPresent()) {
+            ProductListCacheEntry entry = cached.get();
+            if (entry.shouldRefresh(System.currentTimeMillis(), properties.getRefreshBeta())) {
+                productCacheRefresher.refreshAsync(cacheKey, ProductCacheMetrics.CACHE_LIST,
+                        () -> productCacheLoader.refresh(cacheKey, entryLoader,
+                                refreshed -> saveProductListEntry(cacheKey, refreshed)));
+            }
+
+            return entry.toPage();
+        }
+
+        // 4. 캐시 미스 - 동기 적재
+        return productCacheLoader.load(
+                cacheKey,
+                () -> getProductListEntry(cacheKey),
+                entryLoader,
+                loaded -> saveProductListEntry(cacheKey, loaded)
+        ).toPage();
+    }
+
+    private ProductListCacheEntry loadProductListEntry(Supplier<Page<ProductResponse>> loader) {
+        long start = System.nanoTime();
+        Page<ProductResponse> productPage = loader.get();
+        long computeMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        return ProductListCacheEntry.of(productPage, computeMillis, properties.getListLogicalTtl());
+    }
+
+    private Optional<ProductListCacheEntry> getLocalProductListEntry(String cacheKey) {
+        return productLocalCache.getList(cacheKey);
+    }
+
+    /**
+     * L2(Redis) 목록 조회, 적중 시 디코딩한 항목을 L1에 채운다.
+     */
+    private Optional<ProductListCacheEntry> getProductListEntry(String cacheKey) {
+
         try {
-            String cacheKey = buildProductListKey(brandId, sort, page, size);
-            String json = redisTemplate.opsForValue().get(cacheKey);
-            
-            if (json == null) {
+            byte[] bytes = getBytes(cacheKey);
+
+            if (bytes == null) {
                 log.debug("🚨 Cache Miss! key: {}", cacheKey);
+                metrics.miss(ProductCacheMetrics.TIER_REDIS, ProductCacheMetrics.CACHE_LIST);
                 return Optional.empty();
             }
-            
+
             log.debug("✅ Cache Hit! key: {}", cacheKey);
-            Page<ProductResponse> result = objectMapper.readValue(
-                json, new TypeReference<Page<ProductResponse>>() {}
-            );
-            
-            return Optional.of(result);
-            
+            metrics.hit(ProductCacheMetrics.TIER_REDIS, ProductCacheMetrics.CACHE_LIST);
+            ProductListCacheEntry entry = serializer.decode(bytes, ProductListCacheEntry.class);
+            productLocalCache.putList(cacheKey, entry, bytes.length);
+            return Optional.of(entry);
+
         } catch (Exception e) {
             log.warn("캐시 조회 실패 (Cache Miss로 처리): {}", e.getMessage());
             return Optional.empty();
         }
     }
-    
-    @Override
-    public void saveProductList(
-            Long brandId, String sort, int page, int size,
-            Page<ProductResponse> productPage
-    ) {
-        
-        if ( productPage == null || productPage.getContent().isEmpty()) {
+
+    private void saveProductListEntry(String cacheKey, ProductListCacheEntry entry) {
+
+        if (entry.content().isEmpty()) {
             return; // 빈 데이터는 캐시하지 않음
         }
-        
+
         try {
-            String cacheKey = buildProductListKey(brandId, sort, page, size);
-            String json = objectMapper.writeValueAsString(productPage);
-            
-            Duration ttlWithJitter = addJitter(PRODUCT_LIST_TTL);
-            redisTemplate.opsForValue().set(cacheKey, json, ttlWithJitter);
-            
-            log.debug("캐시 저장 완료. key: {}, ttl: {}초", cacheKey, ttlWithJitter.getSeconds());
-            
+            byte[] bytes = serializer.encode(entry);
+
+            // 물리 TTL = 논리 TTL + stale 허용 시간 (stale 구간 동안 백그라운드 갱신)
+            Duration ttlWithJitter = addJitter(properties.getListLogicalTtl().plus(properties.getListStaleTtl()));
+            setBytes(cacheKey, bytes, ttlWithJitter);
+            productLocalCache.putList(cacheKey, entry, bytes.length);
+
+            log.debug("캐시 저장 완료. key: {}, ttl: {}초, size: {}B", cacheKey, ttlWithJitter.getSeconds(), bytes.length);
+
         } catch (Exception e) {
             log.warn("캐시 저장 실패 (무시하고 계속 진행): {}", e.getMessage());
         }
@@ -93,15 +211,28 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
         
         try {
             String cacheKey = buildProductDetailKey(productId);
-            String json = redisTemplate.opsForValue().get(cacheKey);
+
+            // 1. L1 조회
+            Optional<ProductResponse> local = productLocalCache.getDetail(cacheKey);
+            if (local.isPresent()) {
+                return local;
+            }
+
+            // 2. L2(Redis) 조회
+            byte[] bytes = getBytes(cacheKey);
             
-            if (json == null) {
+            if (bytes == null) {
                 log.debug("🚨 Cache Miss! productId: {}", productId);
+                metrics.miss(ProductCacheMetrics.TIER_REDIS, ProductCacheMetrics.CACHE_DETAIL);
                 return Optional.empty();
             }
             
             log.debug("✅ Cache Hit! productId: {}", productId);
-            ProductResponse result = objectMapper.readValue(json, ProductResponse.class);
+            metrics.hit(ProductCacheMetrics.TIER_REDIS, ProductCacheMetrics.CACHE_DETAIL);
+            ProductResponse result = serializer.decode(bytes, ProductResponse.class);
+
+            // 3. L2 적중 결과를 L1에 채움
+            productLocalCache.putDetail(cacheKey, result, bytes.length);
             
             return Optional.of(result);
             
@@ -120,10 +251,11 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
         
         try {
             String cacheKey = buildProductDetailKey(productId);
-            String json = objectMapper.writeValueAsString(productResponse);
+            byte[] bytes = serializer.encode(productResponse);
             
             Duration ttlWithJitter = addJitter(PRODUCT_DETAIL_TTL);
-            redisTemplate.opsForValue().set(cacheKey, json, ttlWithJitter);
+            setBytes(cacheKey, bytes, ttlWithJitter);
+            productLocalCache.putDetail(cacheKey, productResponse, bytes.length);
             
             log.debug("캐시 저장 완료. key: {}, ttl: {}초", cacheKey, ttlWithJitter.getSeconds());
             
@@ -132,12 +264,41 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
         }
     }
     
+    @Override
+    public ProductResponse getOrLoadProductDetail(Long productId, Supplier<ProductResponse> loader) {
+
+        Optional<ProductResponse> cached = getProductDetail(productId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return productCacheLoader.load(
+                buildProductDetailKey(productId),
+                () -> getProductDetail(productId),
+                loader,
+                result -> saveProductDetail(productId, result)
+        );
+    }
+    
+    @Override
+    public long getOrLoadActiveProductCount(Long brandId, Supplier<Long> loader) {
+        return countCacheRepository.getOrCount(CountKey.activeProducts(brandId), loader::get);
+    }
+    
     @Override
     public void evictProductsByBrand(Long brandId) {
         
         try {
-            String pattern = PRODUCT_LIST_PREFIX + "::b" + brandId + ":*";
-            log.debug("브랜드 캐시 무효화 요청: {}", pattern);
+            // 해당 브랜드 + 전체 브랜드 목록 세대 증가 (이전 세대 키는 TTL로 소멸)
+            productListCacheGeneration.bumpBrand(brandId);
+            productLocalCache.invalidateBrandLists(brandId);
+            materializedCatalogPages.evictBrand(brandId);   // 가격/브랜드 변경 전의 사전 생성 페이지를 응답하지 않도록 삭제
+            metrics.eviction(ProductCacheMetrics.TIER_REDIS, ProductCacheMetrics.CACHE_LIST);
+
+            // 다른 노드의 세대 값 / L1 캐시 무효화
+            redisTemplate.convertAndSend(ProductCacheInvalidationListener.CHANNEL,
+                    ProductCacheInvalidationListener.brandListMessage(brandId));
+            log.debug("브랜드 상품 목록 캐시 세대 증가 - brandId: {}", brandId);
             
         } catch (Exception e) {
             log.warn("캐시 무효화 실패 (무시하고 계속 진행): {}", e.getMessage());
@@ -150,6 +311,11 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
         try {
             String cacheKey = buildProductDetailKey(productId);
             redisTemplate.delete(cacheKey);
+            productLocalCache.invalidateDetail(cacheKey);
+            metrics.eviction(ProductCacheMetrics.TIER_REDIS, ProductCacheMetrics.CACHE_DETAIL);
+
+            // 다른 노드의 L1 캐시 무효화
+            redisTemplate.convertAndSend(ProductCacheInvalidationListener.CHANNEL, cacheKey);
             log.debug("상품 상세 캐시 삭제: {}", cacheKey);
             
         } catch (Exception e) {
@@ -159,12 +325,34 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
     
     /**
      * 상품 목록 캐시 키 생성
-     * 형식: "products:list::b{brandId}:s{sort}:p{page}:s{size}"
+     * 형식: "products:list::b{brandId}:g{전체 세대}.{브랜드 세대}:s{sort}:p{page}:s{size}"
+     * 세대가 바뀌면 새 키를 사용하므로 무효화 시 기존 키를 지울 필요가 없다.
      */
     private String buildProductListKey(Long brandId, String sort, int page, int size) {
-        return PRODUCT_LIST_PREFIX + "::b" + brandId + ":s" + sort + ":p" + page + ":s" + size;
+        return PRODUCT_LIST_PREFIX + "::b" + brandId + ":g" + productListCacheGeneration.current(brandId)
+                + ":s" + sort + ":p" + page + ":s" + size;
+    }
+    
+    private Optional<String> buildProductListKeySafely(Long brandId, String sort, int page, int size) {
+        try {
+            return Optional.of(buildProductListKey(brandId, sort, page, size));
+        } catch (Exception e) {
+            log.warn("목록 캐시 세대 조회 실패 (캐시 미사용): {}", e.getMessage());
+            return Optional.empty();
+        }
     }
     
+    private byte[] getBytes(String cacheKey) {
+        byte[] rawKey = cacheKey.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+
+    private void setBytes(String cacheKey, byte[] value, Duration ttl) {
+        byte[] rawKey = cacheKey.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(rawKey, value, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+    }
+
     /**
      * 상품 상세 캐시 키 생성  
      * 형식: "product:detail:{productId}"
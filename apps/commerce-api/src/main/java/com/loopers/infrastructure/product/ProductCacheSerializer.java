@@ -0,0 +1,47 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.ProductCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 상품 캐시 직렬화기
+ *
+ * - 쓰기: 설정된 코덱(cache.product.codec, 기본 smile)으로 인코딩
+ * - 읽기: 바이트 헤더로 포맷을 판별하여 디코딩 (포맷 변경 배포 중에도 기존 캐시를 읽을 수 있음)
+ *
+ * L2(Redis)에만 사용한다. L1(ProductLocalCache)은 디코딩된 객체를 보관하므로 L1 적중 시에는 디코딩하지 않는다.
+ */
+@Component
+public class ProductCacheSerializer {
+
+    private final List<ProductCacheCodec> codecs = List.of(
+            JacksonProductCacheCodec.smile(),
+            JacksonProductCacheCodec.json()
+    );
+
+    private final ProductCacheCodec writeCodec;
+
+    public ProductCacheSerializer(ProductCacheProperties properties) {
+        this.writeCodec = codecs.stream()
+                .filter(codec -> codec.name().equalsIgnoreCase(properties.getCodec()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 캐시 코덱: " + properties.getCodec()));
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        return writeCodec.encode(value);
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
+        for (ProductCacheCodec codec : codecs) {
+            if (codec.canDecode(bytes)) {
+                return codec.decode(bytes, type);
+            }
+        }
+        throw new IOException("알 수 없는 캐시 포맷 - type: " + type.getSimpleName() + ", size: " + bytes.length);
+    }
+
+}
@@ -2,6 +2,8 @@ package com.loopers.infrastructure.product;
 
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductListView;
+import com.loopers.domain.product.ProductStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,12 +20,44 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long>, JpaS
 
     Page<Product> findByIdIn(List<Long> productIds, Pageable pageable);
 
-    @Query(value = "SELECT p FROM Product p WHERE p.status = 'ACTIVE' AND (:brandId IS NULL OR p.brandId = :brandId)",
-            countQuery = "SELECT count(p) FROM Product p WHERE p.status = 'ACTIVE' AND (:brandId IS NULL OR p.brandId = :brandId)")
-    Page<Product> findActiveProductsOrderByLikesDesc(@Param("brandId") Long brandId, Pageable pageable);
-
+    /**
+     * 전체 개수는 CountCacheRepository 에서 얻으므로 COUNT 쿼리 없이 페이지 내용만 조회한다.
+     */
+    @Query("SELECT p FROM Product p WHERE p.status = 'ACTIVE' AND (:brandId IS NULL OR p.brandId = :brandId)")
+    List<Product> findActiveProductsOrderByLikesDesc(@Param("brandId") Long brandId, Pageable pageable);
+
+    /**
+     * 목록 페이지의 상품 id 조회 (인덱스만으로 처리되는 커버링 쿼리)
+     * - 최신순: idx_product_status_created_at (status, created_at, id)
+     * - 가격순: idx_product_status_price (status, price, id)
+     * - 좋아요순: idx_product_status_like_count (status, like_count, id)
+     * 정렬은 Pageable 로 전달한다.
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status")
+    List<Long> findIdsByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    /**
+     * 브랜드별 목록 페이지의 상품 id 조회 (커버링 쿼리)
+     * - 최신순: idx_product_brand_status_created_at (brand_id, status, created_at, id)
+     * - 가격순: idx_product_brand_status_price (brand_id, status, price) + PK
+     * - 좋아요순: idx_product_brand_status_like_count (brand_id, status, like_count, id)
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.brandId = :brandId AND p.status = :status")
+    List<Long> findIdsByBrandIdAndStatus(@Param("brandId") Long brandId, @Param("status") ProductStatus status, Pageable pageable);
+
+    @Query("SELECT count(p) FROM Product p WHERE p.status = :status AND (:brandId IS NULL OR p.brandId = :brandId)")
+    long countByBrandIdAndStatus(@Param("brandId") Long brandId, @Param("status") ProductStatus status);
+
+    /**
+     * 목록 컬럼만 생성자 프로젝션으로 조회 (엔티티로 로딩하지 않음)
+     */
+    @Query("SELECT new com.loopers.domain.product.ProductListView(p.id, p.brandId, p.name, p.price, p.stock, p.status, p.likeCount) " +
+            "FROM Product p WHERE p.id IN :ids")
+    List<ProductListView> findListViewsByIdIn(@Param("ids") List<Long> ids);
+
+    // PK 순으로 잠가 여러 상품 주문끼리 교차 대기하지 않도록 한다.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select p from Product p where p.id in :productIds")
+    @Query("select p from Product p where p.id in :productIds order by p.id")
     List<Product> findAllByIdWithLock(@Param("productIds") List<Long> productIds);
 
 }
@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis에 저장되는 상품 목록 캐시 항목
+ *
+ * 페이지 데이터와 함께 논리 만료 시각(logicalExpireAt)과 재계산 비용(computeMillis)을 보관한다.
+ * - 논리 만료 전: 그대로 사용, 만료가 가까울수록 확률적으로 조기 갱신 (XFetch)
+ * - 논리 만료 후 ~ 물리 TTL: stale 데이터를 응답하고 백그라운드에서 갱신
+ * - 물리 TTL 이후: Redis에서 사라지므로 동기 적재
+ */
+public record ProductListCacheEntry(
+        List<ProductResponse> content,
+        int page,
+        int size,
+        long totalElements,
+        long computedAt,
+        long computeMillis,
+        long logicalExpireAt
+) {
+
+    public static ProductListCacheEntry of(Page<ProductResponse> productPage, long computeMillis, Duration logicalTtl) {
+        long now = System.currentTimeMillis();
+        return new ProductListCacheEntry(
+                productPage.getContent(),
+                productPage.getNumber(),
+                productPage.getSize(),
+                productPage.getTotalElements(),
+                now,
+                computeMillis,
+                now + logicalTtl.toMillis()
+        );
+    }
+
+    public Page<ProductResponse> toPage() {
+        return new PageImpl<>(content, PageRequest.of(page, size), totalElements);
+    }
+
+    /**
+     * 갱신이 필요한지 판단한다.
+     *
+     * XFetch: now - computeMillis * beta * ln(rand) >= logicalExpireAt
+     * 재계산 비용이 클수록, beta가 클수록 만료 전에 더 일찍 갱신된다.
+     * 논리 만료가 지났다면 항상 true.
+     */
+    public boolean shouldRefresh(long now, double beta) {
+        if (now >= logicalExpireAt) {
+            return true;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();  // (0, 1]
+        double earlyMillis = -computeMillis * beta * Math.log(random);
+        return now + earlyMillis >= logicalExpireAt;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.loopers.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.ProductCacheProperties;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 목록 캐시 세대(generation) 관리
+ *
+ * 목록 캐시 키에 세대 번호를 포함시켜, 무효화를 키 삭제 대신 INCR 한 번으로 처리한다.
+ * 이전 세대 키는 더 이상 조회되지 않고 TTL로 자연 소멸한다. (품절 시 대량 삭제 폭주 방지)
+ *
+ * 세대 키:
+ * - products:list:gen:global     : 전체 목록 세대 (commerce-collector 재고 소진/복구 시 INCR)
+ * - products:list:gen:b{brandId} : 브랜드별 목록 세대 (브랜드 필터 없는 목록은 "bnull")
+ *
+ * 매 요청마다 Redis를 조회하지 않도록 세대 값을 프로세스 내에 짧게(기본 1초) 보관하며,
+ * 무효화 메시지(Pub/Sub) 수신 시 즉시 버린다.
+ * 세대 값은 복제 지연 없이 읽도록 master 템플릿을 사용한다.
+ */
+@Component
+public class ProductListCacheGeneration {
+
+    public static final String GLOBAL_GENERATION_KEY = "products:list:gen:global";
+    private static final String BRAND_GENERATION_KEY_PREFIX = "products:list:gen:b";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Cache<String, String> localGenerations;
+
+    public ProductListCacheGeneration(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ProductCacheProperties properties
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.localGenerations = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(properties.getGenerationLocalTtl())
+                .build();
+    }
+
+    /**
+     * 현재 세대 조회
+     * 형식: "{전체 세대}.{브랜드 세대}"
+     *
+     * @param brandId 브랜드 ID (null이면 브랜드 필터 없는 목록)
+     */
+    public String current(Long brandId) {
+        String brandGenerationKey = brandGenerationKey(brandId);
+        return localGenerations.get(brandGenerationKey, key -> fetch(brandGenerationKey));
+    }
+
+    /**
+     * 특정 브랜드의 목록 세대 증가
+     * 브랜드 필터 없는 목록에도 해당 브랜드 상품이 포함되므로 함께 증가시킨다.
+     */
+    public void bumpBrand(Long brandId) {
+        String brandGenerationKey = brandGenerationKey(brandId);
+        String allBrandGenerationKey = brandGenerationKey(null);
+
+        masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForValue().increment(brandGenerationKey);
+                ops.opsForValue().increment(allBrandGenerationKey);
+                return null;
+            }
+        });
+
+        invalidateLocal(brandId);
+    }
+
+    /**
+     * 프로세스 내에 보관한 브랜드(+ 브랜드 필터 없는 목록) 세대 값 삭제
+     */
+    public void invalidateLocal(Long brandId) {
+        localGenerations.invalidate(brandGenerationKey(brandId));
+        localGenerations.invalidate(brandGenerationKey(null));
+    }
+
+    /**
+     * 프로세스 내에 보관한 모든 세대 값 삭제 (전체 세대 변경 시)
+     */
+    public void invalidateLocalAll() {
+        localGenerations.invalidateAll();
+    }
+
+    private String fetch(String brandGenerationKey) {
+        List<String> generations = masterRedisTemplate.opsForValue()
+                .multiGet(List.of(GLOBAL_GENERATION_KEY, brandGenerationKey));
+        return valueOrZero(generations, 0) + "." + valueOrZero(generations, 1);
+    }
+
+    private String valueOrZero(List<String> values, int index) {
+        if (values == null || values.get(index) == null) {
+            return "0";
+        }
+        return values.get(index);
+    }
+
+    private static String brandGenerationKey(Long brandId) {
+        return BRAND_GENERATION_KEY_PREFIX + brandId;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.loopers.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.config.ProductCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 상품 캐시 L1 (프로세스 내 Caffeine 캐시)
+ *
+ * 역할:
+ * - Redis(L2) 앞단에서 hot 상품의 네트워크 왕복을 제거
+ * - 디코딩된 객체를 보관한다. (L1 적중마다 역직렬화하지 않음, 값은 불변 record 로만 공유)
+ * - 크기는 L2 인코딩 바이트 크기를 무게로 삼아 제한한다. (maximumWeight, 넣을 때 이미 알고 있는 값)
+ * - 노드 간 무효화는 ProductCacheInvalidationListener(Redis Pub/Sub)가 담당
+ */
+@Component
+public class ProductLocalCache {
+
+    // 엔트리/배열 헤더 등 값 외 고정 비용 추정치
+    private static final int ENTRY_BASE_BYTES = 64;
+
+    private static final String BRAND_LIST_KEY_PREFIX = "products:list::b";
+
+    private final boolean enabled;
+    private final ProductCacheMetrics metrics;
+    private final Cache<String, Weighted<ProductResponse>> detailCache;
+    private final Cache<String, Weighted<ProductListCacheEntry>> listCache;
+
+    public ProductLocalCache(ProductCacheProperties properties, ProductCacheMetrics metrics) {
+        this.enabled = properties.isLocalEnabled();
+        this.metrics = metrics;
+
+        this.detailCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getLocalDetailMaxBytes())
+                .weigher(ProductLocalCache::weigh)
+                .expireAfterWrite(properties.getLocalDetailTtl())
+                .removalListener((String key, Weighted<ProductResponse> value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        metrics.eviction(ProductCacheMetrics.TIER_LOCAL, ProductCacheMetrics.CACHE_DETAIL);
+                    }
+                })
+                .build();
+
+        this.listCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getLocalListMaxBytes())
+                .weigher(ProductLocalCache::weigh)
+                .expireAfterWrite(properties.getLocalListTtl())
+                .removalListener((String key, Weighted<ProductListCacheEntry> value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        metrics.eviction(ProductCacheMetrics.TIER_LOCAL, ProductCacheMetrics.CACHE_LIST);
+                    }
+                })
+                .build();
+    }
+
+    public Optional<ProductResponse> getDetail(String key) {
+        return get(detailCache, key, ProductCacheMetrics.CACHE_DETAIL);
+    }
+
+    /**
+     * @param encodedBytes L2 인코딩 크기 (무게)
+     */
+    public void putDetail(String key, ProductResponse value, int encodedBytes) {
+        if (enabled) {
+            detailCache.put(key, new Weighted<>(value, encodedBytes));
+        }
+    }
+
+    public void invalidateDetail(String key) {
+        detailCache.invalidate(key);
+    }
+
+    public Optional<ProductListCacheEntry> getList(String key) {
+        return get(listCache, key, ProductCacheMetrics.CACHE_LIST);
+    }
+
+    /**
+     * @param encodedBytes L2 인코딩 크기 (무게)
+     */
+    public void putList(String key, ProductListCacheEntry value, int encodedBytes) {
+        if (enabled) {
+            listCache.put(key, new Weighted<>(value, encodedBytes));
+        }
+    }
+
+    public void invalidateAllLists() {
+        listCache.invalidateAll();
+    }
+
+    /**
+     * 특정 브랜드 목록과 브랜드 필터 없는 목록만 삭제
+     * (키 형식: "products:list::b{brandId}:...")
+     */
+    public void invalidateBrandLists(Long brandId) {
+        String brandPrefix = BRAND_LIST_KEY_PREFIX + brandId + ":";
+        String allBrandPrefix = BRAND_LIST_KEY_PREFIX + "null:";
+        listCache.asMap().keySet().removeIf(key -> key.startsWith(brandPrefix) || key.startsWith(allBrandPrefix));
+    }
+
+    private <T> Optional<T> get(Cache<String, Weighted<T>> cache, String key, String cacheName) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Weighted<T> weighted = cache.getIfPresent(key);
+        if (weighted == null) {
+            metrics.miss(ProductCacheMetrics.TIER_LOCAL, cacheName);
+            return Optional.empty();
+        }
+
+        metrics.hit(ProductCacheMetrics.TIER_LOCAL, cacheName);
+        return Optional.of(weighted.value());
+    }
+
+    private static int weigh(String key, Weighted<?> weighted) {
+        return ENTRY_BASE_BYTES + 2 * key.length() + weighted.encodedBytes();
+    }
+
+    private record Weighted<T>(T value, int encodedBytes) {}
+
+}
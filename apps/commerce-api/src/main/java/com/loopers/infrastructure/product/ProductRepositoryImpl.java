@@ -1,25 +1,59 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.count.CountCacheRepository;
+import com.loopers.domain.count.CountKey;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductListView;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
+    private final CountCacheRepository countCacheRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductStockBuckets productStockBuckets;
 
     @Override
     public Product save(Product product) {
-        return productJpaRepository.save(product);
+        boolean isNew = product.getId() == null || product.getId() == 0L;   // BaseEntity id 기본값 0
+        Product saved = productJpaRepository.save(product);
+
+        // 판매 중 상품이 새로 등록되면 커밋 후 브랜드별/전체 개수 증가
+        if (isNew && saved.getStatus() == ProductStatus.ACTIVE) {
+            countCacheRepository.adjustAfterCommit(CountKey.activeProducts(saved.getBrandId()), 1);
+            countCacheRepository.adjustAfterCommit(CountKey.activeProducts(null), 1);
+        }
+        return saved;
     }
 
     @Override
@@ -27,6 +61,56 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAll(spec, pageable);
     }
 
+    @Override
+    public Page<ProductListView> activeProductListViews(Long brandId, Pageable pageable) {
+
+        // 1. 커버링 인덱스로 페이지의 id만 조회
+        List<Long> ids = brandId == null
+                ? productJpaRepository.findIdsByStatus(ProductStatus.ACTIVE, pageable)
+                : productJpaRepository.findIdsByBrandIdAndStatus(brandId, ProductStatus.ACTIVE, pageable);
+
+        if (ids.isEmpty()) {
+            return PageableExecutionUtils.getPage(List.of(), pageable, () -> activeProductCount(brandId));
+        }
+
+        // 2. 해당 id의 목록 컬럼만 PK로 조회 후 id 순서대로 정렬
+        List<ProductListView> content = findListViewsByIds(ids);
+
+        // 3. 전체 개수는 캐시된 값 사용 (마지막 페이지가 덜 찼으면 COUNT 없이 계산)
+        return PageableExecutionUtils.getPage(content, pageable, () -> activeProductCount(brandId));
+    }
+
+    @Override
+    public List<ProductListView> findListViewsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductListView> viewsById = productJpaRepository.findListViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductListView::id, Function.identity()));
+        Map<Long, Integer> bucketedStocks = bucketedStocks(ids);
+        return ids.stream()
+                .map(viewsById::get)
+                .filter(Objects::nonNull)
+                .map(view -> bucketedStocks.containsKey(view.id()) ? view.withStock(bucketedStocks.get(view.id())) : view)
+                .toList();
+    }
+
+    @Override
+    public Map<Long, Integer> bucketedStocks(Collection<Long> productIds) {
+        return productStockBuckets.totalStocks(productIds);
+    }
+
+    @Override
+    public Window<Product> scrollProducts(Specification<Product> spec, Sort sort, ScrollPosition position, int limit) {
+        return productJpaRepository.findBy(spec, query -> query.sortBy(sort).limit(limit).scroll(position));
+    }
+
+    @Override
+    public long countProducts(Specification<Product> spec) {
+        return productJpaRepository.count(spec);
+    }
+
     @Override
     public Optional<Product> productInfo(Long productId) {
         return productJpaRepository.findById(productId);
@@ -47,9 +131,122 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAllByIdWithLock(productIds);
     }
 
+    @Override
+    public List<StockChangeResult> decreaseStockIfAvailable(Map<Long, Integer> quantities) {
+        Set<Long> bucketedIds = productStockBuckets.bucketedIds(quantities.keySet());
+
+        Map<Long, Integer> rowQuantities = new TreeMap<>(quantities);
+        rowQuantities.keySet().removeAll(bucketedIds);
+
+        List<StockChangeResult> results = new ArrayList<>(quantities.size());
+        if (!rowQuantities.isEmpty()) {
+            List<StockChangeResult> rowResults = decreaseProductRows(rowQuantities);
+            if (rowResults.isEmpty()) {
+                return List.of();
+            }
+            results.addAll(rowResults);
+        }
+
+        // 버킷 모드 상품은 상품 ID 순으로 버킷에서 차감
+        for (Long productId : new TreeSet<>(bucketedIds)) {
+            Optional<StockChangeResult> result = productStockBuckets.decrease(productId, quantities.get(productId));
+            if (result.isEmpty()) {
+                return List.of();
+            }
+            results.add(result.get());
+        }
+
+        results.sort(Comparator.comparing(StockChangeResult::productId));
+        return results;
+    }
+
+    private List<StockChangeResult> decreaseProductRows(Map<Long, Integer> sorted) {
+        int size = sorted.size();
+
+        // CASE id WHEN ? THEN ? ... END 로 상품별 수량을 한 문장에 담는다. (PK 순으로 행 락)
+        String quantityCase = "CASE id" + " WHEN ? THEN ?".repeat(size) + " END";
+        String placeholders = String.join(", ", Collections.nCopies(size, "?"));
+
+        List<Object> params = new ArrayList<>(size * 5);
+        sorted.forEach((productId, quantity) -> { params.add(productId); params.add(quantity); });
+        params.addAll(sorted.keySet());
+        sorted.forEach((productId, quantity) -> { params.add(productId); params.add(quantity); });
+
+        int updated = jdbcTemplate.update(
+                "UPDATE product SET stock = stock - " + quantityCase + ", version = version + 1 " +
+                        "WHERE id IN (" + placeholders + ") AND stock >= " + quantityCase,
+                params.toArray()
+        );
+        if (updated != size) {
+            return List.of();
+        }
+
+        // RETURNING 대체 - 같은 트랜잭션에서 행 락을 쥔 채 차감 후 재고를 읽는다.
+        Map<Long, Integer> currentStocks = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT id, stock FROM product WHERE id IN (" + placeholders + ")",
+                rs -> { currentStocks.put(rs.getLong("id"), rs.getInt("stock")); },
+                sorted.keySet().toArray()
+        );
+
+        return currentStocks.entrySet().stream()
+                .map(entry -> {
+                    int quantity = sorted.get(entry.getKey());
+                    return StockChangeResult.decreased(entry.getKey(), entry.getValue() + quantity, entry.getValue(), quantity);
+                })
+                .toList();
+    }
+
+    @Override
+    public Set<Long> findStockBucketedIds(List<Long> productIds) {
+        return productStockBuckets.bucketedIds(productIds);
+    }
+
+    @Override
+    public void increaseBucketedStock(Long productId, int quantity) {
+        productStockBuckets.adjust(productId, quantity);
+    }
+
+    @Override
+    public Optional<Integer> availableStock(Long productId) {
+        if (!productStockBuckets.bucketedIds(List.of(productId)).isEmpty()) {
+            return Optional.of(productStockBuckets.totalStock(productId));
+        }
+        return productJpaRepository.findById(productId).map(Product::getStock);
+    }
+
+    @Override
+    public void splitStockIntoBuckets(Long productId, int bucketCount) {
+        Product product = productJpaRepository.findAllByIdWithLock(List.of(productId)).stream().findFirst()
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
+
+        // 이미 버킷 모드면 현재 합계를 다시 나눈다.
+        int stock = productStockBuckets.bucketedIds(List.of(productId)).isEmpty()
+                ? product.getStock()
+                : productStockBuckets.merge(productId);
+        productStockBuckets.split(productId, bucketCount, stock);
+    }
+
+    @Override
+    public void mergeStockBuckets(Long productId) {
+        productJpaRepository.findAllByIdWithLock(List.of(productId)).stream().findFirst()
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
+
+        int total = productStockBuckets.merge(productId);
+        jdbcTemplate.update("UPDATE product SET stock = ?, version = version + 1 WHERE id = ?", total, productId);
+    }
+
     @Override
     public Page<Product> findActiveProductsOrderByLikesDesc(Long brandId, Pageable pageable) {
-        return productJpaRepository.findActiveProductsOrderByLikesDesc(brandId, pageable);
+        List<Product> content = productJpaRepository.findActiveProductsOrderByLikesDesc(brandId, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> activeProductCount(brandId));
+    }
+
+    private long activeProductCount(Long brandId) {
+        return countCacheRepository.getOrCount(
+                CountKey.activeProducts(brandId),
+                () -> productJpaRepository.countByBrandIdAndStatus(brandId, ProductStatus.ACTIVE)
+        );
     }
 
 }
@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductStockBucketJpaRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    @Query("SELECT DISTINCT b.productId FROM ProductStockBucket b WHERE b.productId IN :productIds")
+    List<Long> findBucketedProductIds(@Param("productIds") List<Long> productIds);
+
+    @Query("SELECT DISTINCT b.productId FROM ProductStockBucket b")
+    List<Long> findAllBucketedProductIds();
+
+    /**
+     * @return [상품 ID, 버킷 합계] (버킷이 없는 상품은 포함하지 않음)
+     */
+    @Query("SELECT b.productId, SUM(b.stock) FROM ProductStockBucket b WHERE b.productId IN :productIds GROUP BY b.productId")
+    List<Object[]> sumStockByProductIds(@Param("productIds") List<Long> productIds);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockBucket b WHERE b.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+}
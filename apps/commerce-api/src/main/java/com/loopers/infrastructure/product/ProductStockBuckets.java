@@ -0,0 +1,238 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockBucket;
+import com.loopers.domain.product.StockChangeResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고 버킷 조작 (호출한 트랜잭션 안에서 사용)
+ *
+ * - 차감: 수량을 단독으로 채울 수 있는 버킷 중 임의의 버킷 하나에 조건부 UPDATE, 다른 주문과 다른 행을 갱신하게 된다.
+ *         어느 버킷도 단독으로 채우지 못하면 해당 상품의 버킷 전체를 bucket_no 순으로 잠그고 나눠서 차감한다.
+ * - 재배분: 버킷 전체를 잠그고 합계를 고르게 다시 나눈다. (StockBucketRebalancer)
+ *
+ * 잠금 순서: 락을 기다리는 것은 항상 (product_id, bucket_no) 오름차순이다.
+ * 조건부 UPDATE 가 실패한 버킷의 락은 커밋까지 남으므로(REPEATABLE READ), 그 뒤에는 더 뒤쪽 버킷만 기다리며 잠그고
+ * 앞쪽 버킷은 SKIP LOCKED 로 비어 있는 것만 사용한다. (앞쪽 버킷을 기다리면 교차 대기로 데드락이 생긴다)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductStockBuckets {
+
+    private static final ResultSetExtractor<Map<Integer, Integer>> BUCKET_STOCKS = rs -> {
+        Map<Integer, Integer> stocks = new TreeMap<>();
+        while (rs.next()) {
+            stocks.put(rs.getInt("bucket_no"), rs.getInt("stock"));
+        }
+        return stocks;
+    };
+
+    private final ProductStockBucketJpaRepository productStockBucketJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<Long> bucketedIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(productStockBucketJpaRepository.findBucketedProductIds(List.copyOf(productIds)));
+    }
+
+    public List<Long> allBucketedIds() {
+        return productStockBucketJpaRepository.findAllBucketedProductIds();
+    }
+
+    /**
+     * @return 차감 결과 (버킷 합계가 부족하면 empty)
+     *         다른 버킷은 동시에 바뀌므로 결과의 재고 값은 차감 직후 합계의 근사값이다.
+     */
+    public Optional<StockChangeResult> decrease(Long productId, int quantity) {
+        List<Integer> candidates = jdbcTemplate.queryForList(
+                "SELECT bucket_no FROM product_stock_bucket WHERE product_id = ? AND stock >= ?",
+                Integer.class, productId, quantity
+        );
+
+        boolean decreased;
+        if (candidates.isEmpty()) {
+            // 이 상품의 버킷 락을 아직 잡지 않았으므로 전체를 bucket_no 순으로 기다리며 잠근다.
+            decreased = drain(productId, quantity, lockedStocks(productId));
+        } else {
+            int bucketNo = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+            decreased = jdbcTemplate.update(
+                    "UPDATE product_stock_bucket SET stock = stock - ? WHERE product_id = ? AND bucket_no = ? AND stock >= ?",
+                    quantity, productId, bucketNo, quantity
+            ) == 1 || drainFrom(productId, quantity, bucketNo);
+        }
+
+        if (!decreased) {
+            return Optional.empty();
+        }
+
+        int currentStock = totalStock(productId);
+        return Optional.of(StockChangeResult.decreased(productId, currentStock + quantity, currentStock, quantity));
+    }
+
+    /**
+     * 재고를 더하거나(양수) 뺀다(음수). 더할 때는 가장 적은 버킷에, 뺄 때는 가장 많은 버킷에서 처리한다.
+     * 재고 순 정렬을 위해 상품의 버킷을 모두 읽으므로 bucket_no 순으로 전부 잠근다. (여러 상품은 호출 측에서 상품 ID 순으로)
+     */
+    public void adjust(Long productId, int change) {
+        if (change > 0) {
+            jdbcTemplate.update("UPDATE product_stock_bucket SET stock = stock + ? WHERE product_id = ? ORDER BY stock LIMIT 1",
+                    change, productId);
+        } else if (change < 0) {
+            jdbcTemplate.update("UPDATE product_stock_bucket SET stock = stock - ? WHERE product_id = ? ORDER BY stock DESC LIMIT 1",
+                    -change, productId);
+        }
+    }
+
+    /**
+     * 버킷 모드 상품의 버킷 합계 (잠그지 않고 읽음, 버킷이 없는 상품은 제외)
+     */
+    public Map<Long, Integer> totalStocks(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> totals = new HashMap<>();
+        for (Object[] row : productStockBucketJpaRepository.sumStockByProductIds(List.copyOf(productIds))) {
+            totals.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return totals;
+    }
+
+    public int totalStock(Long productId) {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(stock), 0) FROM product_stock_bucket WHERE product_id = ?", Integer.class, productId);
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * 재고를 bucketCount 개 버킷으로 고르게 나눠 저장한다. (기존 버킷은 삭제)
+     */
+    public void split(Long productId, int bucketCount, int stock) {
+        productStockBucketJpaRepository.deleteByProductId(productId);
+
+        int[] stocks = distribute(stock, bucketCount);
+        List<ProductStockBucket> buckets = new ArrayList<>(bucketCount);
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            buckets.add(ProductStockBucket.of(productId, bucketNo, stocks[bucketNo]));
+        }
+        productStockBucketJpaRepository.saveAll(buckets);
+    }
+
+    /**
+     * 버킷을 모두 삭제하고 합계를 반환한다.
+     */
+    public int merge(Long productId) {
+        int total = lockedStocks(productId).values().stream().mapToInt(Integer::intValue).sum();
+        productStockBucketJpaRepository.deleteByProductId(productId);
+        return total;
+    }
+
+    /**
+     * 버킷 재고를 고르게 다시 나눈다.
+     * @return 버킷 합계
+     */
+    public int rebalance(Long productId) {
+        Map<Integer, Integer> stocks = lockedStocks(productId);
+        int total = stocks.values().stream().mapToInt(Integer::intValue).sum();
+
+        int[] targets = distribute(Math.max(total, 0), stocks.size());
+        if (total < 0) {
+            targets[0] = total;   // 음수는 Redis 반영 중 일시적으로만 생긴다. 한 버킷에 모아 둔다.
+        }
+
+        List<Object[]> updates = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<Integer, Integer> bucket : stocks.entrySet()) {
+            int target = targets[index++];
+            if (bucket.getValue() != target) {
+                updates.add(new Object[]{target, productId, bucket.getKey()});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE product_stock_bucket SET stock = ? WHERE product_id = ? AND bucket_no = ?", updates);
+        }
+        return total;
+    }
+
+    /**
+     * 조건부 UPDATE 에 실패해 startBucketNo 버킷의 락을 쥔 상태에서 나눠서 차감한다.
+     * startBucketNo 이후 버킷은 기다리며 잠그고, 앞쪽 버킷은 다른 주문이 잡지 않은 것만 사용한다. (잠금 순서 유지)
+     * 앞쪽 버킷이 모두 잠겨 있어 합계가 모자라면 재고 부족으로 처리한다. (동시 주문이 그 버킷에서 차감 중인 매진 직전 상황)
+     */
+    private boolean drainFrom(Long productId, int quantity, int startBucketNo) {
+        Map<Integer, Integer> stocks = new TreeMap<>(jdbcTemplate.query(
+                "SELECT bucket_no, stock FROM product_stock_bucket WHERE product_id = ? AND bucket_no >= ? ORDER BY bucket_no FOR UPDATE",
+                BUCKET_STOCKS, productId, startBucketNo
+        ));
+        if (positiveSum(stocks) < quantity) {
+            stocks.putAll(jdbcTemplate.query(
+                    "SELECT bucket_no, stock FROM product_stock_bucket WHERE product_id = ? AND bucket_no < ? ORDER BY bucket_no FOR UPDATE SKIP LOCKED",
+                    BUCKET_STOCKS, productId, startBucketNo
+            ));
+        }
+        return drain(productId, quantity, stocks);
+    }
+
+    /**
+     * 잠근 버킷들에서 bucket_no 순으로 나눠서 차감한다.
+     * @return 잠근 버킷 합계가 부족하면 false
+     */
+    private boolean drain(Long productId, int quantity, Map<Integer, Integer> lockedStocks) {
+        if (positiveSum(lockedStocks) < quantity) {
+            return false;
+        }
+
+        int remaining = quantity;
+        for (Map.Entry<Integer, Integer> bucket : lockedStocks.entrySet()) {
+            if (remaining == 0) {
+                break;
+            }
+            int taken = Math.min(Math.max(bucket.getValue(), 0), remaining);
+            if (taken > 0) {
+                jdbcTemplate.update("UPDATE product_stock_bucket SET stock = stock - ? WHERE product_id = ? AND bucket_no = ?",
+                        taken, productId, bucket.getKey());
+                remaining -= taken;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * bucket_no 순으로 잠그고 버킷별 재고를 읽는다. (잠금 순서 고정)
+     * @return bucket_no → 재고 (bucket_no 오름차순)
+     */
+    private Map<Integer, Integer> lockedStocks(Long productId) {
+        return jdbcTemplate.query(
+                "SELECT bucket_no, stock FROM product_stock_bucket WHERE product_id = ? ORDER BY bucket_no FOR UPDATE",
+                BUCKET_STOCKS, productId
+        );
+    }
+
+    private int positiveSum(Map<Integer, Integer> stocks) {
+        return stocks.values().stream().mapToInt(stock -> Math.max(stock, 0)).sum();
+    }
+
+    private int[] distribute(int stock, int bucketCount) {
+        int[] stocks = new int[bucketCount];
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            stocks[bucketNo] = stock / bucketCount + (bucketNo < stock % bucketCount ? 1 : 0);
+        }
+        return stocks;
+    }
+
+}
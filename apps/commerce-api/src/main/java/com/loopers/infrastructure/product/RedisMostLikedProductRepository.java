@@ -0,0 +1,129 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.MostLikedProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요순 정렬 인덱스 조회 (Redis ZSET)
+ *
+ * commerce-collector(MostLikedProductIndex)가 유지하는 ZSET 에서 ZREVRANGE + ZCARD 를 파이프라인 한 번으로 조회한다.
+ * 키가 없으면(collector 재구축 전, Redis 장애) 빈 결과를 돌려주고 호출 측은 DB 정렬로 조회한다.
+ *
+ * 점수 = 좋아요 수 * ID_SCALE + 상품 ID 이므로 ZREVRANGE 순서가 DB 정렬(likeCount DESC, id DESC)과 같다.
+ * 인덱스에는 판매 중 상품만 있으므로 ZCARD 를 그대로 전체 개수로 쓴다. 판매 상태가 바뀌면 remove / add 로 바로 반영한다.
+ */
+@Slf4j
+@Component
+public class RedisMostLikedProductRepository implements MostLikedProductRepository {
+
+    // commerce-collector MostLikedProductIndex 와 같은 키/점수 형식
+    private static final String ALL_KEY = "products:most-liked:all";
+    private static final String BRAND_KEY_PREFIX = "products:most-liked:b";
+    private static final long ID_SCALE = 1_000_000_000L;
+
+    // 인덱스 키가 있을 때만 추가 (키가 없으면 재구축 전이므로 DB 정렬로 조회되도록 만들지 않음)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local added = 0 " +
+                    "for i = 1, #KEYS do " +
+                    "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+                    "    added = added + redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1]) " +
+                    "  end " +
+                    "end " +
+                    "return added",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisMostLikedProductRepository(
+            StringRedisTemplate redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<MostLikedPage> findPage(Long brandId, int page, int size) {
+        String key = brandId == null ? ALL_KEY : brandKey(brandId);
+        long start = (long) page * size;
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForZSet().reverseRange(key, start, start + size - 1);
+                    ops.opsForZSet().zCard(key);
+                    return null;
+                }
+            });
+
+            Long total = (Long) results.get(1);
+            if (total == null || total == 0) {
+                return Optional.empty();
+            }
+
+            List<Long> productIds = ((Set<String>) results.get(0)).stream()
+                    .map(Long::valueOf)
+                    .toList();
+            return Optional.of(new MostLikedPage(productIds, total));
+
+        } catch (Exception e) {
+            log.warn("좋아요순 인덱스 조회 실패 (DB 정렬로 조회) - brandId: {}, error: {}", brandId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void add(Long productId, Long brandId, long likeCount) {
+        try {
+            masterRedisTemplate.execute(ADD_SCRIPT, List.of(ALL_KEY, brandKey(brandId)),
+                    productId.toString(), String.valueOf(likeCount * ID_SCALE + productId));
+        } catch (Exception e) {
+            // 누락은 collector 의 다음 좋아요 이벤트 또는 재구축에서 보정된다.
+            log.warn("좋아요순 인덱스 추가 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(Long productId, Long brandId) {
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForZSet().remove(ALL_KEY, productId.toString());
+                    ops.opsForZSet().remove(brandKey(brandId), productId.toString());
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 남은 상품은 조회 시 판매 상태 확인으로 걸러지고(DB 정렬로 조회) 다음 재구축에서 빠진다.
+            log.warn("좋아요순 인덱스 삭제 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    private static String brandKey(Long brandId) {
+        return BRAND_KEY_PREFIX + brandId;
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.StockProperties;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 재고 버킷 재배분
+ *
+ * 주문이 임의 버킷에서 차감되므로 버킷마다 남은 재고가 달라진다.
+ * 주기적으로 상품별 버킷을 잠그고 합계를 고르게 다시 나눠, 빈 버킷 때문에 다른 버킷으로 재시도하는 일을 줄인다.
+ * 이때 합계를 Product.stock 에도 맞춘다. (목록/상세의 재고 표시는 버킷 합계를 직접 읽으므로 이 주기를 기다리지 않는다)
+ *
+ * lease 를 가진 노드 하나만 실행한다. (노드마다 같은 상품의 버킷 전체를 잠그면 주문 차감과 락 경합만 늘어난다)
+ * 상품 행 → 버킷(bucket_no 순) 순서로 잠근다. (버킷 모드 전환/해제와 같은 순서)
+ */
+@Slf4j
+@Component
+public class StockBucketRebalancer {
+
+    private static final String LEASE_KEY = "stock:bucket:rebalance:lease";
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final ProductStockBuckets productStockBuckets;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final StockProperties properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public StockBucketRebalancer(
+            ProductStockBuckets productStockBuckets,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            StockProperties properties
+    ) {
+        this.productStockBuckets = productStockBuckets;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.bucket.rebalance-interval:PT1S}")
+    public void rebalanceAll() {
+        try {
+            if (!acquireLease()) {
+                return;
+            }
+
+            try {
+                for (Long productId : productStockBuckets.allBucketedIds()) {
+                    rebalance(productId);
+                }
+            } finally {
+                masterRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+            }
+
+        } catch (Exception e) {
+            log.error("재고 버킷 재배분 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    public void rebalance(Long productId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM product WHERE id = ? FOR UPDATE", Long.class, productId);
+            int total = productStockBuckets.rebalance(productId);
+            jdbcTemplate.update("UPDATE product SET stock = ?, version = version + 1 WHERE id = ? AND stock <> ?",
+                    Math.max(total, 0), productId, Math.max(total, 0));
+        });
+    }
+
+    private boolean acquireLease() {
+        Boolean acquired = masterRedisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY, nodeId, properties.getBucket().getRebalanceLeaseTtl());
+        return Boolean.TRUE.equals(acquired);
+    }
+
+}
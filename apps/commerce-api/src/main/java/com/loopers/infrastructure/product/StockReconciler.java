@@ -0,0 +1,149 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.StockProperties;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 재고 예약 수량을 Product.stock 에 일괄 반영
+ *
+ * 1. lease 를 잡는다. (여러 노드가 같은 수량을 중복 반영하지 않도록 lease 를 가진 노드만 실행)
+ * 2. {stock}:pending 의 상품별 미반영 수량을 읽는다. (반드시 lease 를 잡은 뒤 - 다른 노드가 정산하기 전의 값을 읽으면 두 번 빠진다)
+ * 3. 한 트랜잭션에서 UPDATE product SET stock = stock - ? 를 batch 로 실행한다.
+ * 4. 커밋 후 반영한 만큼 미반영 수량을 줄이고 상품별 세대를 올린다. (그 사이 새로 들어온 예약은 남는다)
+ *
+ * DB 반영 → 미반영 수량 차감 순서이므로, 중간에 실패해도 카운터가 실제보다 커지는(초과 판매) 방향으로는 어긋나지 않는다.
+ * 카운터 적재는 lease 가 있거나 세대가 바뀌면 거부되므로, 반영 도중의 DB 재고로 카운터가 적재되지 않는다.
+ * (반영이 lease TTL 보다 오래 걸리면 이 보장이 깨지므로 reconcile-lease-ttl 은 DB 반영 시간보다 넉넉해야 한다)
+ */
+@Slf4j
+@Component
+public class StockReconciler {
+
+    private static final String LEASE_KEY = StockReservationRepositoryImpl.RECONCILE_LEASE_KEY;
+
+    // KEYS: pending, epoch / ARGV: 상품 ID, 반영 수량 쌍 / 0이 되면 필드 삭제, 적재 중인 카운터를 무효화하도록 세대 증가
+    private static final RedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV, 2 do " +
+                    "  local remaining = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1])) " +
+                    "  if remaining == 0 then redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+                    "  redis.call('HINCRBY', KEYS[2], ARGV[i], 1) " +
+                    "end " +
+                    "return #ARGV / 2",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StockProperties properties;
+    private final ProductStockBuckets productStockBuckets;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public StockReconciler(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            StockProperties properties,
+            ProductStockBuckets productStockBuckets
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.productStockBuckets = productStockBuckets;
+    }
+
+    /**
+     * 전략을 바꾼 뒤에도 남은 미반영 수량은 계속 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.reconcile-interval:PT0.5S}")
+    public void reconcile() {
+        try {
+            if (!acquireLease()) {
+                return;
+            }
+
+            try {
+                // lease 를 잡은 뒤에 읽어야 직전 노드가 정산한 결과가 보인다.
+                Map<Object, Object> pending = masterRedisTemplate.opsForHash().entries(StockReservationRepositoryImpl.PENDING_KEY);
+                if (pending.isEmpty()) {
+                    return;
+                }
+                int applied = apply(pending);
+                log.debug("재고 예약 수량 DB 반영 - 상품 수: {}", applied);
+            } finally {
+                masterRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+            }
+
+        } catch (Exception e) {
+            log.error("재고 예약 수량 DB 반영 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private int apply(Map<Object, Object> pending) {
+        List<Object[]> updates = new ArrayList<>(pending.size());
+        List<String> settleArgs = new ArrayList<>(pending.size() * 2);
+
+        pending.forEach((productId, quantity) -> {
+            long delta = Long.parseLong(quantity.toString());
+            if (delta != 0) {
+                updates.add(new Object[]{delta, Long.parseLong(productId.toString())});
+                settleArgs.add(productId.toString());
+                settleArgs.add(String.valueOf(delta));
+            }
+        });
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        // 주문 트랜잭션과 같은 순서(상품 ID 오름차순)로 잠근다.
+        updates.sort(Comparator.comparing(update -> (Long) update[1]));
+
+        // 재고 버킷 모드 상품은 버킷에 반영한다. (Product.stock 은 재배분 시 합계로 맞춰짐)
+        Set<Long> bucketedIds = productStockBuckets.bucketedIds(updates.stream().map(update -> (Long) update[1]).toList());
+        List<Object[]> rowUpdates = updates.stream().filter(update -> !bucketedIds.contains((Long) update[1])).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 엔티티 저장과 충돌하지 않도록 version 도 함께 올린다.
+            if (!rowUpdates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE product SET stock = stock - ?, version = version + 1 WHERE id = ?", rowUpdates);
+            }
+            updates.stream()
+                    .filter(update -> bucketedIds.contains((Long) update[1]))
+                    .forEach(update -> productStockBuckets.adjust((Long) update[1], -Math.toIntExact((Long) update[0])));
+        });
+
+        masterRedisTemplate.execute(SETTLE_SCRIPT,
+                List.of(StockReservationRepositoryImpl.PENDING_KEY, StockReservationRepositoryImpl.EPOCH_KEY), settleArgs.toArray());
+        return updates.size();
+    }
+
+    private boolean acquireLease() {
+        Boolean acquired = masterRedisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY, nodeId, properties.getReservation().getReconcileLeaseTtl());
+        return Boolean.TRUE.equals(acquired);
+    }
+
+}
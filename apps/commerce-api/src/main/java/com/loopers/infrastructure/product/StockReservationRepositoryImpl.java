@@ -0,0 +1,280 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.StockProperties;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Redis 재고 예약 저장소
+ *
+ * 키 구조 (같은 hash slot 에 두어 여러 상품을 한 Lua 로 처리)
+ * - {stock}:product:{productId} : 예약 가능한 재고 (TTL stock.reservation.counter-ttl)
+ * - {stock}:pending             : 상품별로 아직 Product.stock 에 반영되지 않은 차감 수량 (StockReconciler 가 반영)
+ * - {stock}:epoch               : 상품별 DB 재고 변경 세대 (반영/무효화 때마다 증가)
+ * - {stock}:reconcile:lease     : StockReconciler 실행 중 표시
+ * - {stock}:active              : 카운터가 남아 있을 수 있음 표시 (적재 때마다 카운터 TTL 로 갱신)
+ *
+ * 카운터가 없으면 DB 재고 - 미반영 차감 수량으로 적재한다.
+ * DB 재고를 읽은 뒤 적재 전에 반영(DB 차감 → 미반영 수량 차감)이 끼어들면 같은 수량을 빼지 못해 카운터가 커지므로,
+ * DB 를 읽기 전의 세대를 기억해 두고 적재 시점에 세대가 바뀌었거나 반영이 진행 중(lease)이면 적재하지 않고 다시 읽는다.
+ * 예약을 거치지 않은 재고 변경(다른 전략의 차감/복구, 버킷 전환)은 invalidate 로 카운터를 지우고 세대를 올린다.
+ * 다른 전략으로 운영 중이면 카운터가 없으므로, {stock}:active 가 없을 때는 무효화를 생략한다.
+ * (표시는 노드마다 stock.reservation.active-check-interval 동안 기억하므로 주문마다 Redis 를 호출하지 않는다)
+ */
+@Slf4j
+@Repository
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    static final String PENDING_KEY = "{stock}:pending";
+    static final String EPOCH_KEY = "{stock}:epoch";
+    static final String RECONCILE_LEASE_KEY = "{stock}:reconcile:lease";
+    static final String ACTIVE_KEY = "{stock}:active";
+    private static final String STOCK_KEY_PREFIX = "{stock}:product:";
+
+    private static final long MISSING = -1L;
+    private static final long INSUFFICIENT = -2L;
+
+    private static final long SEED_CONFLICT = -1L;
+    private static final int SEED_ATTEMPTS = 5;
+    private static final long SEED_RETRY_BACKOFF_MILLIS = 10;
+
+    // KEYS: 재고 키 n개 + pending / ARGV: 수량 n개 + 상품 ID n개
+    // 결과: {0, 차감 후 재고...} | {-1, 없는 키 위치} | {-2, 부족한 키 위치}
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+                    "for i = 1, n do " +
+                    "  local stock = redis.call('GET', KEYS[i]) " +
+                    "  if not stock then return {-1, i} end " +
+                    "  if tonumber(stock) < tonumber(ARGV[i]) then return {-2, i} end " +
+                    "end " +
+                    "local result = {0} " +
+                    "for i = 1, n do " +
+                    "  result[i + 1] = redis.call('DECRBY', KEYS[i], ARGV[i]) " +
+                    "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i]) " +
+                    "end " +
+                    "return result",
+            List.class
+    );
+
+    // 카운터가 있을 때만 되돌리고, 미반영 수량은 항상 줄인다. (카운터가 없으면 다음 적재 때 DB 값에 반영됨)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+                    "for i = 1, n do " +
+                    "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[i]) end " +
+                    "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i])) " +
+                    "end " +
+                    "return n",
+            Long.class
+    );
+
+    // KEYS: 재고 키, pending, epoch, 반영 lease, active / ARGV: DB 재고, 상품 ID, DB 를 읽기 전 세대, TTL(ms)
+    // 카운터가 없고, DB 를 읽은 뒤 반영/무효화가 없었을 때만 DB 재고 - 미반영 차감 수량으로 적재 (active 표시도 같은 TTL 로 갱신)
+    // 결과: 1 적재, 0 이미 있음, -1 세대 변경/반영 중 (다시 읽어야 함)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "if redis.call('EXISTS', KEYS[4]) == 1 then return -1 end " +
+                    "if (redis.call('HGET', KEYS[3], ARGV[2]) or '0') ~= ARGV[3] then return -1 end " +
+                    "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') " +
+                    "redis.call('SET', KEYS[1], tonumber(ARGV[1]) - pending, 'PX', ARGV[4]) " +
+                    "redis.call('SET', KEYS[5], '1', 'PX', ARGV[4]) " +
+                    "return 1",
+            Long.class
+    );
+
+    // KEYS: 재고 키 n개 + epoch / ARGV: 상품 ID n개 - 카운터를 지우고 세대를 올려 진행 중인 적재도 무효화
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+                    "for i = 1, n do " +
+                    "  redis.call('DEL', KEYS[i]) " +
+                    "  redis.call('HINCRBY', KEYS[n + 1], ARGV[i], 1) " +
+                    "end " +
+                    "return n",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ProductRepository productRepository;
+    private final StockProperties properties;
+
+    // {stock}:active 확인 결과 (노드 로컬)
+    private volatile boolean countersActive = true;
+    private volatile long countersCheckedAtNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    public StockReservationRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ProductRepository productRepository,
+            StockProperties properties
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.productRepository = productRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public List<StockChangeResult> reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        List<Long> productIds = new ArrayList<>(sorted.keySet());
+        List<String> keys = keys(productIds);
+        Object[] args = args(sorted);
+
+        // 없는 카운터는 적재 후 다시 시도 (상품 수만큼만)
+        for (int attempt = 0; attempt <= productIds.size(); attempt++) {
+            List<?> result = masterRedisTemplate.execute(RESERVE_SCRIPT, keys, args);
+            long code = ((Number) result.get(0)).longValue();
+
+            if (code == MISSING) {
+                seed(productIds.get(((Number) result.get(1)).intValue() - 1));
+                continue;
+            }
+            if (code == INSUFFICIENT) {
+                Long productId = productIds.get(((Number) result.get(1)).intValue() - 1);
+                log.debug("재고 예약 실패 (재고 부족) - productId: {}, quantity: {}", productId, sorted.get(productId));
+                throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+            }
+
+            List<StockChangeResult> results = new ArrayList<>(productIds.size());
+            for (int i = 0; i < productIds.size(); i++) {
+                Long productId = productIds.get(i);
+                int quantity = sorted.get(productId);
+                int currentStock = ((Number) result.get(i + 1)).intValue();
+                results.add(StockChangeResult.decreased(productId, currentStock + quantity, currentStock, quantity));
+            }
+            return results;
+        }
+
+        throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 카운터를 적재하지 못했습니다.");
+    }
+
+    @Override
+    public void release(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        masterRedisTemplate.execute(RELEASE_SCRIPT, keys(new ArrayList<>(sorted.keySet())), args(sorted));
+        log.debug("재고 예약 해제 - quantities: {}", sorted);
+    }
+
+    @Override
+    public void invalidate(Collection<Long> productIds) {
+        if (productIds.isEmpty() || !countersMayExist()) {
+            return;
+        }
+        List<Long> sortedIds = productIds.stream().distinct().sorted().toList();
+        runAfterCommit(() -> {
+            try {
+                List<String> keys = new ArrayList<>(sortedIds.size() + 1);
+                sortedIds.forEach(productId -> keys.add(stockKey(productId)));
+                keys.add(EPOCH_KEY);
+                masterRedisTemplate.execute(INVALIDATE_SCRIPT, keys, sortedIds.stream().map(String::valueOf).toArray());
+            } catch (Exception e) {
+                // 남은 카운터는 TTL 이 지나면 DB 기준으로 다시 적재된다.
+                log.error("재고 카운터 무효화 실패 - productIds: {}, error: {}", sortedIds, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void seed(Long productId) {
+        String ttlMillis = String.valueOf(properties.getReservation().getCounterTtl().toMillis());
+
+        for (int attempt = 0; attempt < SEED_ATTEMPTS; attempt++) {
+            // DB 를 읽기 전에 세대를 먼저 읽는다. (이후 반영/무효화가 있으면 적재 거부)
+            Object epoch = masterRedisTemplate.opsForHash().get(EPOCH_KEY, productId.toString());
+
+            // 재고 버킷 모드 상품은 버킷 합계
+            int stock = productRepository.availableStock(productId)
+                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
+
+            Long seeded = masterRedisTemplate.execute(SEED_SCRIPT,
+                    List.of(stockKey(productId), PENDING_KEY, EPOCH_KEY, RECONCILE_LEASE_KEY, ACTIVE_KEY),
+                    String.valueOf(stock), productId.toString(), epoch == null ? "0" : epoch.toString(), ttlMillis);
+            if (seeded == null || seeded != SEED_CONFLICT) {
+                markCountersActive();
+                log.info("재고 카운터 적재 - productId: {}, DB 재고: {}", productId, stock);
+                return;
+            }
+            backoff();
+        }
+        throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 카운터를 적재하지 못했습니다.");
+    }
+
+    /**
+     * 카운터가 하나라도 남아 있을 수 있는지 확인한다. (확인 주기 안에서는 이전 결과 사용)
+     * 다른 노드가 확인 주기 사이에 처음 적재한 카운터는 그 주기 동안 무효화되지 않을 수 있다. (전략 전환 중에만 생김)
+     */
+    private boolean countersMayExist() {
+        long now = System.nanoTime();
+        if (now - countersCheckedAtNanos < properties.getReservation().getActiveCheckInterval().toNanos()) {
+            return countersActive;
+        }
+        try {
+            countersActive = Boolean.TRUE.equals(masterRedisTemplate.hasKey(ACTIVE_KEY));
+        } catch (Exception e) {
+            // 확인하지 못하면 무효화를 시도한다. (실패는 invalidate 에서 로그로 남음)
+            countersActive = true;
+        }
+        countersCheckedAtNanos = now;
+        return countersActive;
+    }
+
+    private void markCountersActive() {
+        countersActive = true;
+        countersCheckedAtNanos = System.nanoTime();
+    }
+
+    private void backoff() {
+        try {
+            Thread.sleep(SEED_RETRY_BACKOFF_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 카운터를 적재하지 못했습니다.");
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    private List<String> keys(List<Long> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size() + 1);
+        productIds.forEach(productId -> keys.add(stockKey(productId)));
+        keys.add(PENDING_KEY);
+        return keys;
+    }
+
+    private Object[] args(Map<Long, Integer> sorted) {
+        List<String> args = new ArrayList<>(sorted.size() * 2);
+        sorted.values().forEach(quantity -> args.add(String.valueOf(quantity)));
+        sorted.keySet().forEach(productId -> args.add(productId.toString()));
+        return args.toArray();
+    }
+
+}
@@ -1,20 +1,24 @@
 package com.loopers.infrastructure.ranking;
 
 import com.loopers.domain.ranking.MonthlyProductRanking;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface MonthlyProductRankingJpaRepository extends JpaRepository<MonthlyProductRanking, Long> {
 
+    /**
+     * 전체 개수는 CountCacheRepository 에서 얻으므로 COUNT 쿼리 없이 페이지 내용만 조회한다.
+     */
     @Query("SELECT m FROM MonthlyProductRanking m " +
             "WHERE m.yearMonth = :yearMonth " +
             "ORDER BY m.rankPosition ASC")
-    Page<MonthlyProductRanking> findByYearMonthOrderByRankPositionAsc(
+    List<MonthlyProductRanking> findByYearMonthOrderByRankPositionAsc(
             @Param("yearMonth") String yearMonth,
             Pageable pageable
     );
@@ -1,12 +1,13 @@
 package com.loopers.infrastructure.ranking;
 
+import com.loopers.domain.count.CountCacheRepository;
+import com.loopers.domain.count.CountKey;
 import com.loopers.domain.ranking.MonthlyProductRanking;
 import com.loopers.domain.ranking.RankingItem;
 import com.loopers.domain.ranking.RankingRepository;
 import com.loopers.domain.ranking.WeeklyProductRanking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -33,6 +34,7 @@ public class RankingRepositoryImpl implements RankingRepository {
 
     private final WeeklyProductRankingJpaRepository weeklyProductRankingJpaRepository;
     private final MonthlyProductRankingJpaRepository monthlyProductRankingJpaRepository;
+    private final CountCacheRepository countCacheRepository;
 
     /**
      * Top-N 랭킹 페이징 조회
@@ -248,10 +250,10 @@ public class RankingRepositoryImpl implements RankingRepository {
 
             // 1. JPA로 WeeklyProductRanking 페이징 조회
             Pageable pageable = PageRequest.of(page, size);
-            Page<WeeklyProductRanking> weeklyRankings = weeklyProductRankingJpaRepository.findByYearWeekOrderByRankPositionAsc(yearWeek, pageable);
+            List<WeeklyProductRanking> weeklyRankings = weeklyProductRankingJpaRepository.findByYearWeekOrderByRankPositionAsc(yearWeek, pageable);
 
             // 2. Entity → Domain 객체 변환
-            List<RankingItem> rankingItems = weeklyRankings.getContent().stream()
+            List<RankingItem> rankingItems = weeklyRankings.stream()
                     .map(entity -> RankingItem.of(
                             entity.getRankPosition(),                    // rank
                             entity.getRankingScore().doubleValue(),     // score
@@ -274,7 +276,10 @@ public class RankingRepositoryImpl implements RankingRepository {
         try {
             log.debug("주간 랭킹 전체 수 조회 - yearWeek: {}", yearWeek);
 
-            long count = weeklyProductRankingJpaRepository.countByYearWeek(yearWeek);
+            long count = countCacheRepository.getOrCount(
+                    CountKey.weeklyRanking(yearWeek),
+                    () -> weeklyProductRankingJpaRepository.countByYearWeek(yearWeek)
+            );
 
             log.debug("주간 랭킹 전체 수 조회 완료 - yearWeek: {}, count: {}", yearWeek, count);
             return count;
@@ -292,11 +297,11 @@ public class RankingRepositoryImpl implements RankingRepository {
 
             // 1. JPA로 MonthlyProductRanking 페이징 조회
             Pageable pageable = PageRequest.of(page, size);
-            Page<MonthlyProductRanking> monthlyRankings =
+            List<MonthlyProductRanking> monthlyRankings =
                     monthlyProductRankingJpaRepository.findByYearMonthOrderByRankPositionAsc(yearMonth, pageable);
 
             // 2. Entity → Domain 객체 변환
-            List<RankingItem> rankingItems = monthlyRankings.getContent().stream()
+            List<RankingItem> rankingItems = monthlyRankings.stream()
                     .map(entity -> RankingItem.of(
                             entity.getRankPosition(),                    // rank
                             entity.getRankingScore().doubleValue(),     // score
@@ -319,7 +324,10 @@ public class RankingRepositoryImpl implements RankingRepository {
         try {
             log.debug("월간 랭킹 전체 수 조회 - yearMonth: {}", yearMonth);
 
-            long count = monthlyProductRankingJpaRepository.countByYearMonth(yearMonth);
+            long count = countCacheRepository.getOrCount(
+                    CountKey.monthlyRanking(yearMonth),
+                    () -> monthlyProductRankingJpaRepository.countByYearMonth(yearMonth)
+            );
 
             log.debug("월간 랭킹 전체 수 조회 완료 - yearMonth: {}, count: {}", yearMonth, count);
             return count;
@@ -1,20 +1,24 @@
 package com.loopers.infrastructure.ranking;
 
 import com.loopers.domain.ranking.WeeklyProductRanking;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface WeeklyProductRankingJpaRepository extends JpaRepository<WeeklyProductRanking, Long> {
 
+    /**
+     * 전체 개수는 CountCacheRepository 에서 얻으므로 COUNT 쿼리 없이 페이지 내용만 조회한다.
+     */
     @Query("SELECT w FROM WeeklyProductRanking w " +
             "WHERE w.yearWeek = :yearWeek " +
             "ORDER BY w.rankPosition ASC")
-    Page<WeeklyProductRanking> findByYearWeekOrderByRankPositionAsc(
+    List<WeeklyProductRanking> findByYearWeekOrderByRankPositionAsc(
             @Param("yearWeek") String yearWeek,
             Pageable pageable
     );
@@ -4,7 +4,6 @@ import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.RequestHeader;
 
 @Tag(name = "좋아요 API", description = "상품 좋아요 등록/취소/조회 API")
@@ -22,10 +21,10 @@ public interface LikeV1ApiSpec {
             @Parameter(description = "좋아요 취소할 상품 ID") Long productId
     );
 
-    @Operation(summary = "내가 좋아요 한 상품 목록 조회")
-    ApiResponse<Page<LikeV1Dto.Product>> getLikedProducts(
+    @Operation(summary = "내가 좋아요 한 상품 목록 조회", description = "좋아요 최신순으로 커서(Keyset) 방식 조회합니다. 좋아요 수와 무관하게 응답 시간이 일정합니다.")
+    ApiResponse<LikeV1Dto.ScrollResponse> getLikedProducts(
             @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") Long userId,
-            @Parameter(description = "페이지 번호 (0부터 시작)") int page,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
             @Parameter(description = "페이지당 개수") int size
     );
 
@@ -2,11 +2,10 @@ package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeFacade;
 import com.loopers.application.like.LikeQueryService;
+import com.loopers.application.like.LikedProductScrollResponse;
 import com.loopers.domain.like.LikeType;
-import com.loopers.domain.product.Product;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -39,14 +38,13 @@ public class LikeV1Controller implements LikeV1ApiSpec {
 
     @GetMapping
     @Override
-    public ApiResponse<Page<LikeV1Dto.Product>> getLikedProducts(
+    public ApiResponse<LikeV1Dto.ScrollResponse> getLikedProducts(
             @RequestHeader("X-USER-ID") Long userId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
 
-        Page<Product> likedProducts = likeQueryService.getLikedProducts(userId, LikeType.PRODUCT,page, size);
-        Page<LikeV1Dto.Product> response = likedProducts.map(LikeV1Dto.Product::from);
+        LikedProductScrollResponse likedProducts = likeQueryService.getLikedProducts(userId, LikeType.PRODUCT, cursor, size);
 
-        return ApiResponse.success(response);
+        return ApiResponse.success(LikeV1Dto.ScrollResponse.from(likedProducts));
     }
 }
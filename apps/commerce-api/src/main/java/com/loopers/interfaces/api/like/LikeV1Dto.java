@@ -1,5 +1,10 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.LikedProductScrollResponse;
+import com.loopers.domain.like.LikedProductView;
+
+import java.util.List;
+
 public class LikeV1Dto {
 
     public record Product(
@@ -8,12 +13,26 @@ public class LikeV1Dto {
             long price,
             Long brandId
     ) {
-        public static Product from(com.loopers.domain.product.Product product) {
+        public static Product from(LikedProductView view) {
             return new Product(
-                    product.getId(),
-                    product.getName(),
-                    product.getPrice(),
-                    product.getBrandId()
+                    view.productId(),
+                    view.name(),
+                    view.price(),
+                    view.brandId()
+            );
+        }
+    }
+
+    public record ScrollResponse(
+            List<Product> content,
+            String nextCursor,          // 다음 페이지 커서 (마지막 페이지면 null)
+            boolean hasNext
+    ) {
+        public static ScrollResponse from(LikedProductScrollResponse response) {
+            return new ScrollResponse(
+                    response.content().stream().map(Product::from).toList(),
+                    response.nextCursor(),
+                    response.hasNext()
             );
         }
     }
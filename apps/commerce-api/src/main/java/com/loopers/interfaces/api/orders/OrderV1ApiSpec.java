@@ -13,6 +13,7 @@ public interface OrderV1ApiSpec {
     @Operation(summary = "주문 요청", description = "상품들을 주문합니다.")
     ApiResponse<OrderV1Dto.OrderResponse> placeOrder(
             @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId,
+            @Parameter(description = "멱등키 (같은 키로 재요청하면 주문을 다시 만들지 않고 처음 결과를 반환)") String idempotencyKey,
             OrderV1Dto.OrderInfo request
     );
 
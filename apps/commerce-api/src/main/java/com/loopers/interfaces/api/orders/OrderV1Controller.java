@@ -14,13 +14,15 @@ import java.util.List;
 @RequestMapping("/api/v1/orders")
 public class OrderV1Controller implements OrderV1ApiSpec {
 
-    private final OrderFacade orderFacade;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderIdempotencyService orderIdempotencyService;
     private final OrderQueryService orderQueryService;
 
     @Override
     @PostMapping
     public ApiResponse<OrderV1Dto.OrderResponse> placeOrder(
             @RequestHeader("X-USER-ID") String userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody OrderV1Dto.OrderInfo request) {
 
         List<OrderItemInfo> itemInfos = request.items().stream()
@@ -44,7 +46,13 @@ public class OrderV1Controller implements OrderV1ApiSpec {
             cardInfo                                                           // 카드 정보 전달
         );
 
-        Order newOrder = orderFacade.placeOrder(userId, orderInfo);
+        // Idempotency-Key 가 있으면 재시도 요청에 처음 주문 결과를 돌려준다.
+        if (idempotencyKey != null) {
+            Long orderId = orderIdempotencyService.placeOrder(userId, idempotencyKey, orderInfo);
+            return ApiResponse.success(new OrderV1Dto.OrderResponse(orderId));
+        }
+
+        Order newOrder = orderIntakeService.placeOrder(userId, orderInfo);
 
         return ApiResponse.success(OrderV1Dto.OrderResponse.from(newOrder));
     }
@@ -11,12 +11,23 @@ public interface ProductV1ApiSpec {
 
     @Operation(summary = "상품 목록 조회", description = "다양한 조건으로 상품 목록을 조회합니다.")
     ApiResponse<Page<ProductV1Dto.Summary>> getProducts(
+            @Parameter(description = "요청 사용자 로그인 ID (있으면 상품별 좋아요 여부 포함)") String userId,
             @Parameter(description = "브랜드 ID로 필터링") Long brandId,
             @Parameter(description = "정렬 기준 (latest, price_asc, likes_desc 중 하나)") String sort,
             @Parameter(description = "페이지 번호 (0부터 시작)") int page,
             @Parameter(description = "페이지당 개수") int size
     );
 
+    @Operation(summary = "상품 목록 커서 조회", description = "커서(Keyset) 방식으로 상품 목록을 조회합니다. 깊은 페이지에서도 응답 시간이 일정합니다.")
+    ApiResponse<ProductV1Dto.ScrollResponse> scrollProducts(
+            @Parameter(description = "요청 사용자 로그인 ID (있으면 상품별 좋아요 여부 포함)") String userId,
+            @Parameter(description = "브랜드 ID로 필터링") Long brandId,
+            @Parameter(description = "정렬 기준 (latest, price_asc, likes_desc 중 하나)") String sort,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+            @Parameter(description = "페이지당 개수 (1~100)") int size,
+            @Parameter(description = "대략적인 전체 개수 포함 여부") boolean withTotal
+    );
+
     @Operation(summary = "상품 상세 정보 조회")
     ApiResponse<ProductV1Dto.Detail> getProduct(
             @Parameter(description = "조회할 상품 ID") Long productId
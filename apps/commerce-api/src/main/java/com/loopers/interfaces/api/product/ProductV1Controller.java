@@ -1,24 +1,35 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.like.LikeQueryService;
 import com.loopers.application.product.*;
+import com.loopers.application.users.UserApplicationService;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class ProductV1Controller implements ProductV1ApiSpec {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ProductQueryService productQueryService;
+    private final LikeQueryService likeQueryService;
+    private final UserApplicationService userApplicationService;
 
     @GetMapping("/api/v1/products")
     @Override
     public ApiResponse<Page<ProductV1Dto.Summary>> getProducts(
+            @RequestHeader(value = "X-USER-ID", required = false) String userId,
             @RequestParam(required = false) Long brandId,
             @RequestParam(defaultValue = "latest") String sort,
             @RequestParam(defaultValue = "0") int page,
@@ -26,12 +37,40 @@ public class ProductV1Controller implements ProductV1ApiSpec {
 
         Page<ProductResponse> serviceResponse = productQueryService.searchProducts(brandId, sort, page, size);
 
+        // 목록은 사용자와 무관하게 캐시되므로 좋아요 여부는 페이지 단위로 한 번에 따로 조회
+        Set<Long> likedProductIds = likeQueryService.getLikedProductIds(
+                userApplicationService.findInternalId(userId), serviceResponse.getContent().stream().map(ProductResponse::productId).toList());
+
         // content 목록만 ProductResponse에서 ProductV1Dto.Summary로 변환
-        Page<ProductV1Dto.Summary> finalResponse = serviceResponse.map(ProductV1Dto.Summary::from);
+        Page<ProductV1Dto.Summary> finalResponse = serviceResponse.map(
+                response -> ProductV1Dto.Summary.from(response, likedProductIds.contains(response.productId())));
 
         return ApiResponse.success(finalResponse);
     }
 
+    @GetMapping("/api/v1/products/scroll")
+    @Override
+    public ApiResponse<ProductV1Dto.ScrollResponse> scrollProducts(
+            @RequestHeader(value = "X-USER-ID", required = false) String userId,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        // size + 1 건을 조회하므로 상한 없이 받으면 한 요청이 테이블 대부분을 읽을 수 있다.
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1~" + MAX_SCROLL_SIZE + " 사이여야 합니다.");
+        }
+
+        ProductScrollResponse serviceResponse = productQueryService.scrollProducts(brandId, sort, cursor, size, withTotal);
+
+        Set<Long> likedProductIds = likeQueryService.getLikedProductIds(
+                userApplicationService.findInternalId(userId), serviceResponse.content().stream().map(ProductResponse::productId).toList());
+
+        return ApiResponse.success(ProductV1Dto.ScrollResponse.from(serviceResponse, likedProductIds));
+    }
+
     @GetMapping("/api/v1/products/{productId}")
     @Override
     public ApiResponse<ProductV1Dto.Detail> getProduct(@PathVariable Long productId) {
@@ -1,9 +1,13 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductResponse;
+import com.loopers.application.product.ProductScrollResponse;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductStatus;
 
+import java.util.List;
+import java.util.Set;
+
 public class ProductV1Dto {
 
     public record Summary(
@@ -11,15 +15,17 @@ public class ProductV1Dto {
             String name,
             long price,
             Long brandId,
-            long likeCount
+            long likeCount,
+            boolean liked               // 요청한 사용자의 좋아요 여부 (사용자 없으면 false)
     ) {
-        public static Summary from(ProductResponse response) {
+        public static Summary from(ProductResponse response, boolean liked) {
             return new Summary(
                     response.productId(),
                     response.name(),
                     response.price(),
                     response.brandId(),
-                    response.likeCount()
+                    response.likeCount(),
+                    liked
             );
         }
     }
@@ -52,4 +58,22 @@ public class ProductV1Dto {
         }
     }
 
+    public record ScrollResponse(
+            List<Summary> content,
+            String nextCursor,          // 다음 페이지 커서 (마지막 페이지면 null)
+            boolean hasNext,
+            Long approximateTotal       // 대략적인 전체 개수 (withTotal=true 일 때만)
+    ) {
+        public static ScrollResponse from(ProductScrollResponse response, Set<Long> likedProductIds) {
+            return new ScrollResponse(
+                    response.content().stream()
+                            .map(product -> Summary.from(product, likedProductIds.contains(product.productId())))
+                            .toList(),
+                    response.nextCursor(),
+                    response.hasNext(),
+                    response.approximateTotal()
+            );
+        }
+    }
+
 }
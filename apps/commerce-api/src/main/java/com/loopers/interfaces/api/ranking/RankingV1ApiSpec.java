@@ -45,6 +45,10 @@ public interface RankingV1ApiSpec {
               """
     )
     ApiResponse<RankingV1Dto.PageResponse> getRankings(
+            @Parameter(
+                    description = "요청 사용자 로그인 ID (있으면 상품별 좋아요 여부 포함)",
+                    example = "user1"
+            ) String userId,
             @Parameter(
                     description = """
                               조회 기간 타입
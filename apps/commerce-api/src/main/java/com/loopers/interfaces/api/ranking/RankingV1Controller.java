@@ -1,12 +1,15 @@
 package com.loopers.interfaces.api.ranking;
 
+import com.loopers.application.like.LikeQueryService;
 import com.loopers.application.ranking.BatchRankingQueryService;
 import com.loopers.application.ranking.RankingInfo;
 import com.loopers.application.ranking.RankingQueryService;
+import com.loopers.application.users.UserApplicationService;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -34,6 +37,8 @@ public class RankingV1Controller implements RankingV1ApiSpec {
 
     private final RankingQueryService rankingQueryService;
     private final BatchRankingQueryService batchRankingQueryService;
+    private final LikeQueryService likeQueryService;
+    private final UserApplicationService userApplicationService;
 
     // 날짜 형식 상수
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
@@ -54,6 +59,7 @@ public class RankingV1Controller implements RankingV1ApiSpec {
     @GetMapping("/api/v1/rankings")
     @Override
     public ApiResponse<RankingV1Dto.PageResponse> getRankings(
+            @RequestHeader(value = "X-USER-ID", required = false) String userId,
             @RequestParam(required = false, defaultValue = "daily") String period,
             @RequestParam(required = false) String date,
             @RequestParam(defaultValue = "20") int size,
@@ -75,13 +81,18 @@ public class RankingV1Controller implements RankingV1ApiSpec {
                     normalizedDate, normalizedSize, normalizedPage
             );
 
-            RankingV1Dto.PageResponse rankingResponse = convertToDto(serviceResult);
+            // 3. 요청 사용자의 좋아요 여부 일괄 조회 (페이지 상품 전체를 한 번에)
+            Set<Long> likedProductIds = likeQueryService.getLikedProductIds(userApplicationService.findInternalId(userId), serviceResult.rankings().stream()
+                    .map(item -> item.product().id())
+                    .toList());
+
+            RankingV1Dto.PageResponse rankingResponse = convertToDto(serviceResult, likedProductIds);
 
             log.info("랭킹 조회 완료 - totalProducts: {}, returnedItems: {}",
                     rankingResponse.meta().totalProducts(),
                     rankingResponse.rankings().size());
 
-            // 3. 성공 응답 반환
+            // 4. 성공 응답 반환
             return ApiResponse.success(rankingResponse);
 
         } catch (IllegalArgumentException e) {
@@ -200,13 +211,14 @@ public class RankingV1Controller implements RankingV1ApiSpec {
      * - Controller의 책임: HTTP 응답 형태로 데이터 변환
      *
      * @param pageResult Application Layer의 랭킹 결과
+     * @param likedProductIds 요청 사용자가 좋아요 한 상품 ID
      * @return Interface Layer의 HTTP 응답 DTO
      */
-    private RankingV1Dto.PageResponse convertToDto(RankingInfo.PageResult pageResult) {
+    private RankingV1Dto.PageResponse convertToDto(RankingInfo.PageResult pageResult, Set<Long> likedProductIds) {
 
         // RankingItem 변환
         List<RankingV1Dto.RankingItem> dtoRankings = pageResult.rankings().stream()
-                .map(this::convertRankingItem)
+                .map(item -> convertRankingItem(item, likedProductIds.contains(item.product().id())))
                 .collect(Collectors.toList());
 
         // PaginationInfo 변환
@@ -229,16 +241,18 @@ public class RankingV1Controller implements RankingV1ApiSpec {
      * RankingInfo.RankingItem → RankingV1Dto.RankingItem 변환
      *
      * @param item Application Layer의 랭킹 아이템
+     * @param liked 요청 사용자의 좋아요 여부
      * @return Interface Layer의 랭킹 아이템 DTO
      */
-    private RankingV1Dto.RankingItem convertRankingItem(RankingInfo.RankingItem item) {
+    private RankingV1Dto.RankingItem convertRankingItem(RankingInfo.RankingItem item, boolean liked) {
         RankingV1Dto.ProductInfo dtoProduct = RankingV1Dto.ProductInfo.of(
                 item.product().id(),
                 item.product().name(),
                 item.product().price(),
                 item.product().brandId(),
                 item.product().brandName(),
-                item.product().likeCount()
+                item.product().likeCount(),
+                liked
         );
 
         return RankingV1Dto.RankingItem.of(item.rank(), item.score(), dtoProduct);
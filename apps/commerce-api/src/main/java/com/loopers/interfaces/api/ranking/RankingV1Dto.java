@@ -58,11 +58,12 @@ public class RankingV1Dto {
             long price,
             Long brandId,
             String brandName,
-            long likeCount
+            long likeCount,
+            boolean liked               // 요청한 사용자의 좋아요 여부 (사용자 없으면 false)
     ) {
         public static ProductInfo of(Long id, String name, long price, Long brandId, String brandName, long
-                likeCount) {
-            return new ProductInfo(id, name, price, brandId, brandName, likeCount);
+                likeCount, boolean liked) {
+            return new ProductInfo(id, name, price, brandId, brandName, likeCount, liked);
         }
     }
 
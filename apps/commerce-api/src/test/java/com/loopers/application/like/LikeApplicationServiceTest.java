@@ -12,14 +12,16 @@ import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.ProductStatus;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -43,6 +45,8 @@ class LikeApplicationServiceTest {
 
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
 
     private UserInfo userInfo;
     private Product product1;
@@ -59,7 +63,10 @@ class LikeApplicationServiceTest {
     }
 
     @AfterEach
-    void tearDown() { databaseCleanUp.truncateAllTables(); }
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
 
     @DisplayName("상품 좋아요")
     @Nested
@@ -150,12 +157,43 @@ class LikeApplicationServiceTest {
             likeFacade.like(userInfo.id(), product2.getId(), LikeType.PRODUCT);
 
             // act
-            Page<Product> result = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT,0, 10);
+            LikedProductScrollResponse result = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT, null, 10);
+
+            // assert - 좋아요 최신순
+            assertThat(result.content()).extracting("productId")
+                    .containsExactly(product2.getId(), product1.getId());
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서로 다음 페이지를 이어서 조회하면 중복/누락 없이 모든 좋아요 상품을 순서대로 반환한다.")
+        void returnAllLikedProductsInOrder_whenScrollingWithCursor() {
+
+            // arrange
+            List<Long> likedOrder = new ArrayList<>();
+            likeFacade.like(userInfo.id(), product1.getId(), LikeType.PRODUCT);
+            likedOrder.add(0, product1.getId());
+            for (int i = 2; i <= 5; i++) {
+                Product product = productService.create(Product.of(brandAId, "상품명" + i, "설명", 100 * i, 10, 10, ProductStatus.ACTIVE));
+                likeFacade.like(userInfo.id(), product.getId(), LikeType.PRODUCT);
+                likedOrder.add(0, product.getId());
+            }
+
+            // act
+            LikedProductScrollResponse first = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT, null, 2);
+            LikedProductScrollResponse second = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT, first.nextCursor(), 2);
+            LikedProductScrollResponse third = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT, second.nextCursor(), 2);
 
             // assert
-            assertThat(result.getTotalElements()).isEqualTo(2);
-            assertThat(result.getContent()).extracting("id")
-                    .containsExactlyInAnyOrder(product1.getId(), product2.getId());
+            List<Long> scrolled = new ArrayList<>();
+            for (LikedProductScrollResponse page : List.of(first, second, third)) {
+                page.content().forEach(view -> scrolled.add(view.productId()));
+            }
+            assertThat(scrolled).containsExactlyElementsOf(likedOrder);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.hasNext()).isTrue();
+            assertThat(third.hasNext()).isFalse();
         }
 
         @Test
@@ -165,11 +203,60 @@ class LikeApplicationServiceTest {
             // arrange
 
             // act
-            Page<Product> result = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT, 0, 10);
+            LikedProductScrollResponse result = LikeQueryService.getLikedProducts(userInfo.id(), LikeType.PRODUCT, null, 10);
 
             // assert
-            assertThat(result.getTotalElements()).isEqualTo(0);
-            assertThat(result.getContent()).isEmpty();
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
+
+    @DisplayName("목록 상품의 좋아요 여부 일괄 조회")
+    @Nested
+    class getLikedProductIds {
+        @Test
+        @DisplayName("요청한 상품 중 좋아요 한 상품 ID만 반환하고, 다시 조회해도 같은 결과를 반환한다.")
+        void returnLikedIdsOnly_whenProductIdsAreProvided() {
+
+            // arrange
+            Product product2 = productService.create(Product.of(brandAId, "상품명2", "설명", 200, 10, 10, ProductStatus.ACTIVE));
+            likeFacade.like(userInfo.id(), product1.getId(), LikeType.PRODUCT);
+            List<Long> productIds = List.of(product1.getId(), product2.getId());
+
+            // act - 첫 조회는 DB, 두 번째는 캐시
+            Set<Long> first = LikeQueryService.getLikedProductIds(userInfo.id(), productIds);
+            Set<Long> cached = LikeQueryService.getLikedProductIds(userInfo.id(), productIds);
+
+            // assert
+            assertThat(first).containsExactly(product1.getId());
+            assertThat(cached).containsExactly(product1.getId());
+        }
+
+        @Test
+        @DisplayName("좋아요/취소 후에는 캐시된 값이 아닌 바뀐 좋아요 여부를 반환한다.")
+        void returnChangedStatus_afterLikeAndUnlike() {
+
+            // arrange - 좋아요 안 함이 캐시된 상태
+            List<Long> productIds = List.of(product1.getId());
+            assertThat(LikeQueryService.getLikedProductIds(userInfo.id(), productIds)).isEmpty();
+
+            // act & assert
+            likeFacade.like(userInfo.id(), product1.getId(), LikeType.PRODUCT);
+            assertThat(LikeQueryService.getLikedProductIds(userInfo.id(), productIds)).containsExactly(product1.getId());
+
+            likeFacade.unlike(userInfo.id(), product1.getId(), LikeType.PRODUCT);
+            assertThat(LikeQueryService.getLikedProductIds(userInfo.id(), productIds)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("사용자 ID가 없으면 조회하지 않고 빈 결과를 반환한다.")
+        void returnEmpty_whenUserIdIsNull() {
+
+            // act
+            Set<Long> result = LikeQueryService.getLikedProductIds(null, List.of(product1.getId()));
+
+            // assert
+            assertThat(result).isEmpty();
         }
     }
 
@@ -201,4 +201,59 @@ class OrderConcurrencyTest {
         assertThat(finalProduct.getStock()).isEqualTo(expectedStock);
     }
 
+    @Test
+    @DisplayName("락 순서 고정: 여러 상품 주문이 서로 반대 순서로 상품을 담아도 데드락 없이 모두 성공한다.")
+    void lockOrdering_preventsDeadlock_forCrossedMultiItemOrders() throws InterruptedException {
+        // arrange
+        BrandInfo brand = brandAppService.create("브랜드", "설명", true);
+        ProductResponse productA = productFacade.create(brand.id(), "상품A", "", 1000, 100, 10, ProductStatus.ACTIVE);
+        ProductResponse productB = productFacade.create(brand.id(), "상품B", "", 1000, 100, 10, ProductStatus.ACTIVE);
+
+        int threadCount = 20;
+        List<UserInfo> users = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            UserInfo user = userAppService.saveUser("xUser" + i, "M", "2000-01-01", "x-user" + i + "@test.com");
+            pointAppService.chargePoint(user.userId(), 10000L);
+            users.add(user);
+        }
+
+        OrderInfo orderAB = new OrderInfo(
+                List.of(new OrderItemInfo(productA.productId(), 1), new OrderItemInfo(productB.productId(), 1)),
+                null, "POINT", null
+        );
+        OrderInfo orderBA = new OrderInfo(
+                List.of(new OrderItemInfo(productB.productId(), 1), new OrderItemInfo(productA.productId(), 1)),
+                null, "POINT", null
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            final UserInfo user = users.get(i);
+            final OrderInfo orderInfo = i % 2 == 0 ? orderAB : orderBA;
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    orderFacade.placeOrder(user.userId(), orderInfo);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("주문 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        latch.await();
+
+        // assert
+        assertThat(successCount.get()).as("데드락으로 실패한 주문이 없어야 함").isEqualTo(threadCount);
+        assertThat(productRepository.productInfo(productA.productId()).orElseThrow().getStock()).isEqualTo(100 - threadCount);
+        assertThat(productRepository.productInfo(productB.productId()).orElseThrow().getStock()).isEqualTo(100 - threadCount);
+    }
+
 }
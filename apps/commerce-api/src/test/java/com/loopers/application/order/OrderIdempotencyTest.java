@@ -0,0 +1,268 @@
+package com.loopers.application.order;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.points.PointApplicationService;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.application.users.UserApplicationService;
+import com.loopers.application.users.UserInfo;
+import com.loopers.domain.order.OrderIdempotencyClaim;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.order.JpaOrderIdempotencyStore;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OrderIdempotencyTest {
+
+    @Autowired private OrderIdempotencyService orderIdempotencyService;
+    @Autowired private JpaOrderIdempotencyStore jpaOrderIdempotencyStore;
+    @Autowired private UserApplicationService userAppService;
+    @Autowired private PointApplicationService pointAppService;
+    @Autowired private BrandApplicationService brandAppService;
+    @Autowired private ProductFacade productFacade;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+
+    private UserInfo buyer;
+    private ProductResponse product;
+    private OrderInfo orderInfo;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userAppService.saveUser("buyer", "M", "2000-01-01", "buyer@test.com");
+        BrandInfo brand = brandAppService.create("브랜드", "설명", true);
+        product = productFacade.create(brand.id(), "상품", "", 1000, 10, 10, ProductStatus.ACTIVE);
+        orderInfo = new OrderInfo(List.of(new OrderItemInfo(product.productId(), 2)), null, "POINT", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private int stock() {
+        return productRepository.productInfo(product.productId()).orElseThrow().getStock();
+    }
+
+    @DisplayName("Idempotency-Key 주문")
+    @Nested
+    class PlaceOrder {
+
+        @Test
+        @DisplayName("같은 키로 다시 주문하면 주문을 다시 만들지 않고 처음 주문 ID를 돌려준다.")
+        void returnsFirstOrderId_whenSameKeyIsRetried() {
+            // arrange
+            pointAppService.chargePoint(buyer.userId(), 10_000L);
+
+            // act
+            Long first = orderIdempotencyService.placeOrder(buyer.userId(), "key-1", orderInfo);
+            Long retried = orderIdempotencyService.placeOrder(buyer.userId(), "key-1", orderInfo);
+
+            // assert
+            assertThat(retried).isEqualTo(first);
+            assertThat(stock()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("같은 키의 요청이 동시에 들어와도 주문은 한 번만 실행되고 모두 같은 주문 ID를 받는다.")
+        void executesOnce_whenSameKeyArrivesConcurrently() throws InterruptedException {
+            // arrange
+            pointAppService.chargePoint(buyer.userId(), 10_000L);
+            int requestCount = 10;
+            ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+            CountDownLatch ready = new CountDownLatch(1);
+            CountDownLatch latch = new CountDownLatch(requestCount);
+            Set<Long> orderIds = ConcurrentHashMap.newKeySet();
+
+            // act
+            for (int i = 0; i < requestCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        ready.await();
+                        orderIds.add(orderIdempotencyService.placeOrder(buyer.userId(), "key-2", orderInfo));
+                    } catch (Exception e) {
+                        // 실패는 orderIds 크기로 검증
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            ready.countDown();
+            latch.await();
+            executorService.shutdown();
+
+            // assert
+            assertThat(orderIds).hasSize(1);
+            assertThat(stock()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("같은 키로 다른 주문 내용을 보내면 BAD_REQUEST 로 실패한다.")
+        void fails_whenSameKeyIsUsedForDifferentOrder() {
+            // arrange
+            pointAppService.chargePoint(buyer.userId(), 10_000L);
+            orderIdempotencyService.placeOrder(buyer.userId(), "key-3", orderInfo);
+            OrderInfo otherOrder = new OrderInfo(List.of(new OrderItemInfo(product.productId(), 1)), null, "POINT", null);
+
+            // act & assert
+            assertThatThrownBy(() -> orderIdempotencyService.placeOrder(buyer.userId(), "key-3", otherOrder))
+                    .isInstanceOf(CoreException.class)
+                    .extracting("errorType").isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(stock()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("처음 주문이 실패하면 같은 키로 다시 주문할 수 있다.")
+        void allowsRetry_whenFirstOrderFails() {
+            // arrange - 포인트 부족으로 첫 주문 실패
+            assertThatThrownBy(() -> orderIdempotencyService.placeOrder(buyer.userId(), "key-4", orderInfo))
+                    .isInstanceOf(CoreException.class);
+            pointAppService.chargePoint(buyer.userId(), 10_000L);
+
+            // act
+            Long orderId = orderIdempotencyService.placeOrder(buyer.userId(), "key-4", orderInfo);
+
+            // assert
+            assertThat(orderId).isNotNull();
+            assertThat(stock()).isEqualTo(8);
+        }
+    }
+
+    @DisplayName("주문 내용 해시")
+    @Nested
+    class RequestHash {
+
+        @Test
+        @DisplayName("카드 번호는 해시에 들어가지 않아, 카드 번호만 다른 같은 주문은 같은 해시다.")
+        void excludesCardNumber() {
+            // arrange
+            List<OrderItemInfo> items = List.of(new OrderItemInfo(1L, 2));
+            OrderInfo withCard = new OrderInfo(items, null, "CARD", new CardInfo("SAMSUNG", "1234-5678-9012-3456"));
+            OrderInfo withOtherCard = new OrderInfo(items, null, "CARD", new CardInfo("SAMSUNG", "9999-8888-7777-6666"));
+
+            // act
+            String hash = OrderIdempotencyService.requestHash("buyer", withCard);
+
+            // assert
+            assertThat(hash).isEqualTo(OrderIdempotencyService.requestHash("buyer", withOtherCard));
+            assertThat(hash).doesNotContain("1234");
+        }
+
+        @Test
+        @DisplayName("상품 순서만 다른 주문은 같은 해시이고, 수량/쿠폰/결제 방식/사용자가 다르면 다른 해시다.")
+        void isCanonicalOverOrderFields() {
+            // arrange
+            OrderInfo base = new OrderInfo(List.of(new OrderItemInfo(1L, 2), new OrderItemInfo(2L, 1)), null, "POINT", null);
+            OrderInfo reordered = new OrderInfo(List.of(new OrderItemInfo(2L, 1), new OrderItemInfo(1L, 2)), null, "POINT", null);
+
+            // act
+            String hash = OrderIdempotencyService.requestHash("buyer", base);
+
+            // assert
+            assertThat(OrderIdempotencyService.requestHash("buyer", reordered)).isEqualTo(hash);
+            assertThat(List.of(
+                    OrderIdempotencyService.requestHash("buyer", new OrderInfo(List.of(new OrderItemInfo(1L, 3), new OrderItemInfo(2L, 1)), null, "POINT", null)),
+                    OrderIdempotencyService.requestHash("buyer", new OrderInfo(base.items(), 10L, "POINT", null)),
+                    OrderIdempotencyService.requestHash("buyer", new OrderInfo(base.items(), null, "CARD", null)),
+                    OrderIdempotencyService.requestHash("other", base)
+            )).doesNotContain(hash);
+        }
+    }
+
+    @DisplayName("DB 멱등키 저장소 (Redis 장애 시 대체)")
+    @Nested
+    class JpaStore {
+
+        @Test
+        @DisplayName("선점한 키는 다시 선점할 수 없고, 완료 후에는 주문 ID를 돌려준다.")
+        void claim_returnsExistingResult_afterFirstClaim() {
+            // act
+            OrderIdempotencyClaim first = jpaOrderIdempotencyStore.claim("buyer", "key-5", "hash", Duration.ofSeconds(30));
+            OrderIdempotencyClaim inProgress = jpaOrderIdempotencyStore.claim("buyer", "key-5", "hash", Duration.ofSeconds(30));
+            jpaOrderIdempotencyStore.complete("buyer", "key-5", "hash", 42L, Duration.ofHours(1));
+            OrderIdempotencyClaim completed = jpaOrderIdempotencyStore.claim("buyer", "key-5", "hash", Duration.ofSeconds(30));
+
+            // assert
+            assertThat(first.acquired()).isTrue();
+            assertThat(inProgress.acquired()).isFalse();
+            assertThat(inProgress.isCompleted()).isFalse();
+            assertThat(completed.acquired()).isFalse();
+            assertThat(completed.orderId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("선점이 만료되거나 해제된 키는 다시 선점할 수 있다.")
+        void claim_acquiresAgain_whenLeaseExpiredOrReleased() throws InterruptedException {
+            // arrange
+            jpaOrderIdempotencyStore.claim("buyer", "key-6", "hash", Duration.ofMillis(1));
+            jpaOrderIdempotencyStore.claim("buyer", "key-7", "hash", Duration.ofSeconds(30));
+            jpaOrderIdempotencyStore.release("buyer", "key-7", "hash");
+            Thread.sleep(10);
+
+            // act
+            OrderIdempotencyClaim expired = jpaOrderIdempotencyStore.claim("buyer", "key-6", "hash", Duration.ofSeconds(30));
+            OrderIdempotencyClaim released = jpaOrderIdempotencyStore.claim("buyer", "key-7", "hash", Duration.ofSeconds(30));
+
+            // assert
+            assertThat(expired.acquired()).isTrue();
+            assertThat(released.acquired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("처리 중 선점을 연장하면 원래 lease 가 지나도 다른 요청이 선점하지 못한다.")
+        void renew_keepsClaim_beyondOriginalLease() throws InterruptedException {
+            // arrange
+            jpaOrderIdempotencyStore.claim("buyer", "key-8", "hash", Duration.ofMillis(1));
+
+            // act
+            boolean renewed = jpaOrderIdempotencyStore.renew("buyer", "key-8", "hash", Duration.ofSeconds(30));
+            Thread.sleep(10);
+            OrderIdempotencyClaim retried = jpaOrderIdempotencyStore.claim("buyer", "key-8", "hash", Duration.ofSeconds(30));
+
+            // assert
+            assertThat(renewed).isTrue();
+            assertThat(retried.acquired()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Redis 결과 기록 실패 시 DB에 남긴 완료 결과는 이후 요청이 조회할 수 있다.")
+        void recordCompleted_isFoundByLaterRequest() {
+            // act
+            jpaOrderIdempotencyStore.recordCompleted("buyer", "key-9", "hash", 42L, Duration.ofHours(1));
+
+            // assert
+            assertThat(jpaOrderIdempotencyStore.findCompleted("buyer", "key-9"))
+                    .hasValueSatisfying(claim -> {
+                        assertThat(claim.orderId()).isEqualTo(42L);
+                        assertThat(claim.requestHash()).isEqualTo("hash");
+                    });
+            assertThat(jpaOrderIdempotencyStore.findCompleted("buyer", "key-10")).isEmpty();
+        }
+    }
+
+}
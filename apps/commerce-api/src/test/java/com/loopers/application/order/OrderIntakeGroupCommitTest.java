@@ -0,0 +1,213 @@
+package com.loopers.application.order;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.points.PointApplicationService;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.application.product.StockDeductionResult;
+import com.loopers.application.users.UserApplicationService;
+import com.loopers.application.users.UserInfo;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 남은 접수 복구는 주기 실행을 멈추고 releaseAbandoned 를 직접 호출해 검증한다.
+@SpringBootTest(properties = {
+        "order.intake.group-commit-enabled=true",
+        "order.intake.batch-window=20ms",
+        "order.intake.abandoned-admission-timeout=0s",
+        "order.intake.abandoned-sweep-interval=PT1H"
+})
+class OrderIntakeGroupCommitTest {
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+    @Autowired
+    private OrderIntakeQueue orderIntakeQueue;
+    @Autowired
+    private OrderFacade orderFacade;
+    @Autowired
+    private UserApplicationService userAppService;
+    @Autowired
+    private PointApplicationService pointAppService;
+    @Autowired
+    private BrandApplicationService brandAppService;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private BrandInfo brand;
+
+    @BeforeEach
+    void setUp() {
+        brand = brandAppService.create("브랜드", "설명", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private int stockOf(Long productId) {
+        return productRepository.productInfo(productId).orElseThrow().getStock();
+    }
+
+    @Test
+    @DisplayName("재고 50개 상품에 60명이 동시에 주문하면 묶음 처리되어도 50건만 성공하고 재고는 0이 된다.")
+    void placeOrder_admitsOnlyAvailableStock_underGroupCommit() throws InterruptedException {
+        // arrange
+        ProductResponse product = productFacade.create(brand.id(), "한정판", "", 1000, 50, 10, ProductStatus.ACTIVE);
+        List<UserInfo> buyers = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            UserInfo user = userAppService.saveUser("gc" + i, "M", "2000-01-01", "gc" + i + "@test.com");
+            pointAppService.chargePoint(user.userId(), 10_000L);
+            buyers.add(user);
+        }
+        OrderInfo orderInfo = new OrderInfo(List.of(new OrderItemInfo(product.productId(), 1)), null, "POINT", null);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(buyers.size());
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (UserInfo buyer : buyers) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    orderIntakeService.placeOrder(buyer.userId(), orderInfo);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 실패는 successCount로 검증
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(stockOf(product.productId())).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 배치 안에서 없는 상품을 주문한 요청만 실패하고, 나머지 요청은 재고가 차감된다.")
+    void admit_rejectsOnlyInvalidOrder_inSameBatch() throws InterruptedException {
+        // arrange
+        ProductResponse product = productFacade.create(brand.id(), "상품", "", 1000, 10, 10, ProductStatus.ACTIVE);
+        List<Map<Long, Integer>> requests = List.of(
+                Map.of(product.productId(), 3),
+                Map.of(999_999L, 1),
+                Map.of(product.productId(), 20),
+                Map.of(product.productId(), 4)
+        );
+        ExecutorService executorService = Executors.newFixedThreadPool(requests.size());
+        CountDownLatch latch = new CountDownLatch(requests.size());
+        AtomicInteger admittedCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        // act
+        for (Map<Long, Integer> quantities : requests) {
+            executorService.submit(() -> {
+                try {
+                    orderIntakeQueue.admit(quantities);
+                    admittedCount.incrementAndGet();
+                } catch (CoreException e) {
+                    rejectedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(admittedCount.get()).isEqualTo(2);
+        assertThat(rejectedCount.get()).isEqualTo(2);
+        assertThat(stockOf(product.productId())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재고 차감 뒤 주문 생성이 실패하면(포인트 부족) 차감했던 재고가 복구된다.")
+    void placeOrder_releasesAdmittedStock_whenOrderFails() {
+        // arrange
+        ProductResponse product = productFacade.create(brand.id(), "상품", "", 1000, 10, 10, ProductStatus.ACTIVE);
+        UserInfo user = userAppService.saveUser("poor", "M", "2000-01-01", "poor@test.com");
+        OrderInfo orderInfo = new OrderInfo(List.of(new OrderItemInfo(product.productId(), 2)), null, "POINT", null);
+
+        // act & assert
+        assertThatThrownBy(() -> orderIntakeService.placeOrder(user.userId(), orderInfo))
+                .isInstanceOf(CoreException.class);
+        assertThat(stockOf(product.productId())).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 주문 생성 전에 BAD_REQUEST 로 실패한다.")
+    void placeOrder_fails_whenStockIsInsufficient() {
+        // arrange
+        ProductResponse product = productFacade.create(brand.id(), "상품", "", 1000, 1, 10, ProductStatus.ACTIVE);
+        UserInfo user = userAppService.saveUser("buyer", "M", "2000-01-01", "buyer@test.com");
+        pointAppService.chargePoint(user.userId(), 10_000L);
+        OrderInfo orderInfo = new OrderInfo(List.of(new OrderItemInfo(product.productId(), 2)), null, "POINT", null);
+
+        // act & assert
+        assertThatThrownBy(() -> orderIntakeService.placeOrder(user.userId(), orderInfo))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType").isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(stockOf(product.productId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 차감 후 주문이 생성되지 않은 채 남은 접수(노드 장애)는 releaseAbandoned 가 재고를 되돌리고, 그 접수로는 주문할 수 없다.")
+    void releaseAbandoned_restoresStock_whenOrderWasNeverPlaced() {
+        // arrange
+        ProductResponse product = productFacade.create(brand.id(), "상품", "", 1000, 10, 10, ProductStatus.ACTIVE);
+        UserInfo user = userAppService.saveUser("crash", "M", "2000-01-01", "crash@test.com");
+        pointAppService.chargePoint(user.userId(), 10_000L);
+        OrderInfo orderInfo = new OrderInfo(List.of(new OrderItemInfo(product.productId(), 2)), null, "POINT", null);
+        StockDeductionResult admitted = orderIntakeQueue.admit(Map.of(product.productId(), 2)).orElseThrow();
+
+        // act
+        orderIntakeQueue.releaseAbandoned();
+        orderIntakeQueue.releaseAbandoned();
+
+        // assert
+        assertThat(stockOf(product.productId())).isEqualTo(10);
+        assertThatThrownBy(() -> orderFacade.placeOrder(user.userId(), orderInfo, admitted))
+                .isInstanceOf(CoreException.class);
+        assertThat(stockOf(product.productId())).isEqualTo(10);
+    }
+
+}
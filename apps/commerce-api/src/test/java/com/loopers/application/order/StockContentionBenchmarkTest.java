@@ -0,0 +1,153 @@
+package com.loopers.application.order;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.points.PointApplicationService;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.application.users.UserApplicationService;
+import com.loopers.application.users.UserInfo;
+import com.loopers.config.OrderIntakeProperties;
+import com.loopers.config.StockProperties;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.StockStrategy;
+import com.loopers.infrastructure.product.StockReconciler;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 인기 상품 하나에 주문이 몰릴 때 재고 차감 방식별 처리량 비교
+ * - PESSIMISTIC_LOCK  : 상품 행 FOR UPDATE
+ * - REDIS_RESERVATION : Redis Lua 예약 + 비동기 DB 반영
+ * - group commit      : 비관적 락 + 재고 차감을 batch-window 동안 모아 한 트랜잭션으로 처리 (OrderIntakeService)
+ *
+ * 측정 값: 초당 주문 수(orders/sec) - 사용자별 포인트 락은 겹치지 않도록 주문마다 다른 사용자를 사용
+ * 기본 테스트 실행에서는 제외되며, 아래처럼 명시적으로 실행한다.
+ *   ./gradlew :apps:commerce-api:test --tests "*StockContentionBenchmarkTest" -Dbenchmark=true
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockContentionBenchmarkTest {
+
+    private static final int BUYER_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private OrderFacade orderFacade;
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+    @Autowired
+    private OrderIntakeProperties orderIntakeProperties;
+    @Autowired
+    private UserApplicationService userAppService;
+    @Autowired
+    private PointApplicationService pointAppService;
+    @Autowired
+    private BrandApplicationService brandAppService;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private StockProperties stockProperties;
+    @Autowired
+    private StockReconciler stockReconciler;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        stockProperties.setStrategy(StockStrategy.PESSIMISTIC_LOCK);
+        orderIntakeProperties.setGroupCommitEnabled(false);
+        stockReconciler.reconcile();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("인기 상품 주문 처리량: 비관적 락 vs Redis 재고 예약")
+    void compareHotSkuThroughput() throws InterruptedException {
+        BrandInfo brand = brandAppService.create("브랜드", "설명", true);
+
+        for (StockStrategy strategy : StockStrategy.values()) {
+            ProductResponse product = productFacade.create(brand.id(), "한정판-" + strategy, "", 1000, BUYER_COUNT, 10, ProductStatus.ACTIVE);
+            List<UserInfo> buyers = createBuyers(strategy.name().substring(0, 3).toLowerCase());
+
+            stockProperties.setStrategy(strategy);
+            report(strategy.name(), product.productId(), buyers, orderFacade::placeOrder);
+        }
+    }
+
+    @Test
+    @DisplayName("인기 상품 주문 처리량: 주문별 트랜잭션 vs 재고 차감 group commit")
+    void compareGroupCommitThroughput() throws InterruptedException {
+        BrandInfo brand = brandAppService.create("브랜드", "설명", true);
+
+        for (boolean groupCommit : new boolean[]{false, true}) {
+            ProductResponse product = productFacade.create(brand.id(), "한정판-" + groupCommit, "", 1000, BUYER_COUNT, 10, ProductStatus.ACTIVE);
+            List<UserInfo> buyers = createBuyers(groupCommit ? "gc" : "tx");
+
+            orderIntakeProperties.setGroupCommitEnabled(groupCommit);
+            report(groupCommit ? "GROUP_COMMIT" : "PER_ORDER_TX", product.productId(), buyers, orderIntakeService::placeOrder);
+        }
+    }
+
+    private List<UserInfo> createBuyers(String prefix) {
+        List<UserInfo> buyers = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            String userId = prefix + i;
+            UserInfo user = userAppService.saveUser(userId, "M", "2000-01-01", userId + "@test.com");
+            pointAppService.chargePoint(user.userId(), 10_000L);
+            buyers.add(user);
+        }
+        return buyers;
+    }
+
+    private void report(String mode, Long productId, List<UserInfo> buyers, BiConsumer<String, OrderInfo> placeOrder) throws InterruptedException {
+        OrderInfo orderInfo = new OrderInfo(List.of(new OrderItemInfo(productId, 1)), null, "POINT", null);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(buyers.size());
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (UserInfo buyer : buyers) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    placeOrder.accept(buyer.userId(), orderInfo);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 실패는 successCount로 확인
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        latch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        System.out.printf("[hot-sku-order] mode=%-18s orders=%4d success=%4d orders/sec=%,8.1f%n",
+                mode, buyers.size(), successCount.get(), successCount.get() / (elapsedNanos / 1_000_000_000.0));
+    }
+
+}
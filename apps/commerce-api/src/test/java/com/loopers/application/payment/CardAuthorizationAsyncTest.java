@@ -0,0 +1,191 @@
+package com.loopers.application.payment;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.order.CardInfo;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.application.order.OrderItemInfo;
+import com.loopers.application.payment.processor.CardPaymentProcessor;
+import com.loopers.application.payment.processor.PaymentContext;
+import com.loopers.application.points.PointApplicationService;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.application.users.UserApplicationService;
+import com.loopers.application.users.UserInfo;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentMethod;
+import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.pg.PgClient;
+import com.loopers.infrastructure.pg.PgPaymentResponse;
+import com.loopers.infrastructure.pg.PgPaymentStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "payment.card-authorization.retry-grace=0s")
+class CardAuthorizationAsyncTest {
+
+    private static final long PG_DELAY_MS = 1_000;
+
+    @Autowired private OrderFacade orderFacade;
+    @Autowired private CardAuthorizationDispatcher cardAuthorizationDispatcher;
+    @Autowired private CardPaymentProcessor cardPaymentProcessor;
+    @Autowired private UserApplicationService userAppService;
+    @Autowired private PointApplicationService pointAppService;
+    @Autowired private BrandApplicationService brandAppService;
+    @Autowired private ProductFacade productFacade;
+    @Autowired private PaymentRepository paymentRepository;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+
+    @MockitoBean private PgClient pgClient;
+
+    private UserInfo testUser;
+    private ProductResponse testProduct;
+    private OrderInfo cardOrder;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userAppService.saveUser("cardUser", "M", "2000-01-01", "card@example.com");
+        pointAppService.chargePoint(testUser.userId(), 100000L);
+
+        BrandInfo brand = brandAppService.create("테스트브랜드", "설명", true);
+        testProduct = productFacade.create(brand.id(), "테스트상품", "", 10000, 20, 10, ProductStatus.ACTIVE);
+
+        cardOrder = new OrderInfo(
+                List.of(new OrderItemInfo(testProduct.productId(), 2)),
+                null,
+                "CARD",
+                new CardInfo("SAMSUNG", "1234-5678-9012-3456")
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    @DisplayName("PG 가 느려도 카드 주문은 PG 응답을 기다리지 않고 반환되고, 승인 요청은 커밋 후 따로 반영된다.")
+    void placeOrder_returnsBeforePgResponds_andAppliesTransactionKeyLater() throws InterruptedException {
+        // arrange
+        when(pgClient.requestPayment(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            Thread.sleep(PG_DELAY_MS);
+            return PgPaymentResponse.success("20250822:TR:async123", PgPaymentStatus.PENDING);
+        });
+
+        // act
+        long startMillis = System.currentTimeMillis();
+        Order order = orderFacade.placeOrder(testUser.userId(), cardOrder);
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+        // assert
+        assertThat(elapsedMillis).isLessThan(PG_DELAY_MS);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        Payment pending = paymentRepository.findByOrderId(order.getId()).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(pending.getTransactionKey()).isNull();
+
+        awaitUntil(() -> "20250822:TR:async123".equals(
+                paymentRepository.findByOrderId(order.getId()).orElseThrow().getTransactionKey()));
+    }
+
+    @Test
+    @DisplayName("PG 가 명확한 실패를 응답하면 결제는 실패, 주문은 취소되고 재고가 복구된다.")
+    void authorize_cancelsOrderAndRestoresStock_whenPgRejects() throws InterruptedException {
+        // arrange
+        when(pgClient.requestPayment(anyString(), anyString(), any())).thenReturn(new PgPaymentResponse(
+                new PgPaymentResponse.Meta("FAILED"),
+                new PgPaymentResponse.Data("20250822:TR:reject123", PgPaymentStatus.FAILED)
+        ));
+
+        // act
+        Order order = orderFacade.placeOrder(testUser.userId(), cardOrder);
+
+        // assert
+        awaitUntil(() -> orderRepository.findByIdWithItems(order.getId()).orElseThrow().getStatus() == OrderStatus.CANCELLED);
+        assertThat(paymentRepository.findByOrderId(order.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(productRepository.productInfo(testProduct.productId()).orElseThrow().getStock()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("승인 요청이 나가지 않은 PENDING 결제는 재요청 스케줄러가 다시 요청한다.")
+    void retryUnrequested_requestsPendingPaymentWithoutTransactionKey() throws InterruptedException {
+        // arrange
+        Order order = orderRepository.save(Order.of(
+                testUser.id(), List.of(OrderItem.of(testProduct.productId(), 1, 10000L)), 0L, OrderStatus.PENDING));
+        Payment payment = paymentRepository.save(
+                Payment.of(order.getId(), PaymentMethod.of(CardType.SAMSUNG, "1234-5678-9012-3456"), 10000L));
+        when(pgClient.requestPayment(anyString(), anyString(), any()))
+                .thenReturn(PgPaymentResponse.success("20250822:TR:retry123", PgPaymentStatus.PENDING));
+        Thread.sleep(10);
+
+        // act
+        cardAuthorizationDispatcher.retryUnrequested();
+
+        // assert
+        awaitUntil(() -> "20250822:TR:retry123".equals(
+                paymentRepository.findById(payment.getId()).orElseThrow().getTransactionKey()));
+    }
+
+    @Test
+    @DisplayName("같은 시도로 예약된 승인 요청이 두 번 실행돼도(대기열 지연 + 재요청) PG 에는 결제별 고정 키로 한 번만 요청한다.")
+    void authorize_requestsPgOnce_whenSameAttemptDispatchedTwice() {
+        // arrange
+        Order order = orderRepository.save(Order.of(
+                testUser.id(), List.of(OrderItem.of(testProduct.productId(), 1, 10000L)), 0L, OrderStatus.PENDING));
+        PaymentMethod paymentMethod = PaymentMethod.of(CardType.SAMSUNG, "1234-5678-9012-3456");
+        Payment payment = paymentRepository.save(Payment.of(order.getId(), paymentMethod, 10000L));
+        PaymentContext context = PaymentContext.forCard(testUser.id(), order.getId(), 10000L, paymentMethod);
+        when(pgClient.requestPayment(anyString(), anyString(), any()))
+                .thenReturn(new PgPaymentResponse(
+                        new PgPaymentResponse.Meta("FAILURE"),
+                        new PgPaymentResponse.Data(null, PgPaymentStatus.FAILED)));
+
+        // act
+        PaymentResult first = cardPaymentProcessor.authorize(payment.getId(), context, 0);
+        PaymentResult second = cardPaymentProcessor.authorize(payment.getId(), context, 0);
+
+        // assert
+        assertThat(first.status()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(second).isEqualTo(PaymentResult.authorizationSkipped());
+        verify(pgClient, times(1)).requestPayment(anyString(), eq("payment-" + payment.getId()), any());
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getAuthorizationAttempts()).isEqualTo(1);
+    }
+
+}
@@ -155,7 +155,7 @@ class PaymentUsecaseIntegrationTest {
             PaymentMethod paymentMethod = PaymentMethod.of(CardType.SAMSUNG, "1111-1111-1111-1111");
 
             PgPaymentResponse pgResponse = PgPaymentResponse.success("20250822:TR:success123", PgPaymentStatus.PENDING);
-            when(pgClient.requestPayment(anyString(), any())).thenReturn(pgResponse);
+            when(pgClient.requestPayment(anyString(), anyString(), any())).thenReturn(pgResponse);
 
             // act
             PaymentResult result = paymentFacade.processPayment(userId, orderId, amount, PaymentType.CARD, paymentMethod);
@@ -179,7 +179,7 @@ class PaymentUsecaseIntegrationTest {
             long amount = 10000L;
             PaymentMethod paymentMethod = PaymentMethod.of(CardType.SAMSUNG, "1111-1111-1111-1111");
 
-            when(pgClient.requestPayment(anyString(), any())).thenThrow(new RuntimeException("PG 시스템 장애"));
+            when(pgClient.requestPayment(anyString(), anyString(), any())).thenThrow(new RuntimeException("PG 시스템 장애"));
 
             // act
             PaymentResult result = paymentFacade.processPayment(userId, orderId, amount, PaymentType.CARD, paymentMethod);
@@ -0,0 +1,197 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.domain.product.ProductCacheRepository;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.product.ProductLocalCache;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class ProductCacheStampedeTest {
+
+    @Autowired
+    private ProductQueryService productQueryService;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private BrandApplicationService brandAppService;
+    @Autowired
+    private ProductCacheRepository productCacheRepository;
+    @Autowired
+    private ProductLocalCache productLocalCache;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Long brandId;
+    private ProductResponse product;
+
+    @BeforeEach
+    void setUp() {
+        BrandInfo brand = brandAppService.create("브랜드", "설명", true);
+        brandId = brand.id();
+        product = productFacade.create(brandId, "상품", "설명", 1000, 100, 0, ProductStatus.ACTIVE);
+
+        redisCleanUp.truncateAll();
+        productLocalCache.invalidateAllLists();
+        productCacheRepository.evictProductDetail(product.productId());
+
+        // DB 조회를 느리게 만들어 동시 미스 구간을 넓힌다.
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return invocation.callRealMethod();
+        }).when(productRepository).productInfo(anyLong());
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return invocation.callRealMethod();
+        }).when(productRepository).activeProductListViews(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때 100명이 동시에 상품 상세를 조회해도 DB 조회는 한 번만 일어난다.")
+    void productDetail_isLoadedOnce_underConcurrentCacheMiss() throws InterruptedException {
+        // arrange
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    ProductResponse response = productQueryService.getProductDetail(product.productId());
+                    if (product.productId().equals(response.productId())) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 실패는 successCount로 검증
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        verify(productRepository, times(1)).productInfo(product.productId());
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때 100명이 동시에 같은 상품 목록을 조회해도 DB 조회는 한 번만 일어난다.")
+    void productList_isLoadedOnce_underConcurrentCacheMiss() throws InterruptedException {
+        // arrange
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    var page = productQueryService.searchProducts(brandId, "latest", 0, 20);
+                    if (page.getTotalElements() == 1) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 실패는 successCount로 검증
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        verify(productRepository, times(1)).activeProductListViews(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 요청의 상품 상세 적재를 기다리는 동안에는 DB 커넥션을 잡지 않는다.")
+    void productDetail_waitersDoNotHoldConnections_whileLoadInFlight() throws InterruptedException, SQLException {
+        // arrange
+        int waiterCount = 20;   // 테스트 커넥션 풀(10)보다 많은 대기 요청
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(waiterCount + 1);
+        CountDownLatch latch = new CountDownLatch(waiterCount + 1);
+        AtomicInteger successCount = new AtomicInteger();
+
+        Runnable detail = () -> {
+            try {
+                productQueryService.getProductDetail(product.productId());
+                successCount.incrementAndGet();
+            } catch (Exception e) {
+                // 실패는 successCount로 검증
+            } finally {
+                latch.countDown();
+            }
+        };
+
+        // act - 첫 요청이 DB 조회(200ms) 중일 때 나머지 요청이 같은 키를 기다린다.
+        executorService.submit(detail);
+        Thread.sleep(50);
+        for (int i = 0; i < waiterCount; i++) {
+            executorService.submit(detail);
+        }
+        Thread.sleep(70);
+        int activeConnectionsWhileWaiting = hikari.getHikariPoolMXBean().getActiveConnections();
+
+        latch.await();
+        executorService.shutdown();
+
+        // assert - 적재 중인 요청 하나만 커넥션을 사용한다.
+        assertThat(activeConnectionsWhileWaiting).isLessThanOrEqualTo(1);
+        assertThat(successCount.get()).isEqualTo(waiterCount + 1);
+        verify(productRepository, times(1)).productInfo(product.productId());
+    }
+
+}
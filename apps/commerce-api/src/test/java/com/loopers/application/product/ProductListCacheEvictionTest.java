@@ -0,0 +1,82 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.domain.product.ProductCacheRepository;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class ProductListCacheEvictionTest {
+
+    @Autowired
+    private ProductQueryService productQueryService;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private BrandApplicationService brandAppService;
+    @Autowired
+    private ProductCacheRepository productCacheRepository;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Long brandAId;
+    private Long brandBId;
+
+    @BeforeEach
+    void setUp() {
+        BrandInfo brandA = brandAppService.create("브랜드A", "설명", true);
+        BrandInfo brandB = brandAppService.create("브랜드B", "설명", true);
+        brandAId = brandA.id();
+        brandBId = brandB.id();
+        productFacade.create(brandAId, "상품A", "설명", 1000, 10, 10, ProductStatus.ACTIVE);
+        productFacade.create(brandBId, "상품B", "설명", 1000, 10, 10, ProductStatus.ACTIVE);
+        redisCleanUp.truncateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("브랜드 캐시 무효화 시 해당 브랜드 목록과 전체 브랜드 목록만 다시 조회되고, 다른 브랜드 목록은 캐시를 유지한다.")
+    void evictProductsByBrand_invalidatesOnlyBrandAndAllBrandLists() {
+        // arrange
+        productQueryService.searchProducts(brandAId, "latest", 0, 20);
+        productQueryService.searchProducts(brandBId, "latest", 0, 20);
+        productQueryService.searchProducts(null, "latest", 0, 20);
+        clearInvocations(productRepository);
+
+        // act
+        productCacheRepository.evictProductsByBrand(brandAId);
+        productQueryService.searchProducts(brandAId, "latest", 0, 20);
+        productQueryService.searchProducts(brandBId, "latest", 0, 20);
+        productQueryService.searchProducts(null, "latest", 0, 20);
+
+        // assert - 브랜드A 목록과 전체 브랜드 목록만 DB 재조회
+        verify(productRepository, times(2)).activeProductListViews(any(), any());
+    }
+
+}
@@ -3,19 +3,31 @@ package com.loopers.application.product;
 import com.loopers.application.brand.BrandApplicationService;
 import com.loopers.application.brand.BrandInfo;
 import com.loopers.application.like.LikeFacade;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeCountShardRepository;
 import com.loopers.domain.like.LikeType;
+import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.like.LikeCountFolder;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -29,9 +41,21 @@ class ProductUseCaseIntegrationTest {
     private BrandApplicationService brandAppService;
     @Autowired
     private LikeFacade LikeFacade;
+    @Autowired
+    private LikeCountShardRepository likeCountShardRepository;
+    @Autowired
+    private LikeCountFolder likeCountFolder;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
 
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
 
     private Long brandAId;
     private Long brandBId;
@@ -45,7 +69,21 @@ class ProductUseCaseIntegrationTest {
     }
 
     @AfterEach
-    void tearDown() { databaseCleanUp.truncateAllTables(); }
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private void addToIndex(ProductResponse product, long likeCount) {
+        masterRedisTemplate.opsForZSet().add("products:most-liked:b" + brandAId, product.productId().toString(),
+                likeCount * 1_000_000_000L + product.productId());
+    }
+
+    // 합산된 좋아요 수 + 아직 합산되지 않은 증감분
+    private long likeCountOf(Long productId) {
+        return productRepository.productInfo(productId).orElseThrow().getLikeCount()
+                + likeCountShardRepository.pendingDelta(productId);
+    }
 
     @DisplayName("상품 생성")
     @Nested
@@ -129,6 +167,11 @@ class ProductUseCaseIntegrationTest {
             LikeFacade.like(2L, p3.productId(), LikeType.PRODUCT);
             LikeFacade.like(1L, p1.productId(), LikeType.PRODUCT);
 
+            // 좋아요 수는 비동기 이벤트로 분할 카운터에 쌓인 뒤 합산 주기에 product.like_count 로 반영된다.
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    likeCountOf(p2.productId()) == 3 && likeCountOf(p3.productId()) == 2 && likeCountOf(p1.productId()) == 1);
+            likeCountFolder.fold();
+
             // act
             Page<ProductResponse> result = productQueryService.searchProducts(null, "likes_desc", 0, 10);
             List<ProductResponse> content = result.getContent();
@@ -139,6 +182,45 @@ class ProductUseCaseIntegrationTest {
             assertThat(content.get(2).productId()).isEqualTo(p1.productId());
         }
 
+        @DisplayName("성공: 좋아요순 인덱스(ZSET)가 있으면 인덱스 순서와 인덱스 전체 개수로 반환한다.")
+        @Test
+        void returnIndexOrder_whenMostLikedIndexExists() {
+            // arrange - collector 가 재구축해 둔 인덱스 (점수 = 좋아요 수 * 10^9 + 상품 ID)
+            ProductResponse p1 = productFacade.create(brandAId, "상품1", "설명", 100, 10, 10, ProductStatus.ACTIVE);
+            ProductResponse p2 = productFacade.create(brandAId, "상품2", "설명", 100, 10, 10, ProductStatus.ACTIVE);
+            ProductResponse p3 = productFacade.create(brandAId, "상품3", "설명", 100, 10, 10, ProductStatus.ACTIVE);
+            addToIndex(p1, 9);
+            addToIndex(p2, 5);
+            addToIndex(p3, 5);
+
+            // act
+            Page<ProductResponse> result = productQueryService.searchProducts(brandAId, "likes_desc", 0, 10);
+
+            // assert - 동순위는 DB 정렬과 같이 id 내림차순
+            assertThat(result.getContent()).extracting(ProductResponse::productId)
+                    .containsExactly(p1.productId(), p3.productId(), p2.productId());
+            assertThat(result.getTotalElements()).isEqualTo(3);
+        }
+
+        @DisplayName("성공: 판매 중지한 상품은 좋아요순 인덱스에서 빠져 페이지와 전체 개수에 포함되지 않는다.")
+        @Test
+        void excludesDeactivatedProduct_fromMostLikedIndex() {
+            // arrange
+            ProductResponse p1 = productFacade.create(brandAId, "상품1", "설명", 100, 10, 10, ProductStatus.ACTIVE);
+            ProductResponse p2 = productFacade.create(brandAId, "상품2", "설명", 100, 10, 10, ProductStatus.ACTIVE);
+            addToIndex(p1, 9);
+            addToIndex(p2, 5);
+
+            // act
+            productFacade.deactivate(p1.productId());
+            Page<ProductResponse> result = productQueryService.searchProducts(brandAId, "likes_desc", 0, 10);
+
+            // assert
+            assertThat(masterRedisTemplate.opsForZSet().score("products:most-liked:b" + brandAId, p1.productId().toString())).isNull();
+            assertThat(result.getContent()).extracting(ProductResponse::productId).containsExactly(p2.productId());
+            assertThat(result.getTotalElements()).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("성공: 상품 목록 조회 시 캐시가 동작한다.")
         void cacheWorks_whenSearchProducts() {
@@ -156,6 +238,56 @@ class ProductUseCaseIntegrationTest {
         }
     }
 
+    @DisplayName("커서 기반 상품 목록 조회")
+    @Nested
+    class ScrollProducts {
+        @DisplayName("성공: 커서를 따라가면 가격 오름차순으로 모든 상품을 중복/누락 없이 조회한다.")
+        @Test
+        void returnAllProductsWithoutDuplicates_whenFollowingCursor() {
+            // arrange - 같은 가격이 섞여 있어도 id로 순서가 고정된다.
+            for (int i = 0; i < 5; i++) {
+                productFacade.create(brandAId, "상품" + i, "설명", 100L * (i % 3), 10, 10, ProductStatus.ACTIVE);
+            }
+
+            // act
+            ProductScrollResponse first = productQueryService.scrollProducts(brandAId, "price_asc", null, 2, true);
+            ProductScrollResponse second = productQueryService.scrollProducts(brandAId, "price_asc", first.nextCursor(), 2, false);
+            ProductScrollResponse third = productQueryService.scrollProducts(brandAId, "price_asc", second.nextCursor(), 2, false);
+
+            List<ProductResponse> all = new ArrayList<>();
+            all.addAll(first.content());
+            all.addAll(second.content());
+            all.addAll(third.content());
+
+            // assert
+            assertAll(
+                    () -> assertThat(first.approximateTotal()).isEqualTo(5),
+                    () -> assertThat(second.approximateTotal()).isNull(),
+                    () -> assertThat(third.hasNext()).isFalse(),
+                    () -> assertThat(third.nextCursor()).isNull(),
+                    () -> assertThat(all).hasSize(5),
+                    () -> assertThat(all).extracting(ProductResponse::productId).doesNotHaveDuplicates(),
+                    () -> assertThat(all).isSortedAccordingTo(Comparator.comparing(ProductResponse::price))
+            );
+        }
+
+        @DisplayName("실패: 다른 정렬 조건의 커서를 사용하면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenCursorSortMismatches() {
+            // arrange
+            productFacade.create(brandAId, "상품1", "설명", 100, 10, 10, ProductStatus.ACTIVE);
+            productFacade.create(brandAId, "상품2", "설명", 200, 10, 10, ProductStatus.ACTIVE);
+            ProductScrollResponse latest = productQueryService.scrollProducts(brandAId, "latest", null, 1, false);
+
+            // act
+            CoreException result = assertThrows(CoreException.class,
+                    () -> productQueryService.scrollProducts(brandAId, "price_asc", latest.nextCursor(), 1, false));
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
     @DisplayName("상품 상세 조회")
     @Nested
     class GetProductDetail {
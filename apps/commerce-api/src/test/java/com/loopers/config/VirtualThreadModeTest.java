@@ -0,0 +1,70 @@
+package com.loopers.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired(required = false)
+    private VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 DataSource 가 동시 사용 제한으로 감싸지고, pinning 감시가 켜진다.")
+    void virtualThreadMode_wrapsDataSourceAndStartsPinningMonitor() {
+        // assert
+        assertThat(dataSource).isNotInstanceOf(HikariDataSource.class);
+        assertThat(DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class)).isNotNull();
+        assertThat(virtualThreadPinningMonitor).isNotNull();
+    }
+
+    @Test
+    @DisplayName("풀 크기보다 훨씬 많은 가상 스레드가 동시에 쿼리해도 커넥션 획득 실패 없이 모두 처리된다.")
+    void manyVirtualThreads_shareConnectionPool_withoutTimeout() throws InterruptedException {
+        // arrange
+        int threadCount = 300;
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        ready.await();
+                        jdbcTemplate.queryForObject("SELECT SLEEP(0.01)", Integer.class);
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        // 실패는 successCount로 검증
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            ready.countDown();
+            latch.await();
+        }
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(threadCount);
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.loopers.infrastructure.count;
+
+import com.loopers.config.CountCacheProperties;
+import com.loopers.domain.count.CountCacheRepository;
+import com.loopers.domain.count.CountKey;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CountCacheRepositoryTest {
+
+    private static final String COUNT_KEY = "count::test";
+
+    @Autowired
+    private CountCacheRepository countCacheRepository;
+    @Autowired
+    private CountCacheRepositoryImpl countCacheRepositoryImpl;
+    @Autowired
+    private CountCacheProperties countCacheProperties;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        countCacheProperties.setRefreshBatchSize(200);
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("캐시된 개수가 있으면 COUNT 조회를 다시 실행하지 않는다.")
+    void getOrCount_countsOnlyOnce() {
+        // arrange
+        AtomicInteger countQueries = new AtomicInteger();
+
+        // act
+        long first = countCacheRepository.getOrCount(COUNT_KEY, () -> { countQueries.incrementAndGet(); return 10L; });
+        long second = countCacheRepository.getOrCount(COUNT_KEY, () -> { countQueries.incrementAndGet(); return 99L; });
+
+        // assert
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 개수는 증감이 반영되고, 캐시에 없는 키는 증감해도 만들어지지 않는다.")
+    void adjust_appliesOnlyToCachedKeys() {
+        // arrange
+        countCacheRepository.getOrCount(COUNT_KEY, () -> 10L);
+
+        // act
+        countCacheRepository.adjustAfterCommit(COUNT_KEY, 2);
+        countCacheRepository.adjustAfterCommit("count::missing", 5);
+
+        // assert
+        assertThat(countCacheRepository.getOrCount(COUNT_KEY, () -> 0L)).isEqualTo(12L);
+        assertThat(countCacheRepository.getOrCount("count::missing", () -> 3L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 조회된 키를 다시 COUNT 하여 오차를 보정한다.")
+    void refreshTrackedCounts_recountsTrackedKeys() {
+        // arrange
+        AtomicInteger actualCount = new AtomicInteger(10);
+        countCacheRepository.getOrCount(COUNT_KEY, actualCount::get);
+        actualCount.set(15);
+
+        // act
+        countCacheRepositoryImpl.refreshTrackedCounts();
+
+        // assert
+        assertThat(countCacheRepository.getOrCount(COUNT_KEY, () -> 0L)).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 한 번에 refresh-batch-size 개까지만 다시 COUNT 하고, 남은 키는 다음 주기에 갱신한다.")
+    void refreshTrackedCounts_isCappedPerRun() {
+        // arrange
+        countCacheRepositoryImpl.refreshTrackedCounts();   // 다른 테스트에서 조회된 키 정리
+        countCacheProperties.setRefreshBatchSize(1);
+        AtomicInteger countQueries = new AtomicInteger();
+        countCacheRepository.getOrCount("count::a", () -> { countQueries.incrementAndGet(); return 1L; });
+        countCacheRepository.getOrCount("count::b", () -> { countQueries.incrementAndGet(); return 1L; });
+        countQueries.set(0);
+
+        // act
+        countCacheRepositoryImpl.refreshTrackedCounts();
+        int firstRun = countQueries.getAndSet(0);
+        countCacheRepositoryImpl.refreshTrackedCounts();
+        int secondRun = countQueries.get();
+
+        // assert
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(secondRun).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자별 주문 수는 주기 갱신 대상이 아니다.")
+    void refreshTrackedCounts_skipsUserOrderCounts() {
+        // arrange
+        AtomicInteger countQueries = new AtomicInteger();
+        countCacheRepository.getOrCount(CountKey.userOrders(1L), () -> { countQueries.incrementAndGet(); return 3L; });
+
+        // act
+        countCacheRepositoryImpl.refreshTrackedCounts();
+
+        // assert
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "like.counter.fold-interval=PT1H")
+class LikeCountShardTest {
+
+    @Autowired
+    private LikeCountShardRepository likeCountShardRepository;
+    @Autowired
+    private LikeCountFolder likeCountFolder;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private long likeCountOf(Long productId) {
+        return productRepository.productInfo(productId).orElseThrow().getLikeCount();
+    }
+
+    @Test
+    @DisplayName("동시에 200번 좋아요 수를 올려도 합산 후 product.like_count 는 200이 되고, 남은 증감분은 0이 된다.")
+    void fold_appliesAllConcurrentDeltas() throws InterruptedException {
+        // arrange
+        Product product = productRepository.save(Product.of(1L, "상품", "설명", 1000, 10, 10, ProductStatus.ACTIVE));
+        int likeCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(likeCount);
+
+        // act
+        for (int i = 0; i < likeCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    likeCountShardRepository.add(product.getId(), 1);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        long pendingBeforeFold = likeCountShardRepository.pendingDelta(product.getId());
+        likeCountFolder.fold();
+
+        // assert
+        assertThat(pendingBeforeFold).isEqualTo(likeCount);
+        assertThat(likeCountOf(product.getId())).isEqualTo(likeCount);
+        assertThat(likeCountShardRepository.pendingDelta(product.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 섞여도 합산 결과는 증감분의 합이고, 0 아래로 내려가지 않는다.")
+    void fold_appliesNetDelta_andNeverGoesBelowZero() {
+        // arrange
+        Product liked = productRepository.save(Product.of(1L, "상품1", "설명", 1000, 10, 10, ProductStatus.ACTIVE));
+        Product unliked = productRepository.save(Product.of(1L, "상품2", "설명", 1000, 10, 10, ProductStatus.ACTIVE));
+        for (int i = 0; i < 5; i++) {
+            likeCountShardRepository.add(liked.getId(), 1);
+        }
+        likeCountShardRepository.add(liked.getId(), -2);
+        likeCountShardRepository.add(unliked.getId(), -1);
+
+        // act
+        likeCountFolder.fold();
+
+        // assert
+        assertThat(likeCountOf(liked.getId())).isEqualTo(3);
+        assertThat(likeCountOf(unliked.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("합산과 AB/BA 순서 주문이 동시에 같은 상품 행을 잠가도 데드락 없이 모두 완료된다.")
+    void fold_concurrentWithMultiItemOrders_withoutDeadlock() throws InterruptedException {
+        // arrange
+        Product productA = productRepository.save(Product.of(1L, "상품A", "설명", 1000, 1000, 10, ProductStatus.ACTIVE));
+        Product productB = productRepository.save(Product.of(1L, "상품B", "설명", 1000, 1000, 10, ProductStatus.ACTIVE));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger orderFailures = new AtomicInteger();
+        int rounds = 20;
+
+        for (int round = 0; round < rounds; round++) {
+            // 카운터 행 순서가 상품 ID 역순(B → A)이 되도록 B 를 먼저 올린다.
+            likeCountShardRepository.add(productB.getId(), 1);
+            likeCountShardRepository.add(productA.getId(), 1);
+
+            ExecutorService executorService = Executors.newFixedThreadPool(3);
+            CountDownLatch latch = new CountDownLatch(3);
+
+            // act
+            for (List<Long> itemOrder : List.of(List.of(productA.getId(), productB.getId()), List.of(productB.getId(), productA.getId()))) {
+                executorService.submit(() -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(status ->
+                                productRepository.findAllByIdWithLock(itemOrder).forEach(product -> product.decreaseStock(1)));
+                    } catch (Exception e) {
+                        orderFailures.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            executorService.submit(() -> {
+                try {
+                    likeCountFolder.fold();
+                } finally {
+                    latch.countDown();
+                }
+            });
+            latch.await();
+            executorService.shutdown();
+
+            // assert (합산 트랜잭션이 데드락으로 롤백되면 증감분이 남는다)
+            assertThat(likeCountShardRepository.pendingDelta(productA.getId())).isZero();
+            assertThat(likeCountShardRepository.pendingDelta(productB.getId())).isZero();
+        }
+
+        assertThat(orderFailures.get()).isZero();
+        assertThat(likeCountOf(productA.getId())).isEqualTo(rounds);
+        assertThat(likeCountOf(productB.getId())).isEqualTo(rounds);
+    }
+
+}
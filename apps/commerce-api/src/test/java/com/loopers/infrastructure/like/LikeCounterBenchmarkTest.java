@@ -0,0 +1,109 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 상품 하나에 500명이 동시에 좋아요를 누를 때 좋아요 수 집계 비교
+ * - optimistic-lock : Product 엔티티를 읽어 likeCount 증가 후 저장, 버전 충돌 시 재시도 (최대 50회)
+ * - sharded         : 분할 카운터 행에 원자적 증감 후 한 번 합산
+ *
+ * 측정 값: 초당 반영 수(likes/sec), 버전 충돌로 재시도한 횟수, 재시도 한도 초과로 유실된 좋아요 수
+ * 기본 테스트 실행에서는 제외되며, 아래처럼 명시적으로 실행한다.
+ *   ./gradlew :apps:commerce-api:test --tests "*LikeCounterBenchmarkTest" -Dbenchmark=true
+ */
+@SpringBootTest(properties = "like.counter.fold-interval=PT1H")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LikeCounterBenchmarkTest {
+
+    private static final int LIKER_COUNT = 500;
+    private static final int THREAD_COUNT = 64;
+    private static final int MAX_ATTEMPTS = 50;
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private LikeCountShardRepository likeCountShardRepository;
+    @Autowired
+    private LikeCountFolder likeCountFolder;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("상품 하나에 500명 동시 좋아요: 낙관적 락 재시도 vs 분할 카운터")
+    void compareOptimisticLockAndShards() throws InterruptedException {
+        AtomicInteger conflicts = new AtomicInteger();
+        report("optimistic-lock", conflicts, productId -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    productService.increaseLikeCount(productId);
+                    return;
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        });
+
+        report("sharded", new AtomicInteger(), productId -> likeCountShardRepository.add(productId, 1));
+    }
+
+    private void report(String mode, AtomicInteger conflicts, Consumer<Long> like) throws InterruptedException {
+        Long productId = productRepository.save(Product.of(1L, "인기상품", "설명", 1000, 10, 10, ProductStatus.ACTIVE)).getId();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(LIKER_COUNT);
+        AtomicInteger lostCount = new AtomicInteger();
+
+        for (int i = 0; i < LIKER_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    like.accept(productId);
+                } catch (Exception e) {
+                    lostCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        latch.await();
+        likeCountFolder.fold();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        long likeCount = productRepository.productInfo(productId).orElseThrow().getLikeCount();
+        System.out.printf("[like-counter] mode=%-15s likers=%4d likeCount=%4d lost=%4d conflicts=%6d likes/sec=%,8.1f%n",
+                mode, LIKER_COUNT, likeCount, lostCount.get(), conflicts.get(), LIKER_COUNT / (elapsedNanos / 1_000_000_000.0));
+    }
+
+}
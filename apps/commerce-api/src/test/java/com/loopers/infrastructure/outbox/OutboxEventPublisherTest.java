@@ -0,0 +1,115 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.application.like.event.LikeAddedEvent;
+import com.loopers.domain.like.LikeType;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxStatus;
+import com.loopers.infrastructure.event.OutboxEventPublisher;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 스케줄 relay 는 끄고 relayBatch 를 직접 호출해 검증한다.
+@SpringBootTest(properties = {"outbox.relay.enabled=false", "outbox.relay.max-attempts=2"})
+class OutboxEventPublisherTest {
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 outbox 이벤트도 저장되지 않는다.")
+    void publish_isRolledBackWithTransaction() {
+        // arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // act
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            outboxEventPublisher.publish("catalog-events", "1", LikeAddedEvent.of(1L, 1L, LikeType.PRODUCT));
+            throw new IllegalStateException("비즈니스 처리 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // assert
+        assertThat(outboxEventJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트는 발행 대기로 저장되고, relay 가 Kafka 전송 후 발행 완료로 바꾼다.")
+    void relay_publishesCommittedEventsInOrder() {
+        // arrange
+        outboxEventPublisher.publish("catalog-events", "1", LikeAddedEvent.of(1L, 1L, LikeType.PRODUCT));
+        outboxEventPublisher.publish("catalog-events", "1", LikeAddedEvent.of(2L, 1L, LikeType.PRODUCT));
+        outboxEventPublisher.publish("catalog-events", "2", LikeAddedEvent.of(1L, 2L, LikeType.PRODUCT));
+
+        List<OutboxEvent> pending = outboxEventJpaRepository.findAll();
+        assertThat(pending).hasSize(3)
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING));
+
+        // act
+        int relayed = outboxRelay.relayBatch();
+
+        // assert
+        assertThat(relayed).isEqualTo(3);
+        assertThat(outboxEventJpaRepository.findAll())
+                .allSatisfy(event -> {
+                    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+                    assertThat(event.getPublishedAt()).isNotNull();
+                });
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 계속 실패하는 이벤트는 최대 시도 횟수 후 DEAD 가 되어 더 이상 전송하지 않고, 같은 키의 뒤 이벤트는 전송된다.")
+    void relay_marksPoisonEventDead_afterMaxAttempts() {
+        // arrange - 역직렬화할 수 없는 payload (poison 이벤트)
+        outboxEventJpaRepository.save(OutboxEvent.of("poison-1", "LikeAddedEvent", "catalog-events", "1", "not-json"));
+        outboxEventPublisher.publish("catalog-events", "1", LikeAddedEvent.of(1L, 1L, LikeType.PRODUCT));
+
+        // act
+        outboxRelay.relayBatch();   // 1회 실패, 같은 키의 뒤 이벤트는 보내지 않음
+        outboxRelay.relayBatch();   // 2회 실패 → DEAD
+        outboxRelay.relayBatch();   // 뒤 이벤트 전송
+
+        // assert
+        List<OutboxEvent> events = outboxEventJpaRepository.findAll();
+        assertThat(events).filteredOn(event -> event.getEventId().equals("poison-1"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getStatus()).isEqualTo(OutboxStatus.DEAD);
+                    assertThat(event.getAttempts()).isEqualTo(2);
+                    assertThat(event.getLastError()).isNotBlank();
+                });
+        assertThat(events).filteredOn(event -> !event.getEventId().equals("poison-1"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED));
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductResponse;
+import com.loopers.config.ProductCacheProperties;
+import com.loopers.domain.product.ProductStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 캐시 직렬화 단위 테스트")
+class ProductCacheSerializerTest {
+
+    private final ProductListCacheEntry entry = new ProductListCacheEntry(
+            List.of(new ProductResponse(1L, 2L, "상품", "설명", 1000, 10, ProductStatus.ACTIVE, 5, null, null)),
+            0, 20, 1, 1_000, 10, 61_000
+    );
+
+    private ProductCacheSerializer serializer(String codec) {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        properties.setCodec(codec);
+        return new ProductCacheSerializer(properties);
+    }
+
+    @DisplayName("Smile로 저장한 캐시를 그대로 복원한다.")
+    @Test
+    void decodesSmileEncodedEntry() throws IOException {
+        // Arrange
+        ProductCacheSerializer smile = serializer(JacksonProductCacheCodec.SMILE);
+
+        // Act
+        ProductListCacheEntry decoded = smile.decode(smile.encode(entry), ProductListCacheEntry.class);
+
+        // Assert
+        assertThat(decoded).isEqualTo(entry);
+    }
+
+    @DisplayName("저장 포맷이 바뀌어도 헤더로 포맷을 판별하여 기존 캐시를 읽는다.")
+    @Test
+    void decodesEntryWrittenWithAnotherCodec() throws IOException {
+        // Arrange
+        byte[] jsonBytes = serializer(JacksonProductCacheCodec.JSON).encode(entry);
+        byte[] smileBytes = serializer(JacksonProductCacheCodec.SMILE).encode(entry);
+
+        // Act & Assert
+        assertThat(serializer(JacksonProductCacheCodec.SMILE).decode(jsonBytes, ProductListCacheEntry.class)).isEqualTo(entry);
+        assertThat(serializer(JacksonProductCacheCodec.JSON).decode(smileBytes, ProductListCacheEntry.class)).isEqualTo(entry);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    }
+
+}
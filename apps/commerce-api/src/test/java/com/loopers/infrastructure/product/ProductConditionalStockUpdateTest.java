@@ -0,0 +1,141 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@SpringBootTest
+class ProductConditionalStockUpdateTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product product(int stock) {
+        return productRepository.save(Product.of(1L, "상품", "설명", 1000, stock, 10, ProductStatus.ACTIVE));
+    }
+
+    private int stockOf(Product product) {
+        return productRepository.productInfo(product.getId()).orElseThrow().getStock();
+    }
+
+    /**
+     * 주문 트랜잭션처럼 일부만 차감되면 롤백한다.
+     */
+    private List<StockChangeResult> decreaseInTransaction(Map<Long, Integer> quantities) {
+        return transactionTemplate.execute(status -> {
+            List<StockChangeResult> results = productRepository.decreaseStockIfAvailable(quantities);
+            if (results.isEmpty()) {
+                status.setRollbackOnly();
+            }
+            return results;
+        });
+    }
+
+    @Test
+    @DisplayName("모든 상품의 재고가 충분하면 한 번에 차감하고, 차감 전후 재고를 반환한다.")
+    void decreaseStockIfAvailable_returnsStockChanges() {
+        // arrange
+        Product productA = product(5);
+        Product productB = product(3);
+
+        // act
+        List<StockChangeResult> results = decreaseInTransaction(Map.of(productB.getId(), 1, productA.getId(), 2));
+
+        // assert
+        assertThat(results).extracting(StockChangeResult::productId, StockChangeResult::previousStock, StockChangeResult::currentStock)
+                .containsExactly(
+                        tuple(productA.getId(), 5, 3),
+                        tuple(productB.getId(), 3, 2)
+                );
+        assertThat(stockOf(productA)).isEqualTo(3);
+        assertThat(stockOf(productB)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 재고가 부족하면 빈 결과를 반환하고, 롤백 후 어떤 상품도 차감되지 않는다.")
+    void decreaseStockIfAvailable_returnsEmpty_whenAnyLineIsShort() {
+        // arrange
+        Product productA = product(5);
+        Product productB = product(1);
+
+        // act
+        List<StockChangeResult> results = decreaseInTransaction(Map.of(productA.getId(), 2, productB.getId(), 2));
+
+        // assert
+        assertThat(results).isEmpty();
+        assertThat(stockOf(productA)).isEqualTo(5);
+        assertThat(stockOf(productB)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 100명이 재고 50개 상품을 차감하면 50명만 성공하고 재고는 0이 된다.")
+    void decreaseStockIfAvailable_neverOversells() throws InterruptedException {
+        // arrange
+        Product product = product(50);
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (!decreaseInTransaction(Map.of(product.getId(), 1)).isEmpty()) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(stockOf(product)).isZero();
+    }
+
+}
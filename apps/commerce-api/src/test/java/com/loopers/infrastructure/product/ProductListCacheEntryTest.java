@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 목록 캐시 항목 갱신 판단 단위 테스트")
+class ProductListCacheEntryTest {
+
+    private ProductListCacheEntry entry(long computeMillis, long logicalExpireAt) {
+        return new ProductListCacheEntry(List.of(), 0, 20, 0, 0, computeMillis, logicalExpireAt);
+    }
+
+    @DisplayName("논리 만료가 지나면 항상 갱신 대상이다.")
+    @Test
+    void shouldRefresh_whenLogicallyExpired() {
+        // Arrange
+        ProductListCacheEntry entry = entry(0, 1_000);
+
+        // Act & Assert
+        assertThat(entry.shouldRefresh(1_000, 1.0)).isTrue();
+    }
+
+    @DisplayName("재계산 비용이 0이면 논리 만료 전에는 갱신하지 않는다.")
+    @Test
+    void shouldNotRefresh_whenComputeCostIsZeroBeforeExpiry() {
+        // Arrange
+        ProductListCacheEntry entry = entry(0, 1_000);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(entry.shouldRefresh(999, 1.0)).isFalse();
+        }
+    }
+
+    @DisplayName("만료가 가까울수록, 재계산 비용이 클수록 조기 갱신 확률이 높아진다.")
+    @Test
+    void refreshProbability_increasesNearExpiry() {
+        // Arrange
+        ProductListCacheEntry entry = entry(100, 10_000);
+
+        // Act
+        int farFromExpiry = 0;
+        int nearExpiry = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (entry.shouldRefresh(9_000, 1.0)) farFromExpiry++;   // 만료 1초 전
+            if (entry.shouldRefresh(9_950, 1.0)) nearExpiry++;      // 만료 50ms 전
+        }
+
+        // Assert
+        assertThat(nearExpiry).isGreaterThan(farFromExpiry);
+        assertThat(nearExpiry).isLessThan(10_000);
+    }
+
+}
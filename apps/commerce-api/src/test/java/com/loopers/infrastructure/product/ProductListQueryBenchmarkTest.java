@@ -0,0 +1,135 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSpecs;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 조회 경로 비교 벤치마크
+ * - entity     : findAll(spec, pageable) - 엔티티 전체 컬럼 로딩 + 영속성 컨텍스트 등록
+ * - projection : 커버링 인덱스 id 조회 + 목록 컬럼 생성자 프로젝션
+ *
+ * 측정 값: 초당 조회 행 수(rows/sec), 페이지당 힙 할당량(bytes/page)
+ * 기본 테스트 실행에서는 제외되며, 아래처럼 명시적으로 실행한다.
+ *   ./gradlew :apps:commerce-api:test --tests "*ProductListQueryBenchmarkTest" -Dbenchmark=true
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductListQueryBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 50_000;
+    private static final int BRAND_COUNT = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 1_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(i));
+            rows.add(new Object[]{
+                    (long) (i % BRAND_COUNT) + 1, "상품-" + i, "상품 설명 ".repeat(20), 1_000L + (i % 5_000),
+                    100, 10, "ACTIVE", (long) (i % 1_000), 0L, createdAt, createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (brand_id, name, description, price, stock, max_order_quantity, status, like_count, version, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("목록 조회: 엔티티 로딩 vs 커버링 인덱스 + 프로젝션")
+    void compareEntityAndProjectionListQueries() {
+        for (String sort : List.of("latest", "likes_desc")) {
+            for (Long brandId : new Long[]{null, 7L}) {
+                Sort sortCondition = "likes_desc".equals(sort)
+                        ? Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "id"))
+                        : Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+                Specification<Product> spec = Specification.where(ProductSpecs.isActive());
+                if (brandId != null) {
+                    spec = spec.and(ProductSpecs.isBrand(brandId));
+                }
+                Specification<Product> finalSpec = spec;
+
+                report("entity", sort, brandId, page -> productRepository.productList(finalSpec, page).getNumberOfElements(), sortCondition);
+                report("projection", sort, brandId, page -> productRepository.activeProductListViews(brandId, page).getNumberOfElements(), sortCondition);
+            }
+        }
+    }
+
+    private void report(String path, String sort, Long brandId, java.util.function.Function<Pageable, Integer> query, Sort sortCondition) {
+        Supplier<Integer> onePass = () -> {
+            int rows = 0;
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                Pageable page = PageRequest.of(i % 10, PAGE_SIZE, sortCondition);
+                rows += readOnlyTransaction.execute(status -> query.apply(page));
+            }
+            return rows;
+        };
+
+        // 워밍업
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            Pageable page = PageRequest.of(i % 10, PAGE_SIZE, sortCondition);
+            readOnlyTransaction.execute(status -> query.apply(page));
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        int rows = onePass.get();
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("[product-list] path=%-10s sort=%-10s brandId=%-4s rows/sec=%,10.0f bytes/page=%,10d%n",
+                path, sort, brandId, rows / (elapsedNanos / 1_000_000_000.0), allocated / MEASURE_ITERATIONS);
+    }
+
+}
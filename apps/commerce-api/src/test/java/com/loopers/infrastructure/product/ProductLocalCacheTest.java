@@ -0,0 +1,124 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.brand.BrandApplicationService;
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductQueryService;
+import com.loopers.application.product.ProductResponse;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// L1 TTL 만료로 맞춰지는 경우를 기다릴 수 있도록 상세 L1 TTL 을 줄인다. (Pub/Sub 전달보다는 충분히 길게)
+@SpringBootTest(properties = "cache.product.local-detail-ttl=PT3S")
+class ProductLocalCacheTest {
+
+    @Autowired
+    private ProductQueryService productQueryService;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private BrandApplicationService brandAppService;
+    @Autowired
+    private ProductLocalCache productLocalCache;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private ProductResponse product;
+    private String detailKey;
+
+    @BeforeEach
+    void setUp() {
+        BrandInfo brand = brandAppService.create("브랜드", "설명", true);
+        product = productFacade.create(brand.id(), "상품", "설명", 1000, 100, 0, ProductStatus.ACTIVE);
+        detailKey = "product:detail:" + product.productId();
+
+        redisCleanUp.truncateAll();
+        productLocalCache.invalidateDetail(detailKey);
+
+        // 첫 조회로 L1/L2 를 채운다.
+        productQueryService.getProductDetail(product.productId());
+        clearInvocations(productRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        productLocalCache.invalidateDetail(detailKey);
+    }
+
+    @Test
+    @DisplayName("L1 에 있는 상품 상세는 Redis 에 없어도 L1 에서 응답하고 DB 를 조회하지 않는다.")
+    void productDetail_isServedFromL1_withoutRedisOrDb() {
+        // arrange - L2 만 비운다.
+        redisTemplate.delete(detailKey);
+
+        // act
+        ProductResponse response = productQueryService.getProductDetail(product.productId());
+
+        // assert
+        assertThat(response.productId()).isEqualTo(product.productId());
+        assertThat(redisTemplate.hasKey(detailKey)).isFalse();
+        verify(productRepository, never()).productInfo(product.productId());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 무효화 메시지를 받으면 L1 상세를 지우고, 다음 조회는 DB 에서 다시 적재한다.")
+    void productDetail_isEvictedFromL1_onPubSubInvalidation() {
+        // arrange - 다른 노드가 L2 를 지우고 무효화 메시지를 발행한 상황
+        redisTemplate.delete(detailKey);
+
+        // act
+        redisTemplate.convertAndSend(ProductCacheInvalidationListener.CHANNEL, detailKey);
+
+        // assert - TTL(3초)보다 먼저 L1 에서 사라진다.
+        await().atMost(Duration.ofSeconds(1)).until(() -> productLocalCache.getDetail(detailKey).isEmpty());
+        productQueryService.getProductDetail(product.productId());
+        verify(productRepository, times(1)).productInfo(product.productId());
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 놓쳐도 L1 TTL 이 지나면 L2/DB 에서 다시 읽는다.")
+    void productDetail_fallsBackAfterL1Ttl_whenInvalidationIsLost() throws InterruptedException {
+        // arrange - L2 는 지워졌지만 무효화 메시지는 전달되지 않은 상황
+        redisTemplate.delete(detailKey);
+
+        // act & assert - TTL 안에서는 L1 값을 그대로 응답
+        productQueryService.getProductDetail(product.productId());
+        verify(productRepository, never()).productInfo(product.productId());
+
+        // act & assert - TTL 이 지나면 DB 에서 다시 적재
+        Thread.sleep(Duration.ofSeconds(3).plusMillis(500).toMillis());
+        productQueryService.getProductDetail(product.productId());
+        verify(productRepository, times(1)).productInfo(product.productId());
+        assertThat(redisTemplate.hasKey(detailKey)).isTrue();
+    }
+
+}
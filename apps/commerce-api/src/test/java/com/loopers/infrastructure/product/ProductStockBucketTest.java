@@ -0,0 +1,207 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductListView;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주기 재배분은 멈추고 rebalance 를 직접 호출해 검증한다.
+@SpringBootTest(properties = "stock.bucket.rebalance-interval=PT1H")
+class ProductStockBucketTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private StockBucketRebalancer stockBucketRebalancer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product bucketedProduct(int stock, int bucketCount) {
+        Product product = productRepository.save(Product.of(1L, "한정판", "설명", 1000, stock, 10, ProductStatus.ACTIVE));
+        productFacade.enableStockBuckets(product.getId(), bucketCount);
+        return product;
+    }
+
+    private List<StockChangeResult> decreaseInTransaction(Map<Long, Integer> quantities) {
+        return transactionTemplate.execute(status -> {
+            List<StockChangeResult> results = productRepository.decreaseStockIfAvailable(quantities);
+            if (results.isEmpty()) {
+                status.setRollbackOnly();
+            }
+            return results;
+        });
+    }
+
+    private List<Integer> bucketStocks(Product product) {
+        return jdbcTemplate.queryForList(
+                "SELECT stock FROM product_stock_bucket WHERE product_id = ? ORDER BY bucket_no", Integer.class, product.getId());
+    }
+
+    @Test
+    @DisplayName("버킷 모드로 전환하면 재고가 버킷에 고르게 나뉘고, 판매 가능 재고는 버킷 합계다.")
+    void enableStockBuckets_splitsStockEvenly() {
+        // act
+        Product product = bucketedProduct(10, 4);
+
+        // assert
+        assertThat(bucketStocks(product)).containsExactly(3, 3, 2, 2);
+        assertThat(productRepository.availableStock(product.getId())).contains(10);
+    }
+
+    @Test
+    @DisplayName("동시에 100명이 버킷 4개로 나뉜 재고 50개 상품을 주문하면 50명만 성공하고 버킷 합계는 0이 된다.")
+    void decreaseStockIfAvailable_neverOversells_acrossBuckets() throws InterruptedException {
+        // arrange
+        Product product = bucketedProduct(50, 4);
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (!decreaseInTransaction(Map.of(product.getId(), 1)).isEmpty()) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(productRepository.availableStock(product.getId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("한 버킷 차감과 여러 버킷 나눠 차감이 동시에 섞여도 데드락 없이 판매 수량과 남은 재고의 합이 처음 재고와 같다.")
+    void decreaseStockIfAvailable_mixedQuantities_withoutDeadlock() throws InterruptedException {
+        // arrange
+        Product product = bucketedProduct(60, 4);   // [15, 15, 15, 15]
+        int threadCount = 60;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger soldQuantity = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            int quantity = i % 2 == 0 ? 1 : 7;
+            executorService.submit(() -> {
+                try {
+                    if (!decreaseInTransaction(Map.of(product.getId(), quantity)).isEmpty()) {
+                        soldQuantity.addAndGet(quantity);
+                    }
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertThat(errorCount.get()).isZero();
+        assertThat(soldQuantity.get() + productRepository.availableStock(product.getId()).orElseThrow()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("한 버킷으로 채울 수 없는 수량은 여러 버킷에서 나눠 차감한다.")
+    void decreaseStockIfAvailable_drainsAcrossBuckets() {
+        // arrange
+        Product product = bucketedProduct(3, 3);   // [1, 1, 1]
+
+        // act
+        List<StockChangeResult> results = decreaseInTransaction(Map.of(product.getId(), 2));
+
+        // assert
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).currentStock()).isEqualTo(1);
+        assertThat(productRepository.availableStock(product.getId())).contains(1);
+    }
+
+    @Test
+    @DisplayName("재배분하면 버킷 재고가 다시 고르게 나뉘고 Product.stock 이 버킷 합계로 맞춰진다.")
+    void rebalance_evensBucketsAndSyncsProductStock() {
+        // arrange
+        Product product = bucketedProduct(8, 2);   // [4, 4]
+        jdbcTemplate.update("UPDATE product_stock_bucket SET stock = 0 WHERE product_id = ? AND bucket_no = 0", product.getId());
+
+        // act
+        stockBucketRebalancer.rebalance(product.getId());
+
+        // assert
+        assertThat(bucketStocks(product)).containsExactly(2, 2);
+        assertThat(productRepository.productInfo(product.getId()).orElseThrow().getStock()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("재배분 전이라도 목록 조회의 재고는 Product.stock 이 아니라 버킷 합계를 보여 준다.")
+    void findListViewsByIds_showsBucketTotal_beforeRebalance() {
+        // arrange
+        Product product = bucketedProduct(10, 2);   // [5, 5]
+        Product plain = productRepository.save(Product.of(1L, "일반", "설명", 1000, 7, 0, ProductStatus.ACTIVE));
+
+        // act
+        decreaseInTransaction(Map.of(product.getId(), 3));
+        List<ProductListView> views = productRepository.findListViewsByIds(List.of(product.getId(), plain.getId()));
+
+        // assert
+        assertThat(productRepository.productInfo(product.getId()).orElseThrow().getStock()).isEqualTo(10);
+        assertThat(views).extracting(ProductListView::stock).containsExactly(7, 7);
+        assertThat(productRepository.bucketedStocks(List.of(product.getId(), plain.getId())))
+                .containsExactly(Map.entry(product.getId(), 7));
+    }
+
+}
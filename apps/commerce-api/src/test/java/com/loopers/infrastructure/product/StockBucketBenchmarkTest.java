@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한정 판매 상품 하나에 1,000명이 동시에 주문할 때 재고 차감 처리량 비교
+ * - single-row : 상품 행 하나에 조건부 UPDATE
+ * - buckets=N  : 재고를 N개 버킷으로 나눠 임의 버킷에 조건부 UPDATE
+ *
+ * 측정 값: 초당 차감 성공 수(orders/sec) - 주문 트랜잭션처럼 차감 후 짧게 머문 뒤 커밋한다.
+ * 기본 테스트 실행에서는 제외되며, 아래처럼 명시적으로 실행한다.
+ *   ./gradlew :apps:commerce-api:test --tests "*StockBucketBenchmarkTest" -Dbenchmark=true
+ */
+@SpringBootTest(properties = "stock.bucket.rebalance-interval=PT1H")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockBucketBenchmarkTest {
+
+    private static final int BUYER_COUNT = 1_000;
+    private static final int THREAD_COUNT = 64;
+    private static final long HOLD_MILLIS = 5;   // 차감 후 커밋까지 주문 트랜잭션의 나머지 작업 시간
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("한정 판매 상품 1,000명 동시 주문: 단일 행 vs 재고 버킷")
+    void compareSingleRowAndBuckets() throws InterruptedException {
+        for (int bucketCount : new int[]{1, 4, 16}) {
+            Product product = productRepository.save(Product.of(1L, "한정판", "설명", 1000, BUYER_COUNT, 10, ProductStatus.ACTIVE));
+            if (bucketCount > 1) {
+                productFacade.enableStockBuckets(product.getId(), bucketCount);
+            }
+            report(bucketCount == 1 ? "single-row" : "buckets=" + bucketCount, product.getId());
+        }
+    }
+
+    private void report(String mode, Long productId) throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(BUYER_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    boolean success = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                        boolean decreased = !productRepository.decreaseStockIfAvailable(Map.of(productId, 1)).isEmpty();
+                        sleep(HOLD_MILLIS);
+                        return decreased;
+                    }));
+                    if (success) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 실패는 successCount로 확인
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        latch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        System.out.printf("[hot-sku-bucket] mode=%-10s buyers=%5d success=%5d orders/sec=%,8.1f%n",
+                mode, BUYER_COUNT, successCount.get(), successCount.get() / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
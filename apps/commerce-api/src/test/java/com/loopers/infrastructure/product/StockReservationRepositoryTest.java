@@ -0,0 +1,201 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.StockChangeResult;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+// 주기 반영은 멈추고 reconcile 을 직접 호출해 검증한다. 카운터 존재 여부는 매번 Redis 에서 확인한다.
+@SpringBootTest(properties = {
+        "stock.reservation.reconcile-interval=PT1H",
+        "stock.reservation.active-check-interval=PT0S"
+})
+class StockReservationRepositoryTest {
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private StockReconciler stockReconciler;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product product(int stock) {
+        return productRepository.save(Product.of(1L, "상품", "설명", 1000, stock, 10, ProductStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("여러 상품 중 하나라도 재고가 부족하면 아무 상품도 차감하지 않는다.")
+    void reserve_isAllOrNothing() {
+        // arrange
+        Product productA = product(5);
+        Product productB = product(1);
+
+        // act
+        assertThatThrownBy(() -> stockReservationRepository.reserve(Map.of(productA.getId(), 2, productB.getId(), 2)))
+                .isInstanceOf(CoreException.class);
+        List<StockChangeResult> results = stockReservationRepository.reserve(Map.of(productA.getId(), 2, productB.getId(), 1));
+
+        // assert
+        assertThat(results).extracting(StockChangeResult::productId, StockChangeResult::previousStock, StockChangeResult::currentStock)
+                .containsExactly(
+                        tuple(productA.getId(), 5, 3),
+                        tuple(productB.getId(), 1, 0)
+                );
+    }
+
+    @Test
+    @DisplayName("동시에 100명이 재고 50개 상품을 예약하면 50명만 성공하고, 반영 후 DB 재고는 0이 된다.")
+    void reserve_neverOversells_andReconcilesToDb() throws InterruptedException {
+        // arrange
+        Product product = product(50);
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    stockReservationRepository.reserve(Map.of(product.getId(), 1));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        stockReconciler.reconcile();
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(productRepository.productInfo(product.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약을 해제하면 다시 예약할 수 있고, DB 재고에는 순 차감 수량만 반영된다.")
+    void release_restoresReservedStock() {
+        // arrange
+        Product product = product(3);
+        stockReservationRepository.reserve(Map.of(product.getId(), 3));
+
+        // act
+        stockReservationRepository.release(Map.of(product.getId(), 2));
+        stockReservationRepository.reserve(Map.of(product.getId(), 1));
+        stockReconciler.reconcile();
+
+        // assert
+        assertThat(productRepository.productInfo(product.getId()).orElseThrow().getStock()).isEqualTo(1);
+        assertThatThrownBy(() -> stockReservationRepository.reserve(Map.of(product.getId(), 2)))
+                .isInstanceOf(CoreException.class);
+    }
+
+    @Test
+    @DisplayName("예약을 거치지 않고 DB 재고가 바뀐 뒤 무효화하면, 다음 예약은 바뀐 DB 재고 기준으로 다시 적재한다.")
+    void invalidate_reseedsFromDb_afterStockChangedOutsideReservation() {
+        // arrange
+        Product product = product(3);
+        stockReservationRepository.reserve(Map.of(product.getId(), 1));
+        stockReconciler.reconcile();
+
+        Product restocked = productRepository.productInfo(product.getId()).orElseThrow();
+        restocked.increaseStock(5);
+        productRepository.save(restocked);
+
+        // act
+        stockReservationRepository.invalidate(List.of(product.getId()));
+        List<StockChangeResult> results = stockReservationRepository.reserve(Map.of(product.getId(), 7));
+
+        // assert
+        assertThat(results).extracting(StockChangeResult::previousStock, StockChangeResult::currentStock)
+                .containsExactly(tuple(7, 0));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영 중(lease 보유)이면 카운터를 적재하지 않고, 반영이 끝난 뒤에 적재한다.")
+    void reserve_doesNotSeed_whileReconcileInProgress() {
+        // arrange
+        Product product = product(3);
+        redisTemplate.opsForValue().set(StockReservationRepositoryImpl.RECONCILE_LEASE_KEY, "other-node");
+
+        // act & assert
+        assertThatThrownBy(() -> stockReservationRepository.reserve(Map.of(product.getId(), 1)))
+                .isInstanceOf(CoreException.class);
+        assertThat(redisTemplate.hasKey(StockReservationRepositoryImpl.stockKey(product.getId()))).isFalse();
+
+        redisTemplate.delete(StockReservationRepositoryImpl.RECONCILE_LEASE_KEY);
+        assertThat(stockReservationRepository.reserve(Map.of(product.getId(), 1)))
+                .extracting(StockChangeResult::currentStock)
+                .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("적재된 카운터가 없으면 무효화는 Redis 에 아무것도 쓰지 않는다.")
+    void invalidate_skipsRedis_whenNoCounterSeeded() {
+        // arrange
+        Product product = product(3);
+
+        // act
+        stockReservationRepository.invalidate(List.of(product.getId()));
+
+        // assert
+        assertThat(redisTemplate.hasKey(StockReservationRepositoryImpl.EPOCH_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("카운터가 적재된 뒤에는 무효화가 카운터를 지우고 세대를 올린다.")
+    void invalidate_clearsCounter_afterSeed() {
+        // arrange
+        Product product = product(3);
+        stockReservationRepository.reserve(Map.of(product.getId(), 1));
+
+        // act
+        stockReservationRepository.invalidate(List.of(product.getId()));
+
+        // assert
+        assertThat(redisTemplate.hasKey(StockReservationRepositoryImpl.ACTIVE_KEY)).isTrue();
+        assertThat(redisTemplate.hasKey(StockReservationRepositoryImpl.stockKey(product.getId()))).isFalse();
+        assertThat(redisTemplate.opsForHash().get(StockReservationRepositoryImpl.EPOCH_KEY, product.getId().toString())).isEqualTo("1");
+    }
+
+}
@@ -1,28 +1,44 @@
 package com.loopers.application.cache;
 
-import lombok.RequiredArgsConstructor;
+import com.loopers.config.redis.RedisConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-
 /**
  * Redis 캐시 무효화 처리 서비스
  * 이벤트 발생 시 관련된 캐시를 삭제하여 데이터 일관성 보장
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CacheEvictService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;   // Pub/Sub 메시지는 JSON 직렬화 없이 문자열 그대로 발행
+    private final RedisTemplate<String, String> masterRedisTemplate;   // 목록 세대는 복제 지연 없이 master에서 증가
+
+    public CacheEvictService(
+            RedisTemplate<String, Object> redisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
 
     // 캐시 키 패턴 상수들
     private static final String PRODUCT_DETAIL_KEY_PATTERN = "product:detail:%d";
     private static final String PRODUCT_METRICS_KEY_PATTERN = "product:metrics:%d";
     private static final String TOP_LIKED_PRODUCTS_KEY = "products:top_liked";
-    private static final String PRODUCT_LIST_KEY_PATTERN = "products:list:*";
+    // 전체 목록 캐시 세대 (commerce-api ProductListCacheGeneration과 동일, 목록 캐시 키에 포함됨)
+    private static final String PRODUCT_LIST_GLOBAL_GENERATION_KEY = "products:list:gen:global";
+
+    // commerce-api L1 캐시 무효화 채널 (ProductCacheInvalidationListener와 동일)
+    private static final String CACHE_INVALIDATION_CHANNEL = "product:cache:invalidate";
+    private static final String PRODUCT_LIST_INVALIDATION_MESSAGE = "products:list";
 
     /**
      * 상품 관련 캐시 무효화
@@ -35,6 +51,7 @@ public class CacheEvictService {
             // 1. 상품 상세 정보 캐시 삭제
             String productDetailKey = String.format(PRODUCT_DETAIL_KEY_PATTERN, productId);
             redisTemplate.delete(productDetailKey);
+            publishInvalidation(productDetailKey);
 
             // 2. 상품 집계 정보 캐시 삭제 (좋아요 수 등)
             String productMetricsKey = String.format(PRODUCT_METRICS_KEY_PATTERN, productId);
@@ -78,18 +95,30 @@ public class CacheEvictService {
     /**
      * 상품 목록 캐시 무효화
      * 재고 소진/복구 시 호출하여 품절 상품 필터링이 적용된 목록 재생성 유도
-     * 검색 조건별로 여러 캐시가 있을 수 있으므로 패턴 매칭으로 모두 삭제
+     * 검색 조건별로 여러 캐시가 있으므로 키를 지우는 대신 전체 목록 세대를 INCR 한다.
+     * 이전 세대 키는 더 이상 조회되지 않고 TTL로 소멸한다. (품절 폭주 시 대량 삭제 방지)
      */
     public void evictProductListCache() {
         try {
-            // products:list:* 패턴의 모든 키 삭제
-            Set<String> keys = redisTemplate.keys(PRODUCT_LIST_KEY_PATTERN);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.info("상품 목록 캐시 삭제 완료 - 삭제된 키 개수: {}", keys.size());
-            }
+            Long generation = masterRedisTemplate.opsForValue().increment(PRODUCT_LIST_GLOBAL_GENERATION_KEY);
+            publishInvalidation(PRODUCT_LIST_INVALIDATION_MESSAGE);
+            log.info("상품 목록 캐시 세대 증가 완료 - generation: {}", generation);
+        } catch (Exception e) {
+            log.warn("상품 목록 캐시 무효화 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * commerce-api 각 노드의 L1(로컬) 캐시 무효화 메시지 발행
+     * Redis 키 삭제만으로는 api 노드 메모리에 남은 L1 캐시가 지워지지 않으므로 함께 발행한다.
+     *
+     * @param message 무효화 대상 캐시 키 (또는 목록 전체를 뜻하는 "products:list")
+     */
+    private void publishInvalidation(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, message);
         } catch (Exception e) {
-            log.warn("상품 목록 캐시 삭제 실패 - error: {}", e.getMessage());
+            log.warn("L1 캐시 무효화 메시지 발행 실패 - message: {}, error: {}", message, e.getMessage());
         }
     }
 
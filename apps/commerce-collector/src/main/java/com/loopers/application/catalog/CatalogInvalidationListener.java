@@ -0,0 +1,50 @@
+package com.loopers.application.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 캐시 무효화 메시지 구독자 (Redis Pub/Sub)
+ *
+ * commerce-api 는 가격/브랜드 변경 시 목록 세대를 올리고 사전 생성 페이지를 지운 뒤 무효화 메시지를 발행한다.
+ * 이 메시지로 해당 조합을 다시 만들어, 지워진 페이지가 다음 전체 재생성 주기까지 비어 있지 않게 한다.
+ *
+ * 메시지 형식 (commerce-api ProductCacheInvalidationListener와 동일):
+ * - "product:detail:{productId}" : 상품이 속한 브랜드 목록 + 전체 목록 재생성
+ * - "products:list::b{brandId}"   : 해당 브랜드 목록 + 전체 목록 재생성
+ * - "products:list"              : 재고 소진/복구 - 재고 이벤트에서 이미 표시하므로 무시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogInvalidationListener implements MessageListener {
+
+    public static final String CHANNEL = "product:cache:invalidate";
+
+    private static final String DETAIL_MESSAGE_PREFIX = "product:detail:";
+    private static final String BRAND_LIST_MESSAGE_PREFIX = "products:list::b";
+
+    private final CatalogPageMaterializer catalogPageMaterializer;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            if (body.startsWith(DETAIL_MESSAGE_PREFIX)) {
+                catalogPageMaterializer.markProductChanged(Long.valueOf(body.substring(DETAIL_MESSAGE_PREFIX.length())));
+            } else if (body.startsWith(BRAND_LIST_MESSAGE_PREFIX)) {
+                String brandId = body.substring(BRAND_LIST_MESSAGE_PREFIX.length());
+                catalogPageMaterializer.markBrandChanged("null".equals(brandId) ? null : Long.valueOf(brandId));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 캐시 무효화 메시지 - body: {}", body);
+        }
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.loopers.application.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.CatalogMaterializeProperties;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.catalog.CatalogProductJdbcReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 목록 페이지 사전 생성기
+ *
+ * 재고/좋아요 이벤트로 상품이 바뀌면 해당 브랜드와 전체 목록을 "변경됨"으로 표시하고,
+ * debounceWindow 마다 표시된 (브랜드, 정렬) 조합의 앞쪽 N 페이지를 다시 만들어 Redis에 저장한다.
+ * - 같은 구간 안의 이벤트는 하나로 합쳐진다. (좋아요 폭주 시에도 구간당 한 번 재생성)
+ * - 한 조합의 모든 페이지는 MULTI/EXEC 로 함께 교체되어, 읽는 쪽은 페이지 간 불일치를 보지 않는다.
+ * - 가격/브랜드 변경은 commerce-api 목록 무효화 메시지(CatalogInvalidationListener)로 표시된다.
+ * - 이벤트가 없는 변경(상품 등록 등)은 fullRefreshInterval 마다 전체 재생성으로 반영된다.
+ *
+ * commerce-api 는 페이지 키가 있으면 DB와 지연 캐시를 거치지 않고 그대로 응답한다.
+ */
+@Slf4j
+@Component
+public class CatalogPageMaterializer {
+
+    // commerce-api MaterializedCatalogPages 와 같은 키 형식
+    private static final String PAGE_KEY_FORMAT = "catalog:page:b%s:s%s:z%d:p%d";
+
+    private final CatalogProductJdbcReader catalogProductJdbcReader;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CatalogMaterializeProperties properties;
+
+    private static final int MAX_CACHED_PRODUCT_BRANDS = 100_000;
+
+    // 상품의 브랜드는 바뀌지 않으므로 한 번 조회한 값은 재사용 (이벤트마다 DB 조회 방지)
+    private final Map<Long, Long> brandIdByProductId = new ConcurrentHashMap<>();
+
+    // 다음 구간에 재생성할 브랜드 (전체 목록은 allDirty 로 따로 표시)
+    private final Set<Long> dirtyBrands = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean allDirty = new AtomicBoolean(false);
+
+    public CatalogPageMaterializer(
+            CatalogProductJdbcReader catalogProductJdbcReader,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            CatalogMaterializeProperties properties
+    ) {
+        this.catalogProductJdbcReader = catalogProductJdbcReader;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * 상품 변경 표시 - 상품이 속한 브랜드 목록과 전체 목록을 다음 구간에 재생성한다.
+     */
+    public void markProductChanged(Long productId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            Long brandId = brandIdByProductId.get(productId);
+            if (brandId == null) {
+                brandId = catalogProductJdbcReader.findBrandId(productId).orElse(null);
+                if (brandId != null) {
+                    if (brandIdByProductId.size() >= MAX_CACHED_PRODUCT_BRANDS) {
+                        brandIdByProductId.clear();
+                    }
+                    brandIdByProductId.put(productId, brandId);
+                }
+            }
+
+            if (brandId != null) {
+                dirtyBrands.add(brandId);
+            }
+            allDirty.set(true);
+        } catch (Exception e) {
+            // 재생성 누락은 전체 재생성 주기에 보정되므로 이벤트 처리는 계속한다.
+            log.warn("목록 페이지 변경 표시 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 브랜드 변경 표시 - 해당 브랜드 목록과 전체 목록을 다음 구간에 재생성한다.
+     * 가격/브랜드 변경처럼 재고/좋아요 이벤트가 없는 변경은 commerce-api 의 목록 무효화 메시지로 전달된다.
+     * @param brandId 브랜드 ID (null 이면 전체 목록만)
+     */
+    public void markBrandChanged(Long brandId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (brandId != null) {
+            dirtyBrands.add(brandId);
+        }
+        allDirty.set(true);
+    }
+
+    /**
+     * 디바운스 구간마다 변경 표시된 조합만 재생성
+     */
+    @Scheduled(fixedDelayString = "${catalog.materialize.debounce-window:PT1S}")
+    public void flushDirtyPages() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<Long> brandIds = new ArrayList<>(dirtyBrands);
+        dirtyBrands.removeAll(brandIds);
+
+        if (allDirty.getAndSet(false)) {
+            materialize(null);
+        }
+        brandIds.forEach(this::materialize);
+    }
+
+    /**
+     * 전체 재생성 - 이벤트로 알 수 없는 변경과 TTL 만료를 보정
+     */
+    @Scheduled(
+            fixedDelayString = "${catalog.materialize.full-refresh-interval:PT1M}",
+            initialDelayString = "${catalog.materialize.debounce-window:PT1S}"
+    )
+    public void markAllChanged() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            dirtyBrands.addAll(catalogProductJdbcReader.findActiveBrandIds());
+            allDirty.set(true);
+        } catch (Exception e) {
+            log.warn("목록 페이지 전체 재생성 표시 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 브랜드(또는 전체)의 모든 정렬 조합 재생성
+     * @param brandId 브랜드 ID (null 이면 전체 목록)
+     */
+    void materialize(Long brandId) {
+        try {
+            long start = System.currentTimeMillis();
+            long totalElements = catalogProductJdbcReader.countActiveProducts(brandId);
+
+            for (CatalogSort sort : CatalogSort.values()) {
+                List<CatalogProductRow> rows = catalogProductJdbcReader.findTopActiveProducts(
+                        brandId, sort, properties.getPages() * properties.getPageSize());
+                long computeMillis = System.currentTimeMillis() - start;
+
+                writeAtomically(buildPages(brandId, sort, rows, totalElements, computeMillis));
+            }
+
+            log.debug("목록 페이지 재생성 완료 - brandId: {}, 소요: {}ms", brandId, System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            // 실패한 조합은 기존 페이지(또는 api 지연 캐시)로 응답되고 다음 주기에 다시 시도된다.
+            log.warn("목록 페이지 재생성 실패 - brandId: {}, error: {}", brandId, e.getMessage());
+        }
+    }
+
+    private Map<String, String> buildPages(
+            Long brandId, CatalogSort sort, List<CatalogProductRow> rows, long totalElements, long computeMillis
+    ) throws JsonProcessingException {
+
+        int pageSize = properties.getPageSize();
+        long now = System.currentTimeMillis();
+        long logicalExpireAt = now + properties.getTtl().toMillis();
+
+        Map<String, String> pages = new LinkedHashMap<>();
+        for (int page = 0; page < properties.getPages(); page++) {
+            int from = Math.min(page * pageSize, rows.size());
+            int to = Math.min(from + pageSize, rows.size());
+
+            CatalogPageSnapshot snapshot = new CatalogPageSnapshot(
+                    rows.subList(from, to), page, pageSize, totalElements, now, computeMillis, logicalExpireAt);
+            pages.put(pageKey(brandId, sort, page), objectMapper.writeValueAsString(snapshot));
+        }
+        return pages;
+    }
+
+    /**
+     * 한 조합의 페이지를 MULTI/EXEC 로 한 번에 교체
+     */
+    private void writeAtomically(Map<String, String> pages) {
+        Duration ttl = properties.getTtl();
+
+        masterRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                pages.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                return ops.exec();
+            }
+        });
+    }
+
+    String pageKey(Long brandId, CatalogSort sort, int page) {
+        return PAGE_KEY_FORMAT.formatted(brandId, sort.value(), properties.getPageSize(), page);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.loopers.application.catalog;
+
+import java.util.List;
+
+/**
+ * Redis에 저장되는 사전 생성 목록 페이지
+ * commerce-api ProductListCacheEntry와 같은 JSON 구조로 저장하여 api 쪽 캐시 디코더로 그대로 읽는다.
+ */
+public record CatalogPageSnapshot(
+        List<CatalogProductRow> content,
+        int page,
+        int size,
+        long totalElements,
+        long computedAt,
+        long computeMillis,
+        long logicalExpireAt
+) {
+}
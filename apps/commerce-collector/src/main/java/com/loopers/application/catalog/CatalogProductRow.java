@@ -0,0 +1,16 @@
+package com.loopers.application.catalog;
+
+/**
+ * 사전 생성 페이지의 상품 한 건
+ * 필드명은 commerce-api ProductResponse와 같다. (설명, 랭킹 정보는 목록에서 제외)
+ */
+public record CatalogProductRow(
+        Long productId,
+        Long brandId,
+        String name,
+        long price,
+        int stock,
+        String productStatus,
+        long likeCount
+) {
+}
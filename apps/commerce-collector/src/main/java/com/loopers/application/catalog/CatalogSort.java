@@ -0,0 +1,35 @@
+package com.loopers.application.catalog;
+
+/**
+ * 사전 생성 대상 정렬 조건
+ * commerce-api 목록 정렬(ProductCursor.sortOf)과 같은 순서를 사용한다. 동순위는 id로 고정한다.
+ */
+public enum CatalogSort {
+
+    LATEST("latest", "created_at DESC, id DESC"),
+    PRICE_ASC("price_asc", "price ASC, id ASC"),
+    LIKES_DESC("likes_desc", "like_count DESC, id DESC");
+
+    private final String value;
+    private final String orderBy;
+
+    CatalogSort(String value, String orderBy) {
+        this.value = value;
+        this.orderBy = orderBy;
+    }
+
+    /**
+     * API 요청 파라미터 값 (캐시 키에 포함)
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * SQL ORDER BY 절 (상수만 사용)
+     */
+    public String orderBy() {
+        return orderBy;
+    }
+
+}
@@ -0,0 +1,341 @@
+package com.loopers.application.catalog;
+
+import com.loopers.config.MostLikedIndexProperties;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.catalog.CatalogProductJdbcReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요순 정렬 인덱스 (Redis ZSET)
+ *
+ * 전체(products:most-liked:all)와 브랜드별(products:most-liked:b{brandId}) ZSET 에
+ * 판매 중 상품만 담아 두고, commerce-api 는 likes_desc 목록을 ZREVRANGE 로 조회한다.
+ * (likes 전체 GROUP BY 나 product 정렬 없이 O(log N + 페이지 크기))
+ * 판매 중인 상품만 담으므로 ZCARD 가 곧 목록 전체 개수다. (판매 중지 시 commerce-api 가 ZREM)
+ *
+ * 점수 = 좋아요 수 * ID_SCALE + 상품 ID
+ * ZREVRANGE 순서가 DB 정렬(like_count DESC, id DESC)과 같아지도록 동순위를 id 로 가른다.
+ * double 로 정확히 표현되는 범위(2^53)에 맞춰 상품 ID 는 ID_SCALE 미만, 좋아요 수는 약 900만 이하를 가정한다.
+ *
+ * - 증분: 좋아요 이벤트마다 두 ZSET 에 ±1 한다. 인덱스에 없는 상품(재구축 전 신규 상품, 판매 재개 상품)은
+ *   DB 의 상태와 좋아요 수를 읽어 판매 중이면 추가한다. (인덱스 키가 아직 없으면 만들지 않음 - 재구축 전 부분 인덱스 방지)
+ * - 재구축: reconcile-interval 마다 product.like_count 를 기준으로 임시 키에 새로 만든 뒤 Lua 스크립트 한 번으로 교체한다.
+ *   임시 키는 재구축마다 이름이 다르고 TTL 이 있어, 중간에 실패한 재구축의 키가 다음 재구축에 섞이지 않는다.
+ *   배치마다 선점과 지금까지 만든 임시 키의 TTL 을 함께 연장하고, 교체 스크립트는 임시 키가 하나라도 없으면 아무것도 바꾸지 않는다.
+ *   (재구축이 오래 걸려도 일부 키만 교체되지 않음)
+ *   유실된 이벤트가 여기서 보정된다. 재구축 중 들어온 증분은 교체 시 덮어써질 수 있으나 다음 재구축에 다시 맞춰진다.
+ * - 여러 collector 노드 중 선점한 한 노드만 재구축하고, 자기 선점일 때만 연장/해제한다.
+ */
+@Slf4j
+@Component
+public class MostLikedProductIndex {
+
+    // commerce-api RedisMostLikedProductRepository 와 같은 키 형식
+    private static final String ALL_KEY = "products:most-liked:all";
+    private static final String BRAND_KEY_PREFIX = "products:most-liked:b";
+    private static final String BRANDS_KEY = "products:most-liked:brands";
+    private static final String RECONCILE_LOCK_KEY = "products:most-liked:reconcile:lock";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final String ACTIVE = "ACTIVE";
+
+    // commerce-api RedisMostLikedProductRepository 와 같은 점수 형식
+    static final long ID_SCALE = 1_000_000_000L;
+
+    // 인덱스에 있는 상품만 증감, 좋아요 수 0(점수 = 상품 ID) 아래로 내려가지 않음 (반환: 인덱스에 없어 반영하지 못한 키 수)
+    // ARGV[1] = 상품 ID, ARGV[2] = 증감 * ID_SCALE
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local missing = 0 " +
+                    "for i = 1, #KEYS do " +
+                    "  if redis.call('ZSCORE', KEYS[i], ARGV[1]) then " +
+                    "    local score = tonumber(redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1])) " +
+                    "    if score < tonumber(ARGV[1]) then redis.call('ZADD', KEYS[i], ARGV[1], ARGV[1]) end " +
+                    "  else " +
+                    "    missing = missing + 1 " +
+                    "  end " +
+                    "end " +
+                    "return missing",
+            Long.class
+    );
+
+    // 인덱스 키가 있을 때만 없는 상품을 추가 (이미 있으면 그 사이 반영된 증분을 덮어쓰지 않음)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local added = 0 " +
+                    "for i = 1, #KEYS do " +
+                    "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+                    "    added = added + redis.call('ZADD', KEYS[i], 'NX', ARGV[2], ARGV[1]) " +
+                    "  end " +
+                    "end " +
+                    "return added",
+            Long.class
+    );
+
+    // 자기 선점일 때만 연장/해제 (선점이 만료되어 다른 노드가 잡은 경우 건드리지 않음)
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class
+    );
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    /*
+     * 임시 키 교체 - 임시 키가 모두 있을 때만 한 번에 교체한다. (반환: 1 교체, 0 임시 키 만료로 중단)
+     * KEYS[1] = 브랜드 목록 키, KEYS[2..2P+1] = (인덱스 키, 임시 키) P 쌍, 이후 S 개 = 지울 인덱스 키
+     * ARGV[1] = P, ARGV[2] = S, ARGV[3..] = 브랜드 ID
+     * RENAME 은 임시 키의 TTL 도 옮기므로 PERSIST 로 지운다.
+     */
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "local pairCount = tonumber(ARGV[1]) " +
+                    "local staleCount = tonumber(ARGV[2]) " +
+                    "for i = 0, pairCount - 1 do " +
+                    "  if redis.call('EXISTS', KEYS[3 + i * 2]) == 0 then return 0 end " +
+                    "end " +
+                    "for i = 0, pairCount - 1 do " +
+                    "  redis.call('RENAME', KEYS[3 + i * 2], KEYS[2 + i * 2]) " +
+                    "  redis.call('PERSIST', KEYS[2 + i * 2]) " +
+                    "end " +
+                    "for i = 1, staleCount do redis.call('DEL', KEYS[1 + pairCount * 2 + i]) end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+                    "return 1",
+            Long.class
+    );
+
+    private static final int MAX_CACHED_PRODUCT_BRANDS = 100_000;
+
+    private final CatalogProductJdbcReader catalogProductJdbcReader;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final MostLikedIndexProperties properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 상품의 브랜드는 바뀌지 않으므로 한 번 조회한 값은 재사용 (이벤트마다 DB 조회 방지)
+    private final Map<Long, Long> brandIdByProductId = new ConcurrentHashMap<>();
+
+    public MostLikedProductIndex(
+            CatalogProductJdbcReader catalogProductJdbcReader,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            MostLikedIndexProperties properties
+    ) {
+        this.catalogProductJdbcReader = catalogProductJdbcReader;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 좋아요 증감 반영 (전체 + 상품 브랜드 ZSET)
+     */
+    public void increment(Long productId, int delta) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            Long brandId = brandIdOf(productId);
+            List<String> keys = brandId == null ? List.of(ALL_KEY) : List.of(ALL_KEY, brandKey(brandId));
+            Long missing = masterRedisTemplate.execute(INCREMENT_SCRIPT, keys,
+                    productId.toString(), String.valueOf(delta * ID_SCALE));
+            if (missing != null && missing > 0) {
+                addIfActive(productId);
+            }
+        } catch (Exception e) {
+            // 누락된 증감은 다음 재구축에 보정되므로 이벤트 처리는 계속한다.
+            log.warn("좋아요순 인덱스 반영 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스에 없는 상품 추가 - 판매 중인 상품만 DB 의 좋아요 수로 추가한다. (이번 이벤트는 DB 값과 다음 재구축에서 맞춰짐)
+     */
+    private void addIfActive(Long productId) {
+        catalogProductJdbcReader.findProduct(productId)
+                .filter(row -> ACTIVE.equals(row.productStatus()))
+                .ifPresent(row -> masterRedisTemplate.execute(ADD_SCRIPT,
+                        List.of(ALL_KEY, brandKey(row.brandId())),
+                        row.productId().toString(), String.valueOf(score(row.likeCount(), row.productId()))));
+    }
+
+    /**
+     * DB(product.like_count) 기준 재구축
+     */
+    @Scheduled(
+            fixedDelayString = "${catalog.most-liked.reconcile-interval:PT10M}",
+            initialDelayString = "${catalog.most-liked.initial-delay:PT10S}"
+    )
+    public void reconcile() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Boolean claimed;
+        try {
+            claimed = masterRedisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, nodeId, properties.getReconcileLease());
+        } catch (Exception e) {
+            log.warn("좋아요순 인덱스 재구축 선점 실패 - error: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(claimed)) {
+            return;  // 다른 노드가 재구축 중
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int products = rebuild();
+            log.info("좋아요순 인덱스 재구축 완료 - 상품 수: {}, 소요: {}ms", products, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 기존 인덱스는 그대로 두고 다음 주기에 다시 시도한다.
+            log.error("좋아요순 인덱스 재구축 실패 - error: {}", e.getMessage(), e);
+        } finally {
+            try {
+                masterRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), nodeId);
+            } catch (Exception e) {
+                log.warn("좋아요순 인덱스 재구축 선점 해제 실패 (lease 만료 후 해제) - error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private int rebuild() {
+        String suffix = REBUILD_SUFFIX + UUID.randomUUID();
+        Set<Long> brandIds = new HashSet<>();
+        Set<String> tempKeys = new HashSet<>();
+        int total = 0;
+        long afterId = 0;
+
+        while (true) {
+            renewLock();
+            List<CatalogProductRow> rows = catalogProductJdbcReader.findActiveProductsAfter(afterId, properties.getReconcileBatchSize());
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Map<String, Map<String, Double>> scoresByKey = new HashMap<>();
+            for (CatalogProductRow row : rows) {
+                String member = row.productId().toString();
+                double score = score(row.likeCount(), row.productId());
+                scoresByKey.computeIfAbsent(ALL_KEY + suffix, key -> new HashMap<>()).put(member, score);
+                scoresByKey.computeIfAbsent(brandKey(row.brandId()) + suffix, key -> new HashMap<>()).put(member, score);
+                brandIds.add(row.brandId());
+            }
+            tempKeys.addAll(scoresByKey.keySet());
+            writeScores(scoresByKey, tempKeys);
+
+            total += rows.size();
+            afterId = rows.get(rows.size() - 1).productId();
+        }
+
+        swap(suffix, brandIds, total > 0);
+        return total;
+    }
+
+    /**
+     * 재구축 선점 연장 - 선점을 잃었으면(lease 만료 후 다른 노드가 선점) 재구축을 중단한다.
+     */
+    private void renewLock() {
+        Long renewed = masterRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY),
+                nodeId, String.valueOf(properties.getReconcileLease().toMillis()));
+        if (renewed == null || renewed != 1L) {
+            throw new IllegalStateException("재구축 선점을 잃었습니다.");
+        }
+    }
+
+    /**
+     * 배치 점수 기록 + 지금까지 만든 임시 키 TTL 연장 (앞 배치에서만 쓰인 브랜드 키가 재구축 중 만료되지 않도록)
+     */
+    private void writeScores(Map<String, Map<String, Double>> scoresByKey, Set<String> tempKeys) {
+        masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                scoresByKey.forEach((key, scores) ->
+                        scores.forEach((member, score) -> ops.opsForZSet().add(key, member, score)));
+                tempKeys.forEach(key -> ops.expire(key, properties.getReconcileLease()));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 임시 키를 한 번에 교체하고, 판매 중 상품이 없어진 브랜드의 인덱스는 지운다.
+     */
+    private void swap(String suffix, Set<Long> brandIds, boolean hasProducts) {
+        renewLock();
+        Set<String> previousBrands = masterRedisTemplate.opsForSet().members(BRANDS_KEY);
+
+        List<String> pairs = new ArrayList<>();
+        List<String> staleKeys = new ArrayList<>();
+        if (hasProducts) {
+            pairs.add(ALL_KEY);
+            pairs.add(ALL_KEY + suffix);
+        } else {
+            staleKeys.add(ALL_KEY);
+        }
+        brandIds.forEach(brandId -> {
+            pairs.add(brandKey(brandId));
+            pairs.add(brandKey(brandId) + suffix);
+        });
+        if (previousBrands != null) {
+            previousBrands.stream()
+                    .filter(brandId -> !brandIds.contains(Long.valueOf(brandId)))
+                    .forEach(brandId -> staleKeys.add(BRAND_KEY_PREFIX + brandId));
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(BRANDS_KEY);
+        keys.addAll(pairs);
+        keys.addAll(staleKeys);
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(pairs.size() / 2));
+        args.add(String.valueOf(staleKeys.size()));
+        brandIds.forEach(brandId -> args.add(String.valueOf(brandId)));
+
+        Long swapped = masterRedisTemplate.execute(SWAP_SCRIPT, keys, args.toArray());
+        if (swapped == null || swapped != 1L) {
+            throw new IllegalStateException("임시 키가 만료되어 교체하지 않았습니다.");
+        }
+    }
+
+    private Long brandIdOf(Long productId) {
+        Long brandId = brandIdByProductId.get(productId);
+        if (brandId == null) {
+            brandId = catalogProductJdbcReader.findBrandId(productId).orElse(null);
+            if (brandId != null) {
+                if (brandIdByProductId.size() >= MAX_CACHED_PRODUCT_BRANDS) {
+                    brandIdByProductId.clear();
+                }
+                brandIdByProductId.put(productId, brandId);
+            }
+        }
+        return brandId;
+    }
+
+    static long score(long likeCount, long productId) {
+        return likeCount * ID_SCALE + productId;
+    }
+
+    private static String brandKey(Long brandId) {
+        return BRAND_KEY_PREFIX + brandId;
+    }
+
+}
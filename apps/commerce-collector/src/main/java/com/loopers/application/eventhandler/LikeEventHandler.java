@@ -3,6 +3,8 @@ package com.loopers.application.eventhandler;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.cache.CacheEvictService;
+import com.loopers.application.catalog.CatalogPageMaterializer;
+import com.loopers.application.catalog.MostLikedProductIndex;
 import com.loopers.application.eventhandled.EventHandledService;
 import com.loopers.application.eventlog.EventLogService;
 import com.loopers.application.metrics.MetricsService;
@@ -24,6 +26,8 @@ import org.springframework.stereotype.Component;
  * 1. Audit Log: 모든 좋아요 이벤트를 event_log 테이블에 저장
  * 2. Cache Evict: 상품 캐시 + 인기 상품 랭킹 캐시 무효화
  * 3. Metrics: product_metrics 테이블의 좋아요 수 증감
+ * 4. Materialize: 사전 생성 목록 페이지 재생성 표시 (좋아요 폭주 시에도 구간당 한 번)
+ * 5. Most Liked: 좋아요순 정렬 인덱스(Redis ZSET) 점수 증감
  */
 @Slf4j
 @Component
@@ -37,6 +41,8 @@ public class LikeEventHandler implements EventHandler {
     private final EventHandledService eventHandledService;
     private final ObjectMapper objectMapper;
     private final KafkaEventPublisher kafkaEventPublisher;
+    private final CatalogPageMaterializer catalogPageMaterializer;
+    private final MostLikedProductIndex mostLikedProductIndex;
 
     /**
      * 처리 가능한 이벤트 타입들 반환
@@ -120,15 +126,17 @@ public class LikeEventHandler implements EventHandler {
 
             // 3. 좋아요 수 증가 - 집계 테이블에 실시간 반영
             metricsService.increaseLikeCount(productId);
+            catalogPageMaterializer.markProductChanged(productId);   // 좋아요순/좋아요 수 노출 페이지 재생성
+            mostLikedProductIndex.increment(productId, 1);            // 좋아요순 정렬 인덱스 점수 증가
             log.debug("좋아요 추가 처리 완료 - productId: {}", productId);
 
             // 랭킹 이벤트 발행 - Redis ZSET 업데이트를 위한 셀프 컨슘
+            // ack 를 기다리지 않는다. (발행 실패는 Publisher 가 로그/지표로 남긴다)
             try {
                 String eventId = extractEventId(payloadJson);
                 RankingUpdateMessage rankingMessage = RankingUpdateMessage.forLikeAdded(productId, eventId);
 
-                kafkaEventPublisher.publish("ranking-events", productId.toString(), rankingMessage);
-                log.debug("랭킹 이벤트 발행 완료 - productId: {}, eventId: {}", productId, eventId);
+                kafkaEventPublisher.publishAsync("ranking-events", productId.toString(), rankingMessage);
 
             } catch (Exception e) {
                 log.error("랭킹 이벤트 발행 실패 - productId: {}, error: {}", productId, e.getMessage(), e);
@@ -158,15 +166,16 @@ public class LikeEventHandler implements EventHandler {
 
             // 3. 좋아요 수 감소 - 0 이하로는 내려가지 않도록 MetricsService에서 처리
             metricsService.decreaseLikeCount(productId);
+            catalogPageMaterializer.markProductChanged(productId);
+            mostLikedProductIndex.increment(productId, -1);
             log.debug("좋아요 취소 처리 완료 - productId: {}", productId);
 
-            // 4. 랭킹 이벤트 발행 (좋아요 랭킹 점수 감소)
+            // 4. 랭킹 이벤트 발행 (좋아요 랭킹 점수 감소, ack 를 기다리지 않음)
             try {
                 String eventId = extractEventId(payloadJson);
                 RankingUpdateMessage rankingMessage = RankingUpdateMessage.forLikeRemoved(productId, eventId);
 
-                kafkaEventPublisher.publish("ranking-events", productId.toString(), rankingMessage);
-                log.debug("랭킹 이벤트 발행 완료 (좋아요 감소) - productId: {}, eventId: {}", productId, eventId);
+                kafkaEventPublisher.publishAsync("ranking-events", productId.toString(), rankingMessage);
 
             } catch (Exception e) {
                 log.error("랭킹 이벤트 발행 실패 (좋아요 감소) - productId: {}, error: {}", productId, e.getMessage(), e);
@@ -3,6 +3,7 @@ package com.loopers.application.eventhandler;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.cache.CacheEvictService;
+import com.loopers.application.catalog.CatalogPageMaterializer;
 import com.loopers.application.eventhandled.EventHandledService;
 import com.loopers.application.eventlog.EventLogService;
 import com.loopers.application.metrics.MetricsService;
@@ -22,6 +23,7 @@ import org.springframework.stereotype.Component;
  * 1. Audit Log: 모든 재고 변동을 event_log 테이블에 저장
  * 2. Cache Evict: 상품 캐시 무효화 (재고 정보 변경으로 인한)
  * 3. Metrics: product_metrics 테이블의 판매량 증가 (재고 감소 시)
+ * 4. Materialize: 사전 생성 목록 페이지 재생성 표시 (목록에 재고가 노출되므로)
  */
 @Slf4j
 @Component
@@ -34,6 +36,7 @@ public class StockEventHandler implements EventHandler {
     private final EventDeserializer eventDeserializer;
     private final ObjectMapper objectMapper;
     private final EventHandledService eventHandledService;
+    private final CatalogPageMaterializer catalogPageMaterializer;
 
     /**
      * 처리 가능한 이벤트 타입들 반환
@@ -139,6 +142,9 @@ public class StockEventHandler implements EventHandler {
                 // 캐시 처리 실패는 비즈니스 로직에 영향 주지 않으므로 예외를 다시 던지지 않음
             }
 
+            // 5. 사전 생성 목록 페이지 재생성 표시 (디바운스 구간마다 한 번 재생성)
+            catalogPageMaterializer.markProductChanged(productId);
+
             log.debug("재고 감소 처리 완료 - productId: {}", productId);
 
         } catch (Exception e) {
@@ -185,6 +191,9 @@ public class StockEventHandler implements EventHandler {
                         productId, payloadJson, e.getMessage());
             }
 
+            // 5. 사전 생성 목록 페이지 재생성 표시
+            catalogPageMaterializer.markProductChanged(productId);
+
             log.debug("재고 증가 처리 완료 - productId: {}", productId);
 
         } catch (Exception e) {
@@ -0,0 +1,261 @@
+package com.loopers.application.metrics;
+
+import com.loopers.config.LikeBufferProperties;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좋아요 수 증감 지연 반영 버퍼 (write-behind)
+ *
+ * 좋아요 이벤트마다 product_metrics 행을 갱신하지 않고, 상품별 증감분을 메모리(LongAdder)에 모아
+ * flush-interval 또는 flush-threshold 마다 다중 행 UPSERT 한 번으로 반영한다.
+ *
+ * 장애 대비 (Redis WAL)
+ * - 메모리에 더하기 전에 노드별 WAL 해시(metrics:like:wal:{nodeId})에 HINCRBY 로 먼저 기록한다.
+ * - DB 반영이 커밋된 뒤에만 반영한 만큼 WAL 에서 뺀다. (반영 실패 시 메모리 증감분을 되돌려 다음 주기에 재시도)
+ * - 노드는 flush 마다 생존 표시를 갱신하고, node-timeout 동안 갱신이 없는 노드의 WAL 은 다른 노드가 대신 반영한다.
+ * - DB 반영과 WAL 차감 사이에 노드가 죽으면 그 구간의 증감분은 한 번 더 반영될 수 있다. (유실보다 중복 쪽으로 어긋남)
+ * - Redis 에 기록하지 못하면 버퍼를 거치지 않고 바로 DB에 반영한다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private static final String WAL_KEY_PREFIX = "metrics:like:wal:";
+    private static final String NODES_KEY = "metrics:like:wal:nodes";
+    private static final String ALIVE_KEY_PREFIX = "metrics:like:wal:alive:";
+    private static final String RECOVER_KEY_PREFIX = "metrics:like:wal:recover:";
+
+    // ARGV: 상품 ID, 반영 수량 쌍 / 0이 되면 필드 삭제
+    private static final RedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV, 2 do " +
+                    "  local remaining = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1])) " +
+                    "  if remaining == 0 then redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+                    "end " +
+                    "return #ARGV / 2",
+            Long.class
+    );
+
+    private final ProductMetricsRepository productMetricsRepository;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeBufferProperties properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String walKey = WAL_KEY_PREFIX + nodeId;
+
+    // 상품 ID → 아직 반영하지 않은 증감분 (항목은 지우지 않음, 상품 수만큼만 유지)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger bufferedEvents = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LikeCountBuffer(
+            ProductMetricsRepository productMetricsRepository,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            PlatformTransactionManager transactionManager,
+            LikeBufferProperties properties
+    ) {
+        this.productMetricsRepository = productMetricsRepository;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @PostConstruct
+    public void register() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        heartbeat();
+    }
+
+    /**
+     * 증감분을 WAL 에 기록한 뒤 메모리에 더한다.
+     */
+    public void add(Long productId, int delta) {
+        try {
+            masterRedisTemplate.opsForHash().increment(walKey, productId.toString(), delta);
+        } catch (Exception e) {
+            log.warn("좋아요 WAL 기록 실패 - 바로 DB 반영 - productId: {}, error: {}", productId, e.getMessage());
+            productMetricsRepository.updateLikeCount(productId, delta);
+            return;
+        }
+
+        pending.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+        // 이벤트가 몰리면 주기를 기다리지 않고 반영 (다른 스레드가 반영 중이면 그쪽에 맡긴다)
+        if (bufferedEvents.incrementAndGet() >= properties.getFlushThreshold() && flushLock.tryLock()) {
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 증감분을 product_metrics 에 반영한다. (한 번에 한 스레드만)
+     */
+    @Scheduled(fixedDelayString = "${metrics.like-buffer.flush-interval:PT0.5S}")
+    public void flush() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        try {
+            heartbeat();
+            bufferedEvents.set(0);
+            Map<Long, Long> deltas = new HashMap<>();
+            pending.forEach((productId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    deltas.put(productId, delta);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> productMetricsRepository.updateLikeCounts(deltas));
+            } catch (Exception e) {
+                // 반영하지 못한 증감분은 메모리에 되돌려 다음 주기에 재시도 (WAL 은 그대로)
+                deltas.forEach((productId, delta) -> pending.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+                log.error("좋아요 수 지연 반영 실패 (다음 주기에 재시도) - 상품 수: {}, error: {}", deltas.size(), e.getMessage(), e);
+                return;
+            }
+
+            settle(walKey, deltas);
+            log.debug("좋아요 수 지연 반영 - 상품 수: {}", deltas.size());
+
+        } catch (Exception e) {
+            log.error("좋아요 수 지연 반영 중 오류 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 생존 표시가 끊긴 노드의 WAL 을 대신 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${metrics.like-buffer.node-timeout:PT30S}", initialDelayString = "${metrics.like-buffer.node-timeout:PT30S}")
+    public void recoverOrphans() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Set<String> nodes = masterRedisTemplate.opsForSet().members(NODES_KEY);
+            if (nodes == null) {
+                return;
+            }
+            for (String orphan : nodes) {
+                if (orphan.equals(nodeId) || Boolean.TRUE.equals(masterRedisTemplate.hasKey(ALIVE_KEY_PREFIX + orphan))) {
+                    continue;
+                }
+                Boolean claimed = masterRedisTemplate.opsForValue()
+                        .setIfAbsent(RECOVER_KEY_PREFIX + orphan, nodeId, properties.getNodeTimeout());
+                if (Boolean.TRUE.equals(claimed)) {
+                    recover(orphan);
+                }
+            }
+        } catch (Exception e) {
+            log.error("중단된 노드의 좋아요 WAL 반영 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flush();
+        try {
+            // 남은 증감분이 없을 때만 정리 (남아 있으면 다른 노드가 WAL 을 반영)
+            Long remaining = masterRedisTemplate.opsForHash().size(walKey);
+            if (remaining == null || remaining == 0) {
+                masterRedisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+                masterRedisTemplate.delete(ALIVE_KEY_PREFIX + nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 WAL 노드 정리 실패 - nodeId: {}, error: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private void recover(String orphan) {
+        String orphanWalKey = WAL_KEY_PREFIX + orphan;
+        Map<Object, Object> entries = masterRedisTemplate.opsForHash().entries(orphanWalKey);
+
+        Map<Long, Long> deltas = new HashMap<>();
+        entries.forEach((productId, delta) -> {
+            long value = Long.parseLong(delta.toString());
+            if (value != 0) {
+                deltas.put(Long.parseLong(productId.toString()), value);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> productMetricsRepository.updateLikeCounts(deltas));
+        }
+
+        masterRedisTemplate.delete(orphanWalKey);
+        masterRedisTemplate.opsForSet().remove(NODES_KEY, orphan);
+        log.info("중단된 노드의 좋아요 WAL 반영 완료 - nodeId: {}, 상품 수: {}", orphan, deltas.size());
+    }
+
+    private void settle(String key, Map<Long, Long> deltas) {
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((productId, delta) -> {
+            args.add(productId.toString());
+            args.add(String.valueOf(delta));
+        });
+        try {
+            masterRedisTemplate.execute(SETTLE_SCRIPT, List.of(key), args.toArray());
+        } catch (Exception e) {
+            // DB에는 반영됨 - 이 노드가 정상 종료하면 문제 없고, 비정상 종료 시에만 중복 반영될 수 있다.
+            log.warn("좋아요 WAL 차감 실패 - 상품 수: {}, error: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 노드 등록 및 생존 표시 갱신 (Redis 장애여도 반영은 계속한다)
+     */
+    private void heartbeat() {
+        try {
+            masterRedisTemplate.opsForSet().add(NODES_KEY, nodeId);
+            masterRedisTemplate.opsForValue().set(ALIVE_KEY_PREFIX + nodeId, "1", properties.getNodeTimeout());
+        } catch (Exception e) {
+            log.warn("좋아요 WAL 노드 생존 표시 실패 - nodeId: {}, error: {}", nodeId, e.getMessage());
+        }
+    }
+
+}
@@ -20,16 +20,23 @@ import java.util.List;
 public class MetricsService {
 
     private final ProductMetricsRepository productMetricsRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     /**
      * 상품 좋아요 수 증가
      * LikeAddedEvent 처리 시 호출
+     * 지연 반영(metrics.like-buffer.enabled)이면 LikeCountBuffer 에 모았다가 주기적으로 한 번에 반영한다.
      *
      * @param productId 상품 ID
      */
     @Transactional
     public void increaseLikeCount(Long productId) {
         try {
+            if (likeCountBuffer.isEnabled()) {
+                likeCountBuffer.add(productId, +1);
+                log.debug("상품 좋아요 수 증가 기록 (지연 반영) - productId: {}", productId);
+                return;
+            }
             productMetricsRepository.updateLikeCount(productId, +1);
             log.info("상품 좋아요 수 증가 완료 - productId: {}", productId);
 
@@ -42,12 +49,18 @@ public class MetricsService {
     /**
      * 상품 좋아요 수 감소
      * LikeRemovedEvent 처리 시 호출
+     * 지연 반영(metrics.like-buffer.enabled)이면 LikeCountBuffer 에 모았다가 주기적으로 한 번에 반영한다.
      *
      * @param productId 상품 ID
      */
     @Transactional
     public void decreaseLikeCount(Long productId) {
         try {
+            if (likeCountBuffer.isEnabled()) {
+                likeCountBuffer.add(productId, -1);
+                log.debug("상품 좋아요 수 감소 기록 (지연 반영) - productId: {}", productId);
+                return;
+            }
             productMetricsRepository.updateLikeCount(productId, -1);
             log.info("상품 좋아요 수 감소 완료 - productId: {}", productId);
 
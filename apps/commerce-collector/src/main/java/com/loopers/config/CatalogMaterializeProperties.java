@@ -0,0 +1,52 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 상품 목록 페이지 사전 생성(materialize) 설정 관리
+ * application.yml의 catalog.materialize 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "catalog.materialize")
+public class CatalogMaterializeProperties {
+
+    /**
+     * 사전 생성 사용 여부 (기본값: false)
+     * collector 에서만 true 로 설정한다. (같은 클래스패스를 쓰는 다른 앱에서는 동작하지 않도록)
+     */
+    private boolean enabled = false;
+
+    /**
+     * (브랜드, 정렬) 조합마다 미리 만들어 둘 앞쪽 페이지 수 (기본값: 3)
+     */
+    private int pages = 3;
+
+    /**
+     * 페이지 크기 (기본값: 20, commerce-api 목록 기본 size와 같아야 적중한다)
+     */
+    private int pageSize = 20;
+
+    /**
+     * 디바운스 구간 (기본값: 1초)
+     * 구간 안에서 같은 브랜드에 변경이 몰려도 재생성은 구간당 한 번만 한다.
+     */
+    private Duration debounceWindow = Duration.ofSeconds(1);
+
+    /**
+     * 전체 재생성 주기 (기본값: 1분)
+     * 이벤트가 없는 변경(상품 등록 등)도 이 주기 안에 반영된다.
+     */
+    private Duration fullRefreshInterval = Duration.ofMinutes(1);
+
+    /**
+     * 페이지 키 TTL (기본값: 5분)
+     * collector 가 멈추면 이 시간 후 commerce-api 는 기존 지연 캐시 경로로 돌아간다.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+}
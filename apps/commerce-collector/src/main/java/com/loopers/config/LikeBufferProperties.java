@@ -0,0 +1,39 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 좋아요 수 지연 반영(write-behind) 설정 관리
+ * application.yml의 metrics.like-buffer 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "metrics.like-buffer")
+public class LikeBufferProperties {
+
+    /**
+     * 지연 반영 사용 여부 (기본값: false, false 면 이벤트마다 product_metrics 를 갱신)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 모아 둔 증감분을 product_metrics 에 반영하는 주기 (기본값: 500ms)
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * 주기 전이라도 이 개수만큼 이벤트가 쌓이면 바로 반영 (기본값: 1000)
+     */
+    private int flushThreshold = 1000;
+
+    /**
+     * 노드 생존 표시 TTL (기본값: 30초)
+     * 이 시간 동안 갱신이 없는 노드의 WAL 은 다른 노드가 대신 반영한다.
+     */
+    private Duration nodeTimeout = Duration.ofSeconds(30);
+
+}
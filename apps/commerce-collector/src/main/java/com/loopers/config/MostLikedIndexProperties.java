@@ -0,0 +1,46 @@
+package com.loopers.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 좋아요순 정렬 인덱스(Redis ZSET) 설정 관리
+ * application.yml의 catalog.most-liked 하위 설정값들을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "catalog.most-liked")
+public class MostLikedIndexProperties {
+
+    /**
+     * 인덱스 유지 사용 여부 (기본값: false)
+     * collector 에서만 true 로 설정한다. (같은 클래스패스를 쓰는 다른 앱에서는 동작하지 않도록)
+     */
+    private boolean enabled = false;
+
+    /**
+     * DB 기준 재구축 주기 (기본값: 10분)
+     * 이벤트로 반영되지 않는 변경(상품 등록/판매 중지, 이벤트 유실)은 이 주기 안에 반영된다.
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(10);
+
+    /**
+     * 기동 후 첫 재구축까지 기다리는 시간 (기본값: 10초)
+     */
+    private Duration initialDelay = Duration.ofSeconds(10);
+
+    /**
+     * 재구축 시 한 번에 읽는 상품 수 (기본값: 1000)
+     */
+    private int reconcileBatchSize = 1000;
+
+    /**
+     * 재구축 선점 유지 시간 (기본값: 5분, 여러 collector 노드 중 한 노드만 재구축)
+     * 배치마다 연장되며, 재구축 임시 키의 TTL 로도 쓰인다.
+     */
+    private Duration reconcileLease = Duration.ofMinutes(5);
+
+}
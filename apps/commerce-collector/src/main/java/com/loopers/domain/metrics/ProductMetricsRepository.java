@@ -3,6 +3,7 @@ package com.loopers.domain.metrics;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,6 +29,12 @@ public interface ProductMetricsRepository {
      */
     void updateLikeCount(Long productId, int delta);
 
+    /**
+     * 여러 상품의 좋아요 수 증감을 한 번에 반영 (다중 행 UPSERT)
+     * @param deltas 상품 ID → 누적 증감분
+     */
+    void updateLikeCounts(Map<Long, Long> deltas);
+
     /**
      * 조회수 증가 (UPSERT, 향후 확장용)
      */
@@ -0,0 +1,85 @@
+package com.loopers.infrastructure.catalog;
+
+import com.loopers.application.catalog.CatalogProductRow;
+import com.loopers.application.catalog.CatalogSort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 목록 페이지 사전 생성용 상품 조회 (commerce-api의 product 테이블을 읽기 전용으로 조회)
+ * collector 에는 Product 엔티티가 없으므로 JdbcTemplate 으로 목록 컬럼만 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogProductJdbcReader {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private static final RowMapper<CatalogProductRow> ROW_MAPPER = (rs, rowNum) -> new CatalogProductRow(
+            rs.getLong("id"),
+            rs.getLong("brand_id"),
+            rs.getString("name"),
+            rs.getLong("price"),
+            rs.getInt("stock"),
+            rs.getString("status"),
+            rs.getLong("like_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findBrandId(Long productId) {
+        List<Long> brandIds = jdbcTemplate.queryForList(
+                "SELECT brand_id FROM product WHERE id = ?", Long.class, productId);
+        return brandIds.stream().findFirst();
+    }
+
+    public Optional<CatalogProductRow> findProduct(Long productId) {
+        return jdbcTemplate.query(
+                "SELECT id, brand_id, name, price, stock, status, like_count FROM product WHERE id = ?",
+                ROW_MAPPER, productId).stream().findFirst();
+    }
+
+    public List<Long> findActiveBrandIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT brand_id FROM product WHERE status = ?", Long.class, ACTIVE);
+    }
+
+    /**
+     * 정렬 기준 상위 limit 개 판매 중 상품 조회
+     * @param brandId 브랜드 ID (null 이면 전체)
+     */
+    public List<CatalogProductRow> findTopActiveProducts(Long brandId, CatalogSort sort, int limit) {
+        String columns = "SELECT id, brand_id, name, price, stock, status, like_count FROM product ";
+        if (brandId == null) {
+            return jdbcTemplate.query(
+                    columns + "WHERE status = ? ORDER BY " + sort.orderBy() + " LIMIT ?",
+                    ROW_MAPPER, ACTIVE, limit);
+        }
+        return jdbcTemplate.query(
+                columns + "WHERE brand_id = ? AND status = ? ORDER BY " + sort.orderBy() + " LIMIT ?",
+                ROW_MAPPER, brandId, ACTIVE, limit);
+    }
+
+    /**
+     * id 순으로 afterId 이후 판매 중 상품 limit 개 조회 (좋아요순 인덱스 재구축용)
+     */
+    public List<CatalogProductRow> findActiveProductsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, brand_id, name, price, stock, status, like_count FROM product " +
+                        "WHERE status = ? AND id > ? ORDER BY id LIMIT ?",
+                ROW_MAPPER, ACTIVE, afterId, limit);
+    }
+
+    public long countActiveProducts(Long brandId) {
+        Long count = brandId == null
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE status = ?", Long.class, ACTIVE)
+                : jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE brand_id = ? AND status = ?", Long.class, brandId, ACTIVE);
+        return count == null ? 0L : count;
+    }
+
+}
@@ -1,20 +1,28 @@
 package com.loopers.infrastructure.kafka;
 
 import com.loopers.interfaces.EventEnvelope;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
 /**
  * Kafka 이벤트 발행을 위한 Publisher (commerce-collector용)
  *
  * 📋 역할:
  * - RankingUpdateMessage를 EventEnvelope로 감싸서 Kafka로 발행
- * - commerce-api의 KafkaEventPublisher와 동일한 기능
+ * - 컨슈머 스레드가 이벤트마다 broker ack 를 기다리지 않도록 비동기 발행을 제공
  *
- * 🔄 추후 개선사항:
- * - 과제 완료 후 modules/kafka로 공통화 예정
+ * 📈 지표:
+ * - kafka.publish.latency{topic, result=success|failure} : send 호출부터 broker ack 까지 걸린 시간
  */
 @Slf4j
 @Component
@@ -22,9 +30,10 @@ import org.springframework.stereotype.Component;
 public class KafkaEventPublisher {
 
     private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 이벤트를 Kafka로 발행
+     * 이벤트를 Kafka로 발행 (ack 까지 대기)
      *
      * @param topic Kafka 토픽명 (예: "ranking-events")
      * @param partitionKey 파티션 키 (예: productId - 순서 보장용)
@@ -32,20 +41,65 @@ public class KafkaEventPublisher {
      */
     public void publish(String topic, String partitionKey, Object event) {
         try {
-            // 이벤트를 EventEnvelope로 감싸기 (메타데이터 추가)
-            EventEnvelope envelope = EventEnvelope.wrap(event);
-
-            // Kafka로 전송 (동기식 - 성공/실패 즉시 확인)
-            kafkaTemplate.send(topic, partitionKey, envelope).get();
-
-            log.info("이벤트 발행 완료 - topic: {}, eventType: {}, eventId: {}, partitionKey: {}",
-                    topic, envelope.eventType(), envelope.eventId(), partitionKey);
+            publishAsync(topic, partitionKey, event).get();
 
         } catch (Exception e) {
-            log.error("이벤트 발행 실패 - topic: {}, partitionKey: {}, event: {}, error: {}",
-                    topic, partitionKey, event.getClass().getSimpleName(), e.getMessage(), e);
             throw new RuntimeException("Kafka 이벤트 발행 실패", e);
         }
     }
 
+    /**
+     * 이벤트를 Kafka로 발행 (ack 를 기다리지 않음)
+     *
+     * 호출 스레드는 Producer 버퍼에 넣고 바로 반환되므로, 여러 이벤트가 linger.ms 동안 한 배치로 묶여 전송된다.
+     * 같은 partitionKey 의 이벤트는 호출 순서대로 전송된다. (enable.idempotence)
+     *
+     * @return broker ack 시 완료되는 Future (실패 시 예외로 완료)
+     */
+    public CompletableFuture<SendResult<Object, Object>> publishAsync(String topic, String partitionKey, Object event) {
+
+        EventEnvelope envelope = EventEnvelope.wrap(event);
+        long startNanos = System.nanoTime();
+
+        return kafkaTemplate.send(topic, partitionKey, envelope)
+                .whenComplete((result, ex) -> {
+                    recordLatency(topic, ex == null ? "success" : "failure", System.nanoTime() - startNanos);
+
+                    if (ex == null) {
+                        log.debug("이벤트 발행 완료 - topic: {}, eventType: {}, eventId: {}, partitionKey: {}",
+                                topic, envelope.eventType(), envelope.eventId(), partitionKey);
+                    } else {
+                        log.error("이벤트 발행 실패 - topic: {}, partitionKey: {}, event: {}, error: {}",
+                                topic, partitionKey, event.getClass().getSimpleName(), ex.getMessage(), ex);
+                    }
+                });
+    }
+
+    /**
+     * 여러 이벤트를 한 번에 발행하고 전체 결과를 모아서 반환 (ack 를 기다리지 않음)
+     *
+     * 모든 이벤트를 먼저 Producer 버퍼에 넣은 뒤 결과를 모으므로 이벤트 수만큼 왕복하지 않는다.
+     *
+     * @param partitionKeyOf 이벤트별 파티션 키 추출 함수
+     * @return 모든 이벤트가 ack 되면 입력 순서대로 결과를 담아 완료 (하나라도 실패하면 예외로 완료)
+     */
+    public <T> CompletableFuture<List<SendResult<Object, Object>>> publishAllAsync(String topic, List<T> events, Function<T, String> partitionKeyOf) {
+
+        List<CompletableFuture<SendResult<Object, Object>>> futures = events.stream()
+                .map(event -> publishAsync(topic, partitionKeyOf.apply(event), event))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private void recordLatency(String topic, String result, long elapsedNanos) {
+        Timer.builder("kafka.publish.latency")
+                .tag("topic", topic)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
 }
@@ -4,9 +4,13 @@ import com.loopers.domain.metrics.ProductMetrics;
 import com.loopers.domain.metrics.ProductMetricsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,7 +21,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductMetricsRepositoryImpl implements ProductMetricsRepository {
 
+    private static final int UPSERT_CHUNK_SIZE = 500;
+
     private final ProductMetricsJpaRepository productMetricsJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public ProductMetrics save(ProductMetrics productMetrics) {
@@ -34,6 +41,24 @@ public class ProductMetricsRepositoryImpl implements ProductMetricsRepository {
         productMetricsJpaRepository.upsertLikeCount(productId, delta);
     }
 
+    @Override
+    public void updateLikeCounts(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += UPSERT_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, entries.size()));
+
+            String sql = "INSERT INTO product_metrics (product_id, like_count, view_count, sales_count, created_at, updated_at) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, 0, 0, NOW(), NOW())"))
+                    + " ON DUPLICATE KEY UPDATE like_count = GREATEST(0, like_count + VALUES(like_count)), updated_at = NOW()";
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i * 2] = chunk.get(i).getKey();
+                args[i * 2 + 1] = chunk.get(i).getValue();
+            }
+            jdbcTemplate.update(sql, args);
+        }
+    }
+
     @Override
     public void updateViewCount(Long productId) {
         productMetricsJpaRepository.upsertViewCount(productId);
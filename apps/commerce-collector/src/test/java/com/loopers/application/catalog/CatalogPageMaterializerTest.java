@@ -0,0 +1,88 @@
+package com.loopers.application.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.CatalogMaterializeProperties;
+import com.loopers.infrastructure.catalog.CatalogProductJdbcReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogPageMaterializerTest {
+
+    @Mock
+    private CatalogProductJdbcReader catalogProductJdbcReader;
+    @Mock
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    private CatalogPageMaterializer catalogPageMaterializer;
+
+    @BeforeEach
+    void setUp() {
+        CatalogMaterializeProperties properties = new CatalogMaterializeProperties();
+        properties.setEnabled(true);
+
+        catalogPageMaterializer = new CatalogPageMaterializer(
+                catalogProductJdbcReader, masterRedisTemplate, new ObjectMapper(), properties);
+    }
+
+    @Test
+    @DisplayName("한 구간 안에 같은 상품 이벤트가 몰려도 브랜드 목록과 전체 목록은 한 번씩만 재생성된다.")
+    void burstOfEvents_isMaterializedOncePerWindow() {
+        // arrange
+        when(catalogProductJdbcReader.findBrandId(1L)).thenReturn(Optional.of(10L));
+        when(catalogProductJdbcReader.findTopActiveProducts(any(), any(), anyInt())).thenReturn(List.of());
+
+        // act
+        for (int i = 0; i < 100; i++) {
+            catalogPageMaterializer.markProductChanged(1L);
+        }
+        catalogPageMaterializer.flushDirtyPages();
+        catalogPageMaterializer.flushDirtyPages();   // 다음 구간에는 변경이 없으므로 재생성하지 않음
+
+        // assert - 정렬 3종 x (브랜드 목록 + 전체 목록)
+        verify(catalogProductJdbcReader, times(1)).findBrandId(1L);
+        verify(catalogProductJdbcReader, times(CatalogSort.values().length)).findTopActiveProducts(eq(10L), any(), eq(60));
+        verify(catalogProductJdbcReader, times(CatalogSort.values().length)).findTopActiveProducts(isNull(), any(), eq(60));
+        verify(masterRedisTemplate, times(CatalogSort.values().length * 2)).execute(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("브랜드 변경 표시 시 재고/좋아요 이벤트 없이도 해당 브랜드 목록과 전체 목록이 재생성된다.")
+    void markBrandChanged_materializesBrandAndAllBrandPages() {
+        // arrange
+        when(catalogProductJdbcReader.findTopActiveProducts(any(), any(), anyInt())).thenReturn(List.of());
+
+        // act
+        catalogPageMaterializer.markBrandChanged(10L);
+        catalogPageMaterializer.flushDirtyPages();
+
+        // assert
+        verify(catalogProductJdbcReader, times(CatalogSort.values().length)).findTopActiveProducts(eq(10L), any(), eq(60));
+        verify(catalogProductJdbcReader, times(CatalogSort.values().length)).findTopActiveProducts(isNull(), any(), eq(60));
+    }
+
+    @Test
+    @DisplayName("페이지 키는 commerce-api 목록 요청(브랜드, 정렬, 크기, 페이지)과 같은 형식이다.")
+    void pageKey_matchesApiRequestFormat() {
+        // act & assert
+        assertThat(catalogPageMaterializer.pageKey(null, CatalogSort.LATEST, 0)).isEqualTo("catalog:page:bnull:slatest:z20:p0");
+        assertThat(catalogPageMaterializer.pageKey(7L, CatalogSort.LIKES_DESC, 2)).isEqualTo("catalog:page:b7:slikes_desc:z20:p2");
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.loopers.application.metrics;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LikeCountBufferTest {
+
+    @Autowired private LikeCountBuffer likeCountBuffer;
+    @Autowired private ProductMetricsRepository productMetricsRepository;
+    @Autowired @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) private RedisTemplate<String, String> masterRedisTemplate;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private int likeCount(Long productId) {
+        return productMetricsRepository.findByProductId(productId).orElseThrow().getLikeCount();
+    }
+
+    @Test
+    @DisplayName("모아 둔 증감분은 flush 한 번에 상품별로 반영되고, 반영된 만큼 WAL 에서 빠진다.")
+    void flush_appliesBufferedDeltas_andSettlesWal() {
+        // act
+        for (int i = 0; i < 30; i++) {
+            likeCountBuffer.add(1L, 1);
+        }
+        for (int i = 0; i < 5; i++) {
+            likeCountBuffer.add(1L, -1);
+            likeCountBuffer.add(2L, 1);
+        }
+        likeCountBuffer.flush();
+
+        // assert
+        assertThat(likeCount(1L)).isEqualTo(25);
+        assertThat(likeCount(2L)).isEqualTo(5);
+        assertThat(masterRedisTemplate.opsForSet().members("metrics:like:wal:nodes"))
+                .isNotEmpty()
+                .allSatisfy(nodeId -> assertThat(masterRedisTemplate.opsForHash().size("metrics:like:wal:" + nodeId)).isZero());
+    }
+
+    @Test
+    @DisplayName("생존 표시가 끊긴 노드의 WAL 은 다른 노드가 대신 반영하고 지운다.")
+    void recoverOrphans_appliesWalOfDeadNode() {
+        // arrange - 반영 전에 죽은 노드 (생존 표시 없음)
+        masterRedisTemplate.opsForSet().add("metrics:like:wal:nodes", "dead-node");
+        masterRedisTemplate.opsForHash().putAll("metrics:like:wal:dead-node", Map.of("3", "7", "4", "-2"));
+
+        // act
+        likeCountBuffer.recoverOrphans();
+
+        // assert - 음수는 0 아래로 내려가지 않음
+        assertThat(likeCount(3L)).isEqualTo(7);
+        assertThat(likeCount(4L)).isZero();
+        assertThat(masterRedisTemplate.hasKey("metrics:like:wal:dead-node")).isFalse();
+        assertThat(masterRedisTemplate.opsForSet().isMember("metrics:like:wal:nodes", "dead-node")).isFalse();
+    }
+
+}
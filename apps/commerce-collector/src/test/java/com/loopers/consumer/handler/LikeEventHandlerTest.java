@@ -2,6 +2,8 @@ package com.loopers.consumer.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.cache.CacheEvictService;
+import com.loopers.application.catalog.CatalogPageMaterializer;
+import com.loopers.application.catalog.MostLikedProductIndex;
 import com.loopers.application.eventhandled.EventHandledService;
 import com.loopers.application.eventhandler.LikeEventHandler;
 import com.loopers.application.eventlog.EventLogService;
@@ -38,6 +40,10 @@ class LikeEventHandlerTest {
     private EventHandledService eventHandledService;
     @Mock
     private KafkaEventPublisher kafkaEventPublisher;
+    @Mock
+    private CatalogPageMaterializer catalogPageMaterializer;
+    @Mock
+    private MostLikedProductIndex mostLikedProductIndex;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -52,7 +58,9 @@ class LikeEventHandlerTest {
                 eventDeserializer,
                 eventHandledService,
                 objectMapper,
-                kafkaEventPublisher
+                kafkaEventPublisher,
+                catalogPageMaterializer,
+                mostLikedProductIndex
         );
     }
 
@@ -104,6 +112,8 @@ class LikeEventHandlerTest {
             verify(cacheEvictService).evictProductCache(456L);
             verify(cacheEvictService).evictTopLikedProductsCache();
             verify(metricsService).increaseLikeCount(456L);
+            verify(catalogPageMaterializer).markProductChanged(456L);
+            verify(mostLikedProductIndex).increment(456L, 1);
 
             // 멱등성 관련 검증
             verify(eventHandledService).isAlreadyHandled("like-added-001");
@@ -199,6 +209,7 @@ class LikeEventHandlerTest {
             verify(cacheEvictService).evictProductCache(456L);
             verify(cacheEvictService).evictTopLikedProductsCache();
             verify(metricsService).decreaseLikeCount(456L);
+            verify(mostLikedProductIndex).increment(456L, -1);
 
             // 멱등성 관련 검증
             verify(eventHandledService).isAlreadyHandled("like-removed-001");
@@ -324,7 +335,7 @@ class LikeEventHandlerTest {
         likeEventHandler.handle(eventType, payloadJson, messageKey);
 
         // assert - 랭킹 이벤트 발행 검증
-        verify(kafkaEventPublisher).publish(
+        verify(kafkaEventPublisher).publishAsync(
                 eq("ranking-events"),
                 eq("456"),
                 argThat(message -> {
@@ -359,7 +370,7 @@ class LikeEventHandlerTest {
         likeEventHandler.handle(eventType, payloadJson, messageKey);
 
         // assert - 랭킹 이벤트 발행 검증 (LIKE_REMOVED)
-        verify(kafkaEventPublisher).publish(
+        verify(kafkaEventPublisher).publishAsync(
                 eq("ranking-events"),
                 eq("456"),
                 argThat(message -> {
@@ -2,6 +2,7 @@ package com.loopers.consumer.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.cache.CacheEvictService;
+import com.loopers.application.catalog.CatalogPageMaterializer;
 import com.loopers.application.eventhandled.EventHandledService;
 import com.loopers.application.eventhandler.StockEventHandler;
 import com.loopers.application.eventlog.EventLogService;
@@ -33,6 +34,8 @@ class StockEventHandlerTest {
     private EventDeserializer eventDeserializer;
     @Mock
     private EventHandledService eventHandledService;
+    @Mock
+    private CatalogPageMaterializer catalogPageMaterializer;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -46,7 +49,8 @@ class StockEventHandlerTest {
                 metricsService,
                 eventDeserializer,
                 objectMapper,
-                eventHandledService
+                eventHandledService,
+                catalogPageMaterializer
         );
     }
 
@@ -97,6 +101,7 @@ class StockEventHandlerTest {
             verify(eventLogService).saveEventLog(mockStockEvent, "StockDecreasedEvent", "456", "PRODUCT");
             verify(cacheEvictService).evictProductCache(456L);
             verify(metricsService).increaseSalesCount(456L);
+            verify(catalogPageMaterializer).markProductChanged(456L);
 
             // 멱등성 관련 검증
             verify(eventHandledService).isAlreadyHandled("stock-decreased-001");
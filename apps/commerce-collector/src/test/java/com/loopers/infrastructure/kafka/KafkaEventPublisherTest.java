@@ -0,0 +1,127 @@
+package com.loopers.infrastructure.kafka;
+
+import com.loopers.interfaces.EventEnvelope;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaEventPublisherTest {
+
+    private static final String TOPIC = "ranking-events";
+
+    @Mock
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KafkaEventPublisher kafkaEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaEventPublisher = new KafkaEventPublisher(kafkaTemplate, meterRegistry);
+    }
+
+    @DisplayName("여러 이벤트를 비동기로 발행하면, ack 가 어떤 순서로 오든 입력 순서대로 결과를 모은다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAllAsync_collectsResultsInInputOrder() throws Exception {
+        // arrange
+        CompletableFuture<SendResult<Object, Object>> first = new CompletableFuture<>();
+        CompletableFuture<SendResult<Object, Object>> second = new CompletableFuture<>();
+        SendResult<Object, Object> firstResult = mock(SendResult.class);
+        SendResult<Object, Object> secondResult = mock(SendResult.class);
+        when(kafkaTemplate.send(eq(TOPIC), eq("1"), any(EventEnvelope.class))).thenReturn(first);
+        when(kafkaTemplate.send(eq(TOPIC), eq("2"), any(EventEnvelope.class))).thenReturn(second);
+
+        // act
+        CompletableFuture<List<SendResult<Object, Object>>> all =
+                kafkaEventPublisher.publishAllAsync(TOPIC, List.of(1L, 2L), String::valueOf);
+
+        // assert - 전송은 모두 호출됐지만 ack 전에는 완료되지 않는다
+        assertThat(all).isNotDone();
+
+        second.complete(secondResult);
+        assertThat(all).isNotDone();
+
+        first.complete(firstResult);
+        assertThat(all.get()).containsExactly(firstResult, secondResult);
+    }
+
+    @DisplayName("하나라도 발행에 실패하면, 전체 결과는 예외로 완료된다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAllAsync_completesExceptionally_whenAnySendFails() {
+        // arrange
+        when(kafkaTemplate.send(eq(TOPIC), eq("1"), any(EventEnvelope.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(eq(TOPIC), eq("2"), any(EventEnvelope.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // act
+        CompletableFuture<List<SendResult<Object, Object>>> all =
+                kafkaEventPublisher.publishAllAsync(TOPIC, List.of(1L, 2L), String::valueOf);
+
+        // assert
+        assertThatThrownBy(all::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("발행이 완료되면, topic 과 결과별로 kafka.publish.latency 를 기록한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAsync_recordsLatencyByResult() {
+        // arrange
+        when(kafkaTemplate.send(eq(TOPIC), eq("1"), any(EventEnvelope.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(eq(TOPIC), eq("2"), any(EventEnvelope.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // act
+        kafkaEventPublisher.publishAsync(TOPIC, "1", 1L);
+        kafkaEventPublisher.publishAsync(TOPIC, "1", 1L);
+        kafkaEventPublisher.publishAsync(TOPIC, "2", 2L);
+
+        // assert
+        Timer success = meterRegistry.find("kafka.publish.latency").tags("topic", TOPIC, "result", "success").timer();
+        Timer failure = meterRegistry.find("kafka.publish.latency").tags("topic", TOPIC, "result", "failure").timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(failure).isNotNull();
+        assertThat(failure.count()).isEqualTo(1);
+    }
+
+    @DisplayName("동기 발행이 실패하면, RuntimeException 으로 감싸서 던진다.")
+    @Test
+    void publish_throws_whenSendFails() {
+        // arrange
+        when(kafkaTemplate.send(eq(TOPIC), eq("1"), any(EventEnvelope.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // act & assert
+        assertThatThrownBy(() -> kafkaEventPublisher.publish(TOPIC, "1", 1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Kafka 이벤트 발행 실패");
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.loopers.integration;
 
 import com.loopers.application.eventhandler.RankingEventHandler;
+import com.loopers.application.metrics.LikeCountBuffer;
 import com.loopers.domain.eventhandled.EventHandledRepository;
 import com.loopers.domain.eventlog.EventLogRepository;
 import com.loopers.domain.metrics.ProductMetricsRepository;
@@ -22,6 +23,8 @@ class EventHandlerIntegrationTest {
     private LikeEventHandler likeEventHandler;
     @Autowired
     private RankingEventHandler rankingEventHandler;
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
 
     @Autowired
     private EventHandledRepository eventHandledRepository;
@@ -68,11 +71,13 @@ class EventHandlerIntegrationTest {
 
             // act - 첫 번째 처리
             likeEventHandler.handle(eventType, payloadJson, messageKey);
+            likeCountBuffer.flush();    // 좋아요 수는 지연 반영
 
             var metricsAfterFirst = productMetricsRepository.findByProductId(1L);
 
             // act - 두 번째 처리 (중복)
             likeEventHandler.handle(eventType, payloadJson, messageKey);
+            likeCountBuffer.flush();
 
             var metricsAfterSecond = productMetricsRepository.findByProductId(1L);
 
@@ -119,6 +124,7 @@ class EventHandlerIntegrationTest {
 
             // act - 좋아요 제거
             likeEventHandler.handle(removeEventType, removePayloadJson, "1");
+            likeCountBuffer.flush();    // 좋아요 수는 지연 반영
 
             // assert
             assertThat(eventHandledRepository.existsByEventId(addEventId)).isTrue();
@@ -150,6 +156,7 @@ class EventHandlerIntegrationTest {
 
             // act
             likeEventHandler.handle("LikeAddedEvent", payloadJson, "1");
+            likeCountBuffer.flush();    // 좋아요 수는 지연 반영
 
             // assert
             // 1. EventHandled 저장 확인
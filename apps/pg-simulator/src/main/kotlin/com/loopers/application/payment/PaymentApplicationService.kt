@@ -24,10 +24,16 @@ class PaymentApplicationService(
         private val RATE_INVALID_CARD = (21..30)
     }
 
+    /**
+     * 같은 Idempotency-Key 로 이미 만든 결제건이 있으면 새로 만들지 않고 그 결제건을 돌려준다.
+     * 동시에 들어온 같은 키의 요청은 (user_id, idempotency_key) 유니크 인덱스로 하나만 저장된다. (PaymentApi 에서 재조회)
+     */
     @Transactional
     fun createTransaction(command: PaymentCommand.CreateTransaction): TransactionInfo {
         command.validate()
 
+        findTransactionByIdempotencyKey(command)?.let { return it }
+
         val transactionKey = transactionKeyGenerator.generate()
         val payment = paymentRepository.save(
             Payment(
@@ -38,6 +44,7 @@ class PaymentApplicationService(
                 cardNo = command.cardNo,
                 amount = command.amount,
                 callbackUrl = command.callbackUrl,
+                idempotencyKey = command.idempotencyKey,
             ),
         )
 
@@ -46,6 +53,18 @@ class PaymentApplicationService(
         return TransactionInfo.from(payment)
     }
 
+    @Transactional(readOnly = true)
+    fun findTransactionByIdempotencyKey(command: PaymentCommand.CreateTransaction): TransactionInfo? {
+        val idempotencyKey = command.idempotencyKey ?: return null
+        val payment = paymentRepository.findByIdempotencyKey(userId = command.userId, idempotencyKey = idempotencyKey)
+            ?: return null
+
+        if (payment.orderId != command.orderId || payment.amount != command.amount || payment.cardNo != command.cardNo) {
+            throw CoreException(ErrorType.CONFLICT, "같은 Idempotency-Key 로 다른 결제를 요청할 수 없습니다.")
+        }
+        return TransactionInfo.from(payment)
+    }
+
     @Transactional(readOnly = true)
     fun getTransactionDetailInfo(userInfo: UserInfo, transactionKey: String): TransactionInfo {
         val payment = paymentRepository.findByTransactionKey(userId = userInfo.userId, transactionKey = transactionKey)
@@ -12,6 +12,7 @@ object PaymentCommand {
         val cardNo: String,
         val amount: Long,
         val callbackUrl: String,
+        val idempotencyKey: String? = null,
     ) {
         fun validate() {
             if (amount <= 0L) {
@@ -18,6 +18,7 @@ import java.time.LocalDateTime
         Index(name = "idx_user_transaction", columnList = "user_id, transaction_key"),
         Index(name = "idx_user_order", columnList = "user_id, order_id"),
         Index(name = "idx_unique_user_order_transaction", columnList = "user_id, order_id, transaction_key", unique = true),
+        Index(name = "idx_unique_user_idempotency_key", columnList = "user_id, idempotency_key", unique = true),
     ]
 )
 class Payment(
@@ -43,6 +44,10 @@ class Payment(
 
     @Column(name = "callback_url", nullable = false)
     val callbackUrl: String,
+
+    /** 요청 헤더 Idempotency-Key (없으면 중복 요청을 구분하지 않음) */
+    @Column(name = "idempotency_key", nullable = true)
+    val idempotencyKey: String? = null,
 ) {
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -5,4 +5,5 @@ interface PaymentRepository {
     fun findByTransactionKey(transactionKey: String): Payment?
     fun findByTransactionKey(userId: String, transactionKey: String): Payment?
     fun findByOrderId(userId: String, orderId: String): List<Payment>
+    fun findByIdempotencyKey(userId: String, idempotencyKey: String): Payment?
 }
@@ -29,4 +29,9 @@ class PaymentCoreRepository(
         return paymentJpaRepository.findByUserIdAndOrderId(userId, orderId)
             .sortedByDescending { it.updatedAt }
     }
+
+    @Transactional(readOnly = true)
+    override fun findByIdempotencyKey(userId: String, idempotencyKey: String): Payment? {
+        return paymentJpaRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+    }
 }
@@ -5,10 +5,13 @@ import com.loopers.interfaces.api.ApiResponse
 import com.loopers.domain.user.UserInfo
 import com.loopers.support.error.CoreException
 import com.loopers.support.error.ErrorType
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataIntegrityViolationException
 import org.springframework.web.bind.annotation.GetMapping
 import org.springframework.web.bind.annotation.PathVariable
 import org.springframework.web.bind.annotation.PostMapping
 import org.springframework.web.bind.annotation.RequestBody
+import org.springframework.web.bind.annotation.RequestHeader
 import org.springframework.web.bind.annotation.RequestMapping
 import org.springframework.web.bind.annotation.RequestParam
 import org.springframework.web.bind.annotation.RestController
@@ -17,23 +20,34 @@ import org.springframework.web.bind.annotation.RestController
 @RequestMapping("/api/v1/payments")
 class PaymentApi(
     private val paymentApplicationService: PaymentApplicationService,
+    @Value("\${pg.simulator.delay-min-ms:100}") private val delayMinMs: Long,
+    @Value("\${pg.simulator.delay-max-ms:500}") private val delayMaxMs: Long,
 ) {
     @PostMapping
     fun request(
         userInfo: UserInfo,
+        @RequestHeader("Idempotency-Key", required = false) idempotencyKey: String?,
         @RequestBody request: PaymentDto.PaymentRequest,
     ): ApiResponse<PaymentDto.TransactionResponse> {
         request.validate()
 
-        // 100ms ~ 500ms 지연
-        Thread.sleep((100..500L).random())
+        // 100ms ~ 500ms 지연 (느린 PG 재현 시 pg.simulator.delay-min-ms / delay-max-ms 로 조정)
+        Thread.sleep((delayMinMs..delayMaxMs).random())
 
         // 40% 확률로 요청 실패
         if ((1..100).random() <= 40) {
             throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
         }
 
-        return paymentApplicationService.createTransaction(request.toCommand(userInfo.userId))
+        val command = request.toCommand(userInfo.userId, idempotencyKey)
+        val transaction = try {
+            paymentApplicationService.createTransaction(command)
+        } catch (e: DataIntegrityViolationException) {
+            // 같은 키의 요청이 동시에 저장됨 - 먼저 저장된 결제건을 돌려준다.
+            paymentApplicationService.findTransactionByIdempotencyKey(command) ?: throw e
+        }
+
+        return transaction
             .let { PaymentDto.TransactionResponse.from(it) }
             .let { ApiResponse.success(it) }
     }
@@ -36,7 +36,7 @@ object PaymentDto {
             }
         }
 
-        fun toCommand(userId: String): PaymentCommand.CreateTransaction =
+        fun toCommand(userId: String, idempotencyKey: String? = null): PaymentCommand.CreateTransaction =
             PaymentCommand.CreateTransaction(
                 userId = userId,
                 orderId = orderId,
@@ -44,6 +44,7 @@ object PaymentDto {
                 cardNo = cardNo,
                 amount = amount,
                 callbackUrl = callbackUrl,
+                idempotencyKey = idempotencyKey?.takeIf { it.isNotBlank() },
             )
     }
 
@@ -0,0 +1,72 @@
+package com.loopers.application.payment
+
+import com.loopers.domain.payment.CardType
+import com.loopers.domain.user.UserInfo
+import com.loopers.support.error.CoreException
+import com.loopers.support.error.ErrorType
+import com.loopers.utils.DatabaseCleanUp
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+
+@SpringBootTest
+class PaymentApplicationServiceIdempotencyTest @Autowired constructor(
+    private val paymentApplicationService: PaymentApplicationService,
+    private val databaseCleanUp: DatabaseCleanUp,
+) {
+
+    @AfterEach
+    fun tearDown() {
+        databaseCleanUp.truncateAllTables()
+    }
+
+    private fun command(idempotencyKey: String?, amount: Long = 5000L) = PaymentCommand.CreateTransaction(
+        userId = "135135",
+        orderId = "order-000001",
+        cardType = CardType.SAMSUNG,
+        cardNo = "1234-5678-9814-1451",
+        amount = amount,
+        callbackUrl = "http://localhost:8080/api/v1/payments/callback",
+        idempotencyKey = idempotencyKey,
+    )
+
+    @DisplayName("같은 Idempotency-Key 로 승인 요청을 다시 보내면, 결제건을 새로 만들지 않고 처음 결제건을 돌려준다.")
+    @Test
+    fun returnsFirstTransaction_whenSameKeyIsRetried() {
+        // act
+        val first = paymentApplicationService.createTransaction(command("payment-1"))
+        val retried = paymentApplicationService.createTransaction(command("payment-1"))
+
+        // assert
+        assertThat(retried.transactionKey).isEqualTo(first.transactionKey)
+        assertThat(paymentApplicationService.findTransactionsByOrderId(UserInfo("135135"), "order-000001").transactions)
+            .hasSize(1)
+    }
+
+    @DisplayName("Idempotency-Key 가 없으면, 요청마다 결제건을 새로 만든다.")
+    @Test
+    fun createsNewTransaction_whenKeyIsAbsent() {
+        // act
+        val first = paymentApplicationService.createTransaction(command(null))
+        val second = paymentApplicationService.createTransaction(command(null))
+
+        // assert
+        assertThat(second.transactionKey).isNotEqualTo(first.transactionKey)
+    }
+
+    @DisplayName("같은 Idempotency-Key 로 다른 금액을 요청하면, CONFLICT 로 실패한다.")
+    @Test
+    fun fails_whenSameKeyIsUsedForDifferentPayment() {
+        // arrange
+        paymentApplicationService.createTransaction(command("payment-2"))
+
+        // act & assert
+        assertThatThrownBy { paymentApplicationService.createTransaction(command("payment-2", amount = 7000L)) }
+            .isInstanceOf(CoreException::class.java)
+            .extracting("errorType").isEqualTo(ErrorType.CONFLICT)
+    }
+}
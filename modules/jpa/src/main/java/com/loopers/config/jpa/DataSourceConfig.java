@@ -3,11 +3,15 @@ package com.loopers.config.jpa;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
 @Configuration
 class DataSourceConfig {
     @Bean
@@ -16,9 +20,24 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
+    /**
+     * datasource.mysql-jpa.concurrency-limit.enabled (기본값: 가상 스레드 사용 여부) 이면
+     * 풀 크기만큼만 동시에 커넥션을 요청하도록 ConcurrencyLimitedDataSource 로 감싼다.
+     */
     @Primary
     @Bean
-    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
-        return new HikariDataSource(hikariConfig);
+    DataSource mySqlMainDataSource(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig,
+            @Value("${datasource.mysql-jpa.concurrency-limit.enabled:${spring.threads.virtual.enabled:false}}") boolean concurrencyLimitEnabled
+    ) {
+        HikariDataSource hikariDataSource = new HikariDataSource(hikariConfig);
+        if (!concurrencyLimitEnabled) {
+            return hikariDataSource;
+        }
+        return new ConcurrencyLimitedDataSource(
+                hikariDataSource,
+                hikariConfig.getMaximumPoolSize(),
+                Duration.ofMillis(hikariConfig.getConnectionTimeout())
+        );
     }
 }
@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
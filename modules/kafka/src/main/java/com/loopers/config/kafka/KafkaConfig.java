@@ -1,18 +1,25 @@
 package com.loopers.config.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
@@ -27,6 +34,8 @@ import java.util.Map;
 public class KafkaConfig {
 
     public static final String BATCH_LISTENER = "BATCH_LISTENER_DEFAULT";
+    public static final String THROUGHPUT_PRODUCER_FACTORY = "THROUGHPUT_PRODUCER_FACTORY";
+    public static final String THROUGHPUT_KAFKA_TEMPLATE = "THROUGHPUT_KAFKA_TEMPLATE";
 
     private static final int MAX_POLLING_SIZE = 3000;            // read 3000 msg
     private static final int FETCH_MIN_BYTES = 1024 * 1024;      // 1mb
@@ -35,8 +44,37 @@ public class KafkaConfig {
     private static final int HEARTBEAT_INTERVAL_MS = 20 * 1000;  // heartbeat interval = 20s (1/3 of session_timeout)
     private static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
 
+    /**
+     * 기본 Producer - kafka.producer.profile (기본값: LOW_LATENCY)
+     * 요청 스레드에서 ack 까지 기다리는 동기 전송(collector LikeEventHandler 등)이 linger.ms 만큼 늦어지지 않도록 지연 우선으로 둔다.
+     */
     @Bean
-    public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
+    @Primary
+    public ProducerFactory<Object, Object> producerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${kafka.producer.profile:LOW_LATENCY}") ProducerProfile producerProfile,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return createProducerFactory(kafkaProperties, producerProfile, meterRegistry);
+    }
+
+    /**
+     * 처리량 우선 Producer - 배치 전송(outbox relay 등)이 THROUGHPUT_KAFKA_TEMPLATE 으로 명시적으로 선택한다.
+     * Producer 인스턴스는 첫 전송 시 만들어지므로 사용하지 않는 앱에는 비용이 없다.
+     */
+    @Bean(name = THROUGHPUT_PRODUCER_FACTORY)
+    public ProducerFactory<Object, Object> throughputProducerFactory(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return createProducerFactory(kafkaProperties, ProducerProfile.THROUGHPUT, meterRegistry);
+    }
+
+    private ProducerFactory<Object, Object> createProducerFactory(
+            KafkaProperties kafkaProperties,
+            ProducerProfile producerProfile,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
 
         // 직렬화 설정 명시적으로 지정 (테스트 환경 대응)
@@ -49,7 +87,15 @@ public class KafkaConfig {
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);                      // Producer 레벨에서 중복 메시지 방지 (정확히 한번 전송 보장)
         props.put(ProducerConfig.RETRIES_CONFIG, 3);                                    // 전송 실패 시 최대 3번까지 재시도
 
-        return new DefaultKafkaProducerFactory<>(props);
+        // 배치/압축 설정 (linger.ms, batch.size, compression.type)
+        producerProfile.applyTo(props);
+
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+
+        // Producer 클라이언트 지표를 Micrometer로 노출 (kafka.producer.batch.size.avg, kafka.producer.record.queue.time.avg, kafka.producer.request.latency.avg 등)
+        meterRegistry.ifAvailable(registry -> producerFactory.addListener(new MicrometerProducerListener<>(registry)));
+
+        return producerFactory;
     }
 
     @Bean
@@ -59,12 +105,23 @@ public class KafkaConfig {
     }
 
     @Bean
+    @Primary
     public KafkaTemplate<Object, Object> kafkaTemplate(ProducerFactory<Object, Object> producerFactory, ConsumerFactory<Object, Object> consumerFactory) {
         var template = new KafkaTemplate<>(producerFactory);
         template.setConsumerFactory(consumerFactory);
         return template;
     }
 
+    @Bean(name = THROUGHPUT_KAFKA_TEMPLATE)
+    public KafkaTemplate<Object, Object> throughputKafkaTemplate(
+            @Qualifier(THROUGHPUT_PRODUCER_FACTORY) ProducerFactory<Object, Object> producerFactory,
+            ConsumerFactory<Object, Object> consumerFactory
+    ) {
+        var template = new KafkaTemplate<>(producerFactory);
+        template.setConsumerFactory(consumerFactory);
+        return template;
+    }
+
     @Bean
     public ByteArrayJsonMessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
         return new ByteArrayJsonMessageConverter(objectMapper);
@@ -73,7 +130,8 @@ public class KafkaConfig {
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            ByteArrayJsonMessageConverter converter,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
     ) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
@@ -90,6 +148,13 @@ public class KafkaConfig {
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+
+        // 직접 만든 팩토리는 Boot 자동 설정의 가상 스레드 적용 대상이 아니므로 컨슈머 스레드를 직접 지정
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
         return factory;
     }
 }
@@ -0,0 +1,41 @@
+package com.loopers.config.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Map;
+
+/**
+ * Producer 배치/압축 프로파일
+ *
+ * linger.ms 동안 같은 파티션으로 가는 레코드를 모아 batch.size 단위로 압축 전송한다.
+ * 이벤트 하나당 브로커 왕복 한 번이 아니라 배치 단위로 전송되므로 처리량이 늘고 요청 수가 줄어든다.
+ * - LOW_LATENCY: 거의 바로 전송 (작은 배치, 빠른 lz4)
+ * - THROUGHPUT: 최대 20ms 모아서 전송 (큰 배치, 압축률 높은 zstd)
+ *
+ * 기본 KafkaTemplate 은 kafka.producer.profile(기본값 LOW_LATENCY)을 따르고,
+ * 배치 전송 경로는 KafkaConfig.THROUGHPUT_KAFKA_TEMPLATE 을 주입받아 THROUGHPUT 을 사용한다.
+ *
+ * spring.kafka.producer.* 로 직접 지정한 값이 있으면 그 값이 우선한다.
+ */
+public enum ProducerProfile {
+
+    LOW_LATENCY(1, 16 * 1024, "lz4"),
+    THROUGHPUT(20, 128 * 1024, "zstd");
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+
+    ProducerProfile(int lingerMs, int batchSize, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+    }
+
+    public void applyTo(Map<String, Object> props) {
+        props.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    }
+
+}
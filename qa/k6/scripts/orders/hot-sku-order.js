@@ -0,0 +1,63 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+
+// 인기 상품 하나에 주문이 몰리는 상황 - 재고 차감 방식(stock.strategy)별 비교용
+// 서버를 stock.strategy 값만 바꿔 재시작하면서 같은 조건으로 실행한 뒤
+// Grafana 에서 stock.deduction{strategy, result} (p99, lock_failure 비율)과 http_req_duration 을 비교한다.
+//   k6 run -e PRODUCT_ID=1 -e SECOND_PRODUCT_ID=2 scripts/orders/hot-sku-order.js
+export const options = {
+  scenarios: {
+    hot_sku: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 200),        // 초당 주문 요청 수
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '1m',
+      preAllocatedVUs: 100,
+      maxVUs: 400,
+    },
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUCT_ID = Number(__ENV.PRODUCT_ID || 1);                 // 인기 상품
+const SECOND_PRODUCT_ID = Number(__ENV.SECOND_PRODUCT_ID || 2);   // 여러 상품 주문 시 함께 담는 상품 (교차 락 유발)
+const MULTI_ITEM_RATIO = Number(__ENV.MULTI_ITEM_RATIO || 0.3);
+
+const users = new SharedArray('users', function () {
+  return open('../../../sample/data/user_sample_100.csv')
+    .split('\n')
+    .slice(1)
+    .map((line) => line.split(',')[0].trim())
+    .filter((userId) => userId.length > 0);
+});
+
+export function setup() {
+  // 포인트 결제가 포인트 부족으로 실패하지 않도록 충전
+  users.forEach((userId) => {
+    http.post(`${BASE_URL}/api/v1/points/charge`, JSON.stringify({ reqPoint: 100000000 }), {
+      headers: { 'Content-Type': 'application/json', 'X-USER-ID': userId },
+    });
+  });
+}
+
+export default function () {
+  const userId = users[Math.floor(Math.random() * users.length)];
+
+  // 일부 주문은 두 상품을 서로 다른 순서로 담아 교차 락 상황을 만든다.
+  let items = [{ productId: PRODUCT_ID, quantity: 1 }];
+  if (Math.random() < MULTI_ITEM_RATIO) {
+    const second = { productId: SECOND_PRODUCT_ID, quantity: 1 };
+    items = Math.random() < 0.5 ? [items[0], second] : [second, items[0]];
+  }
+
+  const res = http.post(
+    `${BASE_URL}/api/v1/orders`,
+    JSON.stringify({ items, couponId: null, paymentType: 'POINT', paymentMethod: null }),
+    { headers: { 'Content-Type': 'application/json', 'X-USER-ID': userId }, tags: { name: 'place-order' } },
+  );
+
+  check(res, {
+    'order accepted or sold out': (r) => r.status === 200 || r.status === 400,
+  });
+}
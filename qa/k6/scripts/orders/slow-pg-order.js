@@ -0,0 +1,74 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+
+// PG 가 느릴 때 카드 주문이 요청 스레드를 붙잡아 다른 API(상품 상세)까지 밀리는지 확인 - 가상 스레드 모드 비교용
+// 1) pg-simulator 를 느리게 실행 : --pg.simulator.delay-min-ms=2000 --pg.simulator.delay-max-ms=5000
+// 2) commerce-api 를 플랫폼 스레드(기본값)로 실행한 뒤 측정
+// 3) SPRING_THREADS_VIRTUAL_ENABLED=true 로 재시작한 뒤 같은 조건으로 측정
+//   k6 run -e PRODUCT_ID=1 scripts/orders/slow-pg-order.js
+// 비교 지표: http_req_duration{name:product-detail} p95/p99, http_req_failed, dropped_iterations
+//           서버 - hikaricp.connections.pending, jvm.threads.live, jvm.virtual_thread.pinned
+export const options = {
+  scenarios: {
+    card_orders: {
+      executor: 'constant-arrival-rate',
+      exec: 'cardOrder',
+      rate: Number(__ENV.ORDER_RATE || 100),         // 초당 카드 주문 수 (PG 지연 2~5초면 동시 300~500건이 PG 대기)
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 300,
+      maxVUs: 1000,
+    },
+    product_reads: {
+      executor: 'constant-arrival-rate',
+      exec: 'productDetail',
+      rate: Number(__ENV.READ_RATE || 200),          // 초당 상품 상세 조회 수 (PG 와 무관한 요청)
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+    },
+  },
+  thresholds: {
+    'http_req_duration{name:product-detail}': ['p(99)<500'],
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUCT_ID = Number(__ENV.PRODUCT_ID || 1);
+
+const users = new SharedArray('users', function () {
+  return open('../../../sample/data/user_sample_100.csv')
+    .split('\n')
+    .slice(1)
+    .map((line) => line.split(',')[0].trim())
+    .filter((userId) => userId.length > 0);
+});
+
+export function cardOrder() {
+  const userId = users[Math.floor(Math.random() * users.length)];
+
+  const res = http.post(
+    `${BASE_URL}/api/v1/orders`,
+    JSON.stringify({
+      items: [{ productId: PRODUCT_ID, quantity: 1 }],
+      couponId: null,
+      paymentType: 'CARD',
+      paymentMethod: { cardType: 'SAMSUNG', cardNo: '1234-5678-9814-1451' },
+    }),
+    { headers: { 'Content-Type': 'application/json', 'X-USER-ID': userId }, tags: { name: 'place-card-order' }, timeout: '30s' },
+  );
+
+  check(res, {
+    'order responded': (r) => r.status === 200 || r.status === 400 || r.status === 500,
+  });
+}
+
+export function productDetail() {
+  const res = http.get(`${BASE_URL}/api/v1/products/${PRODUCT_ID}`, { tags: { name: 'product-detail' } });
+
+  check(res, {
+    'product detail 200': (r) => r.status === 200,
+  });
+}